@@ -47,6 +47,7 @@ public class Configuration {
     private Credentials credentials;
     private Integer connectionLivenessCheckTimeout;
     private Boolean verifyConnection;
+    private Boolean warmUpMetaData;
     private Map<String, Object> customProperties;
 
     /**
@@ -62,6 +63,7 @@ public class Configuration {
         this.trustCertFile = builder.trustCertFile;
         this.connectionLivenessCheckTimeout = builder.connectionLivenessCheckTimeout;
         this.verifyConnection = builder.verifyConnection != null ? builder.verifyConnection : false;
+        this.warmUpMetaData = builder.warmUpMetaData != null ? builder.warmUpMetaData : false;
         this.autoIndex = builder.autoIndex != null ? AutoIndexMode.fromString(builder.autoIndex) : AutoIndexMode.NONE;
         this.generatedIndexesOutputDir =
             builder.generatedIndexesOutputDir != null ? builder.generatedIndexesOutputDir : ".";
@@ -147,6 +149,10 @@ public class Configuration {
         return verifyConnection;
     }
 
+    public Boolean getWarmUpMetaData() {
+        return warmUpMetaData;
+    }
+
     public String getNeo4jHaPropertiesFile() {
         return neo4jHaPropertiesFile;
     }
@@ -227,6 +233,7 @@ public class Configuration {
                 .trustCertFile(builder.trustCertFile)
                 .connectionLivenessCheckTimeout(builder.connectionLivenessCheckTimeout)
                 .verifyConnection(builder.verifyConnection)
+                .warmUpMetaData(builder.warmUpMetaData)
                 .autoIndex(builder.autoIndex)
                 .generatedIndexesOutputDir(builder.generatedIndexesOutputDir)
                 .generatedIndexesOutputFilename(builder.generatedIndexesOutputFilename)
@@ -245,6 +252,7 @@ public class Configuration {
         private static final String TRUST_CERT_FILE = "trust.certificate.file";
         private static final String CONNECTION_LIVENESS_CHECK_TIMEOUT = "connection.liveness.check.timeout";
         private static final String VERIFY_CONNECTION = "verify.connection";
+        private static final String WARM_UP_METADATA = "metadata.warmup";
         private static final String AUTO_INDEX = "indexes.auto";
         private static final String GENERATED_INDEXES_OUTPUT_DIR = "indexes.auto.dump.dir";
         private static final String GENERATED_INDEXES_OUTPUT_FILENAME = "indexes.auto.dump.filename";
@@ -258,6 +266,7 @@ public class Configuration {
         private String trustCertFile;
         private Integer connectionLivenessCheckTimeout;
         private Boolean verifyConnection;
+        private Boolean warmUpMetaData;
         private String autoIndex;
         private String generatedIndexesOutputDir;
         private String generatedIndexesOutputFilename;
@@ -311,6 +320,9 @@ public class Configuration {
                     case VERIFY_CONNECTION:
                         this.verifyConnection = Boolean.valueOf((String) entry.getValue());
                         break;
+                    case WARM_UP_METADATA:
+                        this.warmUpMetaData = Boolean.valueOf((String) entry.getValue());
+                        break;
                     case AUTO_INDEX:
                         this.autoIndex = (String) entry.getValue();
                         break;
@@ -405,6 +417,17 @@ public class Configuration {
             return this;
         }
 
+        /**
+         * Whether the SessionFactory should compute all lazily built mapping metadata when it is created, instead of
+         * when the first sessions use it. Trades a slower start for a faster and more even first use under load.
+         *
+         * @param warmUpMetaData if all mapping metadata should be computed up front, default is false
+         */
+        public Builder warmUpMetaData(Boolean warmUpMetaData) {
+            this.warmUpMetaData = warmUpMetaData;
+            return this;
+        }
+
         /**
          * Auto index config, for possible values see {@link org.neo4j.ogm.config.AutoIndexMode}
          *
@@ -14,10 +14,12 @@
 package org.neo4j.ogm.driver;
 
 import java.util.Comparator;
+import java.util.List;
 import java.util.Map;
 import java.util.ServiceLoader;
 import java.util.function.Function;
 import java.util.function.Supplier;
+import java.util.stream.Collectors;
 import java.util.stream.StreamSupport;
 
 import org.neo4j.ogm.config.Configuration;
@@ -44,7 +46,7 @@ import org.neo4j.ogm.transaction.TransactionManager;
  */
 public abstract class AbstractConfigurableDriver implements Driver {
 
-    public static final ParameterConversion CONVERT_ALL_PARAMETERS_CONVERSION = ObjectMapperBasedParameterConversion.INSTANCE;
+    public static final ParameterConversion CONVERT_ALL_PARAMETERS_CONVERSION = DirectParameterConversion.INSTANCE;
 
     private final ServiceLoader<CypherModificationProvider> cypherModificationProviderLoader =
         ServiceLoader.load(CypherModificationProvider.class);
@@ -92,6 +94,13 @@ public abstract class AbstractConfigurableDriver implements Driver {
         return configuration;
     }
 
+    /**
+     * Returns the Cypher modification of all loaded {@link CypherModificationProvider providers}, applied in their
+     * order. If there is at least one provider and all of them are deterministic, the result is a
+     * {@link CachingCypherModification} that remembers the modified statements and reports its hit rate.
+     *
+     * @return the Cypher modification to apply to all statements
+     */
     @Override
     public final Function<String, String> getCypherModification() {
 
@@ -120,9 +129,20 @@ public abstract class AbstractConfigurableDriver implements Driver {
         Map<String, Object> configurationProperties = this.customPropertiesSupplier.get();
         this.cypherModificationProviderLoader.reload();
 
-        return StreamSupport.stream(this.cypherModificationProviderLoader.spliterator(), false)
+        List<CypherModificationProvider> providers = StreamSupport
+            .stream(this.cypherModificationProviderLoader.spliterator(), false)
             .sorted(Comparator.comparing(CypherModificationProvider::getOrder))
+            .collect(Collectors.toList());
+        if (providers.isEmpty()) {
+            return Function.identity();
+        }
+
+        Function<String, String> cypherModification = providers.stream()
             .map(provider -> provider.getCypherModification(configurationProperties))
             .reduce(Function.identity(), Function::andThen, Function::andThen);
+        if (providers.stream().allMatch(CypherModificationProvider::isDeterministic)) {
+            return new CachingCypherModification(cypherModification);
+        }
+        return cypherModification;
     }
 }
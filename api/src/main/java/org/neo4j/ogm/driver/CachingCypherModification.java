@@ -0,0 +1,89 @@
+/*
+ * Copyright (c) 2002-2018 "Neo Technology,"
+ * Network Engine for Objects in Lund AB [http://neotechnology.com]
+ *
+ * This product is licensed to you under the Apache License, Version 2.0 (the "License").
+ * You may not use this product except in compliance with the License.
+ *
+ * This product may include a number of subcomponents with
+ * separate copyright notices and license terms. Your use of the source
+ * code for these subcomponents is subject to the terms and
+ *  conditions of the subcomponent's license, as noted in the LICENSE file.
+ */
+package org.neo4j.ogm.driver;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+import org.neo4j.ogm.spi.CypherModificationProvider;
+
+/**
+ * Remembers the result of a chain of {@link CypherModificationProvider Cypher modifications} per statement. OGM issues
+ * a small and stable set of generated statements, so most of them only need to be modified once. At most
+ * {@value #MAX_ENTRIES} statements are remembered; once that limit is reached, other statements are modified on every
+ * call.
+ * <p>
+ * Only used when all loaded providers are {@link CypherModificationProvider#isDeterministic() deterministic}.
+ */
+public class CachingCypherModification implements Function<String, String> {
+
+    static final int MAX_ENTRIES = 1_000;
+
+    private final Function<String, String> cypherModification;
+    private final Map<String, String> modifiedStatements = new ConcurrentHashMap<>();
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    CachingCypherModification(Function<String, String> cypherModification) {
+        this.cypherModification = cypherModification;
+    }
+
+    @Override
+    public String apply(String statement) {
+        String modifiedStatement = modifiedStatements.get(statement);
+        if (modifiedStatement != null) {
+            hits.increment();
+            return modifiedStatement;
+        }
+        misses.increment();
+        modifiedStatement = cypherModification.apply(statement);
+        if (modifiedStatements.size() < MAX_ENTRIES) {
+            modifiedStatements.putIfAbsent(statement, modifiedStatement);
+        }
+        return modifiedStatement;
+    }
+
+    /**
+     * @return number of statements whose modification was returned from the cache
+     */
+    public long hitCount() {
+        return hits.sum();
+    }
+
+    /**
+     * @return number of statements that had to be modified
+     */
+    public long missCount() {
+        return misses.sum();
+    }
+
+    /**
+     * @return ratio of statements returned from the cache to all modified statements, 0 if none has been modified
+     */
+    public double hitRate() {
+        long hitCount = hits.sum();
+        long total = hitCount + misses.sum();
+        return total == 0 ? 0 : (double) hitCount / total;
+    }
+
+    public int size() {
+        return modifiedStatements.size();
+    }
+
+    public void clear() {
+        modifiedStatements.clear();
+    }
+}
@@ -0,0 +1,150 @@
+/*
+ * Copyright (c) 2002-2018 "Neo Technology,"
+ * Network Engine for Objects in Lund AB [http://neotechnology.com]
+ *
+ * This product is licensed to you under the Apache License, Version 2.0 (the "License").
+ * You may not use this product except in compliance with the License.
+ *
+ * This product may include a number of subcomponents with
+ * separate copyright notices and license terms. Your use of the source
+ * code for these subcomponents is subject to the terms and
+ *  conditions of the subcomponent's license, as noted in the LICENSE file.
+ */
+package org.neo4j.ogm.driver;
+
+import java.lang.reflect.Array;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+
+import org.neo4j.ogm.config.ObjectMapperFactory;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Converts parameters by walking maps, collections and arrays directly instead of writing and reading the whole
+ * parameter map through Jacksons Object Mapper. The result is the same as the one of
+ * {@link ObjectMapperBasedParameterConversion}: Values that are already in their final form are passed through,
+ * integral numbers are widened to {@link Long}, characters become strings and arrays and collections become lists.
+ * Maps and lists that don't contain anything to convert are reused as they are. Only values of other types are handed
+ * to the Object Mapper, one by one.
+ */
+enum DirectParameterConversion implements ParameterConversion {
+
+    INSTANCE;
+
+    private static final ObjectMapper OBJECT_MAPPER = ObjectMapperFactory.objectMapper();
+
+    @Override
+    public Map<String, Object> convertParameters(final Map<String, Object> originalParameter) {
+        return convertMap(originalParameter);
+    }
+
+    private static Object convert(Object value) {
+
+        if (value == null || value instanceof String || value instanceof Long || value instanceof Double
+            || value instanceof Boolean || value instanceof Float || value instanceof BigDecimal
+            || value instanceof byte[]) {
+            return value;
+        }
+        if (value instanceof Integer || value instanceof Short || value instanceof Byte) {
+            return ((Number) value).longValue();
+        }
+        if (value instanceof Character) {
+            return value.toString();
+        }
+        if (value instanceof Map && hasOnlyStringKeys((Map<?, ?>) value)) {
+            return convertMap((Map<String, Object>) value);
+        }
+        if (value instanceof List) {
+            return convertList((List<Object>) value);
+        }
+        if (value instanceof Collection) {
+            return convertAll((Collection<?>) value);
+        }
+        if (value instanceof char[]) {
+            return new String((char[]) value);
+        }
+        if (value.getClass().isArray()) {
+            int length = Array.getLength(value);
+            List<Object> convertedValues = new ArrayList<>(length);
+            for (int i = 0; i < length; i++) {
+                convertedValues.add(convert(Array.get(value, i)));
+            }
+            return convertedValues;
+        }
+        return OBJECT_MAPPER.convertValue(value, Object.class);
+    }
+
+    private static boolean hasOnlyStringKeys(Map<?, ?> map) {
+        for (Object key : map.keySet()) {
+            if (!(key instanceof String)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * @return The original map if none of its values needs to be converted, a new map otherwise.
+     */
+    private static Map<String, Object> convertMap(Map<String, Object> map) {
+
+        Object[] convertedValues = convertValues(map.values());
+        if (convertedValues == null) {
+            return map;
+        }
+        Map<String, Object> convertedMap = new HashMap<>(map.size() * 4 / 3 + 1);
+        int index = 0;
+        for (String key : map.keySet()) {
+            convertedMap.put(key, convertedValues[index++]);
+        }
+        return convertedMap;
+    }
+
+    /**
+     * @return The original list if none of its elements needs to be converted, a new list otherwise.
+     */
+    private static List<Object> convertList(List<Object> list) {
+
+        Object[] convertedValues = convertValues(list);
+        return convertedValues == null ? list : Arrays.asList(convertedValues);
+    }
+
+    private static List<Object> convertAll(Collection<?> values) {
+        List<Object> convertedValues = new ArrayList<>(values.size());
+        for (Object value : values) {
+            convertedValues.add(convert(value));
+        }
+        return convertedValues;
+    }
+
+    /**
+     * @return The converted values in iteration order or {@literal null} if none of the values needs to be converted.
+     */
+    private static Object[] convertValues(Collection<Object> values) {
+
+        Object[] convertedValues = null;
+        int index = 0;
+        for (Object value : values) {
+            Object convertedValue = convert(value);
+            if (convertedValues == null && convertedValue != value) {
+                convertedValues = new Object[values.size()];
+                Iterator<Object> previousValues = values.iterator();
+                for (int i = 0; i < index; i++) {
+                    convertedValues[i] = previousValues.next();
+                }
+            }
+            if (convertedValues != null) {
+                convertedValues[index] = convertedValue;
+            }
+            index++;
+        }
+        return convertedValues;
+    }
+}
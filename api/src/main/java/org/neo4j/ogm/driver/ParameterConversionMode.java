@@ -21,8 +21,9 @@ import org.neo4j.ogm.config.ObjectMapperFactory;
  */
 public enum ParameterConversionMode {
     /**
-     * Convert all parameters to custom queries via Jacksons Object Mapper. The Object Mapper can be customized by registering custom modules
-     * to {@link ObjectMapperFactory#objectMapper()}.
+     * Convert all parameters to custom queries the same way Jacksons Object Mapper does. Maps, collections, arrays and simple
+     * values are converted directly, all other values via the Object Mapper. The Object Mapper can be customized by registering
+     * custom modules to {@link ObjectMapperFactory#objectMapper()}.
      */
     CONVERT_ALL,
 
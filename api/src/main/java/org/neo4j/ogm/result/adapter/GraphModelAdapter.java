@@ -13,6 +13,7 @@
 
 package org.neo4j.ogm.result.adapter;
 
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
@@ -26,12 +27,22 @@ import org.neo4j.ogm.response.model.RelationshipModel;
 
 /**
  * This adapter will transform an embedded response into a json response
+ * <p>
+ * An adapter is meant to be used for the records of a single response: nodes and relationships that appear in
+ * more than one record (a shared hub node, for example) are only adapted the first time they are seen, later records
+ * reuse the same model. At most {@link #MAX_CACHED_MODELS} nodes and relationships are remembered, so that streaming
+ * a large response doesn't retain every model of it.
  *
  * @author vince
  * @author Luanne Misquitta
  */
 public abstract class GraphModelAdapter extends BaseAdapter implements ResultAdapter<Map<String, Object>, GraphModel> {
 
+    static final int MAX_CACHED_MODELS = 10_000;
+
+    private final Map<Long, NodeModel> nodeModels = new HashMap<>();
+    private final Map<Long, RelationshipModel> relationshipModels = new HashMap<>();
+
     /**
      * Parses a row from the result object and transforms it into a GraphModel
      *
@@ -85,35 +96,47 @@ public abstract class GraphModelAdapter extends BaseAdapter implements ResultAda
     }
 
     public void buildNode(Object node, GraphModel graphModel, Set<Long> nodeIdentities) {
-        if (!nodeIdentities.contains(nodeId(node))) {
+        long id = nodeId(node);
+        if (nodeIdentities.add(id)) {
 
-            nodeIdentities.add(nodeId(node));
+            NodeModel nodeModel = nodeModels.get(id);
+            if (nodeModel == null) {
+                nodeModel = new NodeModel();
+                nodeModel.setId(id);
+                List<String> labelNames = labels(node);
 
-            NodeModel nodeModel = new NodeModel();
-            nodeModel.setId(nodeId(node));
-            List<String> labelNames = labels(node);
+                nodeModel.setLabels(labelNames.toArray(new String[] {}));
 
-            nodeModel.setLabels(labelNames.toArray(new String[] {}));
+                nodeModel.setProperties(convertArrayPropertiesToIterable(properties(node)));
 
-            nodeModel.setProperties(convertArrayPropertiesToIterable(properties(node)));
+                if (nodeModels.size() < MAX_CACHED_MODELS) {
+                    nodeModels.put(id, nodeModel);
+                }
+            }
 
             graphModel.getNodes().add(nodeModel);
         }
     }
 
     public void buildRelationship(Object relationship, GraphModel graphModel, Set<Long> edgeIdentities) {
+        long id = relationshipId(relationship);
+        if (edgeIdentities.add(id)) {
+
+            RelationshipModel edgeModel = relationshipModels.get(id);
+            if (edgeModel == null) {
+                edgeModel = new RelationshipModel();
+                edgeModel.setId(id);
+                edgeModel.setType(relationshipType(relationship));
+                edgeModel.setStartNode(startNodeId(relationship));
+                edgeModel.setEndNode(endNodeId(relationship));
+
+                edgeModel.setProperties(convertArrayPropertiesToIterable(properties(relationship)));
+
+                if (relationshipModels.size() < MAX_CACHED_MODELS) {
+                    relationshipModels.put(id, edgeModel);
+                }
+            }
 
-        if (!edgeIdentities.contains(relationshipId(relationship))) {
-
-            edgeIdentities.add(relationshipId(relationship));
-
-            RelationshipModel edgeModel = new RelationshipModel();
-            edgeModel.setId(relationshipId(relationship));
-            edgeModel.setType(relationshipType(relationship));
-            edgeModel.setStartNode(startNodeId(relationship));
-            edgeModel.setEndNode(endNodeId(relationship));
-
-            edgeModel.setProperties(convertArrayPropertiesToIterable(properties(relationship)));
             graphModel.getRelationships().add(edgeModel);
         }
     }
@@ -40,7 +40,11 @@ import java.util.function.Function;
  * <br>
  * The map passed to {@link #getCypherModification(Map)}} contains arbitrary properties from OGMs
  * {@link org.neo4j.ogm.config.Configuration}. Those can be set programmatically in any way necessary. Use those properties
- * to configure your Cypher modification as needed.
+ * to configure your Cypher modification as needed.<br>
+ * <br>
+ * Providers whose modification only depends on the statement and the configuration can return {@literal true} from
+ * {@link #isDeterministic()}, so that the modified statements are cached per input statement. Modifications depending
+ * on anything else, for example on the current tenant or the time, must not do so.
  *
  * @author Michael J. Simons
  * @since 3.1.4
@@ -64,4 +68,15 @@ public interface CypherModificationProvider {
      * @return The actual cypher modification
      */
     Function<String, String> getCypherModification(Map<String, Object> configuration);
+
+    /**
+     * Indicates whether the modification returns the same result each time it is called with the same statement, so
+     * that its results can be cached. If any loaded provider is not deterministic, no results are cached at all.
+     * Providers have to opt in, as caching would share the statement modified for one caller with all others.
+     *
+     * @return true if the results of the modification may be cached, false by default
+     */
+    default boolean isDeterministic() {
+        return false;
+    }
 }
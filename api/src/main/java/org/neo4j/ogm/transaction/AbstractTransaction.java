@@ -46,6 +46,10 @@ public abstract class AbstractTransaction implements Transaction {
      * a subsequent save request to operate correctly */
     private final List<Object> registeredNew = new ArrayList<>();
 
+    /* Actions to run once the transaction has been committed or rolled back, whether or not that succeeded, such as
+     * invalidating cached state that changes made in this transaction may have made stale */
+    private final List<Runnable> completionActions = new ArrayList<>();
+
     private Transaction.Status status = Transaction.Status.OPEN;
     protected Transaction.Type type = Type.READ_WRITE;
 
@@ -62,9 +66,13 @@ public abstract class AbstractTransaction implements Transaction {
         if (extensions == 0) {
             // transaction can always be rolled back
             if (transactionManager != null) {
-                transactionManager.rollback(this);
-                status = Status.ROLLEDBACK;
-                logger.debug("Thread {}: Rolled back", Thread.currentThread().getId());
+                try {
+                    transactionManager.rollback(this);
+                    status = Status.ROLLEDBACK;
+                    logger.debug("Thread {}: Rolled back", Thread.currentThread().getId());
+                } finally {
+                    complete();
+                }
             }
         } else {
             logger.debug("Thread {}: Rollback deferred", Thread.currentThread().getId());
@@ -80,9 +88,13 @@ public abstract class AbstractTransaction implements Transaction {
         if (extensions == 0) {
             if (canCommit()) {
                 if (transactionManager != null) {
-                    transactionManager.commit(this);
-                    status = Status.COMMITTED;
-                    logger.debug("Thread {}: Committed", Thread.currentThread().getId());
+                    try {
+                        transactionManager.commit(this);
+                        status = Status.COMMITTED;
+                        logger.debug("Thread {}: Committed", Thread.currentThread().getId());
+                    } finally {
+                        complete();
+                    }
                 }
             } else {
                 throw new TransactionException("Transaction cannot commit");
@@ -162,6 +174,28 @@ public abstract class AbstractTransaction implements Transaction {
         return registeredNew;
     }
 
+    /**
+     * Registers an action to run once this transaction has been committed or rolled back. Actions run exactly once,
+     * in the order they have been registered, even if committing or rolling back failed.
+     *
+     * @param action the action to run
+     */
+    public void registerCompletionAction(Runnable action) {
+        completionActions.add(action);
+    }
+
+    private void complete() {
+        List<Runnable> actions = new ArrayList<>(completionActions);
+        completionActions.clear();
+        for (Runnable action : actions) {
+            try {
+                action.run();
+            } catch (RuntimeException e) {
+                logger.warn("Thread {}: Completion action failed", Thread.currentThread().getId(), e);
+            }
+        }
+    }
+
     // for testing
     public void reOpen() {
         status = Status.OPEN;
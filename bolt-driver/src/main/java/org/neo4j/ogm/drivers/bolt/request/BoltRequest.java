@@ -85,23 +85,36 @@ public class BoltRequest implements Request {
         return new RowModelResponse(executeRequest(request), transactionManager);
     }
 
+    /**
+     * Runs all statements of the request in one pipeline: statements are sent before the first result is awaited, so
+     * the request costs a single round trip. The database runs them in order, so a statement sees the changes of all
+     * statements before it. Requests depending on the results of a previous request are still executed after it.
+     */
     @Override
     public Response<RowModel> execute(DefaultRequest query) {
+        final List<StatementResult> results = new ArrayList<>();
+        for (Statement statement : query.getStatements()) {
+            results.add(executeRequest(statement));
+        }
+
         final List<RowModel> rowmodels = new ArrayList<>();
         String[] columns = null;
-        for (Statement statement : query.getStatements()) {
-            StatementResult result = executeRequest(statement);
-            if (columns == null) {
-                List<String> columnSet = result.keys();
-                columns = columnSet.toArray(new String[columnSet.size()]);
-            }
-            try (RowModelResponse rowModelResponse = new RowModelResponse(result, transactionManager)) {
-                RowModel model;
-                while ((model = rowModelResponse.next()) != null) {
-                    rowmodels.add(model);
+        try {
+            for (StatementResult result : results) {
+                if (columns == null) {
+                    List<String> columnSet = result.keys();
+                    columns = columnSet.toArray(new String[columnSet.size()]);
+                }
+                try (RowModelResponse rowModelResponse = new RowModelResponse(result, transactionManager)) {
+                    RowModel model;
+                    while ((model = rowModelResponse.next()) != null) {
+                        rowmodels.add(model);
+                    }
+                    result.consume();
                 }
-                result.consume();
             }
+        } catch (ClientException | DatabaseException | TransientException ce) {
+            throw new CypherException("Error executing Cypher", ce, ce.code(), ce.getMessage());
         }
 
         final String[] finalColumns = columns;
@@ -21,6 +21,9 @@ import org.neo4j.ogm.response.model.DefaultGraphRowListModel;
 import org.neo4j.ogm.transaction.TransactionManager;
 
 /**
+ * Returns one row per call to {@link #next()}, so that rows are only read from the driver's result as they are
+ * consumed.
+ *
  * @author Luanne Misquitta
  */
 public class GraphRowModelResponse extends BoltResponse<GraphRowListModel> {
@@ -37,10 +40,6 @@ public class GraphRowModelResponse extends BoltResponse<GraphRowListModel> {
         if (result.hasNext()) {
             DefaultGraphRowListModel model = new DefaultGraphRowListModel();
             model.add(adapter.adapt(result.next().asMap()));
-
-            while (result.hasNext()) {
-                model.add(adapter.adapt(result.next().asMap()));
-            }
             return model;
         }
         return null;
@@ -0,0 +1,48 @@
+/*
+ * Copyright (c) 2002-2018 "Neo Technology,"
+ * Network Engine for Objects in Lund AB [http://neotechnology.com]
+ *
+ * This product is licensed to you under the Apache License, Version 2.0 (the "License").
+ * You may not use this product except in compliance with the License.
+ *
+ * This product may include a number of subcomponents with
+ * separate copyright notices and license terms. Your use of the source
+ * code for these subcomponents is subject to the terms and
+ *  conditions of the subcomponent's license, as noted in the LICENSE file.
+ */
+
+package org.neo4j.ogm.annotation;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marks a node or relationship entity whose loads by id are kept in the second-level cache of the
+ * {@link org.neo4j.ogm.session.SessionFactory}, so that other sessions can hydrate it without going to the database.
+ * Meant for small, frequently read and rarely changed reference data.
+ * <p>
+ * Cached loads are invalidated when a session saves or deletes any entity they contain. Modifying cypher queries
+ * executed through a session clear the whole cache. Changes made by other applications are not seen until the entry
+ * expires, see {@link #timeToLive()}.
+ * Note that invalidation relies on session events, so all sessions of a factory with cacheable entities
+ * raise save and delete events.
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.TYPE)
+public @interface Cacheable {
+
+    String MAX_ENTRIES = "maxEntries";
+    String TIME_TO_LIVE = "timeToLive";
+
+    /**
+     * Maximum number of cached loads of this entity type. The least recently used load is evicted when exceeded.
+     */
+    int maxEntries() default 1000;
+
+    /**
+     * Time in seconds after which a cached load expires. Defaults to 0, meaning that loads never expire.
+     */
+    long timeToLive() default 0;
+}
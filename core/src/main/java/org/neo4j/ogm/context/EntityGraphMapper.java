@@ -13,10 +13,13 @@
 
 package org.neo4j.ogm.context;
 
+import java.util.ArrayList;
 import java.util.Collection;
-import java.util.Iterator;
+import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.function.BiFunction;
 import java.util.function.Predicate;
 
@@ -54,6 +57,18 @@ public class EntityGraphMapper implements EntityMapper {
     private final MetaData metaData;
     private final MappingContext mappingContext;
     private final Compiler compiler = new MultiStatementCypherCompiler();
+    /**
+     * The relationships of the mapping context that have been registered with the compile context so far.
+     * Only the relationships of nodes visited while mapping are registered, so that the cost of a save depends on
+     * the size of the saved subgraph and not on the number of relationships known to the session. Relationships of
+     * nodes that are not visited cannot be changed by the save, so they never need to be considered obsolete.
+     */
+    private final Set<MappedRelationship> registeredRelationships = new HashSet<>();
+    /**
+     * The native ids of the nodes whose relationships have been registered already. Nodes are revisited once for
+     * every entity that refers to them, so without this a hub with many referrers would be rescanned each time.
+     */
+    private final Set<Long> registeredNodes = new HashSet<>();
     /**
      * Default supplier for write protection: Always write all the stuff.
      */
@@ -87,16 +102,6 @@ public class EntityGraphMapper implements EntityMapper {
             throw new NullPointerException("Cannot map null object");
         }
 
-        // add all the relationships we know about. This includes the relationships that
-        // won't be modified by the mapping request.
-        for (MappedRelationship mappedRelationship : mappingContext.getRelationships()) {
-            LOGGER.debug("context-init: (${})-[:{}]->(${})", mappedRelationship.getStartNodeId(),
-                mappedRelationship.getRelationshipType(), mappedRelationship.getEndNodeId());
-            compiler.context().registerRelationship(mappedRelationship);
-        }
-
-        LOGGER.debug("context initialised with {} relationships", mappingContext.getRelationships().size());
-
         // if the object is a RelationshipEntity, persist it by persisting both the start node and the end node
         // and then ensure the relationship between the two is created or updated as necessary
         if (isRelationshipEntity(entity)) {
@@ -163,9 +168,8 @@ public class EntityGraphMapper implements EntityMapper {
     private void deleteObsoleteRelationships(Compiler compiler) {
         CompileContext context = compiler.context();
 
-        Iterator<MappedRelationship> mappedRelationshipIterator = mappingContext.getRelationships().iterator();
-        while (mappedRelationshipIterator.hasNext()) {
-            MappedRelationship mappedRelationship = mappedRelationshipIterator.next();
+        List<MappedRelationship> obsoleteRelationships = new ArrayList<>();
+        for (MappedRelationship mappedRelationship : registeredRelationships) {
 
             // if we cannot remove this relationship from the compile context, it
             // means the user has deleted the relationship
@@ -194,31 +198,57 @@ public class EntityGraphMapper implements EntityMapper {
                 clearRelatedObjects(mappedRelationship.getStartNodeId());
                 clearRelatedObjects(mappedRelationship.getEndNodeId());
 
-                // finally remove the relationship from the mapping context
-                //mappingContext.removeRelationship(mappedRelationship);
-                mappedRelationshipIterator.remove();
+                obsoleteRelationships.add(mappedRelationship);
+            }
+        }
+        // subsequent calls to map will register the relationships of the nodes they visit again
+        registeredRelationships.clear();
+        registeredNodes.clear();
+
+        // finally remove the relationships from the mapping context
+        for (MappedRelationship obsoleteRelationship : obsoleteRelationships) {
+            mappingContext.removeRelationship(obsoleteRelationship);
+        }
+    }
+
+    /**
+     * Registers all relationships of the given node known to the mapping context with the compile context, so that
+     * the mapping can detect which of them have been removed from the domain. Each relationship is registered only
+     * once per compile context, and the relationships of each node are looked up only once.
+     *
+     * @param context the {@link CompileContext} for the current compiler instance
+     * @param entity  the node entity being visited
+     */
+    private void registerRelationships(CompileContext context, Object entity) {
+        Long nativeId = mappingContext.nativeId(entity);
+        if (!registeredNodes.add(nativeId)) {
+            return;
+        }
+        for (MappedRelationship mappedRelationship : mappingContext.getRelationshipsOfNode(nativeId)) {
+            if (registeredRelationships.add(mappedRelationship)) {
+                LOGGER.debug("context-init: (${})-[:{}]->(${})", mappedRelationship.getStartNodeId(),
+                    mappedRelationship.getRelationshipType(), mappedRelationship.getEndNodeId());
+                context.registerRelationship(mappedRelationship);
             }
         }
     }
 
     private void clearRelatedObjects(Long node) {
 
-        for (MappedRelationship mappedRelationship : mappingContext.getRelationships()) {
-            if (mappedRelationship.getStartNodeId() == node || mappedRelationship.getEndNodeId() == node) {
+        for (MappedRelationship mappedRelationship : mappingContext.getRelationshipsOfNode(node)) {
 
-                Object dirty = mappingContext.getNodeEntity(mappedRelationship.getEndNodeId());
-                if (dirty != null) {
-                    LOGGER.debug("flushing end node of: (${})-[:{}]->(${})", mappedRelationship.getStartNodeId(),
-                        mappedRelationship.getRelationshipType(), mappedRelationship.getEndNodeId());
-                    mappingContext.removeNodeEntity(dirty, true);
-                }
+            Object dirty = mappingContext.getNodeEntity(mappedRelationship.getEndNodeId());
+            if (dirty != null) {
+                LOGGER.debug("flushing end node of: (${})-[:{}]->(${})", mappedRelationship.getStartNodeId(),
+                    mappedRelationship.getRelationshipType(), mappedRelationship.getEndNodeId());
+                mappingContext.removeNodeEntity(dirty, true);
+            }
 
-                dirty = mappingContext.getNodeEntity(mappedRelationship.getStartNodeId());
-                if (dirty != null) {
-                    LOGGER.debug("flushing start node of: (${})-[:{}]->(${})", mappedRelationship.getStartNodeId(),
-                        mappedRelationship.getRelationshipType(), mappedRelationship.getEndNodeId());
-                    mappingContext.removeNodeEntity(dirty, true);
-                }
+            dirty = mappingContext.getNodeEntity(mappedRelationship.getStartNodeId());
+            if (dirty != null) {
+                LOGGER.debug("flushing start node of: (${})-[:{}]->(${})", mappedRelationship.getStartNodeId(),
+                    mappedRelationship.getRelationshipType(), mappedRelationship.getEndNodeId());
+                mappingContext.removeNodeEntity(dirty, true);
             }
         }
     }
@@ -239,6 +269,8 @@ public class EntityGraphMapper implements EntityMapper {
             return null;
         }
 
+        registerRelationships(context, entity);
+
         if (context.visited(entity, horizon)) {
             LOGGER.debug("already visited: {}", entity);
             return context.visitedNode(entity);
@@ -280,11 +312,16 @@ public class EntityGraphMapper implements EntityMapper {
      */
     private void updateNode(Object entity, CompileContext context, NodeBuilder nodeBuilder) {
         // fire pre-save event here
-        if (mappingContext.isDirty(entity)) {
+        // with field snapshots the changed fields also tell whether the entity is dirty, so it is hashed only once
+        Set<FieldInfo> changedFields = mappingContext.changedFields(entity);
+        if (changedFields != null ? !changedFields.isEmpty() : mappingContext.isDirty(entity)) {
             LOGGER.debug("{} has changed", entity);
             context.register(entity);
             ClassInfo classInfo = metaData.classInfo(entity);
-            updateFieldsOnBuilder(entity, nodeBuilder, classInfo);
+            updateFieldsOnBuilder(entity, nodeBuilder, classInfo, changedFields);
+            if (changedFields != null) {
+                nodeBuilder.setPartialUpdate(true);
+            }
         } else {
             context.deregister(nodeBuilder);
             LOGGER.debug("{}, has not changed", entity);
@@ -575,14 +612,15 @@ public class EntityGraphMapper implements EntityMapper {
 
         boolean relationshipEndsChanged = false;
 
-        for (MappedRelationship mappedRelationship : mappingContext.getRelationships()) {
-            if (mappedRelationship.getRelationshipId() != null && relId != null && mappedRelationship
-                .getRelationshipId().equals(relId)) {
-                if (srcIdentity == null || tgtIdentity == null || mappedRelationship.getStartNodeId() != srcIdentity
-                    || mappedRelationship.getEndNodeId() != tgtIdentity) {
-                    relationshipEndsChanged = true;
-                    break;
-                }
+        if (relId == null) {
+            return false;
+        }
+
+        for (MappedRelationship mappedRelationship : mappingContext.getRelationshipsOfRelationshipEntity(relId)) {
+            if (srcIdentity == null || tgtIdentity == null || mappedRelationship.getStartNodeId() != srcIdentity
+                || mappedRelationship.getEndNodeId() != tgtIdentity) {
+                relationshipEndsChanged = true;
+                break;
             }
         }
         return relationshipEndsChanged;
@@ -688,12 +726,24 @@ public class EntityGraphMapper implements EntityMapper {
     }
 
     private <T> void updateFieldsOnBuilder(Object entity, PropertyContainerBuilder<T> builder, ClassInfo classInfo) {
+        updateFieldsOnBuilder(entity, builder, classInfo, null);
+    }
+
+    /**
+     * Adds the properties of the given fields to the builder. The version field is always added.
+     *
+     * @param changedFields the fields to add, or null to add all property fields
+     */
+    private <T> void updateFieldsOnBuilder(Object entity, PropertyContainerBuilder<T> builder, ClassInfo classInfo,
+        Set<FieldInfo> changedFields) {
         for (FieldInfo fieldInfo : classInfo.propertyFields()) {
-            if (fieldInfo.isComposite()) {
+            if (fieldInfo.isVersionField()) {
+                updateVersionField(entity, builder, fieldInfo);
+            } else if (changedFields != null && !changedFields.contains(fieldInfo)) {
+                continue;
+            } else if (fieldInfo.isComposite()) {
                 Map<String, ?> properties = fieldInfo.readComposite(entity);
                 builder.addProperties(properties);
-            } else if (fieldInfo.isVersionField()) {
-                updateVersionField(entity, builder, fieldInfo);
             } else {
                 builder.addProperty(fieldInfo.propertyName(), fieldInfo.readProperty(entity));
             }
@@ -967,35 +1017,27 @@ public class EntityGraphMapper implements EntityMapper {
             // #347. attribute is not a rel ? maybe would be better to change FieldInfo.persistableAsProperty ?
             return false;
         }
-        for (FieldInfo tgtRelReader : tgtInfo.relationshipFields()) {
-            String tgtRelationshipDirection = tgtRelReader.relationshipDirection();
-            if ((tgtRelationshipDirection.equals(Relationship.OUTGOING) || tgtRelationshipDirection
-                .equals(Relationship.INCOMING)) //The relationship direction must be explicitly incoming or outgoing
-                && tgtRelReader.relationshipType().equals(
-                relationshipType)) { //The source must have the same relationship type to the target as the target to the source
-                //Moreover, the source must be related to the target and vice versa in the SAME direction
-                if (relationshipDirection.equals(tgtRelationshipDirection)) {
-
-                    Object target = tgtRelReader.read(tgtObject);
-                    if (target != null) {
-                        if (target instanceof Iterable) {
-                            for (Object relatedObject : (Iterable<?>) target) {
-                                if (relatedObject.equals(srcObject)) { //the target is mapped to the source as well
-                                    mapBothWays = true;
-                                }
-                            }
-                        } else if (target.getClass().isArray()) {
-                            for (Object relatedObject : (Object[]) target) {
-                                if (relatedObject.equals(srcObject)) { //the target is mapped to the source as well
-                                    mapBothWays = true;
-                                }
-                            }
-                        } else {
-                            if (target.equals(srcObject)) { //the target is mapped to the source as well
-                                mapBothWays = true;
-                            }
+        //The target must have the same relationship type to the source as the source to the target, explicitly
+        //declared in the SAME direction
+        for (FieldInfo tgtRelReader : tgtInfo.declaredRelationshipFields(relationshipType, relationshipDirection)) {
+            Object target = tgtRelReader.read(tgtObject);
+            if (target != null) {
+                if (target instanceof Iterable) {
+                    for (Object relatedObject : (Iterable<?>) target) {
+                        if (relatedObject.equals(srcObject)) { //the target is mapped to the source as well
+                            mapBothWays = true;
                         }
                     }
+                } else if (target.getClass().isArray()) {
+                    for (Object relatedObject : (Object[]) target) {
+                        if (relatedObject.equals(srcObject)) { //the target is mapped to the source as well
+                            mapBothWays = true;
+                        }
+                    }
+                } else {
+                    if (target.equals(srcObject)) { //the target is mapped to the source as well
+                        mapBothWays = true;
+                    }
                 }
             }
         }
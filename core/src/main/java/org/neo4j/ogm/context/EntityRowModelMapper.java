@@ -61,7 +61,15 @@ public class EntityRowModelMapper implements ResponseMapper<RowModel> {
         return result;
     }
 
-    private static <T> T extractColumnValue(Class<T> type, RowModel model) {
+    /**
+     * Converts the single column of a row into the requested scalar type.
+     *
+     * @param type  The type to convert the value to
+     * @param model The row to read the value from
+     * @param <T>   The scalar type
+     * @return The converted value
+     */
+    public static <T> T extractColumnValue(Class<T> type, RowModel model) {
 
         if (model.variables().length > 1) {
             throw new RuntimeException(
@@ -76,22 +76,20 @@ public class GraphEntityMapper implements ResponseMapper<GraphModel> {
     public <T> Iterable<T> map(Class<T> type, Response<GraphModel> model) {
 
         List<T> objects = new ArrayList<>();
-        Set<Long> objectIds = new HashSet<>();
+        LongSet objectIds = new LongSet();
           /*
          * these two lists will contain the node ids and edge ids from the response, in the order
          * they were presented to us.
          */
-        Set<Long> nodeIds = new LinkedHashSet<>();
-        Set<Long> edgeIds = new LinkedHashSet<>();
+        Set<Long> nodeIds = new LongSet();
+        Set<Long> edgeIds = new LongSet();
 
         GraphModel graphModel;
         while ((graphModel = model.next()) != null) {
             List<T> mappedEntities = map(type, graphModel, nodeIds, edgeIds);
             for (T entity : mappedEntities) {
-                Long identity = mappingContext.nativeId(entity);
-                if (!objectIds.contains(identity)) {
+                if (objectIds.add(mappingContext.nativeId(entity))) {
                     objects.add(entity);
-                    objectIds.add(identity);
                 }
             }
         }
@@ -103,9 +101,10 @@ public class GraphEntityMapper implements ResponseMapper<GraphModel> {
 
     Map<Long, Object> mapRelationships(GraphModel model) {
         Map<Long, Object> results = new HashMap<>();
-        Set<Long> edgeIds = new LinkedHashSet<>();
+        LongSet edgeIds = new LongSet();
         mapRelationships(model, edgeIds);
-        for (Long id : edgeIds) {
+        for (int i = 0; i < edgeIds.size(); i++) {
+            long id = edgeIds.get(i);
             Object o = mappingContext.getRelationshipEntity(id);
             if (o != null) {
                 results.put(id, o);
@@ -128,12 +127,13 @@ public class GraphEntityMapper implements ResponseMapper<GraphModel> {
      */
     public <T> List<T> map(Class<T> type, GraphModel graphModel, Set<Long> nodeIds, Set<Long> edgeIds) {
 
-        Set<Long> modelNodeIds = new LinkedHashSet<>();
-        Set<Long> modelEdgeIds = new LinkedHashSet<>();
+        LongSet modelNodeIds = new LongSet();
+        LongSet modelEdgeIds = new LongSet();
         mapEntities(type, graphModel, modelNodeIds, modelEdgeIds);
         List<T> results = new ArrayList<>();
 
-        for (Long id : modelNodeIds) {
+        for (int i = 0; i < modelNodeIds.size(); i++) {
+            long id = modelNodeIds.get(i);
             Object o = mappingContext.getNodeEntity(id);
 
             nodeIds.add(id);
@@ -145,7 +145,8 @@ public class GraphEntityMapper implements ResponseMapper<GraphModel> {
 
         // only look for REs if no node entities were found
         if (results.isEmpty()) {
-            for (Long id : modelEdgeIds) {
+            for (int i = 0; i < modelEdgeIds.size(); i++) {
+                long id = modelEdgeIds.get(i);
                 Object o = mappingContext.getRelationshipEntity(id);
 
                 edgeIds.add(id);
@@ -202,7 +203,7 @@ public class GraphEntityMapper implements ResponseMapper<GraphModel> {
         }
     }
 
-    private <T> void mapEntities(Class<T> type, GraphModel graphModel, Set<Long> nodeIds, Set<Long> edgeIds) {
+    private <T> void mapEntities(Class<T> type, GraphModel graphModel, LongSet nodeIds, LongSet edgeIds) {
         try {
             mapNodes(graphModel, nodeIds);
             mapRelationships(graphModel, edgeIds);
@@ -213,7 +214,7 @@ public class GraphEntityMapper implements ResponseMapper<GraphModel> {
         }
     }
 
-    private void mapNodes(GraphModel graphModel, Set<Long> nodeIds) {
+    private void mapNodes(GraphModel graphModel, LongSet nodeIds) {
 
         for (Node node : graphModel.getNodes()) {
             if (!nodeIds.contains(node.getId())) {
@@ -313,7 +314,7 @@ public class GraphEntityMapper implements ResponseMapper<GraphModel> {
         }
     }
 
-    private void mapRelationships(GraphModel graphModel, Set<Long> edgeIds) {
+    private void mapRelationships(GraphModel graphModel, LongSet edgeIds) {
 
         final List<Edge> oneToMany = new ArrayList<>();
 
@@ -14,7 +14,6 @@
 package org.neo4j.ogm.context;
 
 import java.util.ArrayList;
-import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Set;
 
@@ -45,11 +44,11 @@ public class GraphRowListModelMapper implements ResponseMapper<GraphRowListModel
     public <T> Iterable<T> map(Class<T> type, Response<GraphRowListModel> response) {
 
         List<T> result = new ArrayList<>();
-        Set<Long> resultEntityIds = new LinkedHashSet<>();
+        LongSet resultEntityIds = new LongSet();
         ClassInfo classInfo = metaData.classInfo(type.getName());
 
-        Set<Long> nodeIds = new LinkedHashSet<>();
-        Set<Long> edgeIds = new LinkedHashSet<>();
+        Set<Long> nodeIds = new LongSet();
+        Set<Long> edgeIds = new LongSet();
         GraphEntityMapper ogm = new GraphEntityMapper(metaData, mappingContext, entityInstantiator);
 
         GraphRowListModel graphRowsModel;
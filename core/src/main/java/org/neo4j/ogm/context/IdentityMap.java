@@ -13,18 +13,17 @@
 
 package org.neo4j.ogm.context;
 
-import java.lang.reflect.Array;
-import java.lang.reflect.Field;
-import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
-import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
-import java.util.Map;
+import java.util.Set;
 
 import org.neo4j.ogm.metadata.ClassInfo;
+import org.neo4j.ogm.metadata.EntityHashPlan;
 import org.neo4j.ogm.metadata.FieldInfo;
 import org.neo4j.ogm.metadata.MetaData;
+import org.neo4j.ogm.session.DirtyTrackingStrategy;
 
 /**
  * Maintains entity footprints for dirty checking.
@@ -37,19 +36,30 @@ class IdentityMap {
     // objects with no properties will always hash to this value.
     private static final long SEED = 0xDEADBEEF / (11 * 257);
 
-    private final Map<Long, Long> nodeHash;
+    private final LongLongMap nodeHash;
 
-    private final Map<Long, Long> relEntityHash;
+    // per-field hashes of node entities, only used with DirtyTrackingStrategy.FIELD_SNAPSHOT
+    private final LongObjectMap<long[]> nodeSnapshots;
 
-    private final Map<Long, LabelHistory> labelHistoryRegister;
+    private final LongLongMap relEntityHash;
+
+    private final LongObjectMap<LabelHistory> labelHistoryRegister;
 
     private final MetaData metaData;
 
+    private final DirtyTrackingStrategy dirtyTrackingStrategy;
+
     IdentityMap(MetaData metaData) {
-        this.nodeHash = new HashMap<>();
-        this.relEntityHash = new HashMap<>();
-        labelHistoryRegister = new HashMap<>();
+        this(metaData, DirtyTrackingStrategy.ENTITY_HASH);
+    }
+
+    IdentityMap(MetaData metaData, DirtyTrackingStrategy dirtyTrackingStrategy) {
+        this.nodeHash = new LongLongMap();
+        this.nodeSnapshots = new LongObjectMap<>();
+        this.relEntityHash = new LongLongMap();
+        labelHistoryRegister = new LongObjectMap<>();
         this.metaData = metaData;
+        this.dirtyTrackingStrategy = dirtyTrackingStrategy;
     }
 
     /**
@@ -63,6 +73,8 @@ class IdentityMap {
         ClassInfo classInfo = metaData.classInfo(object);
         if (metaData.isRelationshipEntity(classInfo.name())) {
             relEntityHash.put(entityId, hash(object, classInfo));
+        } else if (dirtyTrackingStrategy == DirtyTrackingStrategy.FIELD_SNAPSHOT) {
+            nodeSnapshots.put(entityId, classInfo.hashPlan().hashFields(object));
         } else {
             nodeHash.put(entityId, hash(object, classInfo));
         }
@@ -86,21 +98,51 @@ class IdentityMap {
         if (entityId != null) {
             if (metaData.isRelationshipEntity(classInfo.name())) {
                 isRelEntity = true;
+            } else if (dirtyTrackingStrategy == DirtyTrackingStrategy.FIELD_SNAPSHOT) {
+                long[] snapshot = nodeSnapshots.get(entityId);
+                return snapshot != null && Arrays.equals(snapshot, classInfo.hashPlan().hashFields(object));
             }
 
-            if ((!isRelEntity && !nodeHash.containsKey(entityId)) ||
-                (isRelEntity && !relEntityHash.containsKey(entityId))) {
+            LongLongMap hashes = isRelEntity ? relEntityHash : nodeHash;
+            if (!hashes.containsKey(entityId)) {
                 return false;
             }
 
             long actual = hash(object, classInfo);
-            long expected = isRelEntity ? relEntityHash.get(entityId) : nodeHash.get(entityId);
+            long expected = hashes.get(entityId, 0L);
 
             return (actual == expected);
         }
         return false;
     }
 
+    /**
+     * determines which fields of a node entity have changed since it was remembered.
+     * Only available with {@link DirtyTrackingStrategy#FIELD_SNAPSHOT}.
+     *
+     * @param object   the node entity whose fields we want to check
+     * @param entityId the id of the node entity
+     * @return the changed fields, empty if the entity has not changed, or null if there is no snapshot to compare with
+     */
+    Set<FieldInfo> changedFields(Object object, Long entityId) {
+        long[] snapshot = entityId == null ? null : nodeSnapshots.get(entityId);
+        if (snapshot == null) {
+            return null;
+        }
+
+        EntityHashPlan hashPlan = metaData.classInfo(object).hashPlan();
+        long[] actual = hashPlan.hashFields(object);
+        List<FieldInfo> fields = hashPlan.fields();
+
+        Set<FieldInfo> changedFields = new HashSet<>();
+        for (int i = 0; i < actual.length; i++) {
+            if (actual[i] != snapshot[i]) {
+                changedFields.add(fields.get(i));
+            }
+        }
+        return changedFields;
+    }
+
     private void collectLabelHistory(Object entity, Long entityId, ClassInfo classInfo) {
         FieldInfo fieldInfo = classInfo.labelFieldOrNull();
         if (fieldInfo != null) {
@@ -115,56 +157,11 @@ class IdentityMap {
 
     void clear() {
         nodeHash.clear();
+        nodeSnapshots.clear();
         relEntityHash.clear();
     }
 
     private long hash(Object object, ClassInfo classInfo) {
-        long hash = SEED;
-
-        List<FieldInfo> hashFields = new ArrayList<>(classInfo.propertyFields());
-        if (classInfo.labelFieldOrNull() != null) {
-            hashFields.add(classInfo.labelFieldOrNull());
-        }
-
-        for (FieldInfo fieldInfo : hashFields) {
-            Field field = classInfo.getField(fieldInfo);
-            Object value = FieldInfo.read(field, object);
-            if (value != null) {
-
-                if (value.getClass().isArray()) {
-                    hash = hash * 31L + Arrays.hashCode(convertToObjectArray(value));
-                } else if (value instanceof Iterable) {
-                    hash = hash * 31L + value.hashCode();
-                } else {
-                    hash = hash * 31L + hash(value.toString());
-                }
-            }
-        }
-        return hash;
-    }
-
-    private long hash(String string) {
-        long h = 1125899906842597L; // prime
-        int len = string.length();
-
-        for (int i = 0; i < len; i++) {
-            h = 31 * h + string.charAt(i);
-        }
-        return h;
-    }
-
-    /**
-     * Convert an array or objects or primitives to an array of objects
-     *
-     * @param array array of unknown type
-     * @return array of objects
-     */
-    private Object[] convertToObjectArray(Object array) {
-        int len = Array.getLength(array);
-        Object[] out = new Object[len];
-        for (int i = 0; i < len; i++) {
-            out[i] = Array.get(array, i);
-        }
-        return Arrays.asList(out).toArray();
+        return classInfo.hashPlan().hash(object, SEED);
     }
 }
@@ -0,0 +1,160 @@
+/*
+ * Copyright (c) 2002-2018 "Neo Technology,"
+ * Network Engine for Objects in Lund AB [http://neotechnology.com]
+ *
+ * This product is licensed to you under the Apache License, Version 2.0 (the "License").
+ * You may not use this product except in compliance with the License.
+ *
+ * This product may include a number of subcomponents with
+ * separate copyright notices and license terms. Your use of the source
+ * code for these subcomponents is subject to the terms and
+ *  conditions of the subcomponent's license, as noted in the LICENSE file.
+ */
+
+package org.neo4j.ogm.context;
+
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * A set of primitive {@code long} ids that keeps the order in which they were added, like a
+ * {@code LinkedHashSet<Long>}, but without boxing the ids or allocating an entry per id. It can be passed wherever the
+ * mappers accumulate node and edge ids as a {@code Set<Long>}. Ids can only be added, not removed, apart from clearing
+ * the whole set.
+ */
+public final class LongSet extends AbstractSet<Long> {
+
+    private static final int DEFAULT_CAPACITY = 16;
+    private static final float LOAD_FACTOR = 0.75f;
+
+    // open addressing table, zero marks an empty slot
+    private long[] table;
+    private boolean containsZero;
+    private int resizeAt;
+
+    // ids in insertion order
+    private long[] ids;
+    private int size;
+
+    public LongSet() {
+        table = new long[DEFAULT_CAPACITY];
+        resizeAt = (int) (DEFAULT_CAPACITY * LOAD_FACTOR);
+        ids = new long[DEFAULT_CAPACITY];
+    }
+
+    /**
+     * @param id The id to add
+     * @return true if the id was not yet part of this set
+     */
+    public boolean add(long id) {
+        if (id == 0) {
+            if (containsZero) {
+                return false;
+            }
+            containsZero = true;
+        } else {
+            int mask = table.length - 1;
+            int slot = LongLongMap.slot(id, mask);
+            while (table[slot] != 0) {
+                if (table[slot] == id) {
+                    return false;
+                }
+                slot = (slot + 1) & mask;
+            }
+            table[slot] = id;
+        }
+        if (size == ids.length) {
+            ids = Arrays.copyOf(ids, size << 1);
+        }
+        ids[size++] = id;
+        if (size > resizeAt) {
+            rehash(table.length << 1);
+        }
+        return true;
+    }
+
+    public boolean contains(long id) {
+        if (id == 0) {
+            return containsZero;
+        }
+        int mask = table.length - 1;
+        for (int slot = LongLongMap.slot(id, mask); table[slot] != 0; slot = (slot + 1) & mask) {
+            if (table[slot] == id) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * @param index Position of the id in insertion order
+     * @return The id added at that position
+     */
+    public long get(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        }
+        return ids[index];
+    }
+
+    @Override
+    public boolean add(Long id) {
+        return add(id.longValue());
+    }
+
+    @Override
+    public boolean contains(Object o) {
+        return o instanceof Long && contains(((Long) o).longValue());
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public void clear() {
+        Arrays.fill(table, 0L);
+        containsZero = false;
+        size = 0;
+    }
+
+    @Override
+    public Iterator<Long> iterator() {
+        return new Iterator<Long>() {
+
+            private int next;
+
+            @Override
+            public boolean hasNext() {
+                return next < size;
+            }
+
+            @Override
+            public Long next() {
+                if (next >= size) {
+                    throw new NoSuchElementException();
+                }
+                return ids[next++];
+            }
+        };
+    }
+
+    private void rehash(int capacity) {
+        long[] oldTable = table;
+        table = new long[capacity];
+        resizeAt = (int) (capacity * LOAD_FACTOR);
+        int mask = capacity - 1;
+        for (long id : oldTable) {
+            if (id != 0) {
+                int slot = LongLongMap.slot(id, mask);
+                while (table[slot] != 0) {
+                    slot = (slot + 1) & mask;
+                }
+                table[slot] = id;
+            }
+        }
+    }
+}
@@ -13,10 +13,11 @@
 
 package org.neo4j.ogm.context;
 
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
-import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -29,6 +30,7 @@ import org.neo4j.ogm.id.UuidStrategy;
 import org.neo4j.ogm.metadata.ClassInfo;
 import org.neo4j.ogm.metadata.FieldInfo;
 import org.neo4j.ogm.metadata.MetaData;
+import org.neo4j.ogm.session.DirtyTrackingStrategy;
 import org.neo4j.ogm.utils.EntityUtils;
 
 /**
@@ -43,7 +45,7 @@ import org.neo4j.ogm.utils.EntityUtils;
 public class MappingContext {
 
     // map Neo4j id -> entity
-    private final Map<Long, Object> nodeEntityRegister;
+    private final LongObjectMap<Object> nodeEntityRegister;
 
     // map primary index value -> entity
     private final Map<LabelPrimaryId, Object> primaryIndexNodeRegister;
@@ -51,25 +53,42 @@ public class MappingContext {
     // LabelPrimaryId - > native id (contains both nodes and relationship entities)
     private final Map<LabelPrimaryId, Long> primaryIdToNativeId;
 
-    private final Map<Long, Object> relationshipEntityRegister;
+    private final LongObjectMap<Object> relationshipEntityRegister;
 
     private final Map<LabelPrimaryId, Object> primaryIdToRelationship;
 
     private final Set<MappedRelationship> relationshipRegister;
 
+    // indexes over the relationshipRegister, kept in sync by addRelationship / removeRelationship
+    // start node id -> relationships starting at that node
+    private final LongObjectMap<Set<MappedRelationship>> relationshipsByStartNode;
+
+    // end node id -> relationships ending at that node
+    private final LongObjectMap<Set<MappedRelationship>> relationshipsByEndNode;
+
+    // relationship entity id -> relationships backed by that relationship entity
+    private final LongObjectMap<Set<MappedRelationship>> relationshipsByRelationshipEntity;
+
     private final IdentityMap identityMap;
 
     private final MetaData metaData;
 
     public MappingContext(MetaData metaData) {
+        this(metaData, DirtyTrackingStrategy.ENTITY_HASH);
+    }
+
+    public MappingContext(MetaData metaData, DirtyTrackingStrategy dirtyTrackingStrategy) {
         this.metaData = metaData;
-        this.identityMap = new IdentityMap(metaData);
-        this.nodeEntityRegister = new HashMap<>();
+        this.identityMap = new IdentityMap(metaData, dirtyTrackingStrategy);
+        this.nodeEntityRegister = new LongObjectMap<>();
         this.primaryIndexNodeRegister = new HashMap<>();
         this.primaryIdToNativeId = new HashMap<>();
-        this.relationshipEntityRegister = new HashMap<>();
+        this.relationshipEntityRegister = new LongObjectMap<>();
         this.primaryIdToRelationship = new HashMap<>();
         this.relationshipRegister = new HashSet<>();
+        this.relationshipsByStartNode = new LongObjectMap<>();
+        this.relationshipsByEndNode = new LongObjectMap<>();
+        this.relationshipsByRelationshipEntity = new LongObjectMap<>();
     }
 
     /**
@@ -81,7 +100,7 @@ public class MappingContext {
      * @return The entity or null if not found.
      */
     public Object getNodeEntity(Long graphId) {
-        return nodeEntityRegister.get(graphId);
+        return graphId == null ? null : nodeEntityRegister.get(graphId);
     }
 
     /**
@@ -134,7 +153,15 @@ public class MappingContext {
     }
 
     boolean removeRelationship(MappedRelationship mappedRelationship) {
-        return relationshipRegister.remove(mappedRelationship);
+        if (relationshipRegister.remove(mappedRelationship)) {
+            unindex(relationshipsByStartNode, mappedRelationship.getStartNodeId(), mappedRelationship);
+            unindex(relationshipsByEndNode, mappedRelationship.getEndNodeId(), mappedRelationship);
+            if (mappedRelationship.getRelationshipId() != null) {
+                unindex(relationshipsByRelationshipEntity, mappedRelationship.getRelationshipId(), mappedRelationship);
+            }
+            return true;
+        }
+        return false;
     }
 
     /**
@@ -235,12 +262,60 @@ public class MappingContext {
         return !identityMap.remembered(entity, graphId);
     }
 
+    /**
+     * Determines which fields of a node entity have changed since it was registered. Field level changes are only
+     * tracked with {@link DirtyTrackingStrategy#FIELD_SNAPSHOT}.
+     *
+     * @param entity the node entity
+     * @return the changed fields, empty if the entity has not changed, or null if they are not tracked for this entity
+     * and {@link #isDirty(Object)} must be used instead
+     */
+    public Set<FieldInfo> changedFields(Object entity) {
+        return identityMap.changedFields(entity, nativeId(entity));
+    }
+
     public boolean containsRelationship(MappedRelationship relationship) {
         return relationshipRegister.contains(relationship);
     }
 
+    /**
+     * Get all relationships registered in the current context. The returned set is a read-only view, use
+     * {@link #addRelationship(MappedRelationship)} and {@link #removeRelationship(MappedRelationship)} to modify it.
+     *
+     * @return The relationships known to this context.
+     */
     public Set<MappedRelationship> getRelationships() {
-        return relationshipRegister;
+        return Collections.unmodifiableSet(relationshipRegister);
+    }
+
+    /**
+     * Get all relationships registered in the current context that either start or end at the given node.
+     *
+     * @param nodeId The native id of the node
+     * @return The relationships connected to the node, never null.
+     */
+    public Set<MappedRelationship> getRelationshipsOfNode(long nodeId) {
+        Set<MappedRelationship> outgoing = relationshipsOf(relationshipsByStartNode, nodeId);
+        Set<MappedRelationship> incoming = relationshipsOf(relationshipsByEndNode, nodeId);
+        if (incoming.isEmpty()) {
+            return Collections.unmodifiableSet(outgoing);
+        }
+        if (outgoing.isEmpty()) {
+            return Collections.unmodifiableSet(incoming);
+        }
+        Set<MappedRelationship> relationships = new HashSet<>(outgoing);
+        relationships.addAll(incoming);
+        return relationships;
+    }
+
+    /**
+     * Get all relationships registered in the current context that are backed by the given relationship entity.
+     *
+     * @param relationshipEntityId The native id of the relationship entity
+     * @return The relationships mapped for the relationship entity, never null.
+     */
+    public Set<MappedRelationship> getRelationshipsOfRelationshipEntity(long relationshipEntityId) {
+        return Collections.unmodifiableSet(relationshipsOf(relationshipsByRelationshipEntity, relationshipEntityId));
     }
 
     public void addRelationship(MappedRelationship relationship) {
@@ -248,12 +323,43 @@ public class MappingContext {
             && relationshipEntityRegister.get(relationship.getRelationshipId()) == null) {
             relationship.setRelationshipId(null); //We're only interested in id's of relationship entities
         }
-        relationshipRegister.add(relationship);
+        if (relationshipRegister.add(relationship)) {
+            index(relationshipsByStartNode, relationship.getStartNodeId(), relationship);
+            index(relationshipsByEndNode, relationship.getEndNodeId(), relationship);
+            if (relationship.getRelationshipId() != null) {
+                index(relationshipsByRelationshipEntity, relationship.getRelationshipId(), relationship);
+            }
+        }
+    }
+
+    private static Set<MappedRelationship> relationshipsOf(LongObjectMap<Set<MappedRelationship>> index, long key) {
+        Set<MappedRelationship> relationships = index.get(key);
+        return relationships == null ? Collections.emptySet() : relationships;
+    }
+
+    private static void index(LongObjectMap<Set<MappedRelationship>> index, long key,
+        MappedRelationship relationship) {
+        // most nodes only have a handful of relationships, don't start with the default capacity of 16
+        index.computeIfAbsent(key, k -> new HashSet<>(4)).add(relationship);
+    }
+
+    private static void unindex(LongObjectMap<Set<MappedRelationship>> index, long key,
+        MappedRelationship relationship) {
+        Set<MappedRelationship> relationships = index.get(key);
+        if (relationships != null) {
+            relationships.remove(relationship);
+            if (relationships.isEmpty()) {
+                index.remove(key);
+            }
+        }
     }
 
     public void clear() {
         identityMap.clear();
         relationshipRegister.clear();
+        relationshipsByStartNode.clear();
+        relationshipsByEndNode.clear();
+        relationshipsByRelationshipEntity.clear();
         primaryIdToRelationship.clear();
         nodeEntityRegister.clear();
         primaryIndexNodeRegister.clear();
@@ -261,7 +367,7 @@ public class MappingContext {
     }
 
     public Object getRelationshipEntity(Long relationshipId) {
-        return relationshipEntityRegister.get(relationshipId);
+        return relationshipId == null ? null : relationshipEntityRegister.get(relationshipId);
     }
 
     /**
@@ -383,16 +489,12 @@ public class MappingContext {
         if (id >= 0) {
             if (!metaData.isRelationshipEntity(type.getName())) {
                 if (getNodeEntity(id) != null) {
-                    // todo: this will be very slow for many objects
-                    // todo: refactor to create a list of mappedRelationships from a nodeEntity id.
-                    for (MappedRelationship mappedRelationship : relationshipRegister) {
-                        if (mappedRelationship.getStartNodeId() == id || mappedRelationship.getEndNodeId() == id) {
-                            Object affectedObject = mappedRelationship.getEndNodeId() == id ?
-                                getNodeEntity(mappedRelationship.getStartNodeId()) :
-                                getNodeEntity(mappedRelationship.getEndNodeId());
-                            if (affectedObject != null) {
-                                neighbours.add(affectedObject);
-                            }
+                    for (MappedRelationship mappedRelationship : getRelationshipsOfNode(id)) {
+                        Object affectedObject = mappedRelationship.getEndNodeId() == id ?
+                            getNodeEntity(mappedRelationship.getStartNodeId()) :
+                            getNodeEntity(mappedRelationship.getEndNodeId());
+                        if (affectedObject != null) {
+                            neighbours.add(affectedObject);
                         }
                     }
                 }
@@ -414,18 +516,13 @@ public class MappingContext {
      * @param startOrEndEntity the entity that might be the start or end node of a relationship entity
      */
     private void deregisterDependentRelationshipEntity(Object startOrEndEntity) {
-        Iterator<Long> relationshipEntityIdIterator = relationshipEntityRegister.keySet().iterator();
-        while (relationshipEntityIdIterator.hasNext()) {
-            Long relationshipEntityId = relationshipEntityIdIterator.next();
-            Object relationshipEntity = relationshipEntityRegister.get(relationshipEntityId);
+        relationshipEntityRegister.removeValuesIf(relationshipEntity -> {
             final ClassInfo classInfo = metaData.classInfo(relationshipEntity);
             FieldInfo startNodeReader = classInfo.getStartNodeReader();
             FieldInfo endNodeReader = classInfo.getEndNodeReader();
-            if (startOrEndEntity == startNodeReader.read(relationshipEntity) || startOrEndEntity == endNodeReader
-                .read(relationshipEntity)) {
-                relationshipEntityIdIterator.remove();
-            }
-        }
+            return startOrEndEntity == startNodeReader.read(relationshipEntity) || startOrEndEntity == endNodeReader
+                .read(relationshipEntity);
+        });
     }
 
     private void purge(Object entity, Class type) {
@@ -438,24 +535,20 @@ public class MappingContext {
                     // remove the object from the node register
                     removeNodeEntity(entity, false);
                     // remove all relationship mappings to/from this object
-                    Iterator<MappedRelationship> mappedRelationshipIterator = relationshipRegister.iterator();
-                    while (mappedRelationshipIterator.hasNext()) {
-                        MappedRelationship mappedRelationship = mappedRelationshipIterator.next();
-                        if (mappedRelationship.getStartNodeId() == id || mappedRelationship.getEndNodeId() == id) {
-
-                            // first purge any RE mappings (if its a RE)
-                            if (mappedRelationship.getRelationshipId() != null) {
-                                Object relEntity = relationshipEntityRegister
-                                    .get(mappedRelationship.getRelationshipId());
-                                if (relEntity != null) {
-                                    // TODO : extract the "remove a RelationshipEntity" block below in a method
-                                    // and call it here instead of going recursive ?
-                                    relEntitiesToPurge.add(relEntity);
-                                }
+                    for (MappedRelationship mappedRelationship : new ArrayList<>(getRelationshipsOfNode(id))) {
+
+                        // first purge any RE mappings (if its a RE)
+                        if (mappedRelationship.getRelationshipId() != null) {
+                            Object relEntity = relationshipEntityRegister
+                                .get(mappedRelationship.getRelationshipId());
+                            if (relEntity != null) {
+                                // TODO : extract the "remove a RelationshipEntity" block below in a method
+                                // and call it here instead of going recursive ?
+                                relEntitiesToPurge.add(relEntity);
                             }
-                            // finally remove the mapped relationship
-                            mappedRelationshipIterator.remove();
                         }
+                        // finally remove the mapped relationship
+                        removeRelationship(mappedRelationship);
                     }
                 }
             } else {
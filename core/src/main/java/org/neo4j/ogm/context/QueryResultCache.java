@@ -0,0 +1,387 @@
+/*
+ * Copyright (c) 2002-2018 "Neo Technology,"
+ * Network Engine for Objects in Lund AB [http://neotechnology.com]
+ *
+ * This product is licensed to you under the Apache License, Version 2.0 (the "License").
+ * You may not use this product except in compliance with the License.
+ *
+ * This product may include a number of subcomponents with
+ * separate copyright notices and license terms. Your use of the source
+ * code for these subcomponents is subject to the terms and
+ *  conditions of the subcomponent's license, as noted in the LICENSE file.
+ */
+
+package org.neo4j.ogm.context;
+
+import java.lang.reflect.Array;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.neo4j.ogm.metadata.ClassInfo;
+import org.neo4j.ogm.metadata.MetaData;
+import org.neo4j.ogm.response.Response;
+import org.neo4j.ogm.session.event.Event;
+import org.neo4j.ogm.session.event.EventListenerAdapter;
+
+/**
+ * A cache of the records returned for read only statements, shared by all sessions of a
+ * {@link org.neo4j.ogm.session.SessionFactory}. Entries are keyed by the statement, its parameters and the kind of
+ * records requested. The number of entries is bounded, the least recently used entry being evicted first, and entries
+ * expire after a fixed time to live.
+ * <p>
+ * When a session saves or deletes an entity, all entries whose statement mentions one of the entity's labels or its
+ * relationship type are invalidated. Statements that can match nodes or relationships of any label or type, such as
+ * <code>(n)-[*0..1]-(m)</code>, are invalidated by any save or delete. Modifying statements executed through a
+ * session clear the cache. Changes made inside a transaction are held until the transaction ends, see
+ * {@link #invalidateUntilCompleted(Object)}, and results read before an invalidation that happened while they were
+ * being read are not cached, see {@link #generation()}. Changes made by other applications are only seen once
+ * entries expire.
+ * Responses with more than {@value #MAX_RECORDS_PER_ENTRY} records are not cached.
+ */
+public class QueryResultCache extends EventListenerAdapter {
+
+    // a label or relationship type following a colon, or a relationship type alternative following a pipe
+    private static final Pattern LABEL = Pattern.compile("[:|]\\s*:?\\s*(`[^`]+`|[A-Za-z_][A-Za-z0-9_]*)");
+    private static final Pattern LABELLED_VARIABLE = Pattern.compile("([A-Za-z_][A-Za-z0-9_]*)\\s*:");
+    private static final Pattern BARE_NODE = Pattern.compile("(?<![\\w`])\\(\\s*([A-Za-z_][A-Za-z0-9_]*)?\\s*\\)");
+    private static final Pattern UNTYPED_RELATIONSHIP = Pattern.compile("-\\s*\\[[^\\]:]*\\]|--");
+    // procedures may read nodes and relationships of any label or type
+    private static final Pattern CALL = Pattern.compile("(?i)(?<![\\w`])CALL(?![\\w`])");
+
+    // responses with more records are not cached, as they would hold on to too much memory
+    private static final int MAX_RECORDS_PER_ENTRY = 10_000;
+
+    private final MetaData metaData;
+    private final int maxEntries;
+    private final long timeToLive;
+    private final LongSupplier nanoClock;
+
+    private final Map<Key, Entry> entries;
+
+    // label or relationship type changed by transactions that have not ended yet -> number of such changes
+    private final Map<String, Integer> heldLabels = new HashMap<>();
+    // number of changes of entities with unknown labels by transactions that have not ended yet
+    private int heldAll;
+    // number of invalidations so far
+    private long generation;
+
+    public QueryResultCache(MetaData metaData, int maxEntries, long timeToLive, TimeUnit unit) {
+        this(metaData, maxEntries, unit.toNanos(timeToLive), System::nanoTime);
+    }
+
+    QueryResultCache(MetaData metaData, int maxEntries, long timeToLiveNanos, LongSupplier nanoClock) {
+        if (maxEntries < 1 || timeToLiveNanos < 1) {
+            throw new IllegalArgumentException("The maximum number of entries and the time to live must be positive");
+        }
+        this.metaData = metaData;
+        this.maxEntries = maxEntries;
+        this.timeToLive = timeToLiveNanos;
+        this.nanoClock = nanoClock;
+        this.entries = new LinkedHashMap<Key, Entry>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Key, Entry> eldest) {
+                return size() > QueryResultCache.this.maxEntries;
+            }
+        };
+    }
+
+    /**
+     * @param modelType  the kind of records requested, such as {@link org.neo4j.ogm.model.GraphModel}
+     * @param statement  the statement
+     * @param parameters the parameters of the statement
+     * @return a response replaying the records returned when the statement was executed with the same parameters,
+     * or null if not cached
+     */
+    public synchronized <M> Response<M> get(Class<M> modelType, String statement, Map<String, ?> parameters) {
+        Key key = new Key(modelType, statement, parameters);
+        Entry entry = entries.get(key);
+        if (entry == null) {
+            return null;
+        }
+        if (nanoClock.getAsLong() - entry.expiresAt >= 0) {
+            entries.remove(key);
+            return null;
+        }
+        return new CachedResponse<>((List<M>) entry.records, entry.columns);
+    }
+
+    /**
+     * @return the current generation of the cache, which changes with every invalidation. It has to be taken before
+     * a statement is executed and passed to {@link #put(Class, String, Map, List, String[], long)}.
+     */
+    public synchronized long generation() {
+        return generation;
+    }
+
+    /**
+     * Caches the records returned for a read only statement. Nothing is cached if the cache has been invalidated
+     * since the statement was executed, as the records may predate a change committed in the meantime.
+     *
+     * @param modelType  the kind of records requested
+     * @param statement  the statement
+     * @param parameters the parameters of the statement
+     * @param records    all records of the response to the statement, which must not be modified afterwards
+     * @param columns    the columns of the response
+     * @param generation the {@link #generation()} of the cache taken before the statement was executed
+     * @return a response replaying the records
+     */
+    public <M> Response<M> put(Class<M> modelType, String statement, Map<String, ?> parameters, List<M> records,
+        String[] columns, long generation) {
+        if (records.size() > MAX_RECORDS_PER_ENTRY) {
+            return new CachedResponse<>(records, columns);
+        }
+        Entry entry = new Entry(records, columns, labelsOf(statement), nanoClock.getAsLong() + timeToLive);
+        synchronized (this) {
+            if (generation == this.generation && !isHeld(entry.labels)) {
+                entries.put(new Key(modelType, statement, parameters), entry);
+            }
+        }
+        return new CachedResponse<>(records, columns);
+    }
+
+    /**
+     * Removes the entries whose statements may return the given entity, or entities of the given type.
+     *
+     * @param entityOrType the entity or type that changed
+     */
+    public synchronized void invalidate(Object entityOrType) {
+        invalidateLabels(labelsChangedBy(entityOrType));
+    }
+
+    /**
+     * Like {@link #invalidate(Object)}, for a change made inside a transaction that has not ended yet. Until the
+     * returned action is run, no result of a statement that may return the entity is cached, as other sessions would
+     * still read the state from before the change.
+     *
+     * @param entityOrType the entity or type that changed
+     * @return the action to run once the transaction has been committed or rolled back. It invalidates the entity
+     * again and allows results that may return it to be cached.
+     */
+    public synchronized Runnable invalidateUntilCompleted(Object entityOrType) {
+        return invalidateLabelsUntilCompleted(labelsChangedBy(entityOrType));
+    }
+
+    /**
+     * Like {@link #clear()}, for a modifying statement executed inside a transaction that has not ended yet. Until the
+     * returned action is run, no result is cached at all.
+     *
+     * @return the action to run once the transaction has been committed or rolled back. It clears the cache again and
+     * allows results to be cached.
+     */
+    public synchronized Runnable clearUntilCompleted() {
+        return invalidateLabelsUntilCompleted(null);
+    }
+
+    private Runnable invalidateLabelsUntilCompleted(Set<String> labels) {
+        invalidateLabels(labels);
+        if (labels == null) {
+            heldAll++;
+        } else {
+            labels.forEach(label -> heldLabels.merge(label, 1, Integer::sum));
+        }
+        return () -> {
+            synchronized (this) {
+                if (labels == null) {
+                    heldAll--;
+                } else {
+                    labels.forEach(label -> heldLabels.computeIfPresent(label, (k, n) -> n == 1 ? null : n - 1));
+                }
+                invalidateLabels(labels);
+            }
+        };
+    }
+
+    public synchronized void clear() {
+        generation++;
+        entries.clear();
+    }
+
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    @Override
+    public void onPostSave(Event event) {
+        invalidate(event.getObject());
+    }
+
+    @Override
+    public void onPostDelete(Event event) {
+        invalidate(event.getObject());
+    }
+
+    /**
+     * @return the labels and relationship types of the entity or type, or null if they are not known
+     */
+    private Set<String> labelsChangedBy(Object entityOrType) {
+        ClassInfo classInfo = entityOrType instanceof Class
+            ? metaData.classInfo(((Class<?>) entityOrType).getName())
+            : metaData.classInfo(entityOrType);
+
+        if (classInfo == null || classInfo.labelFieldOrNull() != null) {
+            // labels that have just been removed are unknown
+            return null;
+        }
+        Set<String> labels = new HashSet<>();
+        if (classInfo.isRelationshipEntity()) {
+            labels.add(classInfo.neo4jName());
+        } else {
+            labels.addAll(classInfo.staticLabels());
+        }
+        return labels;
+    }
+
+    private void invalidateLabels(Set<String> labels) {
+        if (labels == null) {
+            clear();
+        } else {
+            generation++;
+            entries.values().removeIf(entry -> entry.labels == null || !Collections.disjoint(entry.labels, labels));
+        }
+    }
+
+    private boolean isHeld(Set<String> labels) {
+        if (heldAll > 0) {
+            return true;
+        }
+        return labels == null ? !heldLabels.isEmpty() : labels.stream().anyMatch(heldLabels::containsKey);
+    }
+
+    /**
+     * @return the labels and relationship types mentioned in the statement, or null if it can match any label or type
+     */
+    static Set<String> labelsOf(String statement) {
+        if (UNTYPED_RELATIONSHIP.matcher(statement).find() || CALL.matcher(statement).find()) {
+            return null;
+        }
+        Set<String> labelledVariables = new HashSet<>();
+        Matcher matcher = LABELLED_VARIABLE.matcher(statement);
+        while (matcher.find()) {
+            labelledVariables.add(matcher.group(1));
+        }
+        matcher = BARE_NODE.matcher(statement);
+        while (matcher.find()) {
+            if (matcher.group(1) == null || !labelledVariables.contains(matcher.group(1))) {
+                return null;
+            }
+        }
+
+        Set<String> labels = new HashSet<>();
+        matcher = LABEL.matcher(statement);
+        while (matcher.find()) {
+            String label = matcher.group(1);
+            labels.add(label.startsWith("`") ? label.substring(1, label.length() - 1) : label);
+        }
+        return labels.isEmpty() ? null : labels;
+    }
+
+    private static class Entry {
+
+        private final List<?> records;
+        private final String[] columns;
+        private final Set<String> labels;
+        private final long expiresAt;
+
+        Entry(List<?> records, String[] columns, Set<String> labels, long expiresAt) {
+            this.records = records;
+            this.columns = columns;
+            this.labels = labels;
+            this.expiresAt = expiresAt;
+        }
+    }
+
+    private static class CachedResponse<M> implements Response<M> {
+
+        private final Iterator<M> records;
+        private final String[] columns;
+
+        CachedResponse(List<M> records, String[] columns) {
+            this.records = records.iterator();
+            this.columns = columns;
+        }
+
+        @Override
+        public M next() {
+            return records.hasNext() ? records.next() : null;
+        }
+
+        @Override
+        public void close() {
+        }
+
+        @Override
+        public String[] columns() {
+            return columns;
+        }
+    }
+
+    private static class Key {
+
+        private final Class<?> modelType;
+        private final String statement;
+        private final Object parameters;
+        private final int hashCode;
+
+        Key(Class<?> modelType, String statement, Map<String, ?> parameters) {
+            this.modelType = modelType;
+            this.statement = statement;
+            this.parameters = comparable(parameters);
+            this.hashCode = Objects.hash(modelType, statement, this.parameters);
+        }
+
+        /**
+         * Copies arrays in parameter values to lists, so that parameters can be compared by value.
+         */
+        private static Object comparable(Object value) {
+            if (value instanceof Map) {
+                Map<Object, Object> map = new HashMap<>();
+                ((Map<?, ?>) value).forEach((k, v) -> map.put(k, comparable(v)));
+                return map;
+            }
+            if (value instanceof Collection) {
+                List<Object> list = new ArrayList<>();
+                ((Collection<?>) value).forEach(v -> list.add(comparable(v)));
+                return list;
+            }
+            if (value != null && value.getClass().isArray()) {
+                List<Object> list = new ArrayList<>();
+                for (int i = 0; i < Array.getLength(value); i++) {
+                    list.add(comparable(Array.get(value, i)));
+                }
+                return list;
+            }
+            return value;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (o == null || getClass() != o.getClass()) {
+                return false;
+            }
+            Key that = (Key) o;
+            return hashCode == that.hashCode && modelType.equals(that.modelType) && statement.equals(that.statement)
+                && Objects.equals(parameters, that.parameters);
+        }
+
+        @Override
+        public int hashCode() {
+            return hashCode;
+        }
+    }
+}
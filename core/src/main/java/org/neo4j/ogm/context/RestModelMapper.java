@@ -18,7 +18,6 @@ import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
-import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -56,8 +55,8 @@ public class RestModelMapper implements ResponseMapper<RestModel> {
 
         restStatisticsModel.setStatistics(model.getStats());
 
-        Set<Long> nodeIds = new LinkedHashSet<>();
-        Set<Long> edgeIds = new LinkedHashSet<>();
+        Set<Long> nodeIds = new LongSet();
+        Set<Long> edgeIds = new LongSet();
         while (model.getRow().entrySet().size() > 0) {
             Map<String, Object> row = model.getRow();
             List<RelationshipModel> relationshipModels = new ArrayList<>();
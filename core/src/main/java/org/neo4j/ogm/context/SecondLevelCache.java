@@ -0,0 +1,341 @@
+/*
+ * Copyright (c) 2002-2018 "Neo Technology,"
+ * Network Engine for Objects in Lund AB [http://neotechnology.com]
+ *
+ * This product is licensed to you under the Apache License, Version 2.0 (the "License").
+ * You may not use this product except in compliance with the License.
+ *
+ * This product may include a number of subcomponents with
+ * separate copyright notices and license terms. Your use of the source
+ * code for these subcomponents is subject to the terms and
+ *  conditions of the subcomponent's license, as noted in the LICENSE file.
+ */
+
+package org.neo4j.ogm.context;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+import org.neo4j.ogm.annotation.Cacheable;
+import org.neo4j.ogm.metadata.AnnotationInfo;
+import org.neo4j.ogm.metadata.ClassInfo;
+import org.neo4j.ogm.metadata.FieldInfo;
+import org.neo4j.ogm.metadata.MetaData;
+import org.neo4j.ogm.model.Edge;
+import org.neo4j.ogm.model.GraphModel;
+import org.neo4j.ogm.model.Node;
+import org.neo4j.ogm.session.event.Event;
+import org.neo4j.ogm.session.event.EventListenerAdapter;
+import org.neo4j.ogm.utils.EntityUtils;
+
+/**
+ * A cache of loads by id shared by all sessions of a {@link org.neo4j.ogm.session.SessionFactory}. Only entity types
+ * annotated with {@link Cacheable} are cached, each in its own region bounded and expired as configured there.
+ * <p>
+ * Entries are keyed by the label of the loaded type and the id used to load it, either the native id or the
+ * {@link org.neo4j.ogm.annotation.Id @Id} value. They keep the graph records returned by the database, not entity
+ * instances, so every session hydrates its own instances. An entry is invalidated as soon as any of the entities
+ * hydrated from it is saved or deleted, which this cache learns about as an event listener. Modifying statements and
+ * procedure calls executed through a session clear the cache. Changes made inside a transaction are held until the
+ * transaction ends, see {@link #invalidateUntilCompleted(Object)}. Loads that were read before any invalidation that
+ * happened while they were running are not cached, see {@link #generation()}.
+ */
+public class SecondLevelCache extends EventListenerAdapter {
+
+    private final MetaData metaData;
+    private final LongSupplier nanoClock;
+
+    // label of a cacheable type -> region
+    private final Map<String, Region> regions = new HashMap<>();
+
+    // entity contained in cached loads -> keys of those loads
+    private final Map<LabelPrimaryId, Set<LabelPrimaryId>> keysByMember = new HashMap<>();
+
+    // entity changed by transactions that have not ended yet -> number of such changes
+    private final Map<LabelPrimaryId, Integer> heldMembers = new HashMap<>();
+    // number of deletions of all entities of a type and of modifying statements by transactions that have not ended yet
+    private int heldTypes;
+    // number of invalidations so far
+    private long generation;
+
+    public SecondLevelCache(MetaData metaData) {
+        this(metaData, System::nanoTime);
+    }
+
+    SecondLevelCache(MetaData metaData, LongSupplier nanoClock) {
+        this.metaData = metaData;
+        this.nanoClock = nanoClock;
+        for (ClassInfo classInfo : metaData.persistentEntities()) {
+            AnnotationInfo cacheable = classInfo.annotationsInfo().get(Cacheable.class);
+            if (cacheable != null) {
+                int maxEntries = Integer.parseInt(cacheable.get(Cacheable.MAX_ENTRIES, "1000"));
+                long timeToLive = Long.parseLong(cacheable.get(Cacheable.TIME_TO_LIVE, "0"));
+                regions.put(classInfo.neo4jName(), new Region(maxEntries, TimeUnit.SECONDS.toNanos(timeToLive)));
+            }
+        }
+    }
+
+    /**
+     * @return true if at least one entity type is cacheable
+     */
+    public boolean isEnabled() {
+        return !regions.isEmpty();
+    }
+
+    public boolean isCacheable(ClassInfo classInfo) {
+        return regions.containsKey(classInfo.neo4jName());
+    }
+
+    /**
+     * Looks up the records of an earlier load.
+     *
+     * @param classInfo the loaded type
+     * @param id        the native or primary id the entity was loaded with
+     * @param depth     the depth of the load
+     * @return the records returned by the database for the load, or null if there is no such load cached
+     */
+    public synchronized List<GraphModel> get(ClassInfo classInfo, Object id, int depth) {
+        Region region = regions.get(classInfo.neo4jName());
+        if (region == null) {
+            return null;
+        }
+        LabelPrimaryId key = new LabelPrimaryId(classInfo, id);
+        Entry entry = region.get(key);
+        if (entry == null) {
+            return null;
+        }
+        if (entry.expiresAt != 0 && nanoClock.getAsLong() - entry.expiresAt >= 0) {
+            remove(region, key);
+            return null;
+        }
+        return entry.depth == depth ? entry.records : null;
+    }
+
+    /**
+     * @return the current generation of the cache, which changes with every invalidation. It has to be taken before
+     * a load is started and passed to {@link #put(ClassInfo, Object, int, List, MappingContext, long)}.
+     */
+    public synchronized long generation() {
+        return generation;
+    }
+
+    /**
+     * Caches the records of a load, replacing any earlier load of the same entity. Nothing is cached if the cache has
+     * been invalidated since the load started, as the records may predate a change committed in the meantime.
+     *
+     * @param classInfo  the loaded type
+     * @param id         the native or primary id the entity was loaded with
+     * @param depth      the depth of the load
+     * @param records    the records returned by the database, which must not be modified afterwards
+     * @param context    the mapping context the records have been mapped into
+     * @param generation the {@link #generation()} of the cache taken before the load was started
+     */
+    public synchronized void put(ClassInfo classInfo, Object id, int depth, List<GraphModel> records,
+        MappingContext context, long generation) {
+
+        Region region = regions.get(classInfo.neo4jName());
+        if (region == null || generation != this.generation) {
+            return;
+        }
+
+        List<LabelPrimaryId> members = new ArrayList<>();
+        for (GraphModel record : records) {
+            for (Node node : record.getNodes()) {
+                addMemberKeys(context.getNodeEntity(node.getId()), members);
+            }
+            for (Edge edge : record.getRelationships()) {
+                addMemberKeys(context.getRelationshipEntity(edge.getId()), members);
+            }
+        }
+
+        if (heldTypes > 0 || members.stream().anyMatch(heldMembers::containsKey)) {
+            // the records may predate a change that has not been committed yet
+            return;
+        }
+
+        LabelPrimaryId key = new LabelPrimaryId(classInfo, id);
+        remove(region, key);
+        long expiresAt = region.timeToLive == 0 ? 0 : nanoClock.getAsLong() + region.timeToLive;
+        region.put(key, new Entry(depth, Collections.unmodifiableList(new ArrayList<>(records)), expiresAt, members));
+        for (LabelPrimaryId member : members) {
+            keysByMember.computeIfAbsent(member, k -> new HashSet<>()).add(key);
+        }
+    }
+
+    /**
+     * Removes all cached loads containing the given entity. If a type is given instead of an entity, as it is for
+     * {@link org.neo4j.ogm.session.Session#deleteAll(Class)}, the whole cache is cleared.
+     *
+     * @param entityOrType the entity that changed
+     */
+    public synchronized void invalidate(Object entityOrType) {
+        generation++;
+        if (entityOrType instanceof Class) {
+            clear();
+            return;
+        }
+        List<LabelPrimaryId> members = new ArrayList<>();
+        addMemberKeys(entityOrType, members);
+        for (LabelPrimaryId member : members) {
+            Set<LabelPrimaryId> keys = keysByMember.get(member);
+            if (keys != null) {
+                for (LabelPrimaryId key : new ArrayList<>(keys)) {
+                    remove(regions.get(key.getLabel()), key);
+                }
+            }
+        }
+    }
+
+    /**
+     * Like {@link #invalidate(Object)}, for a change made inside a transaction that has not ended yet. Until the
+     * returned action is run, no load containing the entity is cached, as other sessions would still load its state
+     * from before the change. If a type is given, no load is cached at all in the meantime.
+     *
+     * @param entityOrType the entity that changed
+     * @return the action to run once the transaction has been committed or rolled back. It invalidates the entity
+     * again and allows loads containing it to be cached.
+     */
+    public synchronized Runnable invalidateUntilCompleted(Object entityOrType) {
+        invalidate(entityOrType);
+        if (entityOrType instanceof Class) {
+            return holdAllUntilCompleted();
+        }
+        List<LabelPrimaryId> members = new ArrayList<>();
+        addMemberKeys(entityOrType, members);
+        members.forEach(member -> heldMembers.merge(member, 1, Integer::sum));
+        return () -> {
+            synchronized (this) {
+                members.forEach(member -> heldMembers.computeIfPresent(member, (k, n) -> n == 1 ? null : n - 1));
+                invalidate(entityOrType);
+            }
+        };
+    }
+
+    /**
+     * Like {@link #clear()}, for a modifying statement executed inside a transaction that has not ended yet. Until the
+     * returned action is run, no load is cached at all.
+     *
+     * @return the action to run once the transaction has been committed or rolled back. It clears the cache again and
+     * allows loads to be cached.
+     */
+    public synchronized Runnable clearUntilCompleted() {
+        clear();
+        return holdAllUntilCompleted();
+    }
+
+    private Runnable holdAllUntilCompleted() {
+        heldTypes++;
+        return () -> {
+            synchronized (this) {
+                heldTypes--;
+                clear();
+            }
+        };
+    }
+
+    public synchronized void clear() {
+        generation++;
+        regions.values().forEach(Map::clear);
+        keysByMember.clear();
+    }
+
+    public synchronized int size() {
+        return regions.values().stream().mapToInt(Map::size).sum();
+    }
+
+    @Override
+    public void onPostSave(Event event) {
+        invalidate(event.getObject());
+    }
+
+    @Override
+    public void onPostDelete(Event event) {
+        invalidate(event.getObject());
+    }
+
+    private void addMemberKeys(Object entity, List<LabelPrimaryId> members) {
+        ClassInfo classInfo = entity == null ? null : metaData.classInfo(entity);
+        if (classInfo == null) {
+            return;
+        }
+        if (classInfo.hasIdentityField()) {
+            Long nativeId = EntityUtils.identity(entity, metaData);
+            if (nativeId >= 0) {
+                members.add(new LabelPrimaryId(classInfo, nativeId));
+            }
+        }
+        FieldInfo primaryIndexField = classInfo.primaryIndexField();
+        if (primaryIndexField != null) {
+            Object primaryId = primaryIndexField.read(entity);
+            if (primaryId != null) {
+                members.add(new LabelPrimaryId(classInfo, primaryId));
+            }
+        }
+    }
+
+    private void remove(Region region, LabelPrimaryId key) {
+        unlink(key, region.remove(key));
+    }
+
+    private void unlink(LabelPrimaryId key, Entry entry) {
+        if (entry == null) {
+            return;
+        }
+        for (LabelPrimaryId member : entry.members) {
+            Set<LabelPrimaryId> keys = keysByMember.get(member);
+            if (keys != null) {
+                keys.remove(key);
+                if (keys.isEmpty()) {
+                    keysByMember.remove(member);
+                }
+            }
+        }
+    }
+
+    private static class Entry {
+
+        private final int depth;
+        private final List<GraphModel> records;
+        private final long expiresAt;
+        private final List<LabelPrimaryId> members;
+
+        Entry(int depth, List<GraphModel> records, long expiresAt, List<LabelPrimaryId> members) {
+            this.depth = depth;
+            this.records = records;
+            this.expiresAt = expiresAt;
+            this.members = members;
+        }
+    }
+
+    /**
+     * The cached loads of one type, in least recently used order.
+     */
+    private class Region extends LinkedHashMap<LabelPrimaryId, Entry> {
+
+        private final int maxEntries;
+        private final long timeToLive;
+
+        Region(int maxEntries, long timeToLive) {
+            super(16, 0.75f, true);
+            this.maxEntries = maxEntries;
+            this.timeToLive = timeToLive;
+        }
+
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<LabelPrimaryId, Entry> eldest) {
+            if (size() > maxEntries) {
+                unlink(eldest.getKey(), eldest.getValue());
+                return true;
+            }
+            return false;
+        }
+    }
+}
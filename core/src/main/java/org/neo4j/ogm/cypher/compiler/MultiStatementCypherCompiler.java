@@ -36,6 +36,7 @@ import org.neo4j.ogm.cypher.compiler.builders.statement.NewRelationshipStatement
 import org.neo4j.ogm.exception.core.UnknownStatementTypeException;
 import org.neo4j.ogm.model.Edge;
 import org.neo4j.ogm.model.Node;
+import org.neo4j.ogm.model.Property;
 import org.neo4j.ogm.request.Statement;
 import org.neo4j.ogm.request.StatementFactory;
 import org.neo4j.ogm.response.model.RelationshipModel;
@@ -171,7 +172,7 @@ public class MultiStatementCypherCompiler implements Compiler {
     @Override
     public List<Statement> updateNodesStatements() {
         assertStatementFactoryExists();
-        Map<String, Set<Node>> existingNodesByLabels = groupNodesByLabel(existingNodeBuilders);
+        Map<String, Set<Node>> existingNodesByLabels = groupNodesByLabelAndUpdatedProperties(existingNodeBuilders);
 
         List<Statement> statements = new ArrayList<>(existingNodesByLabels.size());
         for (Set<Node> nodeModels : existingNodesByLabels.values()) {
@@ -296,6 +297,27 @@ public class MultiStatementCypherCompiler implements Compiler {
         }
     }
 
+    /**
+     * Groups existing nodes by label signature. Partially updated nodes are further grouped by the keys of the
+     * properties they update, so that every statement updates the same properties for all its rows.
+     */
+    private Map<String, Set<Node>> groupNodesByLabelAndUpdatedProperties(List<NodeBuilder> nodeBuilders) {
+        return nodeBuilders.stream()
+            .collect(groupingBy(MultiStatementCypherCompiler::updateSignature,
+                Collectors.mapping(NodeBuilder::node, Collectors.toSet())));
+    }
+
+    private static String updateSignature(NodeBuilder nodeBuilder) {
+        Node node = nodeBuilder.node();
+        if (!nodeBuilder.isPartialUpdate()) {
+            return node.labelSignature();
+        }
+        return node.getPropertyList().stream()
+            .map(Property::getKey)
+            .sorted()
+            .collect(joining(",", node.labelSignature() + "_PROPERTIES_", ""));
+    }
+
     private Map<String, Set<Node>> groupNodesByLabel(List<NodeBuilder> nodeBuilders) {
         return nodeBuilders.stream()
             .map(NodeBuilder::node)
@@ -38,4 +38,15 @@ public interface NodeBuilder extends PropertyContainerBuilder<NodeBuilder> {
 
     NodeBuilder setPrimaryIndex(String primaryIndexField);
 
+    /**
+     * Marks an existing node as partially updated: only the properties added to this builder have changed and the
+     * other properties of the node must be left as they are.
+     *
+     * @param partialUpdate true if only the added properties should be written
+     * @return this builder
+     */
+    NodeBuilder setPartialUpdate(boolean partialUpdate);
+
+    boolean isPartialUpdate();
+
 }
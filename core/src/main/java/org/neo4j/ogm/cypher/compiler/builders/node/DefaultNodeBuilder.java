@@ -32,6 +32,8 @@ public class DefaultNodeBuilder implements NodeBuilder {
 
     NodeModel node = new NodeModel();
 
+    private boolean partialUpdate;
+
     public DefaultNodeBuilder(Long reference) {
         node.setId(reference);
     }
@@ -101,4 +103,15 @@ public class DefaultNodeBuilder implements NodeBuilder {
         return this;
     }
 
+    @Override
+    public NodeBuilder setPartialUpdate(boolean partialUpdate) {
+        this.partialUpdate = partialUpdate;
+        return this;
+    }
+
+    @Override
+    public boolean isPartialUpdate() {
+        return partialUpdate;
+    }
+
 }
@@ -0,0 +1,107 @@
+/*
+ * Copyright (c) 2002-2018 "Neo Technology,"
+ * Network Engine for Objects in Lund AB [http://neotechnology.com]
+ *
+ * This product is licensed to you under the Apache License, Version 2.0 (the "License").
+ * You may not use this product except in compliance with the License.
+ *
+ * This product may include a number of subcomponents with
+ * separate copyright notices and license terms. Your use of the source
+ * code for these subcomponents is subject to the terms and
+ *  conditions of the subcomponent's license, as noted in the LICENSE file.
+ */
+
+package org.neo4j.ogm.cypher.function;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.neo4j.ogm.cypher.Filter;
+import org.neo4j.ogm.cypher.query.KeysetPagination;
+import org.neo4j.ogm.cypher.query.SortClause;
+import org.neo4j.ogm.cypher.query.SortOrder;
+
+/**
+ * Selects the entities following the cursor of a {@link KeysetPagination}, in the order of its sort properties and
+ * then of the native id. For a single ascending property the expression is
+ * {@code n.p >= {keyset0} AND (n.p > {keyset0} OR (n.p = {keyset0} AND ID(n) > {keysetId}))}, the leading range
+ * allows an index on the first property to be used.
+ */
+public class KeysetComparison implements FilterFunction<KeysetPagination> {
+
+    private static final String ID_PARAMETER = "keysetId";
+
+    private final KeysetPagination value;
+    private final List<String> properties = new ArrayList<>();
+    private final List<SortOrder.Direction> directions = new ArrayList<>();
+    private Filter filter;
+
+    /**
+     * @param value     the pagination with the cursor to compare with
+     * @param sortOrder the sort order of the pagination, with the properties resolved as they are used in the
+     *                  ORDER BY clause
+     */
+    public KeysetComparison(KeysetPagination value, SortOrder sortOrder) {
+        this.value = value;
+        for (SortClause sortClause : sortOrder.sortClauses()) {
+            for (String property : sortClause.getProperties()) {
+                properties.add(property);
+                directions.add(sortClause.getDirection());
+            }
+        }
+        if (properties.size() != value.getSortValues().size()) {
+            throw new IllegalArgumentException("The sort order doesn't match the sort values of the pagination");
+        }
+    }
+
+    @Override
+    public Filter getFilter() {
+        return filter;
+    }
+
+    @Override
+    public void setFilter(Filter filter) {
+        this.filter = filter;
+    }
+
+    @Override
+    public KeysetPagination getValue() {
+        return value;
+    }
+
+    @Override
+    public String expression(String nodeIdentifier) {
+        String seek = String.format("ID(%s) > { %s }", nodeIdentifier, ID_PARAMETER);
+        for (int i = properties.size() - 1; i >= 0; i--) {
+            String property = nodeIdentifier + "." + properties.get(i);
+            seek = String.format("%s %s { %s } OR (%s = { %s } AND %s)", property, operator(i), parameterName(i),
+                property, parameterName(i), i == properties.size() - 1 ? seek : "(" + seek + ")");
+        }
+        if (properties.isEmpty()) {
+            return seek + " ";
+        }
+        return String.format("(%s.%s %s= { %s } AND (%s)) ", nodeIdentifier, properties.get(0), operator(0),
+            parameterName(0), seek);
+    }
+
+    @Override
+    public Map<String, Object> parameters() {
+        Map<String, Object> map = new HashMap<>();
+        List<Object> sortValues = value.getSortValues();
+        for (int i = 0; i < sortValues.size(); i++) {
+            map.put(parameterName(i), sortValues.get(i));
+        }
+        map.put(ID_PARAMETER, value.getId());
+        return map;
+    }
+
+    private String operator(int i) {
+        return directions.get(i) == SortOrder.Direction.DESC ? "<" : ">";
+    }
+
+    private static String parameterName(int i) {
+        return "keyset" + i;
+    }
+}
@@ -0,0 +1,64 @@
+/*
+ * Copyright (c) 2002-2018 "Neo Technology,"
+ * Network Engine for Objects in Lund AB [http://neotechnology.com]
+ *
+ * This product is licensed to you under the Apache License, Version 2.0 (the "License").
+ * You may not use this product except in compliance with the License.
+ *
+ * This product may include a number of subcomponents with
+ * separate copyright notices and license terms. Your use of the source
+ * code for these subcomponents is subject to the terms and
+ *  conditions of the subcomponent's license, as noted in the LICENSE file.
+ */
+
+package org.neo4j.ogm.cypher.query;
+
+import java.util.List;
+
+/**
+ * A page of entities loaded with a {@link KeysetPagination}.
+ *
+ * @param <T> the type of the entities
+ */
+public class KeysetPage<T> {
+
+    private final List<T> content;
+    private final KeysetPagination next;
+
+    public KeysetPage(List<T> content, KeysetPagination next) {
+        this.content = content;
+        this.next = next;
+    }
+
+    /**
+     * @return the entities of this page, in sort order
+     */
+    public List<T> getContent() {
+        return content;
+    }
+
+    /**
+     * A page that is as large as the page size may be followed by an empty page, as the entities after it are not
+     * counted.
+     *
+     * @return true if there may be more entities after this page
+     */
+    public boolean hasNext() {
+        return next != null;
+    }
+
+    /**
+     * @return the pagination for the page following this one, or null if this is the last page
+     */
+    public KeysetPagination next() {
+        return next;
+    }
+
+    /**
+     * @return an opaque token to resume after this page with {@link KeysetPagination#after(String)}, or null if this
+     * is the last page
+     */
+    public String getContinuationToken() {
+        return next == null ? null : next.getContinuationToken();
+    }
+}
@@ -0,0 +1,165 @@
+/*
+ * Copyright (c) 2002-2018 "Neo Technology,"
+ * Network Engine for Objects in Lund AB [http://neotechnology.com]
+ *
+ * This product is licensed to you under the Apache License, Version 2.0 (the "License").
+ * You may not use this product except in compliance with the License.
+ *
+ * This product may include a number of subcomponents with
+ * separate copyright notices and license terms. Your use of the source
+ * code for these subcomponents is subject to the terms and
+ *  conditions of the subcomponent's license, as noted in the LICENSE file.
+ */
+
+package org.neo4j.ogm.cypher.query;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.neo4j.ogm.config.ObjectMapperFactory;
+
+/**
+ * Keyset pagination, also known as seek pagination. Instead of skipping the entities of all previous pages, like
+ * {@link Pagination} does, a page starts right after the last entity of the previous page, as determined by the
+ * sort order and the native id, which breaks ties. Every page costs the same, regardless of how deep it is, provided
+ * the sort properties are indexed.
+ * <p>
+ * The first page is requested with {@link #KeysetPagination(SortOrder, int)}, the following pages with
+ * {@link KeysetPage#next()} or {@link #after(String)}, using the continuation token of the previous page.
+ * The sort properties must not be null on any of the entities paged through.
+ */
+public class KeysetPagination {
+
+    private static final Base64.Encoder TOKEN_ENCODER = Base64.getUrlEncoder().withoutPadding();
+    private static final Base64.Decoder TOKEN_DECODER = Base64.getUrlDecoder();
+
+    private final SortOrder sortOrder;
+    private final int pageSize;
+
+    // The values of the sort properties of the last entity of the previous page, followed by its native id.
+    private final List<Object> cursor;
+
+    /**
+     * Creates the pagination for the first page.
+     *
+     * @param sortOrder the order of the entities, each property may only be used once
+     * @param pageSize  the maximum number of entities per page
+     */
+    public KeysetPagination(SortOrder sortOrder, int pageSize) {
+        this(sortOrder, pageSize, Collections.emptyList());
+    }
+
+    private KeysetPagination(SortOrder sortOrder, int pageSize, List<Object> cursor) {
+        if (pageSize < 1) {
+            throw new IllegalArgumentException("Page size must be greater than zero");
+        }
+        this.sortOrder = sortOrder == null ? new SortOrder() : sortOrder;
+        this.pageSize = pageSize;
+        this.cursor = Collections.unmodifiableList(cursor);
+
+        Set<String> properties = new HashSet<>();
+        for (SortClause sortClause : this.sortOrder.sortClauses()) {
+            for (String property : sortClause.getProperties()) {
+                if (!properties.add(property)) {
+                    throw new IllegalArgumentException("The sort order of a keyset pagination must not use property "
+                        + property + " more than once");
+                }
+            }
+        }
+    }
+
+    /**
+     * Returns the pagination for the page following the last entity of the page the token was issued for.
+     *
+     * @param continuationToken a token returned by {@link KeysetPage#getContinuationToken()} for the same sort order
+     * @return the pagination for the next page
+     * @throws IllegalArgumentException if the token is invalid or doesn't match the sort order
+     */
+    public KeysetPagination after(String continuationToken) {
+        List<Object> values;
+        try {
+            values = ObjectMapperFactory.objectMapper()
+                .readValue(TOKEN_DECODER.decode(continuationToken), List.class);
+        } catch (IOException | IllegalArgumentException e) {
+            throw new IllegalArgumentException("Invalid continuation token: " + continuationToken, e);
+        }
+        if (values == null || values.size() != propertyCount() + 1 || !(values.get(values.size() - 1) instanceof Long)) {
+            throw new IllegalArgumentException("Continuation token doesn't match the sort order: " + continuationToken);
+        }
+        return new KeysetPagination(sortOrder, pageSize, values);
+    }
+
+    /**
+     * Returns the pagination for the page following the given entity.
+     *
+     * @param sortValues the values of the sort properties of the entity, in the order of the sort order
+     * @param id         the native id of the entity
+     * @return the pagination for the next page
+     */
+    public KeysetPagination after(List<Object> sortValues, Long id) {
+        if (sortValues.size() != propertyCount()) {
+            throw new IllegalArgumentException("Expected " + propertyCount() + " sort values, got " + sortValues);
+        }
+        List<Object> values = new ArrayList<>(sortValues);
+        values.add(id);
+        return new KeysetPagination(sortOrder, pageSize, values);
+    }
+
+    public SortOrder getSortOrder() {
+        return sortOrder;
+    }
+
+    public int getPageSize() {
+        return pageSize;
+    }
+
+    /**
+     * @return true if this is the pagination for the first page
+     */
+    public boolean isFirstPage() {
+        return cursor.isEmpty();
+    }
+
+    /**
+     * @return the values of the sort properties of the last entity of the previous page, empty for the first page
+     */
+    public List<Object> getSortValues() {
+        return isFirstPage() ? cursor : cursor.subList(0, cursor.size() - 1);
+    }
+
+    /**
+     * @return the native id of the last entity of the previous page, null for the first page
+     */
+    public Long getId() {
+        return isFirstPage() ? null : (Long) cursor.get(cursor.size() - 1);
+    }
+
+    /**
+     * @return an opaque token from which {@link #after(String)} restores this pagination, null for the first page
+     */
+    public String getContinuationToken() {
+        if (isFirstPage()) {
+            return null;
+        }
+        try {
+            byte[] json = ObjectMapperFactory.objectMapper().writeValueAsBytes(cursor);
+            return new String(TOKEN_ENCODER.encode(json), StandardCharsets.US_ASCII);
+        } catch (IOException e) {
+            throw new IllegalStateException("Sort values can't be written to a continuation token: " + cursor, e);
+        }
+    }
+
+    private int propertyCount() {
+        int count = 0;
+        for (SortClause sortClause : sortOrder.sortClauses()) {
+            count += sortClause.getProperties().length;
+        }
+        return count;
+    }
+}
@@ -12,11 +12,17 @@
  */
 package org.neo4j.ogm.cypher.query;
 
+import java.util.HashMap;
+import java.util.Map;
+
 /**
  * @author Vince Bickers
  */
 public class Pagination {
 
+    static final String SKIP_PARAMETER = "skip";
+    static final String LIMIT_PARAMETER = "limit";
+
     private final Integer index;
     private final Integer size;
     private Integer offset;
@@ -48,10 +54,42 @@ public class Pagination {
         this.offset = offset;
     }
 
+    /**
+     * @return the number of records to skip
+     */
+    public int getSkip() {
+        return offset != null ? offset : index * size;
+    }
+
+    /**
+     * @return the maximum number of records to return
+     */
+    public int getLimit() {
+        return size;
+    }
+
+    /**
+     * Returns the SKIP and LIMIT clause with the values passed as parameters, see {@link #getParameters()}.
+     * The clause is the same for every page, so the statement it is appended to doesn't need to be planned again
+     * for each page.
+     *
+     * @return the SKIP and LIMIT clause
+     */
+    public String asString() {
+        return " SKIP { " + SKIP_PARAMETER + " } LIMIT { " + LIMIT_PARAMETER + " }";
+    }
+
+    /**
+     * @return the parameters referenced by {@link #asString()}
+     */
+    public Map<String, Object> getParameters() {
+        Map<String, Object> parameters = new HashMap<>();
+        parameters.put(SKIP_PARAMETER, getSkip());
+        parameters.put(LIMIT_PARAMETER, getLimit());
+        return parameters;
+    }
+
     public String toString() {
-        if (offset != null) {
-            return " SKIP " + offset + " LIMIT " + size;
-        }
-        return " SKIP " + (index * size) + " LIMIT " + size;
+        return " SKIP " + getSkip() + " LIMIT " + getLimit();
     }
 }
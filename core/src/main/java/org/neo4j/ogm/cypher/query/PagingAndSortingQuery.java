@@ -12,6 +12,7 @@
  */
 package org.neo4j.ogm.cypher.query;
 
+import java.util.HashMap;
 import java.util.Map;
 
 /**
@@ -24,6 +25,7 @@ import java.util.Map;
 public class PagingAndSortingQuery implements PagingAndSorting {
 
     private Pagination paging;
+    private KeysetPagination keysetPaging;
     private SortOrder sortOrder = new SortOrder();
 
     private String matchClause;
@@ -33,6 +35,7 @@ public class PagingAndSortingQuery implements PagingAndSorting {
 
     private boolean returnsPath = false;
     private boolean hasPredicate;
+    private boolean rowResultRequired;
 
     private String variable;
 
@@ -63,8 +66,11 @@ public class PagingAndSortingQuery implements PagingAndSorting {
         if (!sorting.isEmpty()) {
             sb.append(sorting.replace("$", variable));
         }
-        if (paging != null) {
-            sb.append(paging.toString());
+        if (keysetPaging != null) {
+            sb.append(sorting.isEmpty() ? " ORDER BY " : ",").append("ID(").append(variable).append(")");
+            sb.append(" LIMIT { ").append(Pagination.LIMIT_PARAMETER).append(" }");
+        } else if (paging != null) {
+            sb.append(paging.asString());
         }
         sb.append(this.returnClause);
         if (needsRowResult()) {
@@ -74,7 +80,19 @@ public class PagingAndSortingQuery implements PagingAndSorting {
     }
 
     public boolean needsRowResult() {
-        return (sortOrder.hasSortClauses() || (paging != null) || hasPredicate) && returnsPath;
+        return rowResultRequired || (sortOrder.hasSortClauses() || (paging != null) || (keysetPaging != null) || hasPredicate)
+            && returnsPath;
+    }
+
+    /**
+     * Makes the query return the native id of each matched entity, even when it is not needed to tell matched and
+     * related entities apart in the whole result. Used when records are mapped one at a time.
+     *
+     * @return this query
+     */
+    public PagingAndSortingQuery requireRowResult() {
+        this.rowResultRequired = true;
+        return this;
     }
 
     @Override
@@ -83,6 +101,19 @@ public class PagingAndSortingQuery implements PagingAndSorting {
         return this;
     }
 
+    /**
+     * Orders by the native id after the sort order and limits the result to the page size of the keyset pagination.
+     * The predicate selecting the entities after its cursor is part of the match clause, see
+     * {@link org.neo4j.ogm.cypher.function.KeysetComparison}. Replaces any {@link Pagination}.
+     *
+     * @param keysetPaging the keyset pagination
+     * @return this query
+     */
+    public PagingAndSortingQuery setKeysetPagination(KeysetPagination keysetPaging) {
+        this.keysetPaging = keysetPaging;
+        return this;
+    }
+
     @Override
     public PagingAndSortingQuery setSortOrder(SortOrder sortOrder) {
         this.sortOrder = sortOrder;
@@ -102,6 +133,16 @@ public class PagingAndSortingQuery implements PagingAndSorting {
     }
 
     public Map<String, Object> getParameters() {
-        return parameters;
+        if (keysetPaging != null) {
+            Map<String, Object> parametersWithPaging = new HashMap<>(parameters);
+            parametersWithPaging.put(Pagination.LIMIT_PARAMETER, keysetPaging.getPageSize());
+            return parametersWithPaging;
+        }
+        if (paging == null) {
+            return parameters;
+        }
+        Map<String, Object> parametersWithPaging = new HashMap<>(parameters);
+        parametersWithPaging.putAll(paging.getParameters());
+        return parametersWithPaging;
     }
 }
@@ -13,7 +13,7 @@
 
 package org.neo4j.ogm.cypher.query;
 
-import java.util.List;
+import java.util.Set;
 
 /**
  * @author Luanne Misquitta
@@ -32,6 +32,10 @@ public class SortClause {
         return properties;
     }
 
+    public SortOrder.Direction getDirection() {
+        return direction;
+    }
+
     public SortClause fromResolvedProperties(String... resolvedProperties) {
         if (resolvedProperties.length != properties.length) {
             throw new IllegalArgumentException("Resolved properties count must match existing properties count.");
@@ -41,17 +45,26 @@ public class SortClause {
 
     }
 
-    String asString() {
+    /**
+     * Renders the properties of this clause, leaving out properties already ordered by a previous clause. Ordering by
+     * the same property twice doesn't change the result, so leaving them out gives a single statement per ordering.
+     *
+     * @param orderedProperties the properties already ordered by, the properties of this clause are added
+     * @return the properties of this clause, or an empty string if all of them were already ordered by
+     */
+    String asString(Set<String> orderedProperties) {
         StringBuilder sb = new StringBuilder();
 
-        if (properties.length > 0) {
-            for (String n : properties) {
+        for (String n : properties) {
+            if (orderedProperties.add(n)) {
                 sb.append("$.").append(n);
                 if (direction == SortOrder.Direction.DESC) {
                     sb.append(" DESC");
                 }
                 sb.append(",");
             }
+        }
+        if (sb.length() > 0) {
             sb.deleteCharAt(sb.length() - 1);
         }
         return sb.toString();
@@ -15,7 +15,9 @@ package org.neo4j.ogm.cypher.query;
 import static org.neo4j.ogm.cypher.query.SortOrder.Direction.*;
 
 import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 
 /**
  * @author Vince Bickers
@@ -109,13 +111,13 @@ public class SortOrder {
 
     public String asString() {
         StringBuilder sb = new StringBuilder();
-        if (!sortClauses.isEmpty()) {
-            sb.append(" ORDER BY ");
-            for (SortClause ordering : sortClauses) {
-                sb.append(ordering.asString());
-                sb.append(",");
+        Set<String> orderedProperties = new HashSet<>();
+        for (SortClause ordering : sortClauses) {
+            String clause = ordering.asString(orderedProperties);
+            if (!clause.isEmpty()) {
+                sb.append(sb.length() == 0 ? " ORDER BY " : ",");
+                sb.append(clause);
             }
-            sb.deleteCharAt(sb.length() - 1);
         }
         return sb.toString();
     }
@@ -0,0 +1,193 @@
+/*
+ * Copyright (c) 2002-2018 "Neo Technology,"
+ * Network Engine for Objects in Lund AB [http://neotechnology.com]
+ *
+ * This product is licensed to you under the Apache License, Version 2.0 (the "License").
+ * You may not use this product except in compliance with the License.
+ *
+ * This product may include a number of subcomponents with
+ * separate copyright notices and license terms. Your use of the source
+ * code for these subcomponents is subject to the terms and
+ *  conditions of the subcomponent's license, as noted in the LICENSE file.
+ */
+
+package org.neo4j.ogm.id;
+
+import static java.util.Objects.*;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.neo4j.ogm.cypher.query.DefaultRowModelRequest;
+import org.neo4j.ogm.exception.core.MappingException;
+import org.neo4j.ogm.model.RowModel;
+import org.neo4j.ogm.request.RowModelRequest;
+import org.neo4j.ogm.response.Response;
+import org.neo4j.ogm.session.Neo4jSession;
+import org.neo4j.ogm.session.SessionFactory;
+import org.neo4j.ogm.transaction.Transaction;
+
+/**
+ * Generates numeric entity ids from blocks reserved on a counter node. A block of {@code blockSize} ids is reserved
+ * with a single statement, ids are then handed out from memory without further round trips, and without locking
+ * until the block is used up.
+ * <p>
+ * Blocks are reserved in a transaction of their own, which is committed right away. OGM binds transactions to
+ * threads, so that transaction runs on a thread of the strategy, which is stopped when idle: the transaction of the
+ * session saving the entity is left untouched, and ids are never handed out twice when it is rolled back. The thread
+ * is shut down when the strategy is closed, which {@link SessionFactory#close()} does for registered strategies.
+ * <p>
+ * The counter is stored on a node with the label {@value #SEQUENCE_LABEL}, identified by the name of the sequence,
+ * which is created on first use. To make sure only one such node is created per sequence, create the constraint
+ * {@code CREATE CONSTRAINT ON (s:IdSequence) ASSERT s.name IS UNIQUE}. Ids that are reserved but not used, for
+ * example because the application is stopped, are lost. The strategy has to be registered with
+ * {@link SessionFactory#register(IdStrategy)}:
+ *
+ * <pre>
+ * sessionFactory.register(new HiLoIdStrategy(sessionFactory, "person", 1000));
+ * </pre>
+ *
+ * @since 3.1.5
+ */
+public class HiLoIdStrategy implements IdStrategy, AutoCloseable {
+
+    public static final String SEQUENCE_LABEL = "IdSequence";
+
+    private static final String RESERVE_BLOCK_STATEMENT = "MERGE (s:`" + SEQUENCE_LABEL + "` {name: { name }}) "
+        + "SET s.__lock = true "
+        + "WITH s "
+        + "SET s.next = coalesce(s.next, 0) + { blockSize } "
+        + "REMOVE s.__lock "
+        + "RETURN s.next AS last";
+
+    private static final long IDLE_SECONDS = 60;
+
+    private final SessionFactory sessionFactory;
+    private final String sequenceName;
+    private final int blockSize;
+    // runs reservations on a thread that never holds the transaction of a session saving entities
+    private final ExecutorService reservations;
+
+    private volatile Block block = new Block(0, -1);
+
+    /**
+     * @param sessionFactory the session factory of the database holding the counter
+     * @param sequenceName   the name of the sequence, entities can share a sequence or use different ones
+     * @param blockSize      the number of ids reserved at once
+     */
+    public HiLoIdStrategy(SessionFactory sessionFactory, String sequenceName, int blockSize) {
+        if (blockSize < 1) {
+            throw new IllegalArgumentException("Block size must be greater than zero");
+        }
+        this.sessionFactory = requireNonNull(sessionFactory);
+        this.sequenceName = requireNonNull(sequenceName);
+        this.blockSize = blockSize;
+        this.reservations = new ThreadPoolExecutor(0, 1, IDLE_SECONDS, TimeUnit.SECONDS, new LinkedBlockingQueue<>(),
+            runnable -> {
+                Thread thread = new Thread(runnable, "ogm-hilo-id-reservation-" + sequenceName);
+                thread.setDaemon(true);
+                return thread;
+            });
+    }
+
+    @Override
+    public Object generateId(Object entity) {
+        while (true) {
+            Block current = block;
+            long id = current.next.getAndIncrement();
+            if (id <= current.last) {
+                return id;
+            }
+            nextBlock(current);
+        }
+    }
+
+    private synchronized void nextBlock(Block exhausted) {
+        if (block == exhausted) {
+            long last = reserveBlock();
+            block = new Block(last - blockSize + 1, last);
+        }
+    }
+
+    /**
+     * Reserves the next block of ids. Called on the thread of the session saving the entity, so the transaction is run
+     * on the thread of the strategy, see {@link #reserveBlockInNewTransaction()}. The reservation is waited for even
+     * if the calling thread is interrupted, as the block may be committed anyway; the interrupt is restored afterwards.
+     *
+     * @return the last id of the reserved block
+     */
+    protected long reserveBlock() {
+        if (reservations.isShutdown()) {
+            throw new IllegalStateException("Id strategy for sequence " + sequenceName + " has been closed");
+        }
+        Future<Long> reservation = reservations.submit(this::reserveBlockInNewTransaction);
+        boolean interrupted = false;
+        try {
+            while (true) {
+                try {
+                    return reservation.get();
+                } catch (InterruptedException e) {
+                    interrupted = true;
+                }
+            }
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw new MappingException("Could not reserve ids from sequence " + sequenceName, e);
+        } finally {
+            if (interrupted) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    private long reserveBlockInNewTransaction() {
+        Map<String, Object> parameters = new HashMap<>();
+        parameters.put("name", sequenceName);
+        parameters.put("blockSize", blockSize);
+
+        // executed through the request handler, as queries that may write clear the caches of the session factory,
+        // while the sequence node is not an entity any cached load or result could depend on
+        Neo4jSession session = (Neo4jSession) sessionFactory.openSession();
+        try (Transaction tx = session.beginTransaction()) {
+            RowModelRequest request = new DefaultRowModelRequest(RESERVE_BLOCK_STATEMENT, parameters);
+            long last;
+            try (Response<RowModel> response = session.requestHandler().execute(request)) {
+                RowModel row = response.next();
+                if (row == null) {
+                    throw new MappingException("Could not reserve ids from sequence " + sequenceName);
+                }
+                last = ((Number) row.getValues()[0]).longValue();
+            }
+            tx.commit();
+            return last;
+        }
+    }
+
+    /**
+     * Stops the thread reserving blocks. Ids can't be generated afterwards, once the current block is used up.
+     */
+    @Override
+    public void close() {
+        reservations.shutdown();
+    }
+
+    private static class Block {
+
+        final AtomicLong next;
+        final long last;
+
+        Block(long first, long last) {
+            this.next = new AtomicLong(first);
+            this.last = last;
+        }
+    }
+}
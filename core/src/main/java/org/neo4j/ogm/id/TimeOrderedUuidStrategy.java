@@ -0,0 +1,70 @@
+/*
+ * Copyright (c) 2002-2018 "Neo Technology,"
+ * Network Engine for Objects in Lund AB [http://neotechnology.com]
+ *
+ * This product is licensed to you under the Apache License, Version 2.0 (the "License").
+ * You may not use this product except in compliance with the License.
+ *
+ * This product may include a number of subcomponents with
+ * separate copyright notices and license terms. Your use of the source
+ * code for these subcomponents is subject to the terms and
+ *  conditions of the subcomponent's license, as noted in the LICENSE file.
+ */
+
+package org.neo4j.ogm.id;
+
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Generates time-ordered UUIDs as entity ids, laid out like version 7 UUIDs: the first 48 bits are the Unix time in
+ * milliseconds, followed by the version, a 12 bit counter, the variant and 62 random bits.
+ * <p>
+ * Unlike {@link UuidStrategy}, no shared {@link java.security.SecureRandom} is used, the random bits come from
+ * {@link ThreadLocalRandom}, so threads don't contend when generating ids. As ids generated close in time are close to
+ * each other, new entities are appended to the end of the index on the id property rather than scattered all over it.
+ * Ids generated by the same thread are strictly increasing, also within the same millisecond.
+ * The ids are unique, but not unpredictable, don't use them where they must not be guessable.
+ *
+ * @since 3.1.5
+ */
+public class TimeOrderedUuidStrategy extends UuidStrategy {
+
+    private static final long VERSION = 0x7000L;
+    private static final long VARIANT = 0x8000000000000000L;
+    private static final long RANDOM_MASK = 0x3FFFFFFFFFFFFFFFL;
+    private static final int MAX_COUNTER = 0xFFF;
+
+    // the timestamp and counter of the last id generated by the current thread
+    private static final ThreadLocal<long[]> lastTimestampAndCounter = ThreadLocal.withInitial(() -> new long[2]);
+
+    @Override
+    public Object generateId(Object entity) {
+        return nextId();
+    }
+
+    UUID nextId() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        long[] last = lastTimestampAndCounter.get();
+
+        long timestamp = System.currentTimeMillis();
+        long counter;
+        if (timestamp > last[0]) {
+            // leave room for the ids generated later in the same millisecond
+            counter = random.nextInt(MAX_COUNTER / 2);
+        } else {
+            timestamp = last[0];
+            counter = last[1] + 1;
+            if (counter > MAX_COUNTER) {
+                timestamp++;
+                counter = 0;
+            }
+        }
+        last[0] = timestamp;
+        last[1] = counter;
+
+        long mostSigBits = (timestamp << 16) | VERSION | counter;
+        long leastSigBits = (random.nextLong() & RANDOM_MASK) | VARIANT;
+        return new UUID(mostSigBits, leastSigBits);
+    }
+}
@@ -17,9 +17,12 @@ import org.neo4j.ogm.annotation.*;
 import org.neo4j.ogm.exception.core.InvalidPropertyFieldException;
 import org.neo4j.ogm.exception.core.MappingException;
 import org.neo4j.ogm.exception.core.MetadataException;
+import org.neo4j.ogm.id.HiLoIdStrategy;
 import org.neo4j.ogm.id.IdStrategy;
 import org.neo4j.ogm.id.InternalIdStrategy;
 import org.neo4j.ogm.id.UuidStrategy;
+import org.neo4j.ogm.metadata.reflect.FieldAccessor;
+import org.neo4j.ogm.metadata.reflect.FieldAccessorFactory;
 import org.neo4j.ogm.utils.ClassUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -54,6 +57,7 @@ import java.util.stream.Collectors;
 public class ClassInfo {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(ClassInfo.class);
+    private static final int MAX_CACHED_ITERABLE_FIELDS = 1_000;
 
     private final List<ClassInfo> directSubclasses = new ArrayList<>();
     private final List<ClassInfo> directInterfaces = new ArrayList<>();
@@ -70,8 +74,13 @@ public class ClassInfo {
     private AnnotationsInfo annotationsInfo;
     private InterfacesInfo interfacesInfo;
     private ClassInfo directSuperclass;
-    private Map<Class, List<FieldInfo>> iterableFieldsForType = new HashMap<>();
+    private final Map<Class, List<FieldInfo>> iterableFieldsForType = new ConcurrentHashMap<>();
     private Map<FieldInfo, Field> fieldInfoFields = new ConcurrentHashMap<>();
+    private Map<FieldInfo, FieldAccessor> fieldAccessors = new ConcurrentHashMap<>();
+    private volatile FieldAccessorFactory fieldAccessorFactory = FieldAccessorFactory.METHOD_HANDLES;
+    private volatile EntityHashPlan hashPlan;
+    private volatile RelationshipFieldIndex relationshipFieldIndex;
+    private final Map<List<Object>, List<FieldInfo>> iterableFieldsForRelationship = new ConcurrentHashMap<>();
     private volatile Set<FieldInfo> fieldInfos;
     private volatile Map<String, FieldInfo> propertyFields;
     private volatile Map<String, FieldInfo> indexFields;
@@ -84,10 +93,10 @@ public class ClassInfo {
     private volatile boolean labelFieldMapped = false;
     private volatile boolean isPostLoadMethodMapped = false;
     private volatile MethodInfo postLoadMethod;
-    private boolean primaryIndexFieldChecked = false;
+    private volatile boolean primaryIndexFieldChecked = false;
     private Class<?> cls;
-    private Class<? extends IdStrategy> idStrategyClass;
-    private IdStrategy idStrategy;
+    private volatile Class<? extends IdStrategy> idStrategyClass;
+    private volatile IdStrategy idStrategy;
 
     /**
      * This class was referenced as a superclass of the given subclass.
@@ -378,8 +387,8 @@ public class ClassInfo {
                             "Field '%s' in class '%s' includes the @Labels annotation, however this field is not a " +
                                 "type of collection.", fieldInfo.getName(), this.name()));
                     }
-                    labelFieldMapped = true;
                     labelField = fieldInfo;
+                    labelFieldMapped = true;
                     return labelField;
                 }
             }
@@ -489,20 +498,35 @@ public class ClassInfo {
      * @return A Collection of FieldInfo objects describing the classInfo's relationship fields
      */
     public Collection<FieldInfo> relationshipFields() {
-        FieldInfo identityField = identityFieldOrNull();
-        Set<FieldInfo> fieldInfos = new HashSet<>();
-        for (FieldInfo fieldInfo : fieldsInfo().fields()) {
-            if (fieldInfo != identityField) {
-                if (!fieldInfo.getAnnotations().has(Relationship.class)) {
-                    if (!fieldInfo.persistableAsProperty()) {
+        return relationshipFieldIndex().fields();
+    }
+
+    private RelationshipFieldIndex relationshipFieldIndex() {
+        RelationshipFieldIndex index = relationshipFieldIndex;
+        if (index == null) {
+            index = initRelationshipFieldIndex();
+        }
+        return index;
+    }
+
+    private synchronized RelationshipFieldIndex initRelationshipFieldIndex() {
+        if (relationshipFieldIndex == null) {
+            FieldInfo identityField = identityFieldOrNull();
+            Set<FieldInfo> fieldInfos = new HashSet<>();
+            for (FieldInfo fieldInfo : fieldsInfo().fields()) {
+                if (fieldInfo != identityField) {
+                    if (!fieldInfo.getAnnotations().has(Relationship.class)) {
+                        if (!fieldInfo.persistableAsProperty()) {
+                            fieldInfos.add(fieldInfo);
+                        }
+                    } else {
                         fieldInfos.add(fieldInfo);
                     }
-                } else {
-                    fieldInfos.add(fieldInfo);
                 }
             }
+            relationshipFieldIndex = new RelationshipFieldIndex(fieldInfos);
         }
-        return fieldInfos;
+        return relationshipFieldIndex;
     }
 
     /**
@@ -512,12 +536,7 @@ public class ClassInfo {
      * @return A FieldInfo object describing the required relationship field, or null if it doesn't exist.
      */
     public FieldInfo relationshipField(String relationshipName) {
-        for (FieldInfo fieldInfo : relationshipFields()) {
-            if (fieldInfo.relationship().equalsIgnoreCase(relationshipName)) {
-                return fieldInfo;
-            }
-        }
-        return null;
+        return relationshipFieldIndex().fieldByType(relationshipName);
     }
 
     /**
@@ -529,19 +548,8 @@ public class ClassInfo {
      * @return A FieldInfo object describing the required relationship field, or null if it doesn't exist.
      */
     public FieldInfo relationshipField(String relationshipName, String relationshipDirection, boolean strict) {
-        for (FieldInfo fieldInfo : relationshipFields()) {
-            String relationship = strict ? fieldInfo.relationshipTypeAnnotation() : fieldInfo.relationship();
-            if (relationshipName.equalsIgnoreCase(relationship)) {
-                if (((fieldInfo.relationshipDirection(Relationship.OUTGOING).equals(Relationship.INCOMING) || fieldInfo
-                    .relationshipDirection(Relationship.OUTGOING).equals(Relationship.UNDIRECTED))
-                    && (relationshipDirection.equals(Relationship.INCOMING)))
-                    || (relationshipDirection.equals(Relationship.OUTGOING) && !(fieldInfo
-                    .relationshipDirection(Relationship.OUTGOING).equals(Relationship.INCOMING)))) {
-                    return fieldInfo;
-                }
-            }
-        }
-        return null;
+        List<FieldInfo> fieldInfos = relationshipFieldIndex().fields(relationshipName, relationshipDirection, strict);
+        return fieldInfos.isEmpty() ? null : fieldInfos.get(0);
     }
 
     /**
@@ -554,20 +562,20 @@ public class ClassInfo {
      */
     public Set<FieldInfo> candidateRelationshipFields(String relationshipName, String relationshipDirection,
                                                       boolean strict) {
-        Set<FieldInfo> candidateFields = new HashSet<>();
-        for (FieldInfo fieldInfo : relationshipFields()) {
-            String relationship = strict ? fieldInfo.relationshipTypeAnnotation() : fieldInfo.relationship();
-            if (relationshipName.equalsIgnoreCase(relationship)) {
-                if (((fieldInfo.relationshipDirection(Relationship.OUTGOING).equals(Relationship.INCOMING) || fieldInfo
-                    .relationshipDirection(Relationship.OUTGOING).equals(Relationship.UNDIRECTED))
-                    && (relationshipDirection.equals(Relationship.INCOMING)))
-                    || (relationshipDirection.equals(Relationship.OUTGOING) && !(fieldInfo
-                    .relationshipDirection(Relationship.OUTGOING).equals(Relationship.INCOMING)))) {
-                    candidateFields.add(fieldInfo);
-                }
-            }
-        }
-        return candidateFields;
+        return relationshipFieldIndex().candidateFields(relationshipName, relationshipDirection, strict);
+    }
+
+    /**
+     * Finds the relationship fields whose @Relationship annotation explicitly declares the given type and direction.
+     * Unlike {@link #candidateRelationshipFields(String, String, boolean)} the type is matched case sensitive and
+     * undirected fields are not returned.
+     *
+     * @param relationshipType      the relationship type
+     * @param relationshipDirection the direction, either {@link Relationship#INCOMING} or {@link Relationship#OUTGOING}
+     * @return List of FieldInfo objects, never <code>null</code>
+     */
+    public List<FieldInfo> declaredRelationshipFields(String relationshipType, String relationshipDirection) {
+        return relationshipFieldIndex().declaredFields(relationshipType, relationshipDirection);
     }
 
     /**
@@ -577,12 +585,7 @@ public class ClassInfo {
      * @return A FieldInfo object describing the required relationship field, or null if it doesn't exist.
      */
     public FieldInfo relationshipFieldByName(String fieldName) {
-        for (FieldInfo fieldInfo : relationshipFields()) {
-            if (fieldInfo.getName().equalsIgnoreCase(fieldName)) {
-                return fieldInfo;
-            }
-        }
-        return null;
+        return relationshipFieldIndex().fieldByName(fieldName);
     }
 
     public Field getField(FieldInfo fieldInfo) {
@@ -606,6 +609,64 @@ public class ClassInfo {
         }
     }
 
+    /**
+     * Returns the {@link FieldAccessor} for the field corresponding to the supplied FieldInfo. The accessor is
+     * created on first use and cached afterwards.
+     *
+     * @param fieldInfo the FieldInfo used to obtain the accessor
+     * @return a FieldAccessor
+     */
+    public FieldAccessor getFieldAccessor(FieldInfo fieldInfo) {
+        FieldAccessor fieldAccessor = fieldAccessors.get(fieldInfo);
+        if (fieldAccessor == null) {
+            fieldAccessor = fieldAccessors
+                .computeIfAbsent(fieldInfo, f -> fieldAccessorFactory.accessorFor(getField(f)));
+        }
+        return fieldAccessor;
+    }
+
+    void setFieldAccessorFactory(FieldAccessorFactory fieldAccessorFactory) {
+        this.fieldAccessorFactory = fieldAccessorFactory;
+        this.fieldAccessors.clear();
+        this.hashPlan = null;
+    }
+
+    /**
+     * Computes all lazily built metadata of this class, see {@link MetaData#warmUp()}.
+     */
+    void warmUp() {
+        propertyFields();
+        hasIdentityField();
+        primaryIndexField();
+        getVersionField();
+        labelFieldOrNull();
+        postLoadMethodOrNull();
+        getIndexFields();
+        getCompositeIndexes();
+        hashPlan();
+        for (FieldInfo fieldInfo : relationshipFields()) {
+            Class<?> type = ClassUtils.getType(fieldInfo.typeParameterDescriptor());
+            if (type != null) {
+                findIterableFields(type);
+            }
+        }
+    }
+
+    /**
+     * Returns the plan used to hash the persistent state of instances of this class for dirty checking.
+     * The plan is computed on first use.
+     *
+     * @return the EntityHashPlan of this class
+     */
+    public EntityHashPlan hashPlan() {
+        EntityHashPlan plan = hashPlan;
+        if (plan == null) {
+            plan = new EntityHashPlan(this);
+            hashPlan = plan;
+        }
+        return plan;
+    }
+
     /**
      * Returns the Method corresponding to the supplied MethodInfo as declared by the class represented by this ClassInfo
      *
@@ -678,8 +739,9 @@ public class ClassInfo {
      * @return {@link List} of {@link MethodInfo}, never <code>null</code>
      */
     public List<FieldInfo> findIterableFields(Class iteratedType) {
-        if (iterableFieldsForType.containsKey(iteratedType)) {
-            return iterableFieldsForType.get(iteratedType);
+        List<FieldInfo> cachedFieldInfos = iterableFieldsForType.get(iteratedType);
+        if (cachedFieldInfos != null) {
+            return cachedFieldInfos;
         }
         List<FieldInfo> fieldInfos = new ArrayList<>();
         String typeSignature = iteratedType.getName();
@@ -714,6 +776,11 @@ public class ClassInfo {
      */
     public List<FieldInfo> findIterableFields(Class iteratedType, String relationshipType, String relationshipDirection,
                                               boolean strict) {
+        List<Object> key = Arrays.asList(iteratedType, relationshipType, relationshipDirection, strict);
+        List<FieldInfo> cachedFieldInfos = iterableFieldsForRelationship.get(key);
+        if (cachedFieldInfos != null) {
+            return cachedFieldInfos;
+        }
         List<FieldInfo> fieldInfos = new ArrayList<>();
         for (FieldInfo fieldInfo : findIterableFields(iteratedType)) {
             String relationship = strict ? fieldInfo.relationshipTypeAnnotation() : fieldInfo.relationship();
@@ -727,6 +794,10 @@ public class ClassInfo {
                 }
             }
         }
+        fieldInfos = Collections.unmodifiableList(fieldInfos);
+        if (iterableFieldsForRelationship.size() < MAX_CACHED_ITERABLE_FIELDS) {
+            iterableFieldsForRelationship.putIfAbsent(key, fieldInfos);
+        }
         return fieldInfos;
     }
 
@@ -899,7 +970,14 @@ public class ClassInfo {
     }
 
     public FieldInfo primaryIndexField() {
-        if (!primaryIndexFieldChecked && primaryIndexField == null) {
+        if (!primaryIndexFieldChecked) {
+            initPrimaryIndexField();
+        }
+        return primaryIndexField;
+    }
+
+    private synchronized void initPrimaryIndexField() {
+        if (!primaryIndexFieldChecked) {
 
             Collection<FieldInfo> primaryIndexFields = getFieldInfos(this::isPrimaryIndexField);
             if (primaryIndexFields.size() > 1) {
@@ -918,8 +996,6 @@ public class ClassInfo {
             validateIdGenerationConfig();
             primaryIndexFieldChecked = true;
         }
-
-        return primaryIndexField;
     }
 
     public boolean hasPrimaryIndexField() {
@@ -958,12 +1034,16 @@ public class ClassInfo {
                     "The type of @Generated field in class " + className + " must be also annotated with @Id.");
             }
         });
-        if (UuidStrategy.class.equals(idStrategyClass)
+        if (idStrategyClass != null && UuidStrategy.class.isAssignableFrom(idStrategyClass)
             && !primaryIndexField.isTypeOf(UUID.class)
             && !primaryIndexField.isTypeOf(String.class)) {
             throw new MetadataException("The type of " + primaryIndexField.getName() + " in class " + className
                 + " must be of type java.lang.UUID or java.lang.String because it has an UUID generation strategy.");
         }
+        if (HiLoIdStrategy.class.equals(idStrategyClass) && !primaryIndexField.isTypeOf(Long.class)) {
+            throw new MetadataException("The type of " + primaryIndexField.getName() + " in class " + className
+                + " must be of type java.lang.Long because it has a hi/lo generation strategy.");
+        }
     }
 
     public IdStrategy idStrategy() {
@@ -986,8 +1066,10 @@ public class ClassInfo {
         }
     }
 
-    public synchronized MethodInfo postLoadMethodOrNull() {
-        initPostLoadMethod();
+    public MethodInfo postLoadMethodOrNull() {
+        if (!isPostLoadMethodMapped) {
+            initPostLoadMethod();
+        }
         return postLoadMethod;
     }
 
@@ -0,0 +1,277 @@
+/*
+ * Copyright (c) 2002-2018 "Neo Technology,"
+ * Network Engine for Objects in Lund AB [http://neotechnology.com]
+ *
+ * This product is licensed to you under the Apache License, Version 2.0 (the "License").
+ * You may not use this product except in compliance with the License.
+ *
+ * This product may include a number of subcomponents with
+ * separate copyright notices and license terms. Your use of the source
+ * code for these subcomponents is subject to the terms and
+ *  conditions of the subcomponent's license, as noted in the LICENSE file.
+ */
+
+package org.neo4j.ogm.metadata;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.OffsetDateTime;
+import java.time.Period;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.ToLongFunction;
+
+import org.neo4j.ogm.metadata.reflect.FieldAccessor;
+
+/**
+ * A precomputed plan to hash the persistent state (property fields and labels) of entities of a single class.
+ * The accessors and the value hashers are resolved once per class, so hashing an entity does not allocate
+ * beyond boxing of primitive field values.
+ */
+public final class EntityHashPlan {
+
+    /**
+     * JDK value types whose hashCode is derived from their value and does not lose bits of it.
+     */
+    private static final Set<Class<?>> VALUE_TYPES = new HashSet<>(Arrays.asList(
+        boolean.class, Boolean.class, char.class, Character.class));
+
+    /**
+     * Numeric types whose value fits in a long without loss.
+     */
+    private static final Set<Class<?>> INTEGRAL_TYPES = new HashSet<>(Arrays.asList(
+        byte.class, Byte.class, short.class, Short.class, int.class, Integer.class, long.class, Long.class));
+
+    private static final Set<Class<?>> FLOATING_POINT_TYPES = new HashSet<>(Arrays.asList(
+        float.class, Float.class, double.class, Double.class));
+
+    private static final ToLongFunction<Object> STRING = v -> hash((String) v);
+    private static final ToLongFunction<Object> VALUE = Object::hashCode;
+    // the 32-bit hashCode of 64-bit values collides on ordinary edits, e.g. Long.hashCode(0) == Long.hashCode(-1)
+    private static final ToLongFunction<Object> INTEGRAL = v -> ((Number) v).longValue();
+    private static final ToLongFunction<Object> FLOATING_POINT = v -> Double.doubleToLongBits(((Number) v).doubleValue());
+    private static final ToLongFunction<Object> DATE = v -> ((Date) v).getTime();
+    private static final ToLongFunction<Object> UUID_VALUE = v -> ((UUID) v).getMostSignificantBits() * 31L
+        + ((UUID) v).getLeastSignificantBits();
+    private static final ToLongFunction<Object> BIG_NUMBER = v -> hash(v.toString());
+    private static final ToLongFunction<Object> ENUM = v -> hash(((Enum<?>) v).name());
+    private static final ToLongFunction<Object> ITERABLE = v -> hashElements((Iterable<?>) v);
+    private static final ToLongFunction<Object> DYNAMIC = EntityHashPlan::hashDynamic;
+
+    /**
+     * Hashers of JDK temporal types, whose hashCode folds more than 32 bits of state, so that e.g.
+     * {@code Duration.ZERO} and {@code Duration.ofSeconds(-1)} hash to the same value.
+     */
+    private static final Map<Class<?>, ToLongFunction<Object>> TEMPORAL_HASHERS = new HashMap<>();
+
+    static {
+        TEMPORAL_HASHERS.put(Instant.class, v -> hash((Instant) v));
+        TEMPORAL_HASHERS.put(Duration.class, v -> combine(((Duration) v).getSeconds(), ((Duration) v).getNano()));
+        TEMPORAL_HASHERS.put(Period.class, v -> combine(combine(((Period) v).getYears(), ((Period) v).getMonths()),
+            ((Period) v).getDays()));
+        TEMPORAL_HASHERS.put(LocalDate.class, v -> ((LocalDate) v).toEpochDay());
+        TEMPORAL_HASHERS.put(LocalTime.class, v -> ((LocalTime) v).toNanoOfDay());
+        TEMPORAL_HASHERS.put(LocalDateTime.class, v -> hash((LocalDateTime) v));
+        TEMPORAL_HASHERS.put(OffsetDateTime.class, v -> combine(hash(((OffsetDateTime) v).toLocalDateTime()),
+            ((OffsetDateTime) v).getOffset().getTotalSeconds()));
+        TEMPORAL_HASHERS.put(ZonedDateTime.class, v -> combine(hash(((ZonedDateTime) v).toLocalDateTime()),
+            hash(((ZonedDateTime) v).getZone().getId())));
+    }
+
+    // distinguishes null from values that hash to 0 in field snapshots
+    private static final long NULL_HASH = 0x9E3779B97F4A7C15L;
+
+    private final FieldInfo[] fields;
+    private final FieldAccessor[] accessors;
+    private final ToLongFunction<Object>[] hashers;
+
+    @SuppressWarnings("unchecked")
+    EntityHashPlan(ClassInfo classInfo) {
+        List<FieldInfo> hashFields = new ArrayList<>(classInfo.propertyFields());
+        FieldInfo labelField = classInfo.labelFieldOrNull();
+        if (labelField != null) {
+            hashFields.add(labelField);
+        }
+
+        this.fields = hashFields.toArray(new FieldInfo[hashFields.size()]);
+        this.accessors = new FieldAccessor[hashFields.size()];
+        this.hashers = new ToLongFunction[hashFields.size()];
+        for (int i = 0; i < accessors.length; i++) {
+            FieldInfo fieldInfo = hashFields.get(i);
+            accessors[i] = classInfo.getFieldAccessor(fieldInfo);
+            hashers[i] = hasherFor(fieldInfo.getField().getType());
+        }
+    }
+
+    /**
+     * Computes a 64-bit hash of the persistent state of the given entity.
+     *
+     * @param entity the entity, must be an instance of the class this plan was computed for
+     * @param seed   the initial value of the hash, returned as is when all values are null
+     * @return the hash
+     */
+    public long hash(Object entity, long seed) {
+        long hash = seed;
+        for (int i = 0; i < accessors.length; i++) {
+            Object value = accessors[i].read(entity);
+            if (value != null) {
+                hash = hash * 31L + hashers[i].applyAsLong(value);
+            }
+        }
+        return hash;
+    }
+
+    /**
+     * Computes a hash of every field covered by this plan, in the order of {@link #fields()}.
+     * Null values hash to a fixed value different from the hash of any common non-null value.
+     *
+     * @param entity the entity, must be an instance of the class this plan was computed for
+     * @return the hashes of the fields of the entity
+     */
+    public long[] hashFields(Object entity) {
+        long[] hashes = new long[accessors.length];
+        for (int i = 0; i < accessors.length; i++) {
+            Object value = accessors[i].read(entity);
+            hashes[i] = value == null ? NULL_HASH : hashers[i].applyAsLong(value);
+        }
+        return hashes;
+    }
+
+    /**
+     * @return the fields covered by this plan: the property fields followed by the label field, if any
+     */
+    public List<FieldInfo> fields() {
+        return Collections.unmodifiableList(Arrays.asList(fields));
+    }
+
+    private static ToLongFunction<Object> hasherFor(Class<?> type) {
+        if (type == String.class) {
+            return STRING;
+        }
+        if (INTEGRAL_TYPES.contains(type)) {
+            return INTEGRAL;
+        }
+        if (FLOATING_POINT_TYPES.contains(type)) {
+            return FLOATING_POINT;
+        }
+        if (type == Date.class) {
+            return DATE;
+        }
+        if (type == UUID.class) {
+            return UUID_VALUE;
+        }
+        if (type == BigInteger.class || type == BigDecimal.class) {
+            return BIG_NUMBER;
+        }
+        ToLongFunction<Object> temporalHasher = TEMPORAL_HASHERS.get(type);
+        if (temporalHasher != null) {
+            return temporalHasher;
+        }
+        if (VALUE_TYPES.contains(type)) {
+            return VALUE;
+        }
+        if (type.isEnum()) {
+            return ENUM;
+        }
+        if (type == long[].class) {
+            return v -> {
+                long hash = 1L;
+                for (long element : (long[]) v) {
+                    hash = hash * 31L + element;
+                }
+                return hash;
+            };
+        }
+        if (type == double[].class) {
+            return v -> {
+                long hash = 1L;
+                for (double element : (double[]) v) {
+                    hash = hash * 31L + Double.doubleToLongBits(element);
+                }
+                return hash;
+            };
+        }
+        if (type == int[].class) {
+            return v -> Arrays.hashCode((int[]) v);
+        }
+        if (type == short[].class) {
+            return v -> Arrays.hashCode((short[]) v);
+        }
+        if (type == byte[].class) {
+            return v -> Arrays.hashCode((byte[]) v);
+        }
+        if (type == char[].class) {
+            return v -> Arrays.hashCode((char[]) v);
+        }
+        if (type == float[].class) {
+            return v -> Arrays.hashCode((float[]) v);
+        }
+        if (type == boolean[].class) {
+            return v -> Arrays.hashCode((boolean[]) v);
+        }
+        if (type.isArray()) {
+            return v -> hashElements(Arrays.asList((Object[]) v));
+        }
+        if (Iterable.class.isAssignableFrom(type)) {
+            return ITERABLE;
+        }
+        // declared as Object, an interface or a type with a converter: inspect the value itself
+        return DYNAMIC;
+    }
+
+    private static long hashDynamic(Object value) {
+        ToLongFunction<Object> hasher = hasherFor(value.getClass());
+        if (hasher != DYNAMIC) {
+            return hasher.applyAsLong(value);
+        }
+        // values of unknown types may not implement hashCode, so their string representation is used instead
+        return hash(value.toString());
+    }
+
+    private static long hashElements(Iterable<?> elements) {
+        long hash = 1L;
+        for (Object element : elements) {
+            hash = hash * 31L + (element == null ? NULL_HASH : hashDynamic(element));
+        }
+        return hash;
+    }
+
+    private static long hash(Instant instant) {
+        return combine(instant.getEpochSecond(), instant.getNano());
+    }
+
+    private static long hash(LocalDateTime localDateTime) {
+        return combine(localDateTime.toLocalDate().toEpochDay(), localDateTime.toLocalTime().toNanoOfDay());
+    }
+
+    /**
+     * Combines two values so that changing either of them alone always changes the result.
+     */
+    private static long combine(long hash, long value) {
+        return hash * 0x9E3779B97F4A7C15L + value;
+    }
+
+    private static long hash(String string) {
+        long h = 1125899906842597L; // prime
+        int len = string.length();
+
+        for (int i = 0; i < len; i++) {
+            h = 31 * h + string.charAt(i);
+        }
+        return h;
+    }
+}
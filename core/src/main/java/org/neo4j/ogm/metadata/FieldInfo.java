@@ -27,6 +27,7 @@ import org.neo4j.ogm.annotation.Property;
 import org.neo4j.ogm.annotation.Relationship;
 import org.neo4j.ogm.annotation.Version;
 import org.neo4j.ogm.exception.core.MappingException;
+import org.neo4j.ogm.metadata.reflect.FieldAccessor;
 import org.neo4j.ogm.session.Utils;
 import org.neo4j.ogm.typeconversion.AttributeConverter;
 import org.neo4j.ogm.typeconversion.CompositeAttributeConverter;
@@ -357,13 +358,13 @@ public class FieldInfo {
 
         if (hasPropertyConverter()) {
             value = getPropertyConverter().toEntityAttribute(value);
-            write(field, instance, value);
+            accessor().write(instance, value);
         } else {
             if (isScalar()) {
                 String descriptor = getTypeDescriptor();
                 value = Utils.coerceTypes(ClassUtils.getType(descriptor), value);
             }
-            write(field, instance, value);
+            accessor().write(instance, value);
         }
     }
 
@@ -374,7 +375,7 @@ public class FieldInfo {
      * @param value    field value to be written
      */
     public void writeDirect(Object instance, Object value) {
-        write(field, instance, value);
+        accessor().write(instance, value);
     }
 
     public Class<?> type() {
@@ -398,7 +399,7 @@ public class FieldInfo {
     }
 
     public Object read(Object instance) {
-        return read(containingClassInfo.getField(this), instance);
+        return accessor().read(instance);
     }
 
     public Object readProperty(Object instance) {
@@ -406,7 +407,7 @@ public class FieldInfo {
             throw new IllegalStateException(
                 "The readComposite method should be used for fields with a CompositeAttributeConverter");
         }
-        Object value = read(containingClassInfo.getField(this), instance);
+        Object value = accessor().read(instance);
         if (hasPropertyConverter()) {
             value = getPropertyConverter().toGraphProperty(value);
         }
@@ -418,7 +419,7 @@ public class FieldInfo {
             throw new IllegalStateException(
                 "readComposite should only be used when a field is annotated with a CompositeAttributeConverter");
         }
-        Object value = read(containingClassInfo.getField(this), instance);
+        Object value = accessor().read(instance);
         return getCompositeConverter().toGraphProperties(value);
     }
 
@@ -453,6 +454,10 @@ public class FieldInfo {
         return field;
     }
 
+    private FieldAccessor accessor() {
+        return containingClassInfo.getFieldAccessor(this);
+    }
+
     /**
      * ClassInfo for the class this field is defined in
      *
@@ -16,20 +16,24 @@ package org.neo4j.ogm.metadata;
 import java.util.function.Supplier;
 
 /**
+ * Lazily computed value that can be read from many threads without locking. The supplier may be called more than once
+ * when threads race on the first access, so it must always return an equal value.
+ *
  * @author Frantisek Hartman
  */
 class LazyInstance<T> {
 
-    private Supplier<T> supplier;
+    private final Supplier<T> supplier;
     private T instance;
-    private boolean initialized = false;
+    // written after instance, so that a thread reading true also sees the instance
+    private volatile boolean initialized = false;
 
     public LazyInstance(Supplier<T> supplier) {
         this.supplier = supplier;
     }
 
     public T get() {
-        if (instance == null && !initialized) {
+        if (!initialized) {
             instance = supplier.get();
             initialized = true;
         }
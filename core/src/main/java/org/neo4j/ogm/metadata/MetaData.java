@@ -13,17 +13,23 @@
 
 package org.neo4j.ogm.metadata;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
-import java.util.HashMap;
+import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.neo4j.ogm.annotation.NodeEntity;
 import org.neo4j.ogm.annotation.RelationshipEntity;
 import org.neo4j.ogm.exception.core.AmbiguousBaseClassException;
+import org.neo4j.ogm.exception.core.MappingException;
+import org.neo4j.ogm.metadata.reflect.FieldAccessor;
+import org.neo4j.ogm.metadata.reflect.FieldAccessorFactory;
 import org.neo4j.ogm.metadata.schema.DomainInfoSchemaBuilder;
 import org.neo4j.ogm.metadata.schema.Schema;
 import org.neo4j.ogm.typeconversion.ConversionCallback;
@@ -37,14 +43,47 @@ import org.slf4j.LoggerFactory;
 public class MetaData {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(MetaData.class);
+    private static final int MAX_RESOLVED_SIGNATURES = 10_000;
 
     private final DomainInfo domainInfo;
     private final Schema schema;
-    private Map<String, ClassInfo> classInfos = new HashMap<>();
+    // all lookup caches are shared by the sessions of a session factory and don't lock on reads
+    private final Map<String, Optional<ClassInfo>> classInfos = new ConcurrentHashMap<>();
+
+    /**
+     * Resolved classes by label signature, that is by the sorted labels of a node that are known in the domain.
+     * Foreign labels, such as dynamic labels, are left out, as they don't take part in resolution.
+     */
+    private final Map<List<String>, Optional<ClassInfo>> resolvedTaxa = new ConcurrentHashMap<>();
+    private final Map<String, Set<ClassInfo>> classInfosByLabelOrType = new ConcurrentHashMap<>();
 
     public MetaData(String... packages) {
         domainInfo = DomainInfo.create(packages);
         schema = new DomainInfoSchemaBuilder(domainInfo).build();
+        resolveStaticLabels();
+    }
+
+    /**
+     * Fills the resolution table with the static labels of all concrete node entities, which are the label signatures
+     * of the nodes written by OGM itself.
+     */
+    private void resolveStaticLabels() {
+        for (ClassInfo classInfo : domainInfo.getClassInfoMap().values()) {
+            if (classInfo.isInterface() || classInfo.isAbstract() || classInfo.isEnum()
+                || classInfo.isRelationshipEntity()) {
+                continue;
+            }
+            Collection<String> labels = classInfo.staticLabels();
+            if (labels.isEmpty()) {
+                continue;
+            }
+            try {
+                resolve(labels.toArray(new String[labels.size()]));
+            } catch (MappingException e) {
+                // ambiguous labels are reported when a node with these labels is actually mapped
+                LOGGER.debug("Could not resolve labels {} of {}", labels, classInfo.name(), e);
+            }
+        }
     }
 
     public Schema getSchema() {
@@ -59,31 +98,29 @@ public class MetaData {
      * @return A ClassInfo matching the supplied name, or null if it doesn't exist
      */
     public ClassInfo classInfo(String name) {
-        if (classInfos.containsKey(name)) {
-            return classInfos.get(name);
+        Optional<ClassInfo> known = classInfos.get(name);
+        if (known != null) {
+            return known.orElse(null);
         }
 
+        // not found is cached as well
+        ClassInfo classInfo = findClassInfo(name);
+        classInfos.put(name, Optional.ofNullable(classInfo));
+        return classInfo;
+    }
+
+    private ClassInfo findClassInfo(String name) {
         ClassInfo classInfo = _classInfo(name, NodeEntity.class.getName(), NodeEntity.LABEL);
         if (classInfo != null) {
-            classInfos.put(name, classInfo);
             return classInfo;
         }
 
         classInfo = _classInfo(name, RelationshipEntity.class.getName(), RelationshipEntity.TYPE);
         if (classInfo != null) {
-            classInfos.put(name, classInfo);
-            return classInfo;
-        }
-
-        classInfo = domainInfo.getClassSimpleName(name);
-        if (classInfo != null) {
-            classInfos.put(name, classInfo);
             return classInfo;
         }
 
-        // not found
-        classInfos.put(name, null);
-        return null;
+        return domainInfo.getClassSimpleName(name);
     }
 
     /**
@@ -137,13 +174,36 @@ public class MetaData {
 
     /**
      * Given an set of names (simple or fully-qualified) that are possibly within a type hierarchy, this function returns the
-     * base class from among them.
+     * base class from among them. The result is kept per label signature, so each signature is only resolved once.
      *
      * @param taxa the taxa (simple class names or labels)
      * @return The ClassInfo representing the base class among the taxa or <code>null</code> if it cannot be found
      */
     public ClassInfo resolve(String... taxa) {
 
+        List<String> signature = new ArrayList<>(taxa.length);
+        for (String taxon : taxa) {
+            if (classInfo(taxon) != null) {
+                signature.add(taxon);
+            }
+        }
+        if (signature.isEmpty()) {
+            return null;
+        }
+        Collections.sort(signature);
+
+        Optional<ClassInfo> resolved = resolvedTaxa.get(signature);
+        if (resolved == null) {
+            resolved = Optional.ofNullable(resolveTaxa(taxa));
+            if (resolvedTaxa.size() < MAX_RESOLVED_SIGNATURES) {
+                resolvedTaxa.putIfAbsent(signature, resolved);
+            }
+        }
+        return resolved.orElse(null);
+    }
+
+    private ClassInfo resolveTaxa(String... taxa) {
+
         if (taxa.length > 0) {
 
             Set<ClassInfo> resolved = new HashSet<>();
@@ -214,9 +274,18 @@ public class MetaData {
      * Finds ClassInfos for the supplied partial class name or label.
      *
      * @param name the simple class name or label for a class we want to find
-     * @return A Set of ClassInfo matching the supplied name, or empty if it doesn't exist
+     * @return An unmodifiable Set of ClassInfo matching the supplied name, or empty if it doesn't exist
      */
     public Set<ClassInfo> classInfoByLabelOrType(String name) {
+        Set<ClassInfo> found = classInfosByLabelOrType.get(name);
+        if (found == null) {
+            found = Collections.unmodifiableSet(findClassInfosByLabelOrType(name));
+            classInfosByLabelOrType.putIfAbsent(name, found);
+        }
+        return found;
+    }
+
+    private Set<ClassInfo> findClassInfosByLabelOrType(String name) {
 
         Set<ClassInfo> classInfos = new HashSet<>();
 
@@ -299,6 +368,40 @@ public class MetaData {
         return domainInfo.getClassInfos(interfaceName);
     }
 
+    /**
+     * Computes all lazily built metadata of the mapped classes up front, instead of when it is first used. Classes whose
+     * metadata is invalid are skipped, the error is reported when they are actually used.
+     */
+    public void warmUp() {
+        for (ClassInfo classInfo : domainInfo.getClassInfoMap().values()) {
+            if (classInfo.isInterface() || classInfo.isEnum()) {
+                continue;
+            }
+            try {
+                classInfo(classInfo.name());
+                if (classInfo.neo4jName() != null) {
+                    classInfo(classInfo.neo4jName());
+                    classInfoByLabelOrType(classInfo.neo4jName());
+                }
+                classInfo.warmUp();
+            } catch (RuntimeException e) {
+                LOGGER.debug("Could not warm up metadata of {}", classInfo.name(), e);
+            }
+        }
+    }
+
+    /**
+     * Sets the factory for the {@link FieldAccessor}s used to read and write the fields of all mapped classes.
+     * Defaults to {@link FieldAccessorFactory#METHOD_HANDLES}.
+     *
+     * @param fieldAccessorFactory the factory to use
+     */
+    public void setFieldAccessorFactory(FieldAccessorFactory fieldAccessorFactory) {
+        for (ClassInfo classInfo : domainInfo.getClassInfoMap().values()) {
+            classInfo.setFieldAccessorFactory(fieldAccessorFactory);
+        }
+    }
+
     public void registerConversionCallback(ConversionCallback conversionCallback) {
         this.domainInfo.registerConversionCallback(conversionCallback);
     }
@@ -0,0 +1,147 @@
+/*
+ * Copyright (c) 2002-2018 "Neo Technology,"
+ * Network Engine for Objects in Lund AB [http://neotechnology.com]
+ *
+ * This product is licensed to you under the Apache License, Version 2.0 (the "License").
+ * You may not use this product except in compliance with the License.
+ *
+ * This product may include a number of subcomponents with
+ * separate copyright notices and license terms. Your use of the source
+ * code for these subcomponents is subject to the terms and
+ *  conditions of the subcomponent's license, as noted in the LICENSE file.
+ */
+
+package org.neo4j.ogm.metadata;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+import org.neo4j.ogm.annotation.Relationship;
+
+/**
+ * The relationship fields of a single class, indexed by relationship type and by the direction in which they are
+ * traversed. The index is built once per class, so that resolving the fields for an edge doesn't walk all fields and
+ * read their {@link Relationship} annotations again.
+ * <p>
+ * The lookup by relationship type ignores case, like the linear lookups on {@link ClassInfo} did.
+ */
+final class RelationshipFieldIndex {
+
+    private final Collection<FieldInfo> fields;
+
+    private final Map<String, FieldInfo> byName = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+    private final Map<String, FieldInfo> byType = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+
+    // type -> fields, by strict (annotated type) or inferred type and by the direction queried
+    private final Map<String, List<FieldInfo>> strictIncoming = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+    private final Map<String, List<FieldInfo>> strictOutgoing = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+    private final Map<String, List<FieldInfo>> inferredIncoming = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+    private final Map<String, List<FieldInfo>> inferredOutgoing = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+
+    // type -> fields, for fields explicitly declared as incoming or outgoing
+    private final Map<String, List<FieldInfo>> declaredIncoming = new HashMap<>();
+    private final Map<String, List<FieldInfo>> declaredOutgoing = new HashMap<>();
+
+    RelationshipFieldIndex(Collection<FieldInfo> relationshipFields) {
+        this.fields = Collections.unmodifiableCollection(relationshipFields);
+
+        for (FieldInfo fieldInfo : relationshipFields) {
+            byName.putIfAbsent(fieldInfo.getName(), fieldInfo);
+            if (fieldInfo.relationship() != null) {
+                byType.putIfAbsent(fieldInfo.relationship(), fieldInfo);
+            }
+
+            String direction = fieldInfo.relationshipDirection(Relationship.OUTGOING);
+            boolean incoming = direction.equals(Relationship.INCOMING) || direction.equals(Relationship.UNDIRECTED);
+            boolean outgoing = !direction.equals(Relationship.INCOMING);
+
+            String annotatedType = fieldInfo.relationshipTypeAnnotation();
+            String inferredType = fieldInfo.relationship();
+            if (incoming) {
+                add(strictIncoming, annotatedType, fieldInfo);
+                add(inferredIncoming, inferredType, fieldInfo);
+            }
+            if (outgoing) {
+                add(strictOutgoing, annotatedType, fieldInfo);
+                add(inferredOutgoing, inferredType, fieldInfo);
+            }
+
+            String declaredDirection = fieldInfo.relationshipDirection();
+            if (declaredDirection.equals(Relationship.INCOMING)) {
+                add(declaredIncoming, inferredType, fieldInfo);
+            } else if (declaredDirection.equals(Relationship.OUTGOING)) {
+                add(declaredOutgoing, inferredType, fieldInfo);
+            }
+        }
+    }
+
+    Collection<FieldInfo> fields() {
+        return fields;
+    }
+
+    FieldInfo fieldByName(String fieldName) {
+        return fieldName == null ? null : byName.get(fieldName);
+    }
+
+    FieldInfo fieldByType(String relationshipType) {
+        return relationshipType == null ? null : byType.get(relationshipType);
+    }
+
+    /**
+     * @param relationshipType      the relationship type, case is ignored
+     * @param relationshipDirection the direction in which the relationship is traversed
+     * @param strict                if true, only the type given in the @Relationship annotation is considered
+     * @return the fields that can be used to traverse the relationship, in the order of {@link #fields()}
+     */
+    List<FieldInfo> fields(String relationshipType, String relationshipDirection, boolean strict) {
+        if (relationshipType == null) {
+            return Collections.emptyList();
+        }
+        Map<String, List<FieldInfo>> fieldsByType;
+        if (relationshipDirection.equals(Relationship.INCOMING)) {
+            fieldsByType = strict ? strictIncoming : inferredIncoming;
+        } else if (relationshipDirection.equals(Relationship.OUTGOING)) {
+            fieldsByType = strict ? strictOutgoing : inferredOutgoing;
+        } else {
+            return Collections.emptyList();
+        }
+        return fieldsByType.getOrDefault(relationshipType, Collections.emptyList());
+    }
+
+    /**
+     * @param relationshipType      the relationship type, case sensitive
+     * @param relationshipDirection the direction, either incoming or outgoing
+     * @return the fields whose annotation declares exactly the given type and direction
+     */
+    List<FieldInfo> declaredFields(String relationshipType, String relationshipDirection) {
+        if (relationshipType == null) {
+            return Collections.emptyList();
+        }
+        Map<String, List<FieldInfo>> fieldsByType;
+        if (relationshipDirection.equals(Relationship.INCOMING)) {
+            fieldsByType = declaredIncoming;
+        } else if (relationshipDirection.equals(Relationship.OUTGOING)) {
+            fieldsByType = declaredOutgoing;
+        } else {
+            return Collections.emptyList();
+        }
+        return fieldsByType.getOrDefault(relationshipType, Collections.emptyList());
+    }
+
+    Set<FieldInfo> candidateFields(String relationshipType, String relationshipDirection, boolean strict) {
+        return Collections.unmodifiableSet(new LinkedHashSet<>(fields(relationshipType, relationshipDirection, strict)));
+    }
+
+    private static void add(Map<String, List<FieldInfo>> fieldsByType, String relationshipType, FieldInfo fieldInfo) {
+        if (relationshipType != null) {
+            fieldsByType.computeIfAbsent(relationshipType, type -> new ArrayList<>()).add(fieldInfo);
+        }
+    }
+}
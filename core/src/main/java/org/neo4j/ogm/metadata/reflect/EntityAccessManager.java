@@ -15,6 +15,7 @@ package org.neo4j.ogm.metadata.reflect;
 
 import java.lang.reflect.Array;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.neo4j.ogm.annotation.Relationship;
 import org.neo4j.ogm.context.DirectedRelationship;
@@ -251,9 +252,13 @@ public class EntityAccessManager {
         return value;
     }
 
-    private static Map<ClassInfo, Map<DirectedRelationship, FieldInfo>> relationalReaderCache = new HashMap<>();
-    private static Map<ClassInfo, Map<DirectedRelationshipForType, FieldInfo>> relationalWriterCache = new HashMap<>();
-    private static Map<ClassInfo, Map<DirectedRelationshipForType, FieldInfo>> iterableWriterCache = new HashMap<>();
+    // shared by all threads; absent fields are cached as empty optionals
+    private static final Map<ClassInfo, Map<DirectedRelationship, Optional<FieldInfo>>> relationalReaderCache =
+        new ConcurrentHashMap<>();
+    private static final Map<ClassInfo, Map<DirectedRelationshipForType, Optional<FieldInfo>>> relationalWriterCache =
+        new ConcurrentHashMap<>();
+    private static final Map<ClassInfo, Map<DirectedRelationshipForType, Optional<FieldInfo>>> iterableWriterCache =
+        new ConcurrentHashMap<>();
 
     private static final boolean STRICT_MODE = true; //strict mode for matching readers and writers, will only look for explicit annotations
     private static final boolean INFERRED_MODE = false; //inferred mode for matching readers and writers, will infer the relationship type from the getter/setter
@@ -284,14 +289,13 @@ public class EntityAccessManager {
     public static FieldInfo getRelationalWriter(ClassInfo classInfo, String relationshipType,
         String relationshipDirection, Class<?> objectType) {
 
-        if (!relationalWriterCache.containsKey(classInfo)) {
-            relationalWriterCache.put(classInfo, new HashMap<>());
-        }
+        Map<DirectedRelationshipForType, Optional<FieldInfo>> writers = cacheOf(relationalWriterCache, classInfo);
 
         DirectedRelationshipForType directedRelationship = new DirectedRelationshipForType(relationshipType,
             relationshipDirection, objectType);
-        if (relationalWriterCache.get(classInfo).containsKey(directedRelationship)) {
-            return relationalWriterCache.get(classInfo).get(directedRelationship);
+        Optional<FieldInfo> cachedWriter = writers.get(directedRelationship);
+        if (cachedWriter != null) {
+            return cachedWriter.orElse(null);
         }
 
         ClassInfo lookupClassInfo = classInfo;
@@ -305,7 +309,7 @@ public class EntityAccessManager {
                     if (fieldInfo.isTypeOf(objectType) ||
                         fieldInfo.isParameterisedTypeOf(objectType) ||
                         fieldInfo.isArrayOf(objectType)) {
-                        relationalWriterCache.get(lookupClassInfo).put(directedRelationship, fieldInfo);
+                        writers.put(directedRelationship, Optional.of(fieldInfo));
                         return fieldInfo;
                     }
                 }
@@ -323,7 +327,7 @@ public class EntityAccessManager {
                         if (fieldInfo.isTypeOf(objectType) ||
                             fieldInfo.isParameterisedTypeOf(objectType) ||
                             fieldInfo.isArrayOf(objectType)) {
-                            relationalWriterCache.get(lookupClassInfo).put(directedRelationship, fieldInfo);
+                            writers.put(directedRelationship, Optional.of(fieldInfo));
                             return fieldInfo;
                         }
                     }
@@ -335,7 +339,7 @@ public class EntityAccessManager {
                         if (fieldInfo.isTypeOf(objectType) ||
                             fieldInfo.isParameterisedTypeOf(objectType) ||
                             fieldInfo.isArrayOf(objectType)) {
-                            relationalWriterCache.get(lookupClassInfo).put(directedRelationship, fieldInfo);
+                            writers.put(directedRelationship, Optional.of(fieldInfo));
                             return fieldInfo;
                         }
                     }
@@ -347,7 +351,7 @@ public class EntityAccessManager {
                     FieldInfo candidateFieldInfo = fieldInfos.iterator().next();
                     if (!candidateFieldInfo.relationshipDirection(Relationship.UNDIRECTED)
                         .equals(Relationship.INCOMING)) {
-                        relationalWriterCache.get(lookupClassInfo).put(directedRelationship, candidateFieldInfo);
+                        writers.put(directedRelationship, Optional.of(candidateFieldInfo));
                         return candidateFieldInfo;
                     }
                 }
@@ -355,7 +359,7 @@ public class EntityAccessManager {
             // walk up the object hierarchy
             classInfo = classInfo.directSuperclass();
         }
-        relationalWriterCache.get(lookupClassInfo).put(directedRelationship, null);
+        writers.put(directedRelationship, Optional.empty());
         return null;
     }
 
@@ -370,13 +374,12 @@ public class EntityAccessManager {
     public static FieldInfo getRelationalReader(ClassInfo classInfo, String relationshipType,
         String relationshipDirection) {
 
-        if (!relationalReaderCache.containsKey(classInfo)) {
-            relationalReaderCache.put(classInfo, new HashMap<>());
-        }
+        Map<DirectedRelationship, Optional<FieldInfo>> readers = cacheOf(relationalReaderCache, classInfo);
 
         DirectedRelationship directedRelationship = new DirectedRelationship(relationshipType, relationshipDirection);
-        if (relationalReaderCache.get(classInfo).containsKey(directedRelationship)) {
-            return relationalReaderCache.get(classInfo).get(directedRelationship);
+        Optional<FieldInfo> cachedReader = readers.get(directedRelationship);
+        if (cachedReader != null) {
+            return cachedReader.orElse(null);
         }
 
         ClassInfo lookupClassInfo = classInfo;
@@ -385,7 +388,7 @@ public class EntityAccessManager {
             // 1st, try to find a field explicitly annotated with the neo4j relationship type and direction
             FieldInfo fieldInfo = classInfo.relationshipField(relationshipType, relationshipDirection, STRICT_MODE);
             if (fieldInfo != null && !fieldInfo.getAnnotations().isEmpty()) {
-                relationalReaderCache.get(lookupClassInfo).put(directedRelationship, fieldInfo);
+                readers.put(directedRelationship, Optional.of(fieldInfo));
                 return fieldInfo;
             }
 
@@ -396,19 +399,19 @@ public class EntityAccessManager {
                 // 3rd, try to find a field  annotated with the neo4j relationship type and direction, allowing for implied relationships
                 fieldInfo = classInfo.relationshipField(relationshipType, relationshipDirection, INFERRED_MODE);
                 if (fieldInfo != null && !fieldInfo.getAnnotations().isEmpty()) {
-                    relationalReaderCache.get(lookupClassInfo).put(directedRelationship, fieldInfo);
+                    readers.put(directedRelationship, Optional.of(fieldInfo));
                     return fieldInfo;
                 }
 
                 // 4th, try to find a "XYZ" field name where XYZ is derived from the relationship type
                 if (fieldInfo != null) {
-                    relationalReaderCache.get(lookupClassInfo).put(directedRelationship, fieldInfo);
+                    readers.put(directedRelationship, Optional.of(fieldInfo));
                     return fieldInfo;
                 }
             }
             classInfo = classInfo.directSuperclass();
         }
-        relationalReaderCache.get(lookupClassInfo).put(directedRelationship, null);
+        readers.put(directedRelationship, Optional.empty());
         return null;
     }
 
@@ -423,13 +426,12 @@ public class EntityAccessManager {
      */
     public static FieldInfo getIterableField(ClassInfo classInfo, Class<?> parameterType, String relationshipType,
         String relationshipDirection) {
-        if (!iterableWriterCache.containsKey(classInfo)) {
-            iterableWriterCache.put(classInfo, new HashMap<>());
-        }
+        Map<DirectedRelationshipForType, Optional<FieldInfo>> writers = cacheOf(iterableWriterCache, classInfo);
         DirectedRelationshipForType directedRelationshipForType = new DirectedRelationshipForType(relationshipType,
             relationshipDirection, parameterType);
-        if (iterableWriterCache.get(classInfo).containsKey(directedRelationshipForType)) {
-            return iterableWriterCache.get(classInfo).get(directedRelationshipForType);
+        Optional<FieldInfo> cachedWriter = writers.get(directedRelationshipForType);
+        if (cachedWriter != null) {
+            return cachedWriter.orElse(null);
         }
 
         ClassInfo lookupClassInfo = classInfo;
@@ -460,7 +462,7 @@ public class EntityAccessManager {
             }
             classInfo = classInfo.directSuperclass();
         }
-        iterableWriterCache.get(lookupClassInfo).put(directedRelationshipForType, null);
+        writers.put(directedRelationshipForType, Optional.empty());
         return null;
     }
 
@@ -511,6 +513,16 @@ public class EntityAccessManager {
             directedRelationshipForType = new DirectedRelationshipForType(relationshipType, relationshipDirection,
                 ClassUtils.getType(fieldInfo.getTypeDescriptor()));
         }
-        iterableWriterCache.get(classInfo).put(directedRelationshipForType, fieldAccessor);
+        cacheOf(iterableWriterCache, classInfo).put(directedRelationshipForType, Optional.of(fieldAccessor));
+    }
+
+    private static <K> Map<K, Optional<FieldInfo>> cacheOf(Map<ClassInfo, Map<K, Optional<FieldInfo>>> cache,
+        ClassInfo classInfo) {
+        // look up first, computeIfAbsent locks even if the key is present
+        Map<K, Optional<FieldInfo>> fields = cache.get(classInfo);
+        if (fields == null) {
+            fields = cache.computeIfAbsent(classInfo, key -> new ConcurrentHashMap<>());
+        }
+        return fields;
     }
 }
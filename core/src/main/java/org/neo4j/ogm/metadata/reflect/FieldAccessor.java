@@ -0,0 +1,34 @@
+/*
+ * Copyright (c) 2002-2018 "Neo Technology,"
+ * Network Engine for Objects in Lund AB [http://neotechnology.com]
+ *
+ * This product is licensed to you under the Apache License, Version 2.0 (the "License").
+ * You may not use this product except in compliance with the License.
+ *
+ * This product may include a number of subcomponents with
+ * separate copyright notices and license terms. Your use of the source
+ * code for these subcomponents is subject to the terms and
+ *  conditions of the subcomponent's license, as noted in the LICENSE file.
+ */
+
+package org.neo4j.ogm.metadata.reflect;
+
+/**
+ * Reads and writes the value of a single field of a mapped class, bypassing any converters.
+ *
+ * @see FieldAccessorFactory
+ */
+public interface FieldAccessor {
+
+    /**
+     * @param instance the object to read the field from
+     * @return the current value of the field
+     */
+    Object read(Object instance);
+
+    /**
+     * @param instance the object to write the field to
+     * @param value    the new value of the field
+     */
+    void write(Object instance, Object value);
+}
@@ -0,0 +1,36 @@
+/*
+ * Copyright (c) 2002-2018 "Neo Technology,"
+ * Network Engine for Objects in Lund AB [http://neotechnology.com]
+ *
+ * This product is licensed to you under the Apache License, Version 2.0 (the "License").
+ * You may not use this product except in compliance with the License.
+ *
+ * This product may include a number of subcomponents with
+ * separate copyright notices and license terms. Your use of the source
+ * code for these subcomponents is subject to the terms and
+ *  conditions of the subcomponent's license, as noted in the LICENSE file.
+ */
+
+package org.neo4j.ogm.metadata.reflect;
+
+import java.lang.reflect.Field;
+
+/**
+ * Creates the {@link FieldAccessor}s used to read and write the fields of mapped classes. An accessor is created once
+ * per field and cached by its {@link org.neo4j.ogm.metadata.ClassInfo}.
+ */
+@FunctionalInterface
+public interface FieldAccessorFactory {
+
+    /**
+     * Accesses fields through plain reflection.
+     */
+    FieldAccessorFactory REFLECTION = ReflectionFieldAccessor::new;
+
+    /**
+     * Accesses fields through method handles, falling back to reflection for fields that cannot be unreflected.
+     */
+    FieldAccessorFactory METHOD_HANDLES = MethodHandleFieldAccessor::of;
+
+    FieldAccessor accessorFor(Field field);
+}
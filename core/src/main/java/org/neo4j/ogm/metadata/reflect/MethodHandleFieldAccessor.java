@@ -0,0 +1,92 @@
+/*
+ * Copyright (c) 2002-2018 "Neo Technology,"
+ * Network Engine for Objects in Lund AB [http://neotechnology.com]
+ *
+ * This product is licensed to you under the Apache License, Version 2.0 (the "License").
+ * You may not use this product except in compliance with the License.
+ *
+ * This product may include a number of subcomponents with
+ * separate copyright notices and license terms. Your use of the source
+ * code for these subcomponents is subject to the terms and
+ *  conditions of the subcomponent's license, as noted in the LICENSE file.
+ */
+
+package org.neo4j.ogm.metadata.reflect;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * {@link FieldAccessor} using getter and setter {@link MethodHandle}s that are created once per field. The handles
+ * are adapted to <code>(Object)Object</code> and <code>(Object, Object)void</code>, so that they can be invoked
+ * exactly without boxing any arguments on the call site.
+ */
+class MethodHandleFieldAccessor implements FieldAccessor {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(MethodHandleFieldAccessor.class);
+
+    private static final MethodType GETTER_TYPE = MethodType.methodType(Object.class, Object.class);
+    private static final MethodType SETTER_TYPE = MethodType.methodType(void.class, Object.class, Object.class);
+
+    private final Field field;
+    private final MethodHandle getter;
+    private final MethodHandle setter;
+
+    private MethodHandleFieldAccessor(Field field, MethodHandle getter, MethodHandle setter) {
+        this.field = field;
+        this.getter = getter;
+        this.setter = setter;
+    }
+
+    /**
+     * Creates an accessor for the given field, or a {@link ReflectionFieldAccessor} if no method handles can be
+     * obtained for it.
+     *
+     * @param field the field to access
+     * @return an accessor for the field
+     */
+    static FieldAccessor of(Field field) {
+        try {
+            field.setAccessible(true);
+            MethodHandles.Lookup lookup = MethodHandles.lookup();
+            MethodHandle getter = lookup.unreflectGetter(field).asType(GETTER_TYPE);
+            MethodHandle setter = lookup.unreflectSetter(field).asType(SETTER_TYPE);
+            return new MethodHandleFieldAccessor(field, getter, setter);
+        } catch (IllegalAccessException | RuntimeException e) {
+            LOGGER.debug("Cannot create method handles for {}, falling back to reflection", field, e);
+            return new ReflectionFieldAccessor(field);
+        }
+    }
+
+    @Override
+    public Object read(Object instance) {
+        try {
+            return (Object) getter.invokeExact(instance);
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    @Override
+    public void write(Object instance, Object value) {
+        try {
+            setter.invokeExact(instance, value);
+        } catch (ClassCastException | NullPointerException e) {
+            // same failure as with Field#set, which is wrapped by the reflection based accessor as well
+            throw new RuntimeException(new IllegalArgumentException(
+                "Can not set " + field.getType().getName() + " field " + field.getDeclaringClass().getName() + "."
+                    + field.getName() + " to " + (value == null ? "null value" : value.getClass().getName()), e));
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable e) {
+            throw new RuntimeException(e);
+        }
+    }
+}
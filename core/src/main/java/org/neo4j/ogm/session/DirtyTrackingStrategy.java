@@ -0,0 +1,32 @@
+/*
+ * Copyright (c) 2002-2018 "Neo Technology,"
+ * Network Engine for Objects in Lund AB [http://neotechnology.com]
+ *
+ * This product is licensed to you under the Apache License, Version 2.0 (the "License").
+ * You may not use this product except in compliance with the License.
+ *
+ * This product may include a number of subcomponents with
+ * separate copyright notices and license terms. Your use of the source
+ * code for these subcomponents is subject to the terms and
+ *  conditions of the subcomponent's license, as noted in the LICENSE file.
+ */
+
+package org.neo4j.ogm.session;
+
+/**
+ * Determines how a session detects changes to the node entities it has loaded or saved.
+ */
+public enum DirtyTrackingStrategy {
+
+    /**
+     * Remembers a single hash over all properties of an entity. A changed entity has all its properties written
+     * on the next save.
+     */
+    ENTITY_HASH,
+
+    /**
+     * Remembers a hash per property field of an entity. A changed entity only has the properties that changed
+     * written on the next save, at the cost of one {@code long} per field per entity held by the session.
+     */
+    FIELD_SNAPSHOT;
+}
@@ -20,12 +20,20 @@ import java.util.Collection;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
+import java.util.function.Function;
 import java.util.function.Predicate;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 import org.neo4j.ogm.context.MappingContext;
+import org.neo4j.ogm.context.QueryResultCache;
+import org.neo4j.ogm.context.SecondLevelCache;
 import org.neo4j.ogm.context.WriteProtectionTarget;
 import org.neo4j.ogm.cypher.Filter;
 import org.neo4j.ogm.cypher.Filters;
+import org.neo4j.ogm.cypher.query.KeysetPage;
+import org.neo4j.ogm.cypher.query.KeysetPagination;
 import org.neo4j.ogm.cypher.query.Pagination;
 import org.neo4j.ogm.cypher.query.SortOrder;
 import org.neo4j.ogm.driver.Driver;
@@ -35,6 +43,7 @@ import org.neo4j.ogm.metadata.MetaData;
 import org.neo4j.ogm.metadata.reflect.ReflectionEntityInstantiator;
 import org.neo4j.ogm.model.Result;
 import org.neo4j.ogm.request.Request;
+import org.neo4j.ogm.response.Response;
 import org.neo4j.ogm.session.delegates.DeleteDelegate;
 import org.neo4j.ogm.session.delegates.ExecuteQueriesDelegate;
 import org.neo4j.ogm.session.delegates.GraphIdDelegate;
@@ -48,6 +57,7 @@ import org.neo4j.ogm.session.event.EventListener;
 import org.neo4j.ogm.session.request.OptimisticLockingChecker;
 import org.neo4j.ogm.session.request.strategy.LoadClauseBuilder;
 import org.neo4j.ogm.session.request.strategy.QueryStatements;
+import org.neo4j.ogm.session.request.strategy.impl.LoadClauseCache;
 import org.neo4j.ogm.session.request.strategy.impl.NodeQueryStatements;
 import org.neo4j.ogm.session.request.strategy.impl.PathNodeLoadClauseBuilder;
 import org.neo4j.ogm.session.request.strategy.impl.PathRelationshipLoadClauseBuilder;
@@ -55,8 +65,10 @@ import org.neo4j.ogm.session.request.strategy.impl.RelationshipQueryStatements;
 import org.neo4j.ogm.session.request.strategy.impl.SchemaNodeLoadClauseBuilder;
 import org.neo4j.ogm.session.request.strategy.impl.SchemaRelationshipLoadClauseBuilder;
 import org.neo4j.ogm.session.transaction.DefaultTransactionManager;
+import org.neo4j.ogm.session.transaction.ReadWriteSplit;
 import org.neo4j.ogm.session.transaction.support.TransactionalUnitOfWork;
 import org.neo4j.ogm.session.transaction.support.TransactionalUnitOfWorkWithoutResult;
+import org.neo4j.ogm.transaction.AbstractTransaction;
 import org.neo4j.ogm.transaction.Transaction;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -89,15 +101,23 @@ public class Neo4jSession implements Session {
 
     private Driver driver;
     private String bookmark;
+    private boolean readPreferred;
+    private SecondLevelCache secondLevelCache;
+    private QueryResultCache queryResultCache;
+    private LoadClauseCache loadClauseCache = new LoadClauseCache();
 
     private List<EventListener> registeredEventListeners = new LinkedList<>();
 
     public Neo4jSession(MetaData metaData, Driver driver) {
+        this(metaData, driver, DirtyTrackingStrategy.ENTITY_HASH);
+    }
+
+    private Neo4jSession(MetaData metaData, Driver driver, DirtyTrackingStrategy dirtyTrackingStrategy) {
 
         this.metaData = metaData;
         this.driver = driver;
 
-        this.mappingContext = new MappingContext(metaData);
+        this.mappingContext = new MappingContext(metaData, dirtyTrackingStrategy);
         this.txManager = new DefaultTransactionManager(this, driver);
         this.loadStrategy = LoadStrategy.PATH_LOAD_STRATEGY;
         this.entityInstantiator = new ReflectionEntityInstantiator(metaData);
@@ -105,7 +125,12 @@ public class Neo4jSession implements Session {
 
     public Neo4jSession(MetaData metaData, Driver driver, List<EventListener> eventListeners,
         LoadStrategy loadStrategy, EntityInstantiator entityInstantiator) {
-        this(metaData, driver);
+        this(metaData, driver, eventListeners, loadStrategy, entityInstantiator, DirtyTrackingStrategy.ENTITY_HASH);
+    }
+
+    public Neo4jSession(MetaData metaData, Driver driver, List<EventListener> eventListeners,
+        LoadStrategy loadStrategy, EntityInstantiator entityInstantiator, DirtyTrackingStrategy dirtyTrackingStrategy) {
+        this(metaData, driver, dirtyTrackingStrategy);
         registeredEventListeners.addAll(eventListeners);
 
         this.loadStrategy = loadStrategy;
@@ -138,6 +163,29 @@ public class Neo4jSession implements Session {
                     logger.warn("Event not recognised: {}", event);
             }
         }
+        if (event.getLifeCycle() == Event.TYPE.POST_SAVE || event.getLifeCycle() == Event.TYPE.POST_DELETE) {
+            invalidateCachesUntilCompleted(event.getObject());
+        }
+    }
+
+    /**
+     * The caches invalidate changed entities as soon as they are notified. Inside a transaction that happens before
+     * the change is committed, so other sessions could cache the state from before the change in the meantime. The
+     * caches therefore hold the change until the transaction has been committed or rolled back. Transactions that
+     * can't run actions on completion only get the invalidation on notification.
+     */
+    private void invalidateCachesUntilCompleted(Object entityOrType) {
+        Transaction transaction = getTransaction();
+        if (!(transaction instanceof AbstractTransaction)) {
+            return;
+        }
+        AbstractTransaction abstractTransaction = (AbstractTransaction) transaction;
+        if (secondLevelCache != null) {
+            abstractTransaction.registerCompletionAction(secondLevelCache.invalidateUntilCompleted(entityOrType));
+        }
+        if (queryResultCache != null) {
+            abstractTransaction.registerCompletionAction(queryResultCache.invalidateUntilCompleted(entityOrType));
+        }
     }
 
     @Override
@@ -217,6 +265,17 @@ public class Neo4jSession implements Session {
         return loadByTypeHandler.loadAll(type, sortOrder, pagination, depth);
     }
 
+    @Override
+    public <T> Stream<T> stream(Class<T> type, Filters filters, int depth) {
+        return loadByTypeHandler.stream(type, filters, new SortOrder(), null, depth, true);
+    }
+
+    @Override
+    public <T> Stream<T> stream(Class<T> type, Filters filters, SortOrder sortOrder, Pagination pagination, int depth,
+        boolean registerEntities) {
+        return loadByTypeHandler.stream(type, filters, sortOrder, pagination, depth, registerEntities);
+    }
+
     @Override
     public <T> Collection<T> loadAll(Class<T> type, Filter filter) {
         return loadByTypeHandler.loadAll(type, filter);
@@ -299,6 +358,16 @@ public class Neo4jSession implements Session {
         return loadByTypeHandler.loadAll(type, filters, sortOrder, pagination, depth);
     }
 
+    @Override
+    public <T> KeysetPage<T> loadPage(Class<T> type, KeysetPagination pagination) {
+        return loadByTypeHandler.loadPage(type, null, pagination, 1);
+    }
+
+    @Override
+    public <T> KeysetPage<T> loadPage(Class<T> type, Filters filters, KeysetPagination pagination, int depth) {
+        return loadByTypeHandler.loadPage(type, filters, pagination, depth);
+    }
+
     /*
      *----------------------------------------------------------------------------------------------------------
      * loadByIdsHandler (no filters yet)
@@ -408,6 +477,17 @@ public class Neo4jSession implements Session {
         return executeQueriesDelegate.query(type, cypher, parameters);
     }
 
+    @Override
+    public <T> Stream<T> queryForStream(Class<T> type, String cypher, Map<String, ?> parameters) {
+        return executeQueriesDelegate.queryForStream(type, cypher, parameters, true);
+    }
+
+    @Override
+    public <T> Stream<T> queryForStream(Class<T> type, String cypher, Map<String, ?> parameters,
+        boolean registerEntities) {
+        return executeQueriesDelegate.queryForStream(type, cypher, parameters, registerEntities);
+    }
+
     @Override
     public Result query(String cypher, Map<String, ?> parameters) {
         return executeQueriesDelegate.query(cypher, parameters);
@@ -468,6 +548,16 @@ public class Neo4jSession implements Session {
         saveDelegate.save(object, depth);
     }
 
+    @Override
+    public <T> void saveInBatches(Iterable<T> objects, int depth, int batchSize) {
+        saveDelegate.saveInBatches(objects, depth, batchSize, false);
+    }
+
+    @Override
+    public <T> void saveInBatches(Iterable<T> objects, int depth, int batchSize, boolean commitEachBatch) {
+        saveDelegate.saveInBatches(objects, depth, batchSize, commitEachBatch);
+    }
+
     // Not part of {@link Session} interface on purpose for the time being
 
     /**
@@ -569,7 +659,7 @@ public class Neo4jSession implements Session {
             return function.doInTransaction();
         }
 
-        transaction = beginTransaction(txType);
+        transaction = beginTransaction(txType, lastBookmarks());
         try {
             T result = function.doInTransaction();
             if (transactionManager().canCommit()) {
@@ -595,6 +685,74 @@ public class Neo4jSession implements Session {
         }
     }
 
+    /**
+     * For internal use only. Executes a request and exposes its records as a lazy {@link Stream}. Records are pulled
+     * from the response and mapped only as the stream is consumed. If no transaction is current and the driver needs
+     * one, a transaction is opened here and kept open until the stream is closed: it is committed when all records
+     * were read and mapped without error, otherwise rolled back. As transactions are bound to the calling thread,
+     * the stream must be consumed and closed on the thread that created it.
+     *
+     * @param request      Executes the request and returns its still unread response.
+     * @param recordMapper Maps a single record onto zero or more result objects.
+     * @param txType       Transaction type, readonly or not.
+     * @param <R>          The record type of the response.
+     * @param <T>          The result type.
+     * @return A stream that must be closed to release the response and the transaction.
+     */
+    public <R, T> Stream<T> streamInTransaction(Supplier<Response<R>> request,
+        Function<R, ? extends Collection<T>> recordMapper, Transaction.Type txType) {
+
+        Transaction transaction = null;
+        if (driver.requiresTransaction() && txManager.getCurrentTransaction() == null) {
+            transaction = beginTransaction(txType, lastBookmarks());
+        }
+
+        Response<R> response;
+        try {
+            response = request.get();
+        } catch (RuntimeException e) {
+            if (transaction != null) {
+                logger.warn("Error executing query : {}. Rolling back transaction.", e.getMessage());
+                finishTransaction(transaction, false);
+            }
+            throw e;
+        }
+
+        ResponseSpliterator<R, T> spliterator = new ResponseSpliterator<>(response, recordMapper);
+        Transaction streamTransaction = transaction;
+        return StreamSupport.stream(spliterator, false).onClose(() -> {
+            try {
+                response.close();
+            } finally {
+                if (streamTransaction != null) {
+                    finishTransaction(streamTransaction, !spliterator.failed());
+                }
+            }
+        });
+    }
+
+    /**
+     * Transactions opened by the session itself start from its last bookmark, so that reads routed to a follower see
+     * the writes of this session.
+     */
+    private Iterable<String> lastBookmarks() {
+        return bookmark == null ? emptySet() : singleton(bookmark);
+    }
+
+    private void finishTransaction(Transaction transaction, boolean commit) {
+        try {
+            if (commit && transactionManager().canCommit()) {
+                transaction.commit();
+            } else if (!commit && transactionManager().canRollback()) {
+                transaction.rollback();
+            }
+        } finally {
+            if (!transaction.status().equals(Transaction.Status.CLOSED)) {
+                transaction.close();
+            }
+        }
+    }
+
     @Override
     public Transaction getTransaction() {
         return txManager.getCurrentTransaction();
@@ -624,12 +782,17 @@ public class Neo4jSession implements Session {
     // These helper methods for the delegates are deliberately NOT defined on the Session interface
     //
     public <T, ID extends Serializable> QueryStatements<ID> queryStatementsFor(Class<T> type, int depth) {
+        return queryStatementsFor(type, depth, loadStrategy);
+    }
+
+    public <T, ID extends Serializable> QueryStatements<ID> queryStatementsFor(Class<T> type, int depth,
+        LoadStrategy loadStrategy) {
         final FieldInfo fieldInfo = metaData.classInfo(type.getName()).primaryIndexField();
         String primaryIdName = fieldInfo != null ? fieldInfo.property() : null;
         if (metaData.isRelationshipEntity(type.getName())) {
-            return new RelationshipQueryStatements<>(primaryIdName, loadRelationshipClauseBuilder(depth));
+            return new RelationshipQueryStatements<>(primaryIdName, loadRelationshipClauseBuilder(depth, loadStrategy));
         } else {
-            return new NodeQueryStatements<>(primaryIdName, loadNodeClauseBuilder(depth));
+            return new NodeQueryStatements<>(primaryIdName, loadNodeClauseBuilder(depth, loadStrategy));
         }
     }
 
@@ -649,6 +812,36 @@ public class Neo4jSession implements Session {
         return metaData;
     }
 
+    /**
+     * @return the cache shared with the other sessions of the session factory, null if no entity type is cacheable
+     */
+    public SecondLevelCache secondLevelCache() {
+        return secondLevelCache;
+    }
+
+    void setSecondLevelCache(SecondLevelCache secondLevelCache) {
+        this.secondLevelCache = secondLevelCache;
+    }
+
+    /**
+     * @return the query result cache shared with the other sessions of the session factory, null if not enabled
+     */
+    public QueryResultCache queryResultCache() {
+        return queryResultCache;
+    }
+
+    void setQueryResultCache(QueryResultCache queryResultCache) {
+        this.queryResultCache = queryResultCache;
+    }
+
+    void setReadWriteSplit(ReadWriteSplit readWriteSplit) {
+        txManager.setReadWriteSplit(readWriteSplit);
+    }
+
+    void setLoadClauseCache(LoadClauseCache loadClauseCache) {
+        this.loadClauseCache = loadClauseCache;
+    }
+
     @Override
     public void clear() {
         mappingContext.clear();
@@ -687,6 +880,16 @@ public class Neo4jSession implements Session {
         this.bookmark = bookmark;
     }
 
+    @Override
+    public boolean isReadPreferred() {
+        return readPreferred;
+    }
+
+    @Override
+    public void setReadPreferred(boolean readPreferred) {
+        this.readPreferred = readPreferred;
+    }
+
     @Override
     public LoadStrategy getLoadStrategy() {
         return loadStrategy;
@@ -701,34 +904,34 @@ public class Neo4jSession implements Session {
         this.loadStrategy = loadStrategy;
     }
 
-    private LoadClauseBuilder loadNodeClauseBuilder(int depth) {
+    private LoadClauseBuilder loadNodeClauseBuilder(int depth, LoadStrategy loadStrategy) {
         if (depth < 0) {
-            return new PathNodeLoadClauseBuilder();
+            return loadClauseCache.cached(new PathNodeLoadClauseBuilder());
         }
 
         switch (loadStrategy) {
             case PATH_LOAD_STRATEGY:
-                return new PathNodeLoadClauseBuilder();
+                return loadClauseCache.cached(new PathNodeLoadClauseBuilder());
 
             case SCHEMA_LOAD_STRATEGY:
-                return new SchemaNodeLoadClauseBuilder(metaData.getSchema());
+                return loadClauseCache.cached(new SchemaNodeLoadClauseBuilder(metaData.getSchema()));
 
             default:
                 throw new IllegalStateException("Unknown loadStrategy " + loadStrategy);
         }
     }
 
-    private LoadClauseBuilder loadRelationshipClauseBuilder(int depth) {
+    private LoadClauseBuilder loadRelationshipClauseBuilder(int depth, LoadStrategy loadStrategy) {
         if (depth < 0) {
             throw new IllegalArgumentException("Can't load unlimited depth for relationships");
         }
 
         switch (loadStrategy) {
             case PATH_LOAD_STRATEGY:
-                return new PathRelationshipLoadClauseBuilder();
+                return loadClauseCache.cached(new PathRelationshipLoadClauseBuilder());
 
             case SCHEMA_LOAD_STRATEGY:
-                return new SchemaRelationshipLoadClauseBuilder(metaData.getSchema());
+                return loadClauseCache.cached(new SchemaRelationshipLoadClauseBuilder(metaData.getSchema()));
 
             default:
                 throw new IllegalStateException("Unknown loadStrategy " + loadStrategy);
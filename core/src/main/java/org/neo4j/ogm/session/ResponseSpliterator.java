@@ -0,0 +1,74 @@
+/*
+ * Copyright (c) 2002-2018 "Neo Technology,"
+ * Network Engine for Objects in Lund AB [http://neotechnology.com]
+ *
+ * This product is licensed to you under the Apache License, Version 2.0 (the "License").
+ * You may not use this product except in compliance with the License.
+ *
+ * This product may include a number of subcomponents with
+ * separate copyright notices and license terms. Your use of the source
+ * code for these subcomponents is subject to the terms and
+ *  conditions of the subcomponent's license, as noted in the LICENSE file.
+ */
+
+package org.neo4j.ogm.session;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+import org.neo4j.ogm.response.Response;
+
+/**
+ * Pulls records from a {@link Response} one at a time and hands out the objects mapped from each record.
+ * Nothing is read ahead of the consumer, so only the record currently being mapped is held in memory.
+ * Failures while reading or mapping are remembered, so that the owner can roll back instead of commit.
+ *
+ * @param <R> The record type of the response.
+ * @param <T> The type of the mapped objects.
+ */
+class ResponseSpliterator<R, T> extends Spliterators.AbstractSpliterator<T> {
+
+    private final Response<R> response;
+    private final Function<R, ? extends Collection<T>> recordMapper;
+
+    private Iterator<T> current = Collections.emptyIterator();
+    private boolean exhausted;
+    private boolean failed;
+
+    ResponseSpliterator(Response<R> response, Function<R, ? extends Collection<T>> recordMapper) {
+        super(Long.MAX_VALUE, Spliterator.ORDERED);
+        this.response = response;
+        this.recordMapper = recordMapper;
+    }
+
+    @Override
+    public boolean tryAdvance(Consumer<? super T> action) {
+        try {
+            while (!current.hasNext()) {
+                if (exhausted) {
+                    return false;
+                }
+                R record = response.next();
+                if (record == null) {
+                    exhausted = true;
+                    return false;
+                }
+                current = recordMapper.apply(record).iterator();
+            }
+        } catch (RuntimeException e) {
+            failed = true;
+            throw e;
+        }
+        action.accept(current.next());
+        return true;
+    }
+
+    boolean failed() {
+        return failed;
+    }
+}
@@ -16,10 +16,13 @@ package org.neo4j.ogm.session;
 import java.io.Serializable;
 import java.util.Collection;
 import java.util.Map;
+import java.util.stream.Stream;
 
 import org.neo4j.ogm.annotation.GraphId;
 import org.neo4j.ogm.cypher.Filter;
 import org.neo4j.ogm.cypher.Filters;
+import org.neo4j.ogm.cypher.query.KeysetPage;
+import org.neo4j.ogm.cypher.query.KeysetPagination;
 import org.neo4j.ogm.cypher.query.Pagination;
 import org.neo4j.ogm.cypher.query.SortOrder;
 import org.neo4j.ogm.model.QueryStatistics;
@@ -315,6 +318,36 @@ public interface Session {
      */
     <T> Collection<T> loadAll(Class<T> type, SortOrder sortOrder, Pagination pagination, int depth);
 
+    /**
+     * Stream all entities of type, filtered by filters, to depth. Entities are mapped one result record at a time
+     * as the stream is consumed, instead of loading the whole result up front. The stream holds on to the
+     * underlying response and, if it had to open one, the transaction: it must be closed, preferably with
+     * try-with-resources, on the thread that opened it.
+     *
+     * @param type    type of entities
+     * @param filters filters
+     * @param depth   depth, must not be negative
+     * @return stream of entities, registered with this session
+     */
+    <T> Stream<T> stream(Class<T> type, Filters filters, int depth);
+
+    /**
+     * Stream all entities of type, filtered by filters, sorted by sortOrder and paginated, to depth.
+     * See {@link #stream(Class, Filters, int)}.
+     *
+     * @param type             type of entities
+     * @param filters          filters, may be null
+     * @param sortOrder        sort order, may be null
+     * @param pagination       pagination, may be null
+     * @param depth            depth, must not be negative
+     * @param registerEntities whether streamed entities should be tracked by this session. When false, every
+     *                         entity is mapped in isolation and left detached, so that the mapping context does not grow
+     *                         with the number of entities read
+     * @return stream of entities
+     */
+    <T> Stream<T> stream(Class<T> type, Filters filters, SortOrder sortOrder, Pagination pagination, int depth,
+        boolean registerEntities);
+
     /**
      * Load all entities of type, filtered by filter, with default depth = 1.
      *
@@ -482,6 +515,27 @@ public interface Session {
      */
     <T> Collection<T> loadAll(Class<T> type, Filters filters, SortOrder sortOrder, Pagination pagination, int depth);
 
+    /**
+     * Load a page of entities of type, with default depth = 1. See {@link KeysetPagination}.
+     *
+     * @param type       type of entities, must be a node entity
+     * @param pagination keyset pagination
+     * @return page of entities
+     */
+    <T> KeysetPage<T> loadPage(Class<T> type, KeysetPagination pagination);
+
+    /**
+     * Load a page of entities of type, filtered by filters, to depth. Unlike with {@link Pagination}, the cost of a
+     * page doesn't grow with the number of entities before it. See {@link KeysetPagination}.
+     *
+     * @param type       type of entities, must be a node entity
+     * @param filters    filters, may be null. Filters combined with OR are not supported
+     * @param pagination keyset pagination
+     * @param depth      depth
+     * @return page of entities
+     */
+    <T> KeysetPage<T> loadPage(Class<T> type, Filters filters, KeysetPagination pagination, int depth);
+
     /**
      * Load single entity instance of type, with default depth = 1
      *
@@ -514,6 +568,30 @@ public interface Session {
      */
     <T> void save(T object, int depth);
 
+    /**
+     * Save a large number of entities into the database, up to specified depth, in batches of at most
+     * <code>batchSize</code> entities. Each batch is mapped and sent to the database after the previous one has been
+     * saved, and no statement unwinds more than <code>batchSize</code> rows, which bounds the memory needed for a save.
+     * All batches are saved in one transaction, the current one if any.
+     *
+     * @param objects   entities to save
+     * @param depth     depth up to which related entities are saved with each entity
+     * @param batchSize maximum number of entities per batch and of rows per statement
+     */
+    <T> void saveInBatches(Iterable<T> objects, int depth, int batchSize);
+
+    /**
+     * Save a large number of entities into the database in batches, see {@link #saveInBatches(Iterable, int, int)}.
+     * If <code>commitEachBatch</code> is true, each batch is saved and committed in its own transaction, meant for
+     * imports that do not need to be atomic. Batches committed before a failure stay committed in that case.
+     *
+     * @param objects         entities to save
+     * @param depth           depth up to which related entities are saved with each entity
+     * @param batchSize       maximum number of entities per batch and of rows per statement
+     * @param commitEachBatch whether each batch is committed on its own, not allowed inside a transaction
+     */
+    <T> void saveInBatches(Iterable<T> objects, int depth, int batchSize, boolean commitEachBatch);
+
     /**
      * Delete entity (or entities)
      *
@@ -629,6 +707,33 @@ public interface Session {
      */
     <T> Iterable<T> query(Class<T> objectType, String cypher, Map<String, ?> parameters);
 
+    /**
+     * Like {@link #query(Class, String, Map)}, but maps the result one record at a time as the returned stream is
+     * consumed. The stream must be closed on the thread that opened it.
+     *
+     * @param objectType The type that should be returned from the query.
+     * @param cypher     The parameterizable cypher to execute.
+     * @param parameters Any parameters to attach to the cypher.
+     * @param <T>        A domain object or scalar.
+     * @return A stream of domain objects, registered with this session, or scalars.
+     */
+    <T> Stream<T> queryForStream(Class<T> objectType, String cypher, Map<String, ?> parameters);
+
+    /**
+     * Like {@link #queryForStream(Class, String, Map)}, but allows domain objects to be left detached. Detached domain
+     * objects are mapped one record at a time without remembering earlier records, so an object that is part of
+     * several records is returned once for each of them.
+     *
+     * @param objectType       The type that should be returned from the query.
+     * @param cypher           The parameterizable cypher to execute.
+     * @param parameters       Any parameters to attach to the cypher.
+     * @param registerEntities Whether mapped domain objects should be tracked by this session.
+     * @param <T>              A domain object or scalar.
+     * @return A stream of domain objects or scalars.
+     */
+    <T> Stream<T> queryForStream(Class<T> objectType, String cypher, Map<String, ?> parameters,
+        boolean registerEntities);
+
     /**
      * a cypher statement this method will return a Result object containing a collection of Map's which represent Neo4j
      * objects as properties, along with query statistics if applicable.
@@ -740,6 +845,25 @@ public interface Session {
      */
     void withBookmark(String bookmark);
 
+    /**
+     * Returns whether this session prefers to route reads to the readers of a causal cluster.
+     *
+     * @return true if read preferred
+     * @see #setReadPreferred(boolean)
+     */
+    boolean isReadPreferred();
+
+    /**
+     * Sets whether this session prefers to route reads to the readers of a causal cluster.
+     * Loads, counts and custom queries without write clauses always run in read only transactions, which are routed
+     * to followers and read replicas. Custom queries calling procedures may write without write clauses, so they are
+     * only run in read only transactions when the session prefers reads.
+     * Transactions opened by the session start from its last bookmark, so reads always see its own writes.
+     *
+     * @param readPreferred true to route custom queries calling procedures to readers as well
+     */
+    void setReadPreferred(boolean readPreferred);
+
     /**
      * Returns current load strategy
      *
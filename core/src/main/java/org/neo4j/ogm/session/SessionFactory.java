@@ -18,9 +18,12 @@ import static org.neo4j.ogm.config.AutoIndexMode.*;
 
 import java.util.List;
 import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
 
 import org.neo4j.ogm.autoindex.AutoIndexManager;
 import org.neo4j.ogm.config.Configuration;
+import org.neo4j.ogm.context.QueryResultCache;
+import org.neo4j.ogm.context.SecondLevelCache;
 import org.neo4j.ogm.driver.Driver;
 import org.neo4j.ogm.exception.core.ConfigurationException;
 import org.neo4j.ogm.id.IdStrategy;
@@ -28,6 +31,8 @@ import org.neo4j.ogm.metadata.ClassInfo;
 import org.neo4j.ogm.metadata.MetaData;
 import org.neo4j.ogm.metadata.reflect.ReflectionEntityInstantiator;
 import org.neo4j.ogm.session.event.EventListener;
+import org.neo4j.ogm.session.request.strategy.impl.LoadClauseCache;
+import org.neo4j.ogm.session.transaction.ReadWriteSplit;
 
 /**
  * This is the main initialization point of OGM. Used to create {@link Session} instances for interacting with Neo4j.
@@ -44,9 +49,15 @@ public class SessionFactory {
     private final MetaData metaData;
     private final Driver driver;
     private final List<EventListener> eventListeners;
+    private final SecondLevelCache secondLevelCache;
+    private QueryResultCache queryResultCache;
+    private final LoadClauseCache loadClauseCache = new LoadClauseCache();
+    private final ReadWriteSplit readWriteSplit = new ReadWriteSplit();
+    private final List<AutoCloseable> closeableIdStrategies = new CopyOnWriteArrayList<>();
 
     private LoadStrategy loadStrategy = LoadStrategy.SCHEMA_LOAD_STRATEGY;
     private EntityInstantiator entityInstantiator;
+    private DirtyTrackingStrategy dirtyTrackingStrategy = DirtyTrackingStrategy.ENTITY_HASH;
 
     /**
      * Constructs a new {@link SessionFactory} by initialising the object-graph mapping meta-data from the given list of domain
@@ -89,16 +100,24 @@ public class SessionFactory {
     /**
      * Create a session factory with given driver
      * Use this constructor when you need to provide fully customized driver.
-     * Indexes will not be automatically created.
+     * Indexes will not be automatically created. The metadata is warmed up if the configuration of the driver asks for it.
      *
      * @param driver   driver to be used with this SessionFactory
      * @param packages The packages to scan for domain objects
      */
     public SessionFactory(Driver driver, String... packages) {
         this.metaData = new MetaData(packages);
+        Configuration configuration = driver.getConfiguration();
+        if (configuration != null && configuration.getWarmUpMetaData()) {
+            metaData.warmUp();
+        }
         this.driver = driver;
         this.eventListeners = new CopyOnWriteArrayList<>();
         this.entityInstantiator = new ReflectionEntityInstantiator(metaData);
+        this.secondLevelCache = new SecondLevelCache(metaData);
+        if (secondLevelCache.isEnabled()) {
+            eventListeners.add(secondLevelCache);
+        }
     }
 
     /**
@@ -132,7 +151,15 @@ public class SessionFactory {
      * @return A new {@link Session}
      */
     public Session openSession() {
-        return new Neo4jSession(metaData, driver, eventListeners, loadStrategy, entityInstantiator);
+        Neo4jSession session = new Neo4jSession(metaData, driver, eventListeners, loadStrategy, entityInstantiator,
+            dirtyTrackingStrategy);
+        if (secondLevelCache.isEnabled()) {
+            session.setSecondLevelCache(secondLevelCache);
+        }
+        session.setQueryResultCache(queryResultCache);
+        session.setLoadClauseCache(loadClauseCache);
+        session.setReadWriteSplit(readWriteSplit);
+        return session;
     }
 
     /**
@@ -180,6 +207,81 @@ public class SessionFactory {
         this.entityInstantiator = entityInstantiator;
     }
 
+    /**
+     * Returns current dirty tracking strategy
+     *
+     * @return dirty tracking strategy
+     */
+    public DirtyTrackingStrategy getDirtyTrackingStrategy() {
+        return dirtyTrackingStrategy;
+    }
+
+    /**
+     * Sets the DirtyTrackingStrategy
+     * Will be used by all subsequently created sessions.
+     *
+     * @param dirtyTrackingStrategy dirty tracking strategy
+     */
+    public void setDirtyTrackingStrategy(DirtyTrackingStrategy dirtyTrackingStrategy) {
+        this.dirtyTrackingStrategy = dirtyTrackingStrategy;
+    }
+
+    /**
+     * Returns the cache of loads by id shared by all sessions of this SessionFactory.
+     * It only holds entities of types annotated with {@link org.neo4j.ogm.annotation.Cacheable}.
+     *
+     * @return second level cache
+     */
+    public SecondLevelCache getSecondLevelCache() {
+        return secondLevelCache;
+    }
+
+    /**
+     * Enables caching of the results of read only queries and loads by type, see {@link QueryResultCache}.
+     * Will be used by all subsequently created sessions.
+     *
+     * @param maxEntries  maximum number of cached results, the least recently used result is evicted when exceeded
+     * @param timeToLive  time after which a cached result expires
+     * @param unit        unit of the time to live
+     */
+    public void enableQueryResultCache(int maxEntries, long timeToLive, TimeUnit unit) {
+        QueryResultCache cache = new QueryResultCache(metaData, maxEntries, timeToLive, unit);
+        if (queryResultCache != null) {
+            eventListeners.remove(queryResultCache);
+        }
+        eventListeners.add(cache);
+        queryResultCache = cache;
+    }
+
+    /**
+     * Returns the query result cache shared by all sessions of this SessionFactory.
+     *
+     * @return query result cache, null if not enabled
+     */
+    public QueryResultCache getQueryResultCache() {
+        return queryResultCache;
+    }
+
+    /**
+     * Returns the cache of compiled load clauses shared by all sessions of this SessionFactory.
+     * Its hit rate tells how often loads reused an already compiled clause.
+     *
+     * @return load clause cache
+     */
+    public LoadClauseCache getLoadClauseCache() {
+        return loadClauseCache;
+    }
+
+    /**
+     * Returns the counts of read only and read write transactions opened by the sessions of this SessionFactory.
+     * In a causal cluster, it shows how much of the load can be scaled out to followers and read replicas.
+     *
+     * @return read write split
+     */
+    public ReadWriteSplit getReadWriteSplit() {
+        return readWriteSplit;
+    }
+
     /**
      * Returns driver used by this SessionFactory
      *
@@ -191,21 +293,33 @@ public class SessionFactory {
 
     /**
      * Closes this session factory
-     * Also closes any underlying resources, like driver etc.
+     * Also closes any underlying resources, like driver, registered id strategies holding resources etc.
      */
     public void close() {
-        driver.close();
+        try {
+            for (AutoCloseable idStrategy : closeableIdStrategies) {
+                idStrategy.close();
+            }
+        } catch (Exception e) {
+            throw new IllegalStateException("Could not close id strategy", e);
+        } finally {
+            driver.close();
+        }
     }
 
     /**
      * Register an instance of {@link IdStrategy}
      * This instance will be used for generation of ids annotated with
      * {@code @Id @GeneratedValue(strategy=SomeClass.class)}
+     * Strategies that are {@link AutoCloseable} are closed together with this session factory.
      *
      * @param strategy {@link org.neo4j.ogm.id.IdStrategy} to use
      */
     public void register(IdStrategy strategy) {
         requireNonNull(strategy);
+        if (strategy instanceof AutoCloseable && !closeableIdStrategies.contains(strategy)) {
+            closeableIdStrategies.add((AutoCloseable) strategy);
+        }
         for (ClassInfo classInfo : metaData.persistentEntities()) {
             if (strategy.getClass().equals(classInfo.idStrategyClass())) {
                 classInfo.registerIdGenerationStrategy(strategy);
@@ -16,6 +16,7 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -32,6 +33,7 @@ import org.neo4j.ogm.response.Response;
 import org.neo4j.ogm.session.Neo4jSession;
 import org.neo4j.ogm.session.event.Event;
 import org.neo4j.ogm.session.event.PersistenceEvent;
+import org.neo4j.ogm.session.request.DefaultRequest;
 import org.neo4j.ogm.session.request.strategy.DeleteStatements;
 import org.neo4j.ogm.session.request.strategy.impl.NodeDeleteStatements;
 import org.neo4j.ogm.session.request.strategy.impl.RelationshipDeleteStatements;
@@ -46,6 +48,9 @@ public class DeleteDelegate extends SessionDelegate {
 
     private static final Logger LOG = LoggerFactory.getLogger(DeleteDelegate.class);
 
+    // maximum number of objects deleted by one statement
+    private static final int BATCH_SIZE = 1000;
+
     public DeleteDelegate(Neo4jSession session) {
         super(session);
     }
@@ -121,6 +126,12 @@ public class DeleteDelegate extends SessionDelegate {
             session.requestHandler().execute(query).close();
         }, Transaction.Type.READ_WRITE);
         session.context().clear();
+        if (session.secondLevelCache() != null) {
+            session.secondLevelCache().clear();
+        }
+        if (session.queryResultCache() != null) {
+            session.queryResultCache().clear();
+        }
     }
 
     public void clear() {
@@ -153,7 +164,12 @@ public class DeleteDelegate extends SessionDelegate {
         deleteOneOrMoreObjects(objectsForDeletion, allNeighbours);
     }
 
-    // TODO : this is being done in multiple requests at the moment, one per object. Why not put them in a single request?
+    /**
+     * Deletes the objects in as few requests as possible. Objects without version are deleted by id, with one
+     * statement per batch of nodes or relationship entities, all sent in one request. Objects with version are deleted
+     * with one statement per class and batch, each sent on its own to check that all objects of the batch have been
+     * deleted. Relationship entities are deleted first, as deleting a node deletes its relationships.
+     */
     private void deleteOneOrMoreObjects(List<?> objects, Set<Object> neighbours) {
 
         Set<Object> notified = new HashSet<>();
@@ -167,6 +183,11 @@ public class DeleteDelegate extends SessionDelegate {
             }
         }
 
+        Map<Long, Object> nodes = new LinkedHashMap<>();
+        Map<Long, Object> relationshipEntities = new LinkedHashMap<>();
+        Map<ClassInfo, Map<Long, Object>> versionedNodes = new LinkedHashMap<>();
+        Map<ClassInfo, Map<Long, Object>> versionedRelationshipEntities = new LinkedHashMap<>();
+
         for (Object object : objects) {
 
             ClassInfo classInfo = session.metaData().classInfo(object);
@@ -175,41 +196,66 @@ public class DeleteDelegate extends SessionDelegate {
 
                 Long id = session.context().nativeId(object);
                 if (id >= 0) {
-                    Statement request = getDeleteStatement(object, id, classInfo);
                     if (session.eventsEnabled()) {
                         if (!notified.contains(object)) {
                             session.notifyListeners(new PersistenceEvent(object, Event.TYPE.PRE_DELETE));
                             notified.add(object);
                         }
                     }
-                    RowModelRequest query = new DefaultRowModelRequest(request.getStatement(), request.getParameters());
-                    session.doInTransaction(() -> {
-                        try (Response<RowModel> response = session.requestHandler().execute(query)) {
-
-                            if (request.optimisticLockingConfig().isPresent()) {
-                                List<RowModel> rowModels = response.toList();
-                                session.optimisticLockingChecker().checkResultsCount(rowModels, request);
-                            }
-
-                            if (session.metaData().isRelationshipEntity(classInfo.name())) {
-                                session.detachRelationshipEntity(id);
-                            } else {
-                                session.detachNodeEntity(id);
-                            }
-                            if (session.eventsEnabled()) {
-                                if (notified.contains(object)) {
-                                    session.notifyListeners(new PersistenceEvent(object, Event.TYPE.POST_DELETE));
-                                }
-                            }
-                        }
-                    }, Transaction.Type.READ_WRITE);
-
+                    if (classInfo.hasVersionField()) {
+                        (classInfo.isRelationshipEntity() ? versionedRelationshipEntities : versionedNodes)
+                            .computeIfAbsent(classInfo, k -> new LinkedHashMap<>()).put(id, object);
+                    } else {
+                        (classInfo.isRelationshipEntity() ? relationshipEntities : nodes).put(id, object);
+                    }
                 }
             } else {
                 session.warn(object.getClass().getName() + " is not an instance of a persistable class");
             }
         }
 
+        List<Statement> unchecked = new ArrayList<>();
+        for (Map<Long, Object> batch : batches(relationshipEntities)) {
+            unchecked.add(new RelationshipDeleteStatements().delete(batch.keySet()));
+        }
+        for (Map<Long, Object> batch : batches(nodes)) {
+            unchecked.add(new NodeDeleteStatements().delete(batch.keySet()));
+        }
+        List<Statement> checkedRelationshipEntities = versionedDeleteStatements(versionedRelationshipEntities,
+            new RelationshipDeleteStatements());
+        List<Statement> checkedNodes = versionedDeleteStatements(versionedNodes, new NodeDeleteStatements());
+
+        boolean forceTx = !checkedRelationshipEntities.isEmpty() || !checkedNodes.isEmpty();
+        session.doInTransaction(() -> {
+            checkedRelationshipEntities.forEach(this::executeChecked);
+            if (!unchecked.isEmpty()) {
+                DefaultRequest request = new DefaultRequest();
+                request.setStatements(unchecked);
+                session.requestHandler().execute(request).close();
+            }
+            checkedNodes.forEach(this::executeChecked);
+        }, forceTx, Transaction.Type.READ_WRITE);
+
+        for (Object object : objects) {
+            ClassInfo classInfo = session.metaData().classInfo(object);
+            if (classInfo == null) {
+                continue;
+            }
+            Long id = session.context().nativeId(object);
+            if (id >= 0) {
+                if (classInfo.isRelationshipEntity()) {
+                    session.detachRelationshipEntity(id);
+                } else {
+                    session.detachNodeEntity(id);
+                }
+                if (session.eventsEnabled()) {
+                    if (notified.contains(object)) {
+                        session.notifyListeners(new PersistenceEvent(object, Event.TYPE.POST_DELETE));
+                    }
+                }
+            }
+        }
+
         if (session.eventsEnabled()) {
             for (Object affectedObject : neighbours) {
                 if (notified.contains(affectedObject)) {
@@ -219,23 +265,42 @@ public class DeleteDelegate extends SessionDelegate {
         }
     }
 
-    private DeleteStatements getDeleteStatementsBasedOnType(Class type) {
-        if (session.metaData().isRelationshipEntity(type.getName())) {
-            return new RelationshipDeleteStatements();
+    private List<Statement> versionedDeleteStatements(Map<ClassInfo, Map<Long, Object>> objectsByClass,
+        DeleteStatements deleteStatements) {
+        List<Statement> statements = new ArrayList<>();
+        objectsByClass.forEach((classInfo, objectsById) -> {
+            for (Map<Long, Object> batch : batches(objectsById)) {
+                statements.add(deleteStatements.delete(batch, classInfo));
+            }
+        });
+        return statements;
+    }
+
+    private void executeChecked(Statement statement) {
+        RowModelRequest query = new DefaultRowModelRequest(statement.getStatement(), statement.getParameters());
+        try (Response<RowModel> response = session.requestHandler().execute(query)) {
+            session.optimisticLockingChecker().checkResultsCount(response.toList(), statement);
         }
-        return new NodeDeleteStatements();
     }
 
-    private Statement getDeleteStatement(Object object, Long identity, ClassInfo classInfo) {
-        DeleteStatements deleteStatements = getDeleteStatementsBasedOnType(object.getClass());
+    private static List<Map<Long, Object>> batches(Map<Long, Object> objectsById) {
+        List<Map<Long, Object>> batches = new ArrayList<>();
+        Map<Long, Object> batch = null;
+        for (Map.Entry<Long, Object> entry : objectsById.entrySet()) {
+            if (batch == null || batch.size() == BATCH_SIZE) {
+                batch = new LinkedHashMap<>();
+                batches.add(batch);
+            }
+            batch.put(entry.getKey(), entry.getValue());
+        }
+        return batches;
+    }
 
-        Statement request;
-        if (classInfo.hasVersionField()) {
-            request = deleteStatements.delete(identity, object, classInfo);
-        } else {
-            request = deleteStatements.delete(identity);
+    private DeleteStatements getDeleteStatementsBasedOnType(Class type) {
+        if (session.metaData().isRelationshipEntity(type.getName())) {
+            return new RelationshipDeleteStatements();
         }
-        return request;
+        return new NodeDeleteStatements();
     }
 
     /**
@@ -12,19 +12,28 @@
  */
 package org.neo4j.ogm.session.delegates;
 
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.function.Function;
+import java.util.function.Supplier;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
+import java.util.stream.Stream;
 
 import org.apache.commons.lang3.StringUtils;
 import org.neo4j.ogm.annotation.EndNode;
 import org.neo4j.ogm.annotation.StartNode;
 import org.neo4j.ogm.context.EntityRowModelMapper;
 import org.neo4j.ogm.context.GraphEntityMapper;
+import org.neo4j.ogm.context.QueryResultCache;
 import org.neo4j.ogm.context.ResponseMapper;
 import org.neo4j.ogm.context.RestModelMapper;
 import org.neo4j.ogm.context.RestStatisticsModel;
+import org.neo4j.ogm.context.SecondLevelCache;
 import org.neo4j.ogm.cypher.Filter;
 import org.neo4j.ogm.cypher.query.CypherQuery;
 import org.neo4j.ogm.cypher.query.DefaultGraphModelRequest;
@@ -40,10 +49,12 @@ import org.neo4j.ogm.request.GraphModelRequest;
 import org.neo4j.ogm.request.RestModelRequest;
 import org.neo4j.ogm.request.RowModelRequest;
 import org.neo4j.ogm.response.Response;
+import org.neo4j.ogm.response.model.DefaultRestModel;
 import org.neo4j.ogm.response.model.QueryResultModel;
 import org.neo4j.ogm.session.Neo4jSession;
 import org.neo4j.ogm.session.Utils;
 import org.neo4j.ogm.session.request.strategy.impl.CountStatements;
+import org.neo4j.ogm.transaction.AbstractTransaction;
 import org.neo4j.ogm.transaction.Transaction;
 import org.neo4j.ogm.utils.ClassUtils;
 
@@ -55,6 +66,11 @@ import org.neo4j.ogm.utils.ClassUtils;
 public class ExecuteQueriesDelegate extends SessionDelegate {
 
     private static final Pattern WRITE_CYPHER_KEYWORDS = Pattern.compile("\\b(CREATE|MERGE|SET|DELETE|REMOVE|DROP)\\b");
+    private static final Pattern PROCEDURE_CALL = Pattern.compile("\\bCALL\\b");
+    // functions returning a different value on every call, such as the current time
+    private static final Pattern NON_DETERMINISTIC_FUNCTION = Pattern.compile(
+        "\\b(TIMESTAMP|RAND|RANDOMUUID|DATE|DATETIME|LOCALDATETIME|TIME|LOCALTIME)\\s*\\(\\s*\\)"
+            + "|\\b(DATE|DATETIME|LOCALDATETIME|TIME|LOCALTIME)\\s*\\.\\s*(TRANSACTION|STATEMENT|REALTIME)\\b");
 
     public ExecuteQueriesDelegate(Neo4jSession session) {
         super(session);
@@ -77,7 +93,7 @@ public class ExecuteQueriesDelegate extends SessionDelegate {
     }
 
     public Result query(String cypher, Map<String, ?> parameters) {
-        return query(cypher, parameters, isReadOnly(cypher));
+        return query(cypher, parameters, isReadOnly(cypher), transactionType(cypher));
     }
 
     public <T> Iterable<T> query(Class<T> type, String cypher, Map<String, ?> parameters) {
@@ -88,7 +104,30 @@ public class ExecuteQueriesDelegate extends SessionDelegate {
         return executeAndMap(type, cypher, parameters, new EntityRowModelMapper());
     }
 
+    public <T> Stream<T> queryForStream(Class<T> type, String cypher, Map<String, ?> parameters,
+        boolean registerEntities) {
+        validateQuery(cypher, parameters, false); //we'll allow modifying statements
+        if (type == null || type.equals(Void.class)) {
+            throw new RuntimeException("Supplied type must not be null or void.");
+        }
+        Transaction.Type txType = transactionType(cypher);
+
+        Stream<T> stream;
+        if (session.metaData().classInfo(type.getSimpleName()) != null) {
+            stream = streamEntities(type, new DefaultGraphModelRequest(cypher, parameters), registerEntities, txType);
+        } else {
+            RowModelRequest request = new DefaultRowModelRequest(cypher, parameters);
+            stream = session.<RowModel, T>streamInTransaction(() -> session.requestHandler().execute(request),
+                row -> Collections.singletonList(EntityRowModelMapper.extractColumnValue(type, row)), txType);
+        }
+        return mayWrite(cypher) ? stream.onClose(this::clearCaches) : stream;
+    }
+
     public Result query(String cypher, Map<String, ?> parameters, boolean readOnly) {
+        return query(cypher, parameters, readOnly, readOnly ? Transaction.Type.READ_ONLY : transactionType(cypher));
+    }
+
+    private Result query(String cypher, Map<String, ?> parameters, boolean readOnly, Transaction.Type txType) {
 
         validateQuery(cypher, parameters, readOnly);
 
@@ -97,25 +136,62 @@ public class ExecuteQueriesDelegate extends SessionDelegate {
             , session.getEntityInstantiator()),
             session.metaData());
 
-        return session.doInTransaction( () -> {
+        Function<Response<RestModel>, Result> mapping = response -> {
+            Iterable<RestStatisticsModel> mappedModel = mapper.map(null, response);
+            RestStatisticsModel restStatisticsModel = mappedModel.iterator().next();
 
+            if (readOnly) {
+                return new QueryResultModel(restStatisticsModel.getResult(), null);
+            } else {
+                return new QueryResultModel(restStatisticsModel.getResult(), restStatisticsModel.getStatistics());
+            }
+        };
+
+        if (isCacheable(cypher)) {
+            // the mapper replaces the models in the rows by entities, so cached rows are mapped from a copy
+            return doInTransactionCached(RestModel.class, request, () -> session.requestHandler().execute(request),
+                ExecuteQueriesDelegate::readRestModels,
+                response -> mapping.apply(session.queryResultCache() == null ? response : new CopiedRows(response)),
+                txType);
+        }
+        return executeUncached(cypher, () -> session.doInTransaction( () -> {
             try (Response<RestModel> response = session.requestHandler().execute(request)) {
-                Iterable<RestStatisticsModel> mappedModel = mapper.map(null, response);
-                RestStatisticsModel restStatisticsModel = mappedModel.iterator().next();
-
-                if (readOnly) {
-                    return new QueryResultModel(restStatisticsModel.getResult(), null);
-                } else {
-                    return new QueryResultModel(restStatisticsModel.getResult(), restStatisticsModel.getStatistics());
-                }
+                return mapping.apply(response);
             }
-        }, Transaction.Type.READ_WRITE);
+        }, txType));
+    }
+
+    /**
+     * Rest model responses end with a model without row, holding the statistics of the statement.
+     */
+    private static List<RestModel> readRestModels(Response<RestModel> response) {
+        List<RestModel> models = new ArrayList<>();
+        RestModel model;
+        do {
+            model = response.next();
+            models.add(model);
+        } while (!model.getRow().isEmpty());
+        return models;
     }
 
     private <T> Iterable<T> executeAndMap(Class<T> type, String cypher, Map<String, ?> parameters,
         ResponseMapper mapper) {
 
-        return session.<Iterable<T>>doInTransaction( () -> {
+        Transaction.Type txType = transactionType(cypher);
+        if (isCacheable(cypher)) {
+            if (type != null && session.metaData().classInfo(type.getSimpleName()) != null) {
+                GraphModelRequest request = new DefaultGraphModelRequest(cypher, parameters);
+                return doInTransactionCached(GraphModel.class, request, () -> session.requestHandler().execute(request),
+                    response -> new GraphEntityMapper(session.metaData(), session.context(),
+                        session.getEntityInstantiator()).map(type, response),
+                    txType);
+            }
+            RowModelRequest request = new DefaultRowModelRequest(cypher, parameters);
+            return doInTransactionCached(RowModel.class, request, () -> session.requestHandler().execute(request),
+                response -> mapper.map(type, response), txType);
+        }
+
+        return executeUncached(cypher, () -> session.<Iterable<T>>doInTransaction( () -> {
             if (type != null && session.metaData().classInfo(type.getSimpleName()) != null) {
                 GraphModelRequest request = new DefaultGraphModelRequest(cypher, parameters);
                 try (Response<GraphModel> response = session.requestHandler().execute(request)) {
@@ -127,7 +203,69 @@ public class ExecuteQueriesDelegate extends SessionDelegate {
                     return mapper.map(type, response);
                 }
             }
-        }, Transaction.Type.READ_WRITE);
+        }, txType));
+    }
+
+    /**
+     * Executes a statement whose result is not cached. Statements that may write, including procedure calls, clear
+     * the caches afterwards as any cached result or load may be stale.
+     */
+    private <T> T executeUncached(String cypher, Supplier<T> execution) {
+        if (!mayWrite(cypher)) {
+            return execution.get();
+        }
+        try {
+            return execution.get();
+        } finally {
+            clearCaches();
+        }
+    }
+
+    private boolean mayWrite(String cypher) {
+        return !isReadOnly(cypher) || PROCEDURE_CALL.matcher(cypher.toUpperCase()).find();
+    }
+
+    /**
+     * The caches only learn about changes made by saving or deleting entities, so they are cleared after statements
+     * that may have changed anything. Inside a transaction the change is not committed yet, so the caches do not cache
+     * anything until the transaction ends, see {@link SecondLevelCache#clearUntilCompleted()} and
+     * {@link QueryResultCache#clearUntilCompleted()}.
+     */
+    private void clearCaches() {
+        SecondLevelCache secondLevelCache = session.secondLevelCache();
+        QueryResultCache queryResultCache = session.queryResultCache();
+        AbstractTransaction transaction = activeTransaction();
+        if (secondLevelCache != null) {
+            if (transaction != null) {
+                transaction.registerCompletionAction(secondLevelCache.clearUntilCompleted());
+            } else {
+                secondLevelCache.clear();
+            }
+        }
+        if (queryResultCache != null) {
+            if (transaction != null) {
+                transaction.registerCompletionAction(queryResultCache.clearUntilCompleted());
+            } else {
+                queryResultCache.clear();
+            }
+        }
+    }
+
+    /**
+     * @return the transaction of the session if it can run actions once it has been committed or rolled back and has
+     * not ended yet, null otherwise
+     */
+    private AbstractTransaction activeTransaction() {
+        Transaction transaction = session.getTransaction();
+        if (!(transaction instanceof AbstractTransaction)) {
+            return null;
+        }
+        Transaction.Status status = transaction.status();
+        if (status == Transaction.Status.COMMITTED || status == Transaction.Status.ROLLEDBACK
+            || status == Transaction.Status.CLOSED) {
+            return null;
+        }
+        return (AbstractTransaction) transaction;
     }
 
     public long countEntitiesOfType(Class<?> entity) {
@@ -211,6 +349,29 @@ public class ExecuteQueriesDelegate extends SessionDelegate {
         return Long.parseLong(resultMap.get(resultKey).toString());
     }
 
+    /**
+     * Statements without write clauses are run in read only transactions, which a cluster routes to its readers.
+     * Such statements may still call procedures that write, so statements calling procedures are only considered
+     * read only when the session prefers reads.
+     */
+    private Transaction.Type transactionType(String cypher) {
+        if (!isReadOnly(cypher)
+            || !session.isReadPreferred() && PROCEDURE_CALL.matcher(cypher.toUpperCase()).find()) {
+            return Transaction.Type.READ_WRITE;
+        }
+        return Transaction.Type.READ_ONLY;
+    }
+
+    /**
+     * Only the results of reads returning the same records whenever they are executed with the same parameters are
+     * cached. Procedures may write or return anything, and some functions return a different value on every call.
+     */
+    private boolean isCacheable(String cypher) {
+        String upperCaseCypher = cypher.toUpperCase();
+        return isReadOnly(cypher) && !PROCEDURE_CALL.matcher(upperCaseCypher).find()
+            && !NON_DETERMINISTIC_FUNCTION.matcher(upperCaseCypher).find();
+    }
+
     private boolean isReadOnly(String cypher) {
         Matcher matcher = WRITE_CYPHER_KEYWORDS.matcher(cypher.toUpperCase());
         return !matcher.find();
@@ -230,4 +391,56 @@ public class ExecuteQueriesDelegate extends SessionDelegate {
             throw new RuntimeException("Supplied Parameters cannot be null.");
         }
     }
+
+    /**
+     * Replays rest models with copies of their rows, including nested maps and lists, so that they can be changed
+     * without changing the models of the underlying response.
+     */
+    private static class CopiedRows implements Response<RestModel> {
+
+        private final Response<RestModel> response;
+
+        CopiedRows(Response<RestModel> response) {
+            this.response = response;
+        }
+
+        @Override
+        public RestModel next() {
+            RestModel model = response.next();
+            if (model == null) {
+                return null;
+            }
+            DefaultRestModel copy = new DefaultRestModel((Map<String, Object>) copy(model.getRow()));
+            copy.setStats(model.getStats());
+            return copy;
+        }
+
+        @Override
+        public void close() {
+            response.close();
+        }
+
+        @Override
+        public String[] columns() {
+            return response.columns();
+        }
+
+        private static Object copy(Object value) {
+            if (value instanceof Map) {
+                Map<Object, Object> map = new LinkedHashMap<>();
+                for (Map.Entry<?, ?> entry : ((Map<?, ?>) value).entrySet()) {
+                    map.put(entry.getKey(), copy(entry.getValue()));
+                }
+                return map;
+            }
+            if (value instanceof List) {
+                List<Object> list = new ArrayList<>(((List<?>) value).size());
+                for (Object element : (List<?>) value) {
+                    list.add(copy(element));
+                }
+                return list;
+            }
+            return value;
+        }
+    }
 }
@@ -13,13 +13,18 @@
 package org.neo4j.ogm.session.delegates;
 
 import java.io.Serializable;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 
 import org.neo4j.ogm.context.GraphEntityMapper;
+import org.neo4j.ogm.context.LongSet;
+import org.neo4j.ogm.context.SecondLevelCache;
 import org.neo4j.ogm.cypher.query.DefaultGraphModelRequest;
 import org.neo4j.ogm.cypher.query.Pagination;
 import org.neo4j.ogm.cypher.query.PagingAndSortingQuery;
@@ -59,6 +64,12 @@ public class LoadByIdsDelegate extends SessionDelegate {
         }
         QueryStatements<ID> queryStatements = session.queryStatementsFor(type, depth);
 
+        ClassInfo classInfo = session.metaData().classInfo(type.getName());
+        SecondLevelCache cache = classInfo == null ? null : secondLevelCacheFor(classInfo);
+        if (cache != null && sortOrder.sortClauses().isEmpty() && pagination == null) {
+            return loadAllCached(type, classInfo, ids, depth, cache, entityLabel, queryStatements);
+        }
+
         PagingAndSortingQuery qry = queryStatements.findAllByType(entityLabel, ids, depth)
             .setSortOrder(sortOrder)
             .setPagination(pagination);
@@ -82,6 +93,67 @@ public class LoadByIdsDelegate extends SessionDelegate {
         }, Transaction.Type.READ_ONLY);
     }
 
+    /**
+     * Serves the ids found in the second level cache from there and only queries the others, caching the records
+     * returned for each of them. Records are attributed to every requested id whose entity they contain.
+     */
+    private <T, ID extends Serializable> Collection<T> loadAllCached(Class<T> type, ClassInfo classInfo,
+        Collection<ID> ids, int depth, SecondLevelCache cache, String entityLabel, QueryStatements<ID> queryStatements) {
+
+        GraphEntityMapper mapper = new GraphEntityMapper(session.metaData(), session.context(),
+            session.getEntityInstantiator());
+        Set<Long> nodeIds = new LongSet();
+        Set<Long> edgeIds = new LongSet();
+
+        List<ID> misses = new ArrayList<>();
+        for (ID id : ids) {
+            List<GraphModel> cached = cache.get(classInfo, id, depth);
+            if (cached == null) {
+                misses.add(id);
+                continue;
+            }
+            for (GraphModel record : cached) {
+                mapper.map(type, record, nodeIds, edgeIds);
+            }
+        }
+
+        if (!misses.isEmpty()) {
+            boolean populateCache = session.getTransaction() == null;
+            long generation = cache.generation();
+            PagingAndSortingQuery qry = queryStatements.findAllByType(entityLabel, misses, depth);
+            GraphModelRequest request = new DefaultGraphModelRequest(qry.getStatement(), qry.getParameters());
+            session.doInTransaction(() -> {
+                try (Response<GraphModel> response = session.requestHandler().execute(request)) {
+                    Set<ID> requested = new HashSet<>(misses);
+                    Map<Object, List<GraphModel>> recordsById = new HashMap<>();
+                    GraphModel record;
+                    while ((record = response.next()) != null) {
+                        for (T entity : mapper.map(type, record, nodeIds, edgeIds)) {
+                            Object id = requestedId(requested, entity);
+                            if (id != null) {
+                                recordsById.computeIfAbsent(id, k -> new ArrayList<>()).add(record);
+                            }
+                        }
+                    }
+                    if (populateCache) {
+                        recordsById.forEach((id, records) ->
+                            cache.put(classInfo, id, depth, records, session.context(), generation));
+                    }
+                }
+            }, Transaction.Type.READ_ONLY);
+        }
+        mapper.executePostLoad(nodeIds, edgeIds);
+
+        Set<T> results = new LinkedHashSet<>();
+        for (ID id : ids) {
+            T entity = lookup(type, id);
+            if (entity != null) {
+                results.add(entity);
+            }
+        }
+        return results;
+    }
+
     private <T, ID extends Serializable> Set<T> sortResultsByIds(Class<T> type, Collection<ID> ids,
         Iterable<T> mapped) {
         Map<ID, T> items = new HashMap<>();
@@ -141,6 +213,13 @@ public class LoadByIdsDelegate extends SessionDelegate {
     }
 
     private <T, ID extends Serializable> boolean includeMappedEntity(Collection<ID> ids, T mapped) {
+        return requestedId(ids, mapped) != null;
+    }
+
+    /**
+     * @return the primary index value or native id of the mapped entity if it is one of the given ids, null otherwise
+     */
+    private <T, ID extends Serializable> Object requestedId(Collection<ID> ids, T mapped) {
 
         final ClassInfo classInfo = session.metaData().classInfo(mapped);
         final FieldInfo primaryIndexField = classInfo.primaryIndexField();
@@ -148,10 +227,10 @@ public class LoadByIdsDelegate extends SessionDelegate {
         if (primaryIndexField != null) {
             final Object primaryIndexValue = primaryIndexField.read(mapped);
             if (ids.contains(primaryIndexValue)) {
-                return true;
+                return primaryIndexValue;
             }
         }
         Object id = EntityUtils.identity(mapped, session.metaData());
-        return ids.contains(id);
+        return ids.contains(id) ? id : null;
     }
 }
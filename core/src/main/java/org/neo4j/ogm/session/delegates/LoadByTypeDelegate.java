@@ -12,22 +12,33 @@
  */
 package org.neo4j.ogm.session.delegates;
 
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.List;
+import java.util.stream.Stream;
 
 import org.neo4j.ogm.context.GraphEntityMapper;
 import org.neo4j.ogm.context.GraphRowListModelMapper;
+import org.neo4j.ogm.cypher.BooleanOperator;
 import org.neo4j.ogm.cypher.Filter;
 import org.neo4j.ogm.cypher.Filters;
+import org.neo4j.ogm.cypher.function.KeysetComparison;
 import org.neo4j.ogm.cypher.query.DefaultGraphModelRequest;
 import org.neo4j.ogm.cypher.query.DefaultGraphRowListModelRequest;
+import org.neo4j.ogm.cypher.query.KeysetPage;
+import org.neo4j.ogm.cypher.query.KeysetPagination;
 import org.neo4j.ogm.cypher.query.Pagination;
 import org.neo4j.ogm.cypher.query.PagingAndSortingQuery;
+import org.neo4j.ogm.cypher.query.SortClause;
 import org.neo4j.ogm.cypher.query.SortOrder;
+import org.neo4j.ogm.metadata.ClassInfo;
+import org.neo4j.ogm.metadata.FieldInfo;
 import org.neo4j.ogm.model.GraphModel;
 import org.neo4j.ogm.model.GraphRowListModel;
 import org.neo4j.ogm.request.GraphModelRequest;
-import org.neo4j.ogm.response.Response;
+import org.neo4j.ogm.request.GraphRowListModelRequest;
+import org.neo4j.ogm.session.LoadStrategy;
 import org.neo4j.ogm.session.Neo4jSession;
 import org.neo4j.ogm.session.request.strategy.QueryStatements;
 import org.neo4j.ogm.transaction.Transaction;
@@ -70,7 +81,145 @@ public class LoadByTypeDelegate extends SessionDelegate {
                 + "and not abstract without @NodeEntity annotation");
             return Collections.emptyList();
         }
+        PagingAndSortingQuery query = findByType(type, entityLabel, filters, sortOrder, pagination, depth,
+            session.queryStatementsFor(type, depth));
+        return load(type, query);
+    }
+
+    /**
+     * Loads a page of objects of a given {@code type}, see {@link KeysetPagination}. The type must be a node entity.
+     *
+     * @param type       The type of objects to load.
+     * @param filters    Additional filters to reduce the number of objects loaded, may be null or empty. Filters
+     *                   combined with {@link org.neo4j.ogm.cypher.BooleanOperator#OR} are not supported.
+     * @param pagination The keyset pagination of the requested page
+     * @param depth      Depth of relationships to load
+     * @param <T>        Returned type
+     * @return The page of objects, with the pagination for the next page
+     */
+    public <T> KeysetPage<T> loadPage(Class<T> type, Filters filters, KeysetPagination pagination, int depth) {
+
+        String entityLabel = session.entityType(type.getName());
+        if (entityLabel == null) {
+            LOG.warn("Unable to find database label for entity " + type.getName()
+                + " : no results will be returned. Make sure the class is registered, "
+                + "and not abstract without @NodeEntity annotation");
+            return new KeysetPage<>(Collections.emptyList(), null);
+        }
+        if (session.metaData().isRelationshipEntity(type.getName())) {
+            throw new UnsupportedOperationException("Keyset pagination is not supported for relationship entities");
+        }
+
+        SortOrder sortOrderWithResolvedProperties = sortOrderWithResolvedProperties(type, pagination.getSortOrder());
+        Filters keysetFilters = new Filters();
+        if (filters != null) {
+            resolvePropertyAnnotations(type, filters);
+            for (Filter filter : filters) {
+                if (filter.getBooleanOperator() == BooleanOperator.OR) {
+                    throw new UnsupportedOperationException("OR is not supported for filters with keyset pagination");
+                }
+            }
+            keysetFilters.add(filters);
+        }
+        if (!pagination.isFirstPage()) {
+            keysetFilters.and(new Filter(new KeysetComparison(pagination, sortOrderWithResolvedProperties)));
+        }
+
         QueryStatements queryStatements = session.queryStatementsFor(type, depth);
+        PagingAndSortingQuery query = keysetFilters.isEmpty() ?
+            queryStatements.findByType(entityLabel, depth) :
+            queryStatements.findByType(entityLabel, keysetFilters, depth);
+        // the row returns the matched entities in order, apart from related entities of the same type
+        query.setSortOrder(sortOrderWithResolvedProperties).setKeysetPagination(pagination).requireRowResult();
+
+        List<T> content = new ArrayList<>(load(type, query));
+        if (content.size() < pagination.getPageSize()) {
+            return new KeysetPage<>(content, null);
+        }
+        return new KeysetPage<>(content, pagination.after(sortValues(type, pagination.getSortOrder(),
+            content.get(content.size() - 1)), session.context().nativeId(content.get(content.size() - 1))));
+    }
+
+    private List<Object> sortValues(Class<?> type, SortOrder sortOrder, Object entity) {
+        ClassInfo classInfo = session.metaData().classInfo(type.getName());
+        List<Object> sortValues = new ArrayList<>();
+        for (SortClause sortClause : sortOrder.sortClauses()) {
+            for (String property : sortClause.getProperties()) {
+                FieldInfo fieldInfo = classInfo.propertyFieldByName(property);
+                if (fieldInfo == null) {
+                    fieldInfo = classInfo.propertyField(property);
+                }
+                if (fieldInfo == null) {
+                    throw new IllegalArgumentException(property + " is not a property of " + type.getName());
+                }
+                Object value = fieldInfo.readProperty(entity);
+                if (value == null) {
+                    throw new IllegalStateException("Keyset pagination can't continue after " + entity
+                        + ", its sort property " + property + " is null");
+                }
+                sortValues.add(value);
+            }
+        }
+        return sortValues;
+    }
+
+    private <T> Collection<T> load(Class<T> type, PagingAndSortingQuery query) {
+        if (query.needsRowResult()) {
+            DefaultGraphRowListModelRequest graphRowListModelRequest = new DefaultGraphRowListModelRequest(
+                query.getStatement(), query.getParameters());
+            return doInTransactionCached(GraphRowListModel.class, graphRowListModelRequest,
+                () -> session.requestHandler().execute(graphRowListModelRequest),
+                response -> (Collection<T>) new GraphRowListModelMapper(session.metaData(), session.context(),
+                    session.getEntityInstantiator()).map(type, response),
+                Transaction.Type.READ_ONLY);
+        } else {
+            GraphModelRequest request = new DefaultGraphModelRequest(query.getStatement(), query.getParameters());
+            return doInTransactionCached(GraphModel.class, request,
+                () -> session.requestHandler().execute(request),
+                response -> (Collection<T>) new GraphEntityMapper(session.metaData(), session.context(),
+                    session.getEntityInstantiator()).map(type, response),
+                Transaction.Type.READ_ONLY);
+        }
+    }
+
+    /**
+     * Streams all objects of a given {@code type}, see {@link #loadAll(Class, Filters, SortOrder, Pagination, int)}.
+     * The schema load strategy is always used, as it returns exactly one record per matched object, which can be
+     * mapped on its own. For the same reason, the depth must not be negative.
+     *
+     * @param type             The type of objects to load.
+     * @param filters          Additional filters to reduce the number of objects loaded, may be null or empty.
+     * @param sortOrder        Sort order to be passed on to the database
+     * @param pagination       Pagination if required
+     * @param depth            Depth of relationships to load
+     * @param registerEntities Whether the loaded objects are registered with the session
+     * @param <T>              Returned type
+     * @return A lazy stream of objects with the requested type, which must be closed after use
+     */
+    public <T> Stream<T> stream(Class<T> type, Filters filters, SortOrder sortOrder, Pagination pagination,
+        int depth, boolean registerEntities) {
+
+        if (depth < 0) {
+            throw new IllegalArgumentException("Can't stream entities with unlimited depth");
+        }
+        String entityLabel = session.entityType(type.getName());
+        if (entityLabel == null) {
+            LOG.warn("Unable to find database label for entity " + type.getName()
+                + " : no results will be returned. Make sure the class is registered, "
+                + "and not abstract without @NodeEntity annotation");
+            return Stream.empty();
+        }
+        PagingAndSortingQuery query = findByType(type, entityLabel, filters, sortOrder, pagination, depth,
+            session.queryStatementsFor(type, depth, LoadStrategy.SCHEMA_LOAD_STRATEGY)).requireRowResult();
+
+        // the row tells the matched entity apart from related entities of the same type
+        GraphRowListModelRequest request = new DefaultGraphRowListModelRequest(query.getStatement(),
+            query.getParameters());
+        return streamRootEntities(type, request, registerEntities, Transaction.Type.READ_ONLY);
+    }
+
+    private PagingAndSortingQuery findByType(Class<?> type, String entityLabel, Filters filters, SortOrder sortOrder,
+        Pagination pagination, int depth, QueryStatements queryStatements) {
 
         SortOrder sortOrderWithResolvedProperties = sortOrderWithResolvedProperties(type, sortOrder);
 
@@ -82,26 +231,8 @@ public class LoadByTypeDelegate extends SessionDelegate {
             query = queryStatements.findByType(entityLabel, filters, depth);
         }
 
-        query.setSortOrder(sortOrderWithResolvedProperties)
+        return query.setSortOrder(sortOrderWithResolvedProperties)
             .setPagination(pagination);
-
-        return session.doInTransaction( () -> {
-            if (query.needsRowResult()) {
-                DefaultGraphRowListModelRequest graphRowListModelRequest = new DefaultGraphRowListModelRequest(
-                    query.getStatement(), query.getParameters());
-                try (Response<GraphRowListModel> response = session.requestHandler().execute(graphRowListModelRequest)) {
-                    return (Collection<T>) new GraphRowListModelMapper(session.metaData(), session.context(),
-                        session.getEntityInstantiator())
-                        .map(type, response);
-                }
-            } else {
-                GraphModelRequest request = new DefaultGraphModelRequest(query.getStatement(), query.getParameters());
-                try (Response<GraphModel> response = session.requestHandler().execute(request)) {
-                    return (Collection<T>) new GraphEntityMapper(session.metaData(), session.context()
-                        , session.getEntityInstantiator()).map(type, response);
-                }
-            }
-        }, Transaction.Type.READ_WRITE);
     }
 
     public <T> Collection<T> loadAll(Class<T> type) {
@@ -13,9 +13,12 @@
 package org.neo4j.ogm.session.delegates;
 
 import java.io.Serializable;
+import java.util.List;
+import java.util.Set;
 
-import org.neo4j.ogm.annotation.RelationshipEntity;
 import org.neo4j.ogm.context.GraphEntityMapper;
+import org.neo4j.ogm.context.LongSet;
+import org.neo4j.ogm.context.SecondLevelCache;
 import org.neo4j.ogm.cypher.query.DefaultGraphModelRequest;
 import org.neo4j.ogm.cypher.query.PagingAndSortingQuery;
 import org.neo4j.ogm.metadata.ClassInfo;
@@ -73,41 +76,43 @@ public class LoadOneDelegate extends SessionDelegate {
 
         GraphModelRequest request = new DefaultGraphModelRequest(qry.getStatement(), qry.getParameters());
 
+        SecondLevelCache cache = secondLevelCacheFor(classInfo);
+        if (cache != null) {
+            List<GraphModel> cached = cache.get(classInfo, id, depth);
+            if (cached != null) {
+                mapRecords(type, cached);
+                return lookup(type, id);
+            }
+        }
+        boolean populateCache = cache != null && session.getTransaction() == null;
+        long generation = populateCache ? cache.generation() : 0;
+
         return session.doInTransaction( () -> {
             try (Response<GraphModel> response = session.requestHandler().execute(request)) {
-                new GraphEntityMapper(session.metaData(), session.context(), session.getEntityInstantiator())
-                    .map(type, response);
-                return lookup(type, id);
+                if (!populateCache) {
+                    new GraphEntityMapper(session.metaData(), session.context(), session.getEntityInstantiator())
+                        .map(type, response);
+                    return lookup(type, id);
+                }
+                List<GraphModel> records = records(response);
+                mapRecords(type, records);
+                T entity = lookup(type, id);
+                if (entity != null) {
+                    cache.put(classInfo, id, depth, records, session.context(), generation);
+                }
+                return entity;
             }
         }, Transaction.Type.READ_ONLY);
     }
 
-    private <T, U> T lookup(Class<T> type, U id) {
-        Object ref;
-        ClassInfo typeInfo = session.metaData().classInfo(type.getName());
-
-        FieldInfo primaryIndex = typeInfo.primaryIndexField();
-        if (typeInfo.annotationsInfo().get(RelationshipEntity.class) == null) {
-            if (primaryIndex == null) {
-                ref = session.context().getNodeEntity((Long) id);
-            } else {
-                ref = session.context().getNodeEntityById(typeInfo, id);
-            }
-        } else {
-            if (primaryIndex == null) {
-                // Coercing to Long. identityField.convertedType() yields no parameterised type to call cast() with.
-                // But we know this will always be Long.
-                ref = session.context().getRelationshipEntity((Long) id);
-            } else {
-                ref = session.context().getRelationshipEntityById(typeInfo, id);
-            }
-        }
-        try {
-            return type.cast(ref);
-        } catch (ClassCastException cce) {
-            logger.warn("Could not cast entity {} for id {} to {}", ref, id, type);
-            return null;
+    private void mapRecords(Class<?> type, List<GraphModel> records) {
+        GraphEntityMapper mapper = new GraphEntityMapper(session.metaData(), session.context(),
+            session.getEntityInstantiator());
+        Set<Long> nodeIds = new LongSet();
+        Set<Long> edgeIds = new LongSet();
+        for (GraphModel record : records) {
+            mapper.map(type, record, nodeIds, edgeIds);
         }
+        mapper.executePostLoad(nodeIds, edgeIds);
     }
-
 }
@@ -24,6 +24,7 @@ import org.neo4j.ogm.metadata.ClassInfo;
 import org.neo4j.ogm.session.Neo4jSession;
 import org.neo4j.ogm.session.WriteProtectionStrategy;
 import org.neo4j.ogm.session.request.RequestExecutor;
+import org.neo4j.ogm.transaction.Transaction;
 
 /**
  * @author Vince Bickers
@@ -100,6 +101,66 @@ public class SaveDelegate extends SessionDelegate {
         }
     }
 
+    public <T> void saveInBatches(Iterable<T> objects, int depth, int batchSize, boolean commitEachBatch) {
+
+        if (batchSize < 1) {
+            throw new IllegalArgumentException("Batch size must be positive, but was " + batchSize);
+        }
+        if (commitEachBatch && session.getTransaction() != null) {
+            throw new IllegalStateException("Batches can't be committed separately inside of a transaction");
+        }
+
+        if (commitEachBatch) {
+            saveBatches(objects, depth, batchSize);
+        } else {
+            session.doInTransaction(() -> saveBatches(objects, depth, batchSize), true, Transaction.Type.READ_WRITE);
+        }
+    }
+
+    /**
+     * Maps and saves the objects batch after batch, each batch being compiled after the previous one has been saved.
+     * New entities of previous batches are then known to the mapping context with their ids, so that relationships
+     * to them are compiled as relationships to existing nodes.
+     */
+    private <T> void saveBatches(Iterable<T> objects, int depth, int batchSize) {
+        List<T> batch = new ArrayList<>(batchSize);
+        for (T object : objects) {
+            batch.add(object);
+            if (batch.size() == batchSize) {
+                saveBatch(batch, depth, batchSize);
+                batch.clear();
+            }
+        }
+        if (!batch.isEmpty()) {
+            saveBatch(batch, depth, batchSize);
+        }
+    }
+
+    private <T> void saveBatch(List<T> batch, int depth, int batchSize) {
+
+        SaveEventDelegate eventsDelegate = new SaveEventDelegate(session);
+
+        EntityGraphMapper entityGraphMapper = new EntityGraphMapper(session.metaData(), session.context());
+        if (this.writeProtectionStrategy != null) {
+            entityGraphMapper.addWriteProtection(this.writeProtectionStrategy.get());
+        }
+
+        if (session.eventsEnabled()) {
+            eventsDelegate.preSave(batch);
+        }
+        for (T object : batch) {
+            if (session.metaData().classInfo(object) == null) {
+                throw new IllegalArgumentException("Class " + object.getClass() + " is not a valid entity class. "
+                    + "Please check the entity mapping.");
+            }
+            entityGraphMapper.map(object, depth);
+        }
+        requestExecutor.executeSave(entityGraphMapper.compileContext(), batchSize);
+        if (session.eventsEnabled()) {
+            eventsDelegate.postSave();
+        }
+    }
+
     public void addWriteProtection(WriteProtectionTarget target, Predicate<Object> protection) {
         if(this.writeProtectionStrategy == null) {
             this.writeProtectionStrategy = new DefaultWriteProtectionStrategyImpl();
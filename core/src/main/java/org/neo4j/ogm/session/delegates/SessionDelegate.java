@@ -13,12 +13,23 @@
 package org.neo4j.ogm.session.delegates;
 
 import java.util.ArrayList;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
 
 import org.neo4j.ogm.annotation.EndNode;
 import org.neo4j.ogm.annotation.Property;
 import org.neo4j.ogm.annotation.Relationship;
+import org.neo4j.ogm.annotation.RelationshipEntity;
 import org.neo4j.ogm.annotation.StartNode;
+import org.neo4j.ogm.context.GraphEntityMapper;
+import org.neo4j.ogm.context.LongSet;
+import org.neo4j.ogm.context.MappingContext;
+import org.neo4j.ogm.context.QueryResultCache;
+import org.neo4j.ogm.context.SecondLevelCache;
 import org.neo4j.ogm.cypher.Filter;
 import org.neo4j.ogm.cypher.FilterWithRelationship;
 import org.neo4j.ogm.cypher.query.SortClause;
@@ -26,20 +37,220 @@ import org.neo4j.ogm.cypher.query.SortOrder;
 import org.neo4j.ogm.metadata.AnnotationInfo;
 import org.neo4j.ogm.metadata.ClassInfo;
 import org.neo4j.ogm.metadata.FieldInfo;
+import org.neo4j.ogm.model.GraphModel;
+import org.neo4j.ogm.model.GraphRowListModel;
+import org.neo4j.ogm.model.GraphRowModel;
+import org.neo4j.ogm.request.GraphModelRequest;
+import org.neo4j.ogm.request.GraphRowListModelRequest;
+import org.neo4j.ogm.request.Statement;
+import org.neo4j.ogm.response.Response;
 import org.neo4j.ogm.session.Neo4jSession;
+import org.neo4j.ogm.transaction.Transaction;
 import org.neo4j.ogm.utils.RelationshipUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 /**
  * @author Gerrit Meier
  */
 abstract class SessionDelegate {
 
+    private static final Logger logger = LoggerFactory.getLogger(SessionDelegate.class);
+
     final Neo4jSession session;
 
     SessionDelegate(Neo4jSession session) {
         this.session = session;
     }
 
+    /**
+     * Executes the request lazily and maps every graph record to entities of the given type as the returned stream is
+     * consumed. Like {@link ExecuteQueriesDelegate#query(Class, String, java.util.Map)}, every entity of the type
+     * that is part of a record is emitted.
+     * <p>
+     * Entities registered with the session are emitted only once, even if they are part of several records, and
+     * @PostLoad is executed once per entity, right after the first record containing it has been mapped. The ids
+     * remembered for this grow like the session's mapping context itself. Detached entities are mapped per record
+     * and nothing is remembered between records, so an entity that is part of several records is emitted once for
+     * each of them.
+     *
+     * @param type             Type of the entities to emit
+     * @param request          Request to execute
+     * @param registerEntities Whether entities are registered with the session's mapping context. If not, each record
+     *                         is mapped with a throwaway context and the entities are left detached.
+     * @param txType           Transaction type to use if a transaction needs to be opened
+     */
+    <T> Stream<T> streamEntities(Class<T> type, GraphModelRequest request, boolean registerEntities,
+        Transaction.Type txType) {
+
+        StreamedIds streamedIds = registerEntities ? new StreamedIds() : null;
+
+        return session.<GraphModel, T>streamInTransaction(() -> session.requestHandler().execute(request), graphModel -> {
+            MappingContext context = registerEntities ? session.context() : new MappingContext(session.metaData());
+            GraphEntityMapper mapper = new GraphEntityMapper(session.metaData(), context,
+                session.getEntityInstantiator());
+
+            Set<Long> nodeIds = new LinkedHashSet<>();
+            Set<Long> edgeIds = new LinkedHashSet<>();
+            List<T> entities = mapper.map(type, graphModel, nodeIds, edgeIds);
+            if (streamedIds != null) {
+                entities.removeIf(entity -> !streamedIds.emitted.add(context.nativeId(entity)));
+                streamedIds.retainNotPostLoaded(nodeIds, edgeIds);
+            }
+            mapper.executePostLoad(nodeIds, edgeIds);
+            return entities;
+        }, txType);
+    }
+
+    /**
+     * Executes the request lazily and emits the entity matched by every row as the returned stream is consumed. The
+     * row must contain the native id of the matched entity. Other entities in the graph of the row, including related
+     * entities of the same type, are mapped but not emitted.
+     * <p>
+     * Each row matches a different entity, so nothing needs to be remembered to avoid duplicates. Only when entities
+     * are registered with the session, the ids of the entities @PostLoad has been executed for are remembered, which
+     * grow like the session's mapping context itself.
+     *
+     * @param type             Type of the entities to emit
+     * @param request          Request to execute
+     * @param registerEntities Whether entities are registered with the session's mapping context. If not, each row is
+     *                         mapped with a throwaway context and the entities are left detached.
+     * @param txType           Transaction type to use if a transaction needs to be opened
+     */
+    <T> Stream<T> streamRootEntities(Class<T> type, GraphRowListModelRequest request, boolean registerEntities,
+        Transaction.Type txType) {
+
+        boolean relationshipEntity = session.metaData().isRelationshipEntity(type.getName());
+        StreamedIds streamedIds = registerEntities ? new StreamedIds() : null;
+
+        return session.<GraphRowListModel, T>streamInTransaction(() -> session.requestHandler().execute(request), rows -> {
+            List<T> entities = new ArrayList<>();
+            for (GraphRowModel row : rows.model()) {
+                MappingContext context = registerEntities ? session.context() : new MappingContext(session.metaData());
+                GraphEntityMapper mapper = new GraphEntityMapper(session.metaData(), context,
+                    session.getEntityInstantiator());
+
+                Set<Long> nodeIds = new LinkedHashSet<>();
+                Set<Long> edgeIds = new LinkedHashSet<>();
+                mapper.map(type, row.getGraph(), nodeIds, edgeIds);
+                for (Object value : row.getRow()) {
+                    if (value instanceof Number) {
+                        long id = ((Number) value).longValue();
+                        entities.add(type.cast(relationshipEntity ? context.getRelationshipEntity(id)
+                            : context.getNodeEntity(id)));
+                    }
+                }
+                if (streamedIds != null) {
+                    streamedIds.retainNotPostLoaded(nodeIds, edgeIds);
+                }
+                mapper.executePostLoad(nodeIds, edgeIds);
+            }
+            return entities;
+        }, txType);
+    }
+
+    /**
+     * The ids of the entities a stream has registered with the session.
+     */
+    private static class StreamedIds {
+
+        private final LongSet emitted = new LongSet();
+        private final LongSet postLoadedNodes = new LongSet();
+        private final LongSet postLoadedEdges = new LongSet();
+
+        private void retainNotPostLoaded(Set<Long> nodeIds, Set<Long> edgeIds) {
+            nodeIds.removeIf(id -> !postLoadedNodes.add(id));
+            edgeIds.removeIf(id -> !postLoadedEdges.add(id));
+        }
+    }
+
+    /**
+     * @return the second level cache if entities of the given type are cached, null otherwise
+     */
+    SecondLevelCache secondLevelCacheFor(ClassInfo classInfo) {
+        SecondLevelCache cache = session.secondLevelCache();
+        return cache != null && cache.isCacheable(classInfo) ? cache : null;
+    }
+
+    /**
+     * Executes a read only statement and maps its response. If the session factory caches query results, the
+     * response is replayed from the cache when the same statement has been executed with the same parameters before,
+     * and cached otherwise. Explicit transactions bypass the cache, as they may see their own uncommitted changes.
+     */
+    <M, R> R doInTransactionCached(Class<M> modelType, Statement statement, Supplier<Response<M>> execution,
+        Function<Response<M>, R> mapping, Transaction.Type txType) {
+        return doInTransactionCached(modelType, statement, execution, Response::toList, mapping, txType);
+    }
+
+    /**
+     * See {@link #doInTransactionCached(Class, Statement, Supplier, Function, Transaction.Type)}, for responses that
+     * need to be read in a specific way to get all their records.
+     */
+    <M, R> R doInTransactionCached(Class<M> modelType, Statement statement, Supplier<Response<M>> execution,
+        Function<Response<M>, List<M>> reader, Function<Response<M>, R> mapping, Transaction.Type txType) {
+
+        QueryResultCache cache = session.queryResultCache();
+        if (cache == null || session.getTransaction() != null) {
+            return session.doInTransaction(() -> {
+                try (Response<M> response = execution.get()) {
+                    return mapping.apply(response);
+                }
+            }, txType);
+        }
+        Response<M> cached = cache.get(modelType, statement.getStatement(), statement.getParameters());
+        if (cached == null) {
+            long generation = cache.generation();
+            cached = session.doInTransaction(() -> {
+                try (Response<M> response = execution.get()) {
+                    return cache.put(modelType, statement.getStatement(), statement.getParameters(),
+                        reader.apply(response), response.columns(), generation);
+                }
+            }, txType);
+        }
+        return mapping.apply(cached);
+    }
+
+    static List<GraphModel> records(Response<GraphModel> response) {
+        List<GraphModel> records = new ArrayList<>();
+        GraphModel record;
+        while ((record = response.next()) != null) {
+            records.add(record);
+        }
+        return records;
+    }
+
+    /**
+     * Looks up the entity of the given type with the given id, either its primary index value or its native id, in the
+     * session's mapping context.
+     */
+    <T, U> T lookup(Class<T> type, U id) {
+        Object ref;
+        ClassInfo typeInfo = session.metaData().classInfo(type.getName());
+
+        FieldInfo primaryIndex = typeInfo.primaryIndexField();
+        if (typeInfo.annotationsInfo().get(RelationshipEntity.class) == null) {
+            if (primaryIndex == null) {
+                ref = session.context().getNodeEntity((Long) id);
+            } else {
+                ref = session.context().getNodeEntityById(typeInfo, id);
+            }
+        } else {
+            if (primaryIndex == null) {
+                // Coercing to Long. identityField.convertedType() yields no parameterised type to call cast() with.
+                // But we know this will always be Long.
+                ref = session.context().getRelationshipEntity((Long) id);
+            } else {
+                ref = session.context().getRelationshipEntityById(typeInfo, id);
+            }
+        }
+        try {
+            return type.cast(ref);
+        } catch (ClassCastException cce) {
+            logger.warn("Could not cast entity {} for id {} to {}", ref, id, type);
+            return null;
+        }
+    }
+
     SortOrder sortOrderWithResolvedProperties(Class entityType, SortOrder sortOrder) {
         return SortOrder.fromSortClauses(sortClausesWithResolvedProperties(entityType, sortOrder));
     }
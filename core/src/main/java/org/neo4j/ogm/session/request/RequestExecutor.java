@@ -26,6 +26,7 @@ import org.neo4j.ogm.cypher.compiler.CompileContext;
 import org.neo4j.ogm.cypher.compiler.Compiler;
 import org.neo4j.ogm.metadata.ClassInfo;
 import org.neo4j.ogm.model.RowModel;
+import org.neo4j.ogm.request.OptimisticLockingConfig;
 import org.neo4j.ogm.request.Statement;
 import org.neo4j.ogm.response.Response;
 import org.neo4j.ogm.session.Neo4jSession;
@@ -61,6 +62,16 @@ public class RequestExecutor {
      * @param context the CompileContext for this request
      */
     public void executeSave(CompileContext context) {
+        executeSave(context, Integer.MAX_VALUE);
+    }
+
+    /**
+     * Execute a save request, splitting statements with more than the given number of rows into several statements.
+     *
+     * @param context   the CompileContext for this request
+     * @param batchSize maximum number of rows per statement
+     */
+    public void executeSave(CompileContext context, int batchSize) {
 
         Compiler compiler = context.getCompiler();
         compiler.useStatementFactory(new RowStatementFactory());
@@ -79,7 +90,7 @@ public class RequestExecutor {
                 // execute the statements to create new nodes. The ids will be returned
                 // and will be used in subsequent statements that refer to these new nodes.
                 executeStatements(context, entityReferenceMappings, relReferenceMappings,
-                    compiler.createNodesStatements());
+                    split(compiler.createNodesStatements(), batchSize));
 
                 List<Statement> statements = new ArrayList<>();
                 statements.addAll(compiler.createRelationshipsStatements());
@@ -88,10 +99,10 @@ public class RequestExecutor {
                 statements.addAll(compiler.deleteRelationshipStatements());
                 statements.addAll(compiler.deleteRelationshipEntityStatements());
 
-                executeStatements(context, entityReferenceMappings, relReferenceMappings, statements);
+                executeStatements(context, entityReferenceMappings, relReferenceMappings, split(statements, batchSize));
             } else { // only update / delete statements
                 List<Statement> statements = compiler.getAllStatements();
-                executeStatements(context, entityReferenceMappings, relReferenceMappings, statements);
+                executeStatements(context, entityReferenceMappings, relReferenceMappings, split(statements, batchSize));
             }
 
         }, forceTx, Transaction.Type.READ_WRITE);
@@ -102,6 +113,33 @@ public class RequestExecutor {
         updateRelationships(context, session, relReferenceMappings);
     }
 
+    /**
+     * Splits statements unwinding more than batchSize rows into statements of at most batchSize rows each, keeping
+     * their order. The expected results count of statements checking versions is adjusted to their rows.
+     */
+    static List<Statement> split(List<Statement> statements, int batchSize) {
+        List<Statement> split = new ArrayList<>(statements.size());
+        for (Statement statement : statements) {
+            Object rows = statement.getParameters().get("rows");
+            if (!(rows instanceof List) || ((List<?>) rows).size() <= batchSize) {
+                split.add(statement);
+                continue;
+            }
+            List<?> allRows = (List<?>) rows;
+            for (int from = 0; from < allRows.size(); from += batchSize) {
+                List<?> batch = allRows.subList(from, Math.min(from + batchSize, allRows.size()));
+                Map<String, Object> parameters = new HashMap<>(statement.getParameters());
+                parameters.put("rows", batch);
+                OptimisticLockingConfig olConfig = statement.optimisticLockingConfig()
+                    .map(config -> new OptimisticLockingConfig(batch.size(), config.getTypes(),
+                        config.getVersionProperty()))
+                    .orElse(null);
+                split.add(new RowDataStatement(statement.getStatement(), parameters, olConfig));
+            }
+        }
+        return split;
+    }
+
     private void executeStatements(CompileContext context, List<ReferenceMapping> entityReferenceMappings,
         List<ReferenceMapping> relReferenceMappings, List<Statement> statements) {
         if (statements.size() > 0) {
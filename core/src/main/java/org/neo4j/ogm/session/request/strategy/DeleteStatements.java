@@ -14,6 +14,7 @@
 package org.neo4j.ogm.session.request.strategy;
 
 import java.util.Collection;
+import java.util.Map;
 
 import org.neo4j.ogm.cypher.Filter;
 import org.neo4j.ogm.cypher.query.CypherQuery;
@@ -45,6 +46,16 @@ public interface DeleteStatements {
      */
     CypherQuery delete(Long id, Object object, ClassInfo classInfo);
 
+    /**
+     * Construct a query to delete the given objects in one statement, checking each object's version.
+     * The query returns the ids of the deleted objects.
+     *
+     * @param objectsById objects to delete, by id
+     * @param classInfo   class info of the objects, which must all be of the same class
+     * @return a {@link CypherQuery}
+     */
+    CypherQuery delete(Map<Long, Object> objectsById, ClassInfo classInfo);
+
     /**
      * construct a query to delete all objects
      *
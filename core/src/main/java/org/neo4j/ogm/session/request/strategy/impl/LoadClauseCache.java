@@ -0,0 +1,146 @@
+/*
+ * Copyright (c) 2002-2018 "Neo Technology,"
+ * Network Engine for Objects in Lund AB [http://neotechnology.com]
+ *
+ * This product is licensed to you under the Apache License, Version 2.0 (the "License").
+ * You may not use this product except in compliance with the License.
+ *
+ * This product may include a number of subcomponents with
+ * separate copyright notices and license terms. Your use of the source
+ * code for these subcomponents is subject to the terms and
+ *  conditions of the subcomponent's license, as noted in the LICENSE file.
+ */
+package org.neo4j.ogm.session.request.strategy.impl;
+
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.neo4j.ogm.session.request.strategy.LoadClauseBuilder;
+
+/**
+ * Cache of compiled load clauses, shared by all sessions of a session factory. A load clause only depends on the kind
+ * of {@link LoadClauseBuilder} (node or relationship, path or schema load strategy), the variable, the label and the
+ * depth, so it is built once for each of these combinations. Only the parameters of the match clause are bound per call.
+ */
+public class LoadClauseCache {
+
+    // guards against unbounded growth, e.g. when depths are user supplied
+    private static final int MAX_ENTRIES = 10_000;
+
+    private final Map<Key, String> clauses = new ConcurrentHashMap<>();
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    /**
+     * @param loadClauseBuilder builder used to build the load clauses not yet cached
+     * @return a builder returning the cached load clauses of the given builder
+     */
+    public LoadClauseBuilder cached(LoadClauseBuilder loadClauseBuilder) {
+        return new CachedLoadClauseBuilder(loadClauseBuilder);
+    }
+
+    /**
+     * @return number of load clauses returned from the cache
+     */
+    public long hitCount() {
+        return hits.sum();
+    }
+
+    /**
+     * @return number of load clauses that had to be built
+     */
+    public long missCount() {
+        return misses.sum();
+    }
+
+    /**
+     * @return ratio of load clauses returned from the cache to all requested load clauses, 0 if none has been requested
+     */
+    public double hitRate() {
+        long hitCount = hits.sum();
+        long total = hitCount + misses.sum();
+        return total == 0 ? 0 : (double) hitCount / total;
+    }
+
+    public int size() {
+        return clauses.size();
+    }
+
+    public void clear() {
+        clauses.clear();
+    }
+
+    private String get(Key key, LoadClauseBuilder loadClauseBuilder) {
+        String clause = clauses.get(key);
+        if (clause != null) {
+            hits.increment();
+            return clause;
+        }
+        misses.increment();
+        clause = key.variable == null
+            ? loadClauseBuilder.build(key.label, key.depth)
+            : loadClauseBuilder.build(key.variable, key.label, key.depth);
+        if (clauses.size() < MAX_ENTRIES) {
+            clauses.putIfAbsent(key, clause);
+        }
+        return clause;
+    }
+
+    private class CachedLoadClauseBuilder implements LoadClauseBuilder {
+
+        private final LoadClauseBuilder delegate;
+
+        CachedLoadClauseBuilder(LoadClauseBuilder delegate) {
+            this.delegate = delegate;
+        }
+
+        // implementations differ in their default variable, so the variable is left to the delegate
+        @Override
+        public String build(String label, int depth) {
+            return get(new Key(delegate.getClass(), null, label, depth), delegate);
+        }
+
+        @Override
+        public String build(String variable, String label, int depth) {
+            return get(new Key(delegate.getClass(), variable, label, depth), delegate);
+        }
+    }
+
+    private static class Key {
+
+        private final Class<?> builderType;
+        private final String variable;
+        private final String label;
+        private final int depth;
+
+        Key(Class<?> builderType, String variable, String label, int depth) {
+            this.builderType = builderType;
+            this.variable = variable;
+            this.label = label;
+            this.depth = depth;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (o == null || getClass() != o.getClass()) {
+                return false;
+            }
+            Key key = (Key) o;
+            return depth == key.depth
+                && builderType == key.builderType
+                && Objects.equals(variable, key.variable)
+                && Objects.equals(label, key.label);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(builderType, variable, label, depth);
+        }
+    }
+}
@@ -12,7 +12,10 @@
  */
 package org.neo4j.ogm.session.request.strategy.impl;
 
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.List;
+import java.util.Map;
 
 import org.neo4j.ogm.cypher.Filter;
 import org.neo4j.ogm.cypher.query.CypherQuery;
@@ -58,6 +61,29 @@ public class NodeDeleteStatements implements DeleteStatements {
 
     }
 
+    @Override
+    public CypherQuery delete(Map<Long, Object> objectsById, ClassInfo classInfo) {
+        FieldInfo versionField = classInfo.getVersionField();
+        String version = versionField.property();
+        List<Map<String, Object>> rows = new ArrayList<>(objectsById.size());
+        objectsById.forEach((id, object) -> rows.add(Utils.map("nodeId", id, version, versionField.read(object))));
+        OptimisticLockingConfig optimisticLockingConfig = new OptimisticLockingConfig(rows.size(),
+            classInfo.staticLabels().toArray(new String[] {}), version);
+
+        return new DefaultRowModelRequest("UNWIND {rows} AS row "
+            + "MATCH (n) "
+            + "  WHERE id(n) = row.nodeId AND n.`" + version + "` = row.`" + version + "` "
+            + "SET "
+            + " n.`" + version + "` = n.`" + version + "` + 1 "
+            + "WITH n, row "
+            + " WHERE n.`" + version + "` = row.`" + version + "` + 1 "
+            + "OPTIONAL MATCH (n)-[r0]-() "
+            + "DELETE r0, n "
+            + "RETURN DISTINCT id(n) AS id", // Use DISTINCT because node may have multiple relationships
+            Utils.map("rows", rows, "type", "node"),
+            optimisticLockingConfig);
+    }
+
     @Override
     public CypherQuery delete(Collection<Long> ids) {
         return new DefaultRowModelRequest("MATCH (n) WHERE ID(n) in { ids } OPTIONAL MATCH (n)-[r0]-() DELETE r0, n",
@@ -13,7 +13,10 @@
 
 package org.neo4j.ogm.session.request.strategy.impl;
 
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.List;
+import java.util.Map;
 
 import org.neo4j.ogm.cypher.Filter;
 import org.neo4j.ogm.cypher.query.CypherQuery;
@@ -54,6 +57,27 @@ public class RelationshipDeleteStatements implements DeleteStatements {
             Utils.map("id", id, "version", version, "type", "rel"), optimisticLockingConfig);
     }
 
+    @Override
+    public CypherQuery delete(Map<Long, Object> objectsById, ClassInfo classInfo) {
+        FieldInfo versionField = classInfo.getVersionField();
+        String version = versionField.property();
+        List<Map<String, Object>> rows = new ArrayList<>(objectsById.size());
+        objectsById.forEach((id, object) -> rows.add(Utils.map("relId", id, version, versionField.read(object))));
+        OptimisticLockingConfig optimisticLockingConfig = new OptimisticLockingConfig(rows.size(),
+            classInfo.staticLabels().toArray(new String[] {}), version);
+
+        return new DefaultRowModelRequest("UNWIND {rows} AS row "
+            + "MATCH (n)-[r0]->() "
+            + "  WHERE ID(r0) = row.relId AND r0.`" + version + "` = row.`" + version + "` "
+            + "SET "
+            + " r0.`" + version + "` = r0.`" + version + "` + 1 "
+            + "WITH r0, row "
+            + " WHERE r0.`" + version + "` = row.`" + version + "` + 1 "
+            + "DELETE r0 "
+            + "RETURN DISTINCT ID(r0) AS id",
+            Utils.map("rows", rows, "type", "rel"), optimisticLockingConfig);
+    }
+
     public CypherQuery delete(Collection<Long> ids) {
         return new DefaultRowModelRequest("MATCH (n)-[r0]->() WHERE ID(r0) IN { ids } DELETE r0",
             Utils.map("ids", ids));
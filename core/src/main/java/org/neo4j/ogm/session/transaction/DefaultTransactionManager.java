@@ -31,6 +31,7 @@ public class DefaultTransactionManager implements TransactionManager {
 
     private final Driver driver;
     private final Session session;
+    private ReadWriteSplit readWriteSplit;
 
     private static final ThreadLocal<Transaction> TRANSACTION_THREAD_LOCAL = new ThreadLocal<>();
 
@@ -42,6 +43,13 @@ public class DefaultTransactionManager implements TransactionManager {
         TRANSACTION_THREAD_LOCAL.remove();
     }
 
+    /**
+     * @param readWriteSplit counts the types of the transactions opened by this manager
+     */
+    public void setReadWriteSplit(ReadWriteSplit readWriteSplit) {
+        this.readWriteSplit = readWriteSplit;
+    }
+
     /**
      * Opens a new TRANSACTION_THREAD_LOCAL against a database instance.
      * Instantiation of the TRANSACTION_THREAD_LOCAL is left to the driver
@@ -66,6 +74,9 @@ public class DefaultTransactionManager implements TransactionManager {
     public Transaction openTransaction(Transaction.Type type, Iterable<String> bookmarks) {
         if (TRANSACTION_THREAD_LOCAL.get() == null) {
             TRANSACTION_THREAD_LOCAL.set(driver.newTransaction(type, bookmarks));
+            if (readWriteSplit != null) {
+                readWriteSplit.record(type);
+            }
         } else {
             ((AbstractTransaction) TRANSACTION_THREAD_LOCAL.get()).extend(type);
         }
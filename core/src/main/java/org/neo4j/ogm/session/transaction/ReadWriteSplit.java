@@ -0,0 +1,58 @@
+/*
+ * Copyright (c) 2002-2018 "Neo Technology,"
+ * Network Engine for Objects in Lund AB [http://neotechnology.com]
+ *
+ * This product is licensed to you under the Apache License, Version 2.0 (the "License").
+ * You may not use this product except in compliance with the License.
+ *
+ * This product may include a number of subcomponents with
+ * separate copyright notices and license terms. Your use of the source
+ * code for these subcomponents is subject to the terms and
+ *  conditions of the subcomponent's license, as noted in the LICENSE file.
+ */
+package org.neo4j.ogm.session.transaction;
+
+import java.util.concurrent.atomic.LongAdder;
+
+import org.neo4j.ogm.transaction.Transaction;
+
+/**
+ * Counts the read only and read write transactions opened by the sessions of a session factory. In a causal cluster,
+ * read only transactions are routed to followers and read replicas, read write transactions to the leader.
+ */
+public class ReadWriteSplit {
+
+    private final LongAdder readOnly = new LongAdder();
+    private final LongAdder readWrite = new LongAdder();
+
+    void record(Transaction.Type type) {
+        if (type == Transaction.Type.READ_ONLY) {
+            readOnly.increment();
+        } else {
+            readWrite.increment();
+        }
+    }
+
+    /**
+     * @return number of read only transactions opened
+     */
+    public long readOnlyCount() {
+        return readOnly.sum();
+    }
+
+    /**
+     * @return number of read write transactions opened
+     */
+    public long readWriteCount() {
+        return readWrite.sum();
+    }
+
+    /**
+     * @return ratio of read only transactions to all transactions opened, 0 if none has been opened
+     */
+    public double readOnlyRatio() {
+        long readOnlyCount = readOnly.sum();
+        long total = readOnlyCount + readWrite.sum();
+        return total == 0 ? 0 : (double) readOnlyCount / total;
+    }
+}
@@ -13,9 +13,9 @@
 
 package org.neo4j.ogm.utils;
 
-import java.util.HashMap;
 import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * @author Vince Bickers
@@ -26,7 +26,7 @@ public abstract class ClassUtils {
 
     private static final String primitives = "char,byte,short,int,long,float,double,boolean";
 
-    private static Map<String, Class<?>> descriptorTypeMappings = new HashMap<>();
+    private static final Map<String, Class<?>> descriptorTypeMappings = new ConcurrentHashMap<>();
 
     /**
      * Return the reified class for the parameter of a parameterised setter or field from the parameter signature.
@@ -36,10 +36,13 @@ public abstract class ClassUtils {
      * @return reified class for the parameter or null
      */
     public static Class<?> getType(String descriptor) {
+        if (descriptor == null) {
+            return null;
+        }
         Class<?> clazz = descriptorTypeMappings.get(descriptor);
         // check for class loader here - it can change with tools like spring-devtools
         if (clazz != null && clazz.getClassLoader() == Thread.currentThread().getContextClassLoader()) {
-            return descriptorTypeMappings.get(descriptor);
+            return clazz;
         }
         Class<?> type;
         try {
@@ -48,7 +51,9 @@ public abstract class ClassUtils {
             //return null and swallow the exception
             return null;
         }
-        descriptorTypeMappings.put(descriptor, type);
+        if (type != null) {
+            descriptorTypeMappings.put(descriptor, type);
+        }
         return type;
     }
 
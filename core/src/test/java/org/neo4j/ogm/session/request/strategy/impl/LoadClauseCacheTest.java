@@ -0,0 +1,86 @@
+/*
+ * Copyright (c) 2002-2018 "Neo Technology,"
+ * Network Engine for Objects in Lund AB [http://neotechnology.com]
+ *
+ * This product is licensed to you under the Apache License, Version 2.0 (the "License").
+ * You may not use this product except in compliance with the License.
+ *
+ * This product may include a number of subcomponents with
+ * separate copyright notices and license terms. Your use of the source
+ * code for these subcomponents is subject to the terms and
+ *  conditions of the subcomponent's license, as noted in the LICENSE file.
+ */
+
+package org.neo4j.ogm.session.request.strategy.impl;
+
+import static org.assertj.core.api.Assertions.*;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.neo4j.ogm.metadata.DomainInfo;
+import org.neo4j.ogm.metadata.schema.DomainInfoSchemaBuilder;
+import org.neo4j.ogm.metadata.schema.Schema;
+import org.neo4j.ogm.session.request.strategy.LoadClauseBuilder;
+
+public class LoadClauseCacheTest {
+
+    private Schema schema;
+    private LoadClauseCache cache;
+
+    @Before
+    public void setUp() {
+        schema = new DomainInfoSchemaBuilder(DomainInfo.create("org.neo4j.ogm.metadata.schema.simple")).build();
+        cache = new LoadClauseCache();
+    }
+
+    @Test
+    public void shouldReturnSameClauseAsBuilder() {
+        LoadClauseBuilder builder = cache.cached(new SchemaNodeLoadClauseBuilder(schema));
+
+        assertThat(builder.build("n", "Person", 2))
+            .isEqualTo(new SchemaNodeLoadClauseBuilder(schema).build("n", "Person", 2));
+        assertThat(builder.build("n", "Person", 2))
+            .isEqualTo(new SchemaNodeLoadClauseBuilder(schema).build("n", "Person", 2));
+    }
+
+    @Test
+    public void shouldBuildClauseOnlyOnce() {
+        LoadClauseBuilder builder = cache.cached(new SchemaNodeLoadClauseBuilder(schema));
+
+        String first = builder.build("n", "Person", 2);
+        String second = cache.cached(new SchemaNodeLoadClauseBuilder(schema)).build("n", "Person", 2);
+
+        assertThat(second).isSameAs(first);
+        assertThat(cache.missCount()).isEqualTo(1);
+        assertThat(cache.hitCount()).isEqualTo(1);
+        assertThat(cache.hitRate()).isEqualTo(0.5);
+    }
+
+    @Test
+    public void shouldDistinguishDepthLabelAndBuilder() {
+        LoadClauseBuilder nodeBuilder = cache.cached(new SchemaNodeLoadClauseBuilder(schema));
+        LoadClauseBuilder pathBuilder = cache.cached(new PathNodeLoadClauseBuilder());
+
+        assertThat(nodeBuilder.build("n", "Person", 1)).isNotEqualTo(nodeBuilder.build("n", "Person", 2));
+        assertThat(nodeBuilder.build("n", "Person", 1)).isNotEqualTo(nodeBuilder.build("n", "Location", 1));
+        assertThat(pathBuilder.build("n", "Person", 1)).isNotEqualTo(nodeBuilder.build("n", "Person", 1));
+        assertThat(cache.size()).isEqualTo(4);
+    }
+
+    @Test
+    public void shouldKeepDefaultVariableOfBuilder() {
+        LoadClauseBuilder builder = cache.cached(new SchemaRelationshipLoadClauseBuilder(schema));
+
+        assertThat(builder.build("FOUNDED", 1))
+            .isEqualTo(new SchemaRelationshipLoadClauseBuilder(schema).build("FOUNDED", 1))
+            .startsWith(" RETURN r0");
+    }
+
+    @Test
+    public void shouldNotCacheInvalidDepth() {
+        LoadClauseBuilder builder = cache.cached(new SchemaRelationshipLoadClauseBuilder(schema));
+
+        assertThatThrownBy(() -> builder.build("r", "FRIEND_OF", 0)).isInstanceOf(IllegalArgumentException.class);
+        assertThat(cache.size()).isZero();
+    }
+}
@@ -19,6 +19,9 @@ import org.neo4j.ogm.response.model.DefaultGraphRowListModel;
 import org.neo4j.ogm.transaction.TransactionManager;
 
 /**
+ * Returns one row per call to {@link #next()}, so that rows are only read from the database's result as they are
+ * consumed.
+ *
  * @author vince
  */
 public class GraphRowModelResponse extends EmbeddedResponse<GraphRowListModel> {
@@ -35,10 +38,7 @@ public class GraphRowModelResponse extends EmbeddedResponse<GraphRowListModel> {
 
         if (result.hasNext()) {
             DefaultGraphRowListModel model = new DefaultGraphRowListModel();
-
-            while (result.hasNext()) {
-                model.add(adapter.adapt(result.next()));
-            }
+            model.add(adapter.adapt(result.next()));
             return model;
         }
         return null;
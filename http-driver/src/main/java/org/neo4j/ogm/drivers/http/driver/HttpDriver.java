@@ -61,6 +61,21 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 
 public final class HttpDriver extends AbstractConfigurableDriver {
 
+    /**
+     * Name of the custom configuration property that enables streaming of graph and row responses. When set to
+     * {@code true} records are parsed from the connection as they are read instead of after the whole response has
+     * been received, which bounds memory use for large results. Errors are then only reported after the records
+     * preceding them have been returned.
+     */
+    public static final String STREAMING_RESPONSES = "http.responses.streaming";
+
+    /**
+     * Name of the custom configuration property that enables gzip compression of request bodies. When set to
+     * {@code true} requests are sent with {@code Content-Encoding: gzip}, which the server or a proxy in front of it
+     * has to accept. This reduces the amount of data sent for large statements, such as batched saves.
+     */
+    public static final String COMPRESSED_REQUESTS = "http.requests.compression";
+
     private static final Logger LOGGER = LoggerFactory.getLogger(HttpDriver.class);
     private final ObjectMapper mapper = ObjectMapperFactory.objectMapper();
 
@@ -100,11 +115,9 @@ public final class HttpDriver extends AbstractConfigurableDriver {
     @Override
     public Request request() {
         Transaction tx = transactionManager.getCurrentTransaction();
-        if (tx == null) {
-            return new HttpRequest(httpClient(), requestUrl(), configuration.getCredentials());
-        } else {
-            return new HttpRequest(httpClient(), requestUrl(), configuration.getCredentials(), tx.isReadOnly());
-        }
+        boolean readOnly = tx != null && tx.isReadOnly();
+        return new HttpRequest(httpClient(), requestUrl(), configuration.getCredentials(), readOnly,
+            streamingResponses(), compressedRequests());
     }
 
     @Override
@@ -199,6 +212,16 @@ public final class HttpDriver extends AbstractConfigurableDriver {
         return false; // its read-write by default
     }
 
+    private boolean streamingResponses() {
+        Object streaming = configuration.getCustomProperties().get(STREAMING_RESPONSES);
+        return streaming != null && Boolean.parseBoolean(streaming.toString());
+    }
+
+    private boolean compressedRequests() {
+        Object compression = configuration.getCustomProperties().get(COMPRESSED_REQUESTS);
+        return compression != null && Boolean.parseBoolean(compression.toString());
+    }
+
     @Override
     public boolean requiresTransaction() {
         return false;
@@ -25,7 +25,6 @@ import org.apache.http.client.HttpResponseException;
 import org.apache.http.client.methods.CloseableHttpResponse;
 import org.apache.http.client.methods.HttpPost;
 import org.apache.http.client.methods.HttpRequestBase;
-import org.apache.http.entity.StringEntity;
 import org.apache.http.impl.client.CloseableHttpClient;
 import org.apache.http.message.BasicHeader;
 import org.apache.http.protocol.HTTP;
@@ -75,16 +74,39 @@ public class HttpRequest implements Request {
     private final CloseableHttpClient httpClient;
     private final Credentials credentials;
     private final boolean readOnly;
+    private final boolean streaming;
+    private final boolean compressRequests;
 
     public HttpRequest(CloseableHttpClient httpClient, String url, Credentials credentials) {
         this(httpClient, url, credentials, false);
     }
 
     public HttpRequest(CloseableHttpClient httpClient, String url, Credentials credentials, boolean readOnly) {
+        this(httpClient, url, credentials, readOnly, false);
+    }
+
+    /**
+     * @param streaming whether graph and row responses should be parsed from the connection as they are read,
+     *                  instead of being read completely up front
+     */
+    public HttpRequest(CloseableHttpClient httpClient, String url, Credentials credentials, boolean readOnly,
+        boolean streaming) {
+        this(httpClient, url, credentials, readOnly, streaming, false);
+    }
+
+    /**
+     * @param streaming        whether graph and row responses should be parsed from the connection as they are read,
+     *                         instead of being read completely up front
+     * @param compressRequests whether request bodies should be gzip compressed
+     */
+    public HttpRequest(CloseableHttpClient httpClient, String url, Credentials credentials, boolean readOnly,
+        boolean streaming, boolean compressRequests) {
         this.httpClient = httpClient;
         this.url = url;
         this.credentials = credentials;
         this.readOnly = readOnly;
+        this.streaming = streaming;
+        this.compressRequests = compressRequests;
     }
 
     @Override
@@ -92,8 +114,8 @@ public class HttpRequest implements Request {
         if (request.getStatement().length() == 0) {
             return new EmptyResponse();
         } else {
-            String cypher = cypherRequest(request);
-            return new GraphModelResponse(executeRequest(cypher));
+            Statements statements = cypherRequest(request);
+            return new GraphModelResponse(executeRequest(statements), streaming);
         }
     }
 
@@ -102,16 +124,15 @@ public class HttpRequest implements Request {
         if (request.getStatement().length() == 0) {
             return new EmptyResponse();
         } else {
-            String cypher = cypherRequest(request);
-            return new RowModelResponse(executeRequest(cypher));
+            Statements statements = cypherRequest(request);
+            return new RowModelResponse(executeRequest(statements), streaming);
         }
     }
 
     @Override
     public Response<RowModel> execute(DefaultRequest query) {
         Statements statements = new Statements(query.getStatements());
-        String cypher = cypherRequest(statements);
-        return new RowModelResponse(executeRequest(cypher));
+        return new RowModelResponse(executeRequest(statements), streaming);
     }
 
     @Override
@@ -119,8 +140,8 @@ public class HttpRequest implements Request {
         if (request.getStatement().length() == 0) {
             return new EmptyResponse();
         } else {
-            String cypher = cypherRequest(request);
-            return new GraphRowsModelResponse(executeRequest(cypher));
+            Statements statements = cypherRequest(request);
+            return new GraphRowsModelResponse(executeRequest(statements), streaming);
         }
     }
 
@@ -129,33 +150,21 @@ public class HttpRequest implements Request {
         if (request.getStatement().length() == 0) {
             return new EmptyResponse();
         } else {
-            String cypher = cypherRequest(request);
-            return new RestModelResponse(executeRequest(cypher));
+            Statements statements = cypherRequest(request);
+            return new RestModelResponse(executeRequest(statements));
         }
     }
 
-    // we use the OBJECT_MAPPER to create the request string from the statement.
+    // a StatementsEntity writes the statements as JSON directly to the request body.
     // this driver is the only one that needs to do this, because the request format
     // is different for each type of request - GraphModelRequest/RowModelRequest, etc
-    private String cypherRequest(Statement statement) {
+    private Statements cypherRequest(Statement statement) {
         List<Statement> statementList = new ArrayList<>();
         statementList.add(statement);
-        try {
-            return OBJECT_MAPPER.writeValueAsString(new Statements(statementList));
-        } catch (JsonProcessingException jpe) {
-            throw new ResultProcessingException("Could not create JSON due to " + jpe.getLocalizedMessage(), jpe);
-        }
+        return new Statements(statementList);
     }
 
-    private String cypherRequest(Statements statements) {
-        try {
-            return OBJECT_MAPPER.writeValueAsString(statements);
-        } catch (JsonProcessingException jpe) {
-            throw new ResultProcessingException("Could not create JSON due to " + jpe.getLocalizedMessage(), jpe);
-        }
-    }
-
-    private CloseableHttpResponse executeRequest(String cypher) throws HttpRequestException {
+    private CloseableHttpResponse executeRequest(Statements statements) throws HttpRequestException {
 
         String url = this.url;
 
@@ -163,16 +172,29 @@ public class HttpRequest implements Request {
 
         HttpPost request = new HttpPost(url);
 
-        request.setEntity(new StringEntity(cypher, "UTF-8"));
+        // the body is written to the connection as it is serialised, so it is never held in memory as a whole
+        request.setEntity(new StatementsEntity(statements, compressRequests));
         request.setHeader("X-WRITE", readOnly ? "0" : "1");
+        if (streaming) {
+            // ask the server to stream the results as well, instead of assembling the whole response first
+            request.setHeader("X-Stream", "true");
+        }
 
         if(LOGGER.isDebugEnabled()) {
-            LOGGER.debug("Thread: {}, url: {}, request: {}", Thread.currentThread().getId(), url, cypher);
+            LOGGER.debug("Thread: {}, url: {}, request: {}", Thread.currentThread().getId(), url, asString(statements));
         }
 
         return execute(httpClient, request, credentials);
     }
 
+    private static String asString(Statements statements) {
+        try {
+            return OBJECT_MAPPER.writeValueAsString(statements);
+        } catch (JsonProcessingException jpe) {
+            throw new ResultProcessingException("Could not create JSON due to " + jpe.getLocalizedMessage(), jpe);
+        }
+    }
+
     public static CloseableHttpResponse execute(CloseableHttpClient httpClient, HttpRequestBase request,
         Credentials credentials) throws HttpRequestException {
 
@@ -0,0 +1,138 @@
+/*
+ * Copyright (c) 2002-2018 "Neo Technology,"
+ * Network Engine for Objects in Lund AB [http://neotechnology.com]
+ *
+ * This product is licensed to you under the Apache License, Version 2.0 (the "License").
+ * You may not use this product except in compliance with the License.
+ *
+ * This product may include a number of subcomponents with
+ * separate copyright notices and license terms. Your use of the source
+ * code for these subcomponents is subject to the terms and
+ *  conditions of the subcomponent's license, as noted in the LICENSE file.
+ */
+
+package org.neo4j.ogm.drivers.http.request;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.zip.GZIPOutputStream;
+
+import org.apache.http.entity.AbstractHttpEntity;
+import org.apache.http.entity.ContentType;
+import org.neo4j.ogm.config.ObjectMapperFactory;
+import org.neo4j.ogm.exception.ResultProcessingException;
+import org.neo4j.ogm.request.Statements;
+
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * A request entity that writes {@link Statements} as JSON straight to the connection, instead of serialising them
+ * into a String first. The content length is not known up front, so the entity is sent with chunked transfer
+ * encoding. Optionally the body is gzip compressed, in which case the server (or a proxy in front of it) must accept
+ * {@code Content-Encoding: gzip} on requests.
+ * <p>
+ * The statements are serialised again each time the entity is written, which keeps the entity repeatable for
+ * retried requests.
+ */
+public class StatementsEntity extends AbstractHttpEntity {
+
+    private static final ObjectMapper OBJECT_MAPPER = ObjectMapperFactory.objectMapper();
+    private static final String GZIP = "gzip";
+
+    private final Statements statements;
+    private final boolean compressed;
+
+    public StatementsEntity(Statements statements) {
+        this(statements, false);
+    }
+
+    /**
+     * @param compressed whether the body should be gzip compressed
+     */
+    public StatementsEntity(Statements statements, boolean compressed) {
+        this.statements = statements;
+        this.compressed = compressed;
+        setContentType(ContentType.APPLICATION_JSON.toString());
+        setChunked(true);
+        if (compressed) {
+            setContentEncoding(GZIP);
+        }
+    }
+
+    public Statements getStatements() {
+        return statements;
+    }
+
+    @Override
+    public boolean isRepeatable() {
+        return true;
+    }
+
+    @Override
+    public long getContentLength() {
+        return -1;
+    }
+
+    @Override
+    public boolean isStreaming() {
+        return false;
+    }
+
+    /**
+     * Only used by clients that need the whole body up front; writing it to the connection with
+     * {@link #writeTo(OutputStream)} does not buffer it.
+     */
+    @Override
+    public InputStream getContent() throws IOException {
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+        writeTo(buffer);
+        return new ByteArrayInputStream(buffer.toByteArray());
+    }
+
+    @Override
+    public void writeTo(OutputStream outputStream) throws IOException {
+        if (compressed) {
+            GZIPOutputStream gzipOutputStream = new GZIPOutputStream(new NonClosingOutputStream(outputStream));
+            writeJson(gzipOutputStream);
+            gzipOutputStream.close();
+        } else {
+            writeJson(new NonClosingOutputStream(outputStream));
+        }
+    }
+
+    private void writeJson(OutputStream outputStream) throws IOException {
+        try (JsonGenerator generator = OBJECT_MAPPER.getFactory().createGenerator(outputStream, JsonEncoding.UTF8)) {
+            OBJECT_MAPPER.writeValue(generator, statements);
+        } catch (JsonProcessingException jpe) {
+            throw new ResultProcessingException("Could not create JSON due to " + jpe.getLocalizedMessage(), jpe);
+        }
+    }
+
+    /**
+     * Closing the generator or the gzip stream flushes and finishes them, but the connection's stream belongs to the
+     * http client and must stay open.
+     */
+    private static class NonClosingOutputStream extends FilterOutputStream {
+
+        NonClosingOutputStream(OutputStream out) {
+            super(out);
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            out.write(b, off, len);
+        }
+
+        @Override
+        public void close() throws IOException {
+            flush();
+        }
+    }
+}
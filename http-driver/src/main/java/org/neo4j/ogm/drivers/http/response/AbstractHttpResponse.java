@@ -29,81 +29,188 @@ import org.slf4j.LoggerFactory;
 
 import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonStreamContext;
 import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.util.TokenBuffer;
 
 /**
+ * Base class of the responses of the http driver.
+ * <p>
+ * By default the whole response is read and checked for errors up front, before the first record is returned.
+ * In streaming mode records are parsed from the connection as they are requested instead. Errors reported by the
+ * server follow the results, so they are detected once the last record has been read or when the response is
+ * closed, which reads the remainder of the response.
+ *
  * @author vince
  * @author Luanne Misquitta
  */
 public abstract class AbstractHttpResponse<T> {
 
     private final InputStream results;
-    private final JsonParser bufferParser;
+    private final JsonParser parser;
     private final ObjectMapper mapper = ObjectMapperFactory.objectMapper();
-    private final TokenBuffer buffer;
     private final Class<T> resultClass;
     private final CloseableHttpResponse httpResponse;
+    private final boolean streaming;
 
+    private TokenBuffer buffer;
     private String[] columns;
     private QueryStatistics queryStatistics;
     private JsonNode responseNode;
+    private boolean closed;
+    private boolean inData;
 
     private static final Logger LOGGER = LoggerFactory.getLogger(AbstractHttpResponse.class);
 
     public AbstractHttpResponse(CloseableHttpResponse httpResponse, Class<T> resultClass) {
+        this(httpResponse, resultClass, false);
+    }
+
+    public AbstractHttpResponse(CloseableHttpResponse httpResponse, Class<T> resultClass, boolean streaming) {
 
         this.resultClass = resultClass;
+        this.streaming = streaming;
         try {
             this.httpResponse = httpResponse;
             this.results = httpResponse.getEntity().getContent();
-            try (JsonParser parser = ObjectMapperFactory.jsonFactory().createParser(results)) {
-                buffer = new TokenBuffer(parser);
-                //Copy the contents of the response into the token buffer.
-                //This is so that we do not have to serialize the response to textual json while we get to the end of the stream to check for errors
-                parser.nextToken();
-                buffer.copyCurrentStructure(parser);
+            if (streaming) {
+                parser = ObjectMapperFactory.jsonFactory().createParser(results);
+            } else {
+                try (JsonParser parser = ObjectMapperFactory.jsonFactory().createParser(results)) {
+                    buffer = new TokenBuffer(parser);
+                    //Copy the contents of the response into the token buffer.
+                    //This is so that we do not have to serialize the response to textual json while we get to the end of the stream to check for errors
+                    parser.nextToken();
+                    buffer.copyCurrentStructure(parser);
+                }
+                parser = buffer.asParser();
             }
-            bufferParser = buffer.asParser();
         } catch (IOException ioException) {
+            release();
             throw new RuntimeException(ioException);
         } finally {
-            close(); //We are done with the InputStream
+            if (!streaming) {
+                release(); //We are done with the InputStream
+            }
+        }
+        if (!streaming) {
+            initialise();
         }
-        initialise();
     }
 
     private void initialise() {
         try {
             responseNode = mapper.readTree(buffer.asParser());
             LOGGER.debug("Response: {}", responseNode);
-            JsonNode errors = responseNode.findValue("errors");
-            if (errors.elements().hasNext()) {
-                JsonNode errorNode = errors.elements().next();
-                throw new CypherException("Error executing Cypher " + errorNode.findValue("code"),
-                    errorNode.findValue("code").asText(), errorNode.findValue("message").asText());
-            }
+            checkErrors(responseNode.findValue("errors"));
         } catch (IOException e) {
             throw new ResultProcessingException("Error processing results", e);
         }
     }
 
+    private void checkErrors(JsonNode errors) {
+        if (errors != null && errors.elements().hasNext()) {
+            JsonNode errorNode = errors.elements().next();
+            throw new CypherException("Error executing Cypher " + errorNode.findValue("code"),
+                errorNode.findValue("code").asText(), errorNode.findValue("message").asText());
+        }
+    }
+
     public T nextDataRecord(String key) {
-        JsonToken token;
         try {
-            while ((token = bufferParser.nextToken()) != null) {
-                if (JsonToken.FIELD_NAME.equals(token)) {
-                    if (key.equals(bufferParser.getCurrentName())) {
-                        return mapper.readValue(bufferParser, resultClass);
+            if (advanceTo(key)) {
+                return mapper.readValue(parser, resultClass);
+            }
+        } catch (IOException e) {
+            release();
+            throw new ResultProcessingException("Error processing results", e);
+        }
+        return null;
+    }
+
+    /**
+     * Reads the next element of the "data" arrays of the results as a whole. Used for records that consist of more
+     * than one field, such as both graph and row data, which {@link #nextDataRecord(String)} cannot read together.
+     *
+     * @param elementClass the type to read the element as
+     * @return the next element, or null if all elements have been read
+     */
+    public <E> E nextDataElement(Class<E> elementClass) {
+        try {
+            while (true) {
+                if (!inData) {
+                    if (!advanceTo("data")) {
+                        return null;
                     }
+                    parser.nextToken(); // the start of the array
+                    inData = true;
+                }
+                if (JsonToken.START_OBJECT.equals(parser.nextToken())) {
+                    return mapper.readValue(parser, elementClass);
                 }
+                inData = false;
             }
         } catch (IOException e) {
+            release();
             throw new ResultProcessingException("Error processing results", e);
         }
-        return null;
+    }
+
+    /**
+     * Moves the parser to the next field with the given name. In streaming mode the columns, statistics and errors
+     * passed on the way are recorded and the response is released once the end has been reached.
+     *
+     * @param key the name of the field to move to, null to read to the end of the response
+     * @return true if the parser is positioned on a field with the given name, false if the end has been reached
+     */
+    private boolean advanceTo(String key) throws IOException {
+        if (closed && streaming) {
+            return false;
+        }
+        JsonToken token;
+        while ((token = parser.nextToken()) != null) {
+            if (JsonToken.FIELD_NAME.equals(token)) {
+                String name = parser.getCurrentName();
+                if (name.equals(key)) {
+                    return true;
+                }
+                if (streaming) {
+                    readResponseField(name);
+                }
+            }
+        }
+        if (streaming) {
+            release();
+        }
+        return false;
+    }
+
+    private void readResponseField(String name) throws IOException {
+        JsonStreamContext context = parser.getParsingContext().getParent();
+        if (context.inRoot() && "errors".equals(name)) {
+            parser.nextToken();
+            JsonNode errors = mapper.readTree(parser);
+            LOGGER.debug("Errors: {}", errors);
+            if (errors.elements().hasNext()) {
+                release();
+                checkErrors(errors);
+            }
+        } else if (isResult(context) && "columns".equals(name) && columns == null) {
+            parser.nextToken();
+            columns = mapper.readValue(parser, String[].class);
+        } else if (isResult(context) && "stats".equals(name) && queryStatistics == null) {
+            parser.nextToken();
+            queryStatistics = mapper.readValue(parser, QueryStatisticsModel.class);
+        }
+    }
+
+    // the context is the top level "results" array, i.e. the field belongs to one of the results
+    private static boolean isResult(JsonStreamContext context) {
+        JsonStreamContext results = context.getParent();
+        return context.inArray() && results != null && "results".equals(results.getCurrentName())
+            && results.getParent() != null && results.getParent().inRoot();
     }
 
     /**
@@ -113,6 +220,21 @@ public abstract class AbstractHttpResponse<T> {
      * @return the first set of columns from a JSON response
      */
     public String[] columns() {
+        if (streaming) {
+            if (columns == null) {
+                try {
+                    // the columns of a result precede its data, so no record is skipped
+                    if (advanceTo("columns")) {
+                        parser.nextToken();
+                        columns = mapper.readValue(parser, String[].class);
+                    }
+                } catch (IOException e) {
+                    release();
+                    throw new ResultProcessingException("Error processing results", e);
+                }
+            }
+            return columns;
+        }
         if (columns == null) {
             List<String> columnsList = new ArrayList<>();
             List<JsonNode> columnsNodes = responseNode.findValues("columns");
@@ -129,12 +251,13 @@ public abstract class AbstractHttpResponse<T> {
     }
 
     /**
-     * Extract stats from the response if present
+     * Extract stats from the response if present. In streaming mode the stats of a result follow its data, so they
+     * are only available once all of its records have been read.
      *
      * @return queryStatistics or null if the response does not contain it
      */
     public QueryStatistics statistics() {
-        if (queryStatistics == null) {
+        if (queryStatistics == null && !streaming) {
             List<JsonNode> statsNodes = responseNode.findValues("stats");
             try {
                 if (statsNodes != null && statsNodes.size() > 0) {
@@ -147,9 +270,31 @@ public abstract class AbstractHttpResponse<T> {
         return queryStatistics;
     }
 
-    private void close() {
+    /**
+     * Closes this response. In streaming mode the remainder of the response is read first, so that errors reported
+     * by the server are not missed. In buffered mode the connection has already been released.
+     */
+    public void close() {
+        if (streaming && !closed) {
+            try {
+                advanceTo(null);
+            } catch (IOException e) {
+                release();
+                throw new ResultProcessingException("Error processing results", e);
+            }
+        }
+    }
+
+    private void release() {
+        if (closed) {
+            return;
+        }
+        closed = true;
         try {
             LOGGER.debug("Thread {}: Releasing HttpResponse", Thread.currentThread().getId());
+            if (streaming) {
+                parser.close();
+            }
             results.close();
             httpResponse.close();
         } catch (Exception e) {
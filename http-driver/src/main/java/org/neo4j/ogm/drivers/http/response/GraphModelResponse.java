@@ -28,6 +28,10 @@ public class GraphModelResponse extends AbstractHttpResponse<ResultGraphModel> i
         super(httpResponse, ResultGraphModel.class);
     }
 
+    public GraphModelResponse(CloseableHttpResponse httpResponse, boolean streaming) {
+        super(httpResponse, ResultGraphModel.class, streaming);
+    }
+
     @Override
     public GraphModel next() {
         ResultGraphModel graphModel = nextDataRecord("graph");
@@ -37,9 +41,4 @@ public class GraphModelResponse extends AbstractHttpResponse<ResultGraphModel> i
         }
         return null;
     }
-
-    @Override
-    public void close() {
-        // nothing to do here
-    }
 }
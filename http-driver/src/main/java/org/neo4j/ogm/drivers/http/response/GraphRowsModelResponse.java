@@ -18,6 +18,7 @@ import org.neo4j.ogm.model.GraphRowListModel;
 import org.neo4j.ogm.model.GraphRowModel;
 import org.neo4j.ogm.response.Response;
 import org.neo4j.ogm.response.model.DefaultGraphRowListModel;
+import org.neo4j.ogm.response.model.DefaultGraphRowModel;
 import org.neo4j.ogm.result.ResultGraphRowListModel;
 
 /**
@@ -27,12 +28,32 @@ import org.neo4j.ogm.result.ResultGraphRowListModel;
 public class GraphRowsModelResponse extends AbstractHttpResponse<ResultGraphRowListModel>
     implements Response<GraphRowListModel> {
 
+    private final boolean streaming;
+
     public GraphRowsModelResponse(CloseableHttpResponse httpResponse) {
-        super(httpResponse, ResultGraphRowListModel.class);
+        this(httpResponse, false);
+    }
+
+    /**
+     * @param streaming whether the rows should be read one at a time as they are requested. In that case each
+     *                  call to {@link #next()} returns a single row, otherwise all rows of a result are returned at once.
+     */
+    public GraphRowsModelResponse(CloseableHttpResponse httpResponse, boolean streaming) {
+        super(httpResponse, ResultGraphRowListModel.class, streaming);
+        this.streaming = streaming;
     }
 
     @Override
     public GraphRowListModel next() {
+        if (streaming) {
+            DefaultGraphRowModel row = nextDataElement(DefaultGraphRowModel.class);
+            if (row == null) {
+                return null;
+            }
+            DefaultGraphRowListModel graphRowListModel = new DefaultGraphRowListModel();
+            graphRowListModel.add(row);
+            return graphRowListModel;
+        }
         ResultGraphRowListModel graphRowModel = nextDataRecord("data");
 
         if (graphRowModel != null) {
@@ -44,9 +65,4 @@ public class GraphRowsModelResponse extends AbstractHttpResponse<ResultGraphRowL
         }
         return null;
     }
-
-    @Override
-    public void close() {
-        //Nothing to do, the response has been closed already
-    }
 }
@@ -29,6 +29,10 @@ public class RowModelResponse extends AbstractHttpResponse<ResultRowModel> imple
         super(httpResponse, ResultRowModel.class);
     }
 
+    public RowModelResponse(CloseableHttpResponse httpResponse, boolean streaming) {
+        super(httpResponse, ResultRowModel.class, streaming);
+    }
+
     @Override
     public RowModel next() {
         ResultRowModel rowModel = nextDataRecord("row");
@@ -38,9 +42,4 @@ public class RowModelResponse extends AbstractHttpResponse<ResultRowModel> imple
         }
         return null;
     }
-
-    @Override
-    public void close() {
-        //Nothing to do, the response has been closed already
-    }
 }
@@ -0,0 +1,111 @@
+/*
+ * Copyright (c) 2002-2018 "Neo Technology,"
+ * Network Engine for Objects in Lund AB [http://neotechnology.com]
+ *
+ * This product is licensed to you under the Apache License, Version 2.0 (the "License").
+ * You may not use this product except in compliance with the License.
+ *
+ * This product may include a number of subcomponents with
+ * separate copyright notices and license terms. Your use of the source
+ * code for these subcomponents is subject to the terms and
+ *  conditions of the subcomponent's license, as noted in the LICENSE file.
+ */
+
+package org.neo4j.ogm.drivers.http.request;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.zip.GZIPInputStream;
+
+import org.apache.commons.io.IOUtils;
+import org.junit.Test;
+import org.neo4j.ogm.config.ObjectMapperFactory;
+import org.neo4j.ogm.request.OptimisticLockingConfig;
+import org.neo4j.ogm.request.Statement;
+import org.neo4j.ogm.request.Statements;
+
+public class StatementsEntityTest {
+
+    private final Statements statements = new Statements(Collections.singletonList(new TestStatement()));
+
+    @Test
+    public void shouldWriteTheSameJsonAsTheObjectMapper() throws IOException {
+        StatementsEntity entity = new StatementsEntity(statements);
+
+        assertThat(entity.isChunked()).isTrue();
+        assertThat(entity.getContentLength()).isEqualTo(-1);
+        assertThat(entity.getContentEncoding()).isNull();
+        assertThat(write(entity)).isEqualTo(expectedJson().getBytes(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    public void shouldBeRepeatable() throws IOException {
+        StatementsEntity entity = new StatementsEntity(statements);
+
+        assertThat(entity.isRepeatable()).isTrue();
+        assertThat(write(entity)).isEqualTo(write(entity));
+        assertThat(IOUtils.toString(entity.getContent(), StandardCharsets.UTF_8)).isEqualTo(expectedJson());
+    }
+
+    @Test
+    public void shouldCompressTheBody() throws IOException {
+        StatementsEntity entity = new StatementsEntity(statements, true);
+
+        assertThat(entity.getContentEncoding().getValue()).isEqualTo("gzip");
+        GZIPInputStream body = new GZIPInputStream(new ByteArrayInputStream(write(entity)));
+        assertThat(IOUtils.toString(body, StandardCharsets.UTF_8)).isEqualTo(expectedJson());
+    }
+
+    private static byte[] write(StatementsEntity entity) throws IOException {
+        ByteArrayOutputStream connection = new ByteArrayOutputStream() {
+            @Override
+            public void close() {
+                throw new AssertionError("The connection must not be closed by the entity");
+            }
+        };
+        entity.writeTo(connection);
+        return connection.toByteArray();
+    }
+
+    private String expectedJson() throws IOException {
+        return ObjectMapperFactory.objectMapper().writeValueAsString(statements);
+    }
+
+    private static class TestStatement implements Statement {
+
+        @Override
+        public String getStatement() {
+            return "UNWIND {rows} AS row CREATE (n:Person) SET n.name = row.name RETURN ID(n)";
+        }
+
+        @Override
+        public Map<String, Object> getParameters() {
+            Map<String, Object> row = new HashMap<>();
+            row.put("name", "Jürgen \"Kloppo\" Klopp");
+            return Collections.singletonMap("rows", Collections.singletonList(row));
+        }
+
+        @Override
+        public String[] getResultDataContents() {
+            return new String[] { "row" };
+        }
+
+        @Override
+        public boolean isIncludeStats() {
+            return true;
+        }
+
+        @Override
+        public Optional<OptimisticLockingConfig> optimisticLockingConfig() {
+            return Optional.empty();
+        }
+    }
+}
@@ -0,0 +1,67 @@
+/*
+ * Copyright (c) 2002-2018 "Neo Technology,"
+ * Network Engine for Objects in Lund AB [http://neotechnology.com]
+ *
+ * This product is licensed to you under the Apache License, Version 2.0 (the "License").
+ * You may not use this product except in compliance with the License.
+ *
+ * This product may include a number of subcomponents with
+ * separate copyright notices and license terms. Your use of the source
+ * code for these subcomponents is subject to the terms and
+ *  conditions of the subcomponent's license, as noted in the LICENSE file.
+ */
+
+package org.neo4j.ogm.drivers.http.response;
+
+import static org.apache.http.HttpHeaders.*;
+import static org.apache.http.entity.ContentType.*;
+import static org.assertj.core.api.Assertions.*;
+
+import java.io.IOException;
+
+import org.apache.http.HttpStatus;
+import org.apache.http.client.methods.CloseableHttpResponse;
+import org.apache.http.client.methods.HttpPost;
+import org.junit.Test;
+import org.neo4j.ogm.model.GraphModel;
+
+import com.github.paweladamski.httpclientmock.HttpClientMock;
+
+public class GraphModelResponseTest {
+
+    private static final String URL = "http://localhost/db/data/transaction/commit";
+
+    private static final String HUB = "{\"id\":\"1\",\"labels\":[\"Hub\"],\"properties\":{\"name\":\"hub\"}}";
+
+    private static final String GRAPHS = ""
+        + "{\"results\":[{\"columns\":[\"p\"],\"data\":["
+        + "{\"graph\":{\"nodes\":[" + HUB + ",{\"id\":\"2\",\"labels\":[],\"properties\":{}}],"
+        + "\"relationships\":[{\"id\":\"10\",\"type\":\"LINKS\",\"startNode\":\"2\",\"endNode\":\"1\",\"properties\":{}}]}},"
+        + "{\"graph\":{\"nodes\":[" + HUB + ",{\"id\":\"3\",\"labels\":[],\"properties\":{}}],"
+        + "\"relationships\":[{\"id\":\"10\",\"type\":\"LINKS\",\"startNode\":\"2\",\"endNode\":\"1\",\"properties\":{}}]}}"
+        + "]}],\"errors\":[]}";
+
+    @Test
+    public void shouldReadCompleteGraphOfEveryRecord() throws IOException {
+        GraphModelResponse response = new GraphModelResponse(respondWith(GRAPHS), true);
+
+        GraphModel first = response.next();
+        GraphModel second = response.next();
+
+        assertThat(first.getNodes()).extracting("id").containsExactly(1L, 2L);
+        assertThat(second.getNodes()).extracting("id").containsExactly(1L, 3L);
+        assertThat(first.getRelationships()).extracting("id").containsExactly(10L);
+        assertThat(second.getRelationships()).extracting("id").containsExactly(10L);
+        assertThat(response.next()).isNull();
+        response.close();
+    }
+
+    private static CloseableHttpResponse respondWith(String json) throws IOException {
+        HttpClientMock httpClientMock = new HttpClientMock();
+        httpClientMock.onPost(URL)
+            .doReturn(json)
+            .withStatus(HttpStatus.SC_OK)
+            .withHeader(CONTENT_TYPE, APPLICATION_JSON.getMimeType());
+        return httpClientMock.execute(new HttpPost(URL));
+    }
+}
@@ -0,0 +1,77 @@
+/*
+ * Copyright (c) 2002-2018 "Neo Technology,"
+ * Network Engine for Objects in Lund AB [http://neotechnology.com]
+ *
+ * This product is licensed to you under the Apache License, Version 2.0 (the "License").
+ * You may not use this product except in compliance with the License.
+ *
+ * This product may include a number of subcomponents with
+ * separate copyright notices and license terms. Your use of the source
+ * code for these subcomponents is subject to the terms and
+ *  conditions of the subcomponent's license, as noted in the LICENSE file.
+ */
+
+package org.neo4j.ogm.drivers.http.response;
+
+import static org.apache.http.HttpHeaders.*;
+import static org.apache.http.entity.ContentType.*;
+import static org.assertj.core.api.Assertions.*;
+
+import java.io.IOException;
+
+import org.apache.http.HttpStatus;
+import org.apache.http.client.methods.CloseableHttpResponse;
+import org.apache.http.client.methods.HttpPost;
+import org.junit.Test;
+import org.neo4j.ogm.model.GraphRowListModel;
+import org.neo4j.ogm.model.GraphRowModel;
+
+import com.github.paweladamski.httpclientmock.HttpClientMock;
+
+public class GraphRowsModelResponseTest {
+
+    private static final String URL = "http://localhost/db/data/transaction/commit";
+
+    private static final String GRAPH_ROWS = ""
+        + "{\"results\":[{\"columns\":[\"n\",\"ID(n)\"],\"data\":["
+        + "{\"row\":[{\"name\":\"Jeff\"},1],\"meta\":[null,null],\"graph\":{\"nodes\":["
+        + "{\"id\":\"1\",\"labels\":[\"Person\"],\"properties\":{\"name\":\"Jeff\"}}],\"relationships\":[]}},"
+        + "{\"row\":[{\"name\":\"Jane\"},2],\"meta\":[null,null],\"graph\":{\"nodes\":["
+        + "{\"id\":\"2\",\"labels\":[\"Person\"],\"properties\":{\"name\":\"Jane\"}}],\"relationships\":[]}}"
+        + "]}],\"errors\":[]}";
+
+    @Test
+    public void shouldStreamOneRowAtATime() throws IOException {
+        GraphRowsModelResponse response = new GraphRowsModelResponse(respondWith(GRAPH_ROWS), true);
+
+        assertThat(response.columns()).containsExactly("n", "ID(n)");
+        assertRow(response.next(), 1L);
+        assertRow(response.next(), 2L);
+        assertThat(response.next()).isNull();
+        response.close();
+    }
+
+    @Test
+    public void shouldReturnAllRowsAtOnceWhenNotStreaming() throws IOException {
+        GraphRowsModelResponse response = new GraphRowsModelResponse(respondWith(GRAPH_ROWS));
+
+        assertThat(response.next().model()).hasSize(2);
+        assertThat(response.next()).isNull();
+    }
+
+    private static void assertRow(GraphRowListModel model, long id) {
+        assertThat(model.model()).hasSize(1);
+        GraphRowModel row = model.model().get(0);
+        assertThat(row.getRow()[1]).isEqualTo(id);
+        assertThat(row.getGraph().getNodes()).extracting("id").containsExactly(id);
+    }
+
+    private static CloseableHttpResponse respondWith(String json) throws IOException {
+        HttpClientMock httpClientMock = new HttpClientMock();
+        httpClientMock.onPost(URL)
+            .doReturn(json)
+            .withStatus(HttpStatus.SC_OK)
+            .withHeader(CONTENT_TYPE, APPLICATION_JSON.getMimeType());
+        return httpClientMock.execute(new HttpPost(URL));
+    }
+}
@@ -0,0 +1,95 @@
+/*
+ * Copyright (c) 2002-2018 "Neo Technology,"
+ * Network Engine for Objects in Lund AB [http://neotechnology.com]
+ *
+ * This product is licensed to you under the Apache License, Version 2.0 (the "License").
+ * You may not use this product except in compliance with the License.
+ *
+ * This product may include a number of subcomponents with
+ * separate copyright notices and license terms. Your use of the source
+ * code for these subcomponents is subject to the terms and
+ *  conditions of the subcomponent's license, as noted in the LICENSE file.
+ */
+
+package org.neo4j.ogm.drivers.http.response;
+
+import static org.apache.http.HttpHeaders.*;
+import static org.apache.http.entity.ContentType.*;
+import static org.assertj.core.api.Assertions.*;
+
+import java.io.IOException;
+
+import org.apache.http.HttpStatus;
+import org.apache.http.client.methods.CloseableHttpResponse;
+import org.apache.http.client.methods.HttpPost;
+import org.junit.Test;
+import org.neo4j.ogm.exception.CypherException;
+import org.neo4j.ogm.model.RowModel;
+
+import com.github.paweladamski.httpclientmock.HttpClientMock;
+
+public class RowModelResponseTest {
+
+    private static final String URL = "http://localhost/db/data/transaction/commit";
+
+    private static final String ROWS = ""
+        + "{\"results\":[{\"columns\":[\"name\",\"age\"],\"data\":["
+        + "{\"row\":[\"Jeff\",41],\"meta\":[null,null]},"
+        + "{\"row\":[\"Jane\",30],\"meta\":[null,null]}"
+        + "],\"stats\":{\"contains_updates\":false,\"nodes_created\":0}}],"
+        + "\"errors\":[%s]}";
+
+    private static final String ERROR = "{\"code\":\"Neo.ClientError.Statement.ArithmeticError\",\"message\":\"/ by zero\"}";
+
+    @Test
+    public void shouldStreamRows() throws IOException {
+        RowModelResponse response = new RowModelResponse(respondWith(String.format(ROWS, "")), true);
+
+        assertThat(response.columns()).containsExactly("name", "age");
+        RowModel first = response.next();
+        assertThat(first.getValues()).containsExactly("Jeff", 41L);
+        assertThat(response.next().getValues()).containsExactly("Jane", 30L);
+        assertThat(response.next()).isNull();
+        assertThat(response.statistics().containsUpdates()).isFalse();
+        response.close();
+    }
+
+    @Test
+    public void shouldReportTrailingErrorsAfterTheLastRow() throws IOException {
+        RowModelResponse response = new RowModelResponse(respondWith(String.format(ROWS, ERROR)), true);
+
+        assertThat(response.next().getValues()).containsExactly("Jeff", 41L);
+        assertThat(response.next().getValues()).containsExactly("Jane", 30L);
+        assertThatExceptionOfType(CypherException.class)
+            .isThrownBy(response::next)
+            .withMessageContaining("Neo.ClientError.Statement.ArithmeticError");
+    }
+
+    @Test
+    public void shouldReportTrailingErrorsWhenClosedEarly() throws IOException {
+        RowModelResponse response = new RowModelResponse(respondWith(String.format(ROWS, ERROR)), true);
+
+        assertThat(response.next().getValues()).containsExactly("Jeff", 41L);
+        assertThatExceptionOfType(CypherException.class)
+            .isThrownBy(response::close)
+            .withMessageContaining("Neo.ClientError.Statement.ArithmeticError");
+    }
+
+    @Test
+    public void shouldReportErrorsUpFrontWhenNotStreaming() throws IOException {
+        CloseableHttpResponse httpResponse = respondWith(String.format(ROWS, ERROR));
+
+        assertThatExceptionOfType(CypherException.class)
+            .isThrownBy(() -> new RowModelResponse(httpResponse))
+            .withMessageContaining("Neo.ClientError.Statement.ArithmeticError");
+    }
+
+    private static CloseableHttpResponse respondWith(String json) throws IOException {
+        HttpClientMock httpClientMock = new HttpClientMock();
+        httpClientMock.onPost(URL)
+            .doReturn(json)
+            .withStatus(HttpStatus.SC_OK)
+            .withHeader(CONTENT_TYPE, APPLICATION_JSON.getMimeType());
+        return httpClientMock.execute(new HttpPost(URL));
+    }
+}
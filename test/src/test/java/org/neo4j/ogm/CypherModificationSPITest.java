@@ -21,11 +21,14 @@ import java.util.Arrays;
 import java.util.Collections;
 import java.util.Enumeration;
 import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Function;
+import java.util.stream.Collectors;
 
 import org.junit.Test;
 import org.neo4j.ogm.config.Configuration;
 import org.neo4j.ogm.driver.AbstractConfigurableDriver;
+import org.neo4j.ogm.driver.CachingCypherModification;
 import org.neo4j.ogm.driver.Driver;
 import org.neo4j.ogm.request.Request;
 import org.neo4j.ogm.spi.CypherModificationProvider;
@@ -41,7 +44,8 @@ public class CypherModificationSPITest {
         Thread currentThread = Thread.currentThread();
 
         ClassLoader originalClassLoader = currentThread.getContextClassLoader();
-        currentThread.setContextClassLoader(new TestServiceLoaderClassLoader(originalClassLoader));
+        currentThread.setContextClassLoader(new TestServiceLoaderClassLoader(originalClassLoader,
+            "spi/cypher_modification1", "spi/cypher_modification2"));
 
         Configuration driverConfiguration = new Configuration.Builder()
             .withCustomProperty("config1", 6)
@@ -60,6 +64,35 @@ public class CypherModificationSPITest {
         }
     }
 
+    @Test
+    public void driverShouldCacheDeterministicModifications() {
+
+        Driver driver = configuredDriverWith("spi/cypher_modification1", "spi/cypher_modification2");
+
+        Function<String, String> cypherModification = driver.getCypherModification();
+        assertThat(cypherModification).isInstanceOf(CachingCypherModification.class);
+        assertThat(cypherModification.apply("MATCH (n) RETURN n")).isEqualTo("42");
+        assertThat(cypherModification.apply("MATCH (n) RETURN n")).isEqualTo("42");
+        assertThat(cypherModification.apply("MATCH (m) RETURN m")).isEqualTo("42");
+
+        CachingCypherModification cache = (CachingCypherModification) cypherModification;
+        assertThat(cache.size()).isEqualTo(2);
+        assertThat(cache.hitCount()).isEqualTo(1);
+        assertThat(cache.missCount()).isEqualTo(2);
+        assertThat(cache.hitRate()).isEqualTo(1.0 / 3);
+    }
+
+    @Test
+    public void driverShouldNotCacheNonDeterministicModifications() {
+
+        Driver driver = configuredDriverWith("spi/cypher_modification1", "spi/cypher_modification3");
+
+        Function<String, String> cypherModification = driver.getCypherModification();
+        assertThat(cypherModification).isNotInstanceOf(CachingCypherModification.class);
+        assertThat(cypherModification.apply("MATCH (n) RETURN n")).isEqualTo("MATCH (n) RETURN n // 1");
+        assertThat(cypherModification.apply("MATCH (n) RETURN n")).isEqualTo("MATCH (n) RETURN n // 2");
+    }
+
     @Test
     public void driverShouldProvideNoopModificationWithoutAnyProvider() {
 
@@ -81,6 +114,27 @@ public class CypherModificationSPITest {
             .withNoCause();
     }
 
+    private static Driver configuredDriverWith(String... providerResources) {
+
+        Thread currentThread = Thread.currentThread();
+
+        ClassLoader originalClassLoader = currentThread.getContextClassLoader();
+        currentThread.setContextClassLoader(new TestServiceLoaderClassLoader(originalClassLoader, providerResources));
+
+        Driver driver = new TestDriver();
+        driver.configure(new Configuration.Builder()
+            .withCustomProperty("config1", 6)
+            .withCustomProperty("config2", 9)
+            .build());
+        try {
+            // providers are loaded on first access
+            driver.getCypherModification();
+        } finally {
+            currentThread.setContextClassLoader(originalClassLoader);
+        }
+        return driver;
+    }
+
     // The providers need to be public, don't change that.
 
     public static class CypherModificationProvider1 implements CypherModificationProvider {
@@ -90,6 +144,11 @@ public class CypherModificationSPITest {
             return 20;
         }
 
+        @Override
+        public boolean isDeterministic() {
+            return true;
+        }
+
         @Override
         public Function<String, String> getCypherModification(Map<String, Object> configuration) {
             Integer value1 = (Integer) configuration.get("config1");
@@ -105,12 +164,32 @@ public class CypherModificationSPITest {
             return 10;
         }
 
+        @Override
+        public boolean isDeterministic() {
+            return true;
+        }
+
         @Override
         public Function<String, String> getCypherModification(Map<String, Object> configuration) {
             return originalCypher -> "theAnswer";
         }
     }
 
+    // Doesn't opt in to caching.
+    public static class NonDeterministicCypherModificationProvider implements CypherModificationProvider {
+
+        @Override
+        public int getOrder() {
+            return 30;
+        }
+
+        @Override
+        public Function<String, String> getCypherModification(Map<String, Object> configuration) {
+            AtomicInteger calls = new AtomicInteger();
+            return cypher -> cypher + " // " + calls.incrementAndGet();
+        }
+    }
+
     private static class TestDriver extends AbstractConfigurableDriver {
         // Not interested in any of those.
         @Override
@@ -128,17 +207,20 @@ public class CypherModificationSPITest {
     }
 
     private static class TestServiceLoaderClassLoader extends ClassLoader {
-        public TestServiceLoaderClassLoader(ClassLoader originalClassLoader) {
+        private final String[] providerResources;
+
+        public TestServiceLoaderClassLoader(ClassLoader originalClassLoader, String... providerResources) {
             super(originalClassLoader);
+            this.providerResources = providerResources;
         }
 
         @Override
         public Enumeration<URL> getResources(String name) throws IOException {
             // Don't think too long about that approach to push stuff into Javas SPI.
             if ("META-INF/services/org.neo4j.ogm.spi.CypherModificationProvider".equals(name)) {
-                return Collections.enumeration(Arrays.asList(
-                    super.getResource("spi/cypher_modification1"),
-                    super.getResource("spi/cypher_modification2")));
+                return Collections.enumeration(Arrays.stream(providerResources)
+                    .map(super::getResource)
+                    .collect(Collectors.toList()));
             } else {
                 return super.getResources(name);
             }
@@ -0,0 +1,85 @@
+/*
+ * Copyright (c) 2002-2018 "Neo Technology,"
+ * Network Engine for Objects in Lund AB [http://neotechnology.com]
+ *
+ * This product is licensed to you under the Apache License, Version 2.0 (the "License").
+ * You may not use this product except in compliance with the License.
+ *
+ * This product may include a number of subcomponents with
+ * separate copyright notices and license terms. Your use of the source
+ * code for these subcomponents is subject to the terms and
+ *  conditions of the subcomponent's license, as noted in the LICENSE file.
+ */
+
+package org.neo4j.ogm.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.neo4j.ogm.benchmark.domain.Reading;
+import org.neo4j.ogm.context.MappingContext;
+import org.neo4j.ogm.metadata.MetaData;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Measures dirty checking of a session full of wide node entities, as done for every entity on save.
+ * Run with {@code -prof gc} to see the allocation rate per check.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DirtyCheckingBenchmark {
+
+    private static final int ENTITIES = 1000;
+
+    private MappingContext mappingContext;
+    private Reading[] readings;
+
+    @Setup
+    public void setUp() {
+        mappingContext = new MappingContext(new MetaData("org.neo4j.ogm.benchmark.domain"));
+        readings = new Reading[ENTITIES];
+        for (int i = 0; i < ENTITIES; i++) {
+            Reading reading = new Reading("sensor-" + (i % 10), 1_500_000_000_000L + i, i / 10.0);
+            reading.setId((long) i);
+            reading.setUnit("celsius");
+            reading.setSequence(i);
+            reading.setValid(i % 2 == 0);
+            reading.setMin(-40.0);
+            reading.setMax(85.0);
+            reading.setTags(new String[] { "indoor", "floor-" + (i % 3) });
+            reading.setSamples(new int[] { i, i + 1, i + 2, i + 3 });
+            mappingContext.addNodeEntity(reading);
+            readings[i] = reading;
+        }
+    }
+
+    @Benchmark
+    public int isDirty() {
+        int dirty = 0;
+        for (Reading reading : readings) {
+            if (mappingContext.isDirty(reading)) {
+                dirty++;
+            }
+        }
+        return dirty;
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder().include(DirtyCheckingBenchmark.class.getSimpleName()).build()).run();
+    }
+}
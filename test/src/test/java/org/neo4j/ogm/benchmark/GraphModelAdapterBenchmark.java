@@ -0,0 +1,111 @@
+/*
+ * Copyright (c) 2002-2018 "Neo Technology,"
+ * Network Engine for Objects in Lund AB [http://neotechnology.com]
+ *
+ * This product is licensed to you under the Apache License, Version 2.0 (the "License").
+ * You may not use this product except in compliance with the License.
+ *
+ * This product may include a number of subcomponents with
+ * separate copyright notices and license terms. Your use of the source
+ * code for these subcomponents is subject to the terms and
+ *  conditions of the subcomponent's license, as noted in the LICENSE file.
+ */
+
+package org.neo4j.ogm.benchmark;
+
+import static java.util.Collections.*;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.neo4j.driver.internal.InternalNode;
+import org.neo4j.driver.internal.InternalRelationship;
+import org.neo4j.driver.v1.Value;
+import org.neo4j.driver.v1.Values;
+import org.neo4j.ogm.drivers.bolt.response.BoltGraphModelAdapter;
+import org.neo4j.ogm.model.GraphModel;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Measures the cost of adapting a hub-heavy bolt result, where every record holds the same hub node and the same
+ * relationships to its tags next to a node of its own, either with one adapter for all records of the response or,
+ * as before, without sharing anything between records.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class GraphModelAdapterBenchmark {
+
+    private static final int RECORDS = 10_000;
+    private static final int TAGS = 10;
+
+    @Param({ "RECORD", "RESPONSE" })
+    public String adapterScope;
+
+    private List<Map<String, Object>> records;
+
+    @Setup
+    public void setUp() {
+        Map<String, Value> hubProperties = new HashMap<>();
+        for (int i = 0; i < 20; i++) {
+            hubProperties.put("property" + i, Values.value(new long[] { i, i + 1, i + 2 }));
+        }
+        InternalNode hub = new InternalNode(0L, singletonList("Hub"), hubProperties);
+
+        List<Object> tags = new ArrayList<>();
+        for (int i = 1; i <= TAGS; i++) {
+            tags.add(new InternalNode(i, singletonList("Tag"),
+                singletonMap("name", Values.value("tag" + i))));
+            tags.add(new InternalRelationship(i, 0L, i, "TAGGED"));
+        }
+
+        records = new ArrayList<>(RECORDS);
+        for (int i = 0; i < RECORDS; i++) {
+            long id = 1_000 + i;
+            Map<String, Object> record = new HashMap<>();
+            record.put("hub", hub);
+            record.put("tags", tags);
+            record.put("n", new InternalNode(id, singletonList("Member"),
+                singletonMap("name", Values.value("member" + i))));
+            record.put("r", new InternalRelationship(id, id, 0L, "MEMBER_OF"));
+            records.add(record);
+        }
+    }
+
+    @Benchmark
+    public List<GraphModel> adapt() {
+        List<GraphModel> graphModels = new ArrayList<>(RECORDS);
+        BoltGraphModelAdapter adapter = new BoltGraphModelAdapter();
+        boolean perRecord = "RECORD".equals(adapterScope);
+        for (Map<String, Object> record : records) {
+            if (perRecord) {
+                adapter = new BoltGraphModelAdapter();
+            }
+            graphModels.add(adapter.adapt(record));
+        }
+        return graphModels;
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder().include(GraphModelAdapterBenchmark.class.getSimpleName()).build()).run();
+    }
+}
@@ -0,0 +1,116 @@
+/*
+ * Copyright (c) 2002-2018 "Neo Technology,"
+ * Network Engine for Objects in Lund AB [http://neotechnology.com]
+ *
+ * This product is licensed to you under the Apache License, Version 2.0 (the "License").
+ * You may not use this product except in compliance with the License.
+ *
+ * This product may include a number of subcomponents with
+ * separate copyright notices and license terms. Your use of the source
+ * code for these subcomponents is subject to the terms and
+ *  conditions of the subcomponent's license, as noted in the LICENSE file.
+ */
+
+package org.neo4j.ogm.benchmark;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.http.entity.StringEntity;
+import org.neo4j.ogm.config.ObjectMapperFactory;
+import org.neo4j.ogm.drivers.http.request.StatementsEntity;
+import org.neo4j.ogm.request.Statements;
+import org.neo4j.ogm.session.request.RowDataStatement;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Compares writing the body of a large http request, an UNWIND save of {@link #rows} rows, from a JSON String and
+ * directly from the statements. Run with {@code -prof gc} to compare the memory allocated per request; the String
+ * based body holds the whole payload in memory twice before the first byte is sent.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class HttpRequestBenchmark {
+
+    private static final ObjectMapper OBJECT_MAPPER = ObjectMapperFactory.objectMapper();
+
+    @Param({ "100000" })
+    public int rows;
+
+    private Statements statements;
+    private OutputStream connection;
+
+    @Setup
+    public void setUp(Blackhole blackhole) {
+        List<Map<String, Object>> rowList = new ArrayList<>(rows);
+        for (int i = 0; i < rows; i++) {
+            Map<String, Object> properties = new HashMap<>();
+            properties.put("name", "person" + i);
+            properties.put("age", i % 100);
+            Map<String, Object> row = new HashMap<>();
+            row.put("nodeRef", -i);
+            row.put("type", "Person");
+            row.put("props", properties);
+            rowList.add(row);
+        }
+        statements = new Statements(Collections.singletonList(new RowDataStatement(
+            "UNWIND {rows} as row CREATE (n:`Person`) SET n=row.props RETURN row.nodeRef as ref, ID(n) as id, {type} as type",
+            Collections.singletonMap("rows", rowList))));
+        connection = new OutputStream() {
+            @Override
+            public void write(int b) {
+                blackhole.consume(b);
+            }
+
+            @Override
+            public void write(byte[] b, int off, int len) {
+                blackhole.consume(b);
+            }
+        };
+    }
+
+    @Benchmark
+    public void stringBody() throws IOException {
+        new StringEntity(OBJECT_MAPPER.writeValueAsString(statements), "UTF-8").writeTo(connection);
+    }
+
+    @Benchmark
+    public void streamedBody() throws IOException {
+        new StatementsEntity(statements).writeTo(connection);
+    }
+
+    @Benchmark
+    public void streamedCompressedBody() throws IOException {
+        new StatementsEntity(statements, true).writeTo(connection);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder().include(HttpRequestBenchmark.class.getSimpleName()).build()).run();
+    }
+}
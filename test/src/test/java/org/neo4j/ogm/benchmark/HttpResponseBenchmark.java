@@ -0,0 +1,113 @@
+/*
+ * Copyright (c) 2002-2018 "Neo Technology,"
+ * Network Engine for Objects in Lund AB [http://neotechnology.com]
+ *
+ * This product is licensed to you under the Apache License, Version 2.0 (the "License").
+ * You may not use this product except in compliance with the License.
+ *
+ * This product may include a number of subcomponents with
+ * separate copyright notices and license terms. Your use of the source
+ * code for these subcomponents is subject to the terms and
+ *  conditions of the subcomponent's license, as noted in the LICENSE file.
+ */
+
+package org.neo4j.ogm.benchmark;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.http.HttpVersion;
+import org.apache.http.client.methods.CloseableHttpResponse;
+import org.apache.http.entity.ByteArrayEntity;
+import org.apache.http.entity.ContentType;
+import org.apache.http.message.BasicHttpResponse;
+import org.neo4j.ogm.drivers.http.response.RowModelResponse;
+import org.neo4j.ogm.model.RowModel;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Compares buffered and streaming parsing of a large http row response: the time until the first row is available
+ * and the time to read all rows. Run with {@code -prof gc} to compare the memory allocated per response; the buffered
+ * mode holds the whole response in memory twice before returning the first row.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class HttpResponseBenchmark {
+
+    @Param({ "100000" })
+    public int rows;
+
+    @Param({ "false", "true" })
+    public boolean streaming;
+
+    private byte[] body;
+
+    @Setup
+    public void setUp() {
+        StringBuilder json = new StringBuilder("{\"results\":[{\"columns\":[\"id\",\"name\",\"tags\"],\"data\":[");
+        for (int i = 0; i < rows; i++) {
+            if (i > 0) {
+                json.append(',');
+            }
+            json.append("{\"row\":[").append(i).append(",\"name-").append(i)
+                .append("\",[\"a\",\"b\",\"c\"]],\"meta\":[null,null,null]}");
+        }
+        json.append("]}],\"errors\":[]}");
+        body = json.toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Benchmark
+    public RowModel firstRow() {
+        RowModelResponse response = new RowModelResponse(httpResponse(), streaming);
+        return response.next();
+    }
+
+    @Benchmark
+    public int allRows() {
+        RowModelResponse response = new RowModelResponse(httpResponse(), streaming);
+        int count = 0;
+        while (response.next() != null) {
+            count++;
+        }
+        response.close();
+        return count;
+    }
+
+    private CloseableHttpResponse httpResponse() {
+        InMemoryHttpResponse response = new InMemoryHttpResponse();
+        response.setEntity(new ByteArrayEntity(body, ContentType.APPLICATION_JSON));
+        return response;
+    }
+
+    private static class InMemoryHttpResponse extends BasicHttpResponse implements CloseableHttpResponse {
+
+        InMemoryHttpResponse() {
+            super(HttpVersion.HTTP_1_1, 200, "OK");
+        }
+
+        @Override
+        public void close() {
+        }
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder().include(HttpResponseBenchmark.class.getSimpleName()).build()).run();
+    }
+}
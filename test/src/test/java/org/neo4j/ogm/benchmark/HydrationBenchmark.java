@@ -0,0 +1,106 @@
+/*
+ * Copyright (c) 2002-2018 "Neo Technology,"
+ * Network Engine for Objects in Lund AB [http://neotechnology.com]
+ *
+ * This product is licensed to you under the Apache License, Version 2.0 (the "License").
+ * You may not use this product except in compliance with the License.
+ *
+ * This product may include a number of subcomponents with
+ * separate copyright notices and license terms. Your use of the source
+ * code for these subcomponents is subject to the terms and
+ *  conditions of the subcomponent's license, as noted in the LICENSE file.
+ */
+
+package org.neo4j.ogm.benchmark;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.neo4j.ogm.benchmark.domain.Reading;
+import org.neo4j.ogm.context.GraphEntityMapper;
+import org.neo4j.ogm.context.MappingContext;
+import org.neo4j.ogm.metadata.MetaData;
+import org.neo4j.ogm.metadata.reflect.FieldAccessorFactory;
+import org.neo4j.ogm.metadata.reflect.ReflectionEntityInstantiator;
+import org.neo4j.ogm.response.model.DefaultGraphModel;
+import org.neo4j.ogm.response.model.NodeModel;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Measures the throughput of hydrating node entities from a graph model with the different
+ * {@link FieldAccessorFactory field access strategies}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class HydrationBenchmark {
+
+    private static final int NODES = 1000;
+
+    @Param({ "REFLECTION", "METHOD_HANDLES" })
+    public String fieldAccess;
+
+    private MetaData metaData;
+    private ReflectionEntityInstantiator entityInstantiator;
+    private DefaultGraphModel graphModel;
+
+    @Setup
+    public void setUp() throws ReflectiveOperationException {
+        metaData = new MetaData("org.neo4j.ogm.benchmark.domain");
+        metaData.setFieldAccessorFactory(
+            (FieldAccessorFactory) FieldAccessorFactory.class.getField(fieldAccess).get(null));
+        entityInstantiator = new ReflectionEntityInstantiator(metaData);
+
+        NodeModel[] nodes = new NodeModel[NODES];
+        for (int i = 0; i < NODES; i++) {
+            Map<String, Object> properties = new HashMap<>();
+            properties.put("sensor", "sensor-" + (i % 10));
+            properties.put("unit", "celsius");
+            properties.put("timestamp", 1_500_000_000_000L + i);
+            properties.put("sequence", (long) i);
+            properties.put("value", i / 10.0);
+            properties.put("valid", i % 2 == 0);
+            properties.put("min", -40.0);
+            properties.put("max", 85.0);
+            properties.put("tags", new String[] { "indoor", "floor-" + (i % 3) });
+            properties.put("samples", new long[] { i, i + 1, i + 2, i + 3 });
+
+            NodeModel node = new NodeModel();
+            node.setId((long) i);
+            node.setLabels(new String[] { "Reading" });
+            node.setProperties(properties);
+            nodes[i] = node;
+        }
+        graphModel = new DefaultGraphModel();
+        graphModel.setNodes(nodes);
+    }
+
+    @Benchmark
+    public List<Reading> hydrate() {
+        GraphEntityMapper mapper = new GraphEntityMapper(metaData, new MappingContext(metaData), entityInstantiator);
+        return mapper.map(Reading.class, graphModel, new HashSet<>(), new HashSet<>());
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder().include(HydrationBenchmark.class.getSimpleName()).build()).run();
+    }
+}
@@ -0,0 +1,97 @@
+/*
+ * Copyright (c) 2002-2018 "Neo Technology,"
+ * Network Engine for Objects in Lund AB [http://neotechnology.com]
+ *
+ * This product is licensed to you under the Apache License, Version 2.0 (the "License").
+ * You may not use this product except in compliance with the License.
+ *
+ * This product may include a number of subcomponents with
+ * separate copyright notices and license terms. Your use of the source
+ * code for these subcomponents is subject to the terms and
+ *  conditions of the subcomponent's license, as noted in the LICENSE file.
+ */
+
+package org.neo4j.ogm.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.neo4j.graphdb.GraphDatabaseService;
+import org.neo4j.ogm.drivers.embedded.driver.EmbeddedDriver;
+import org.neo4j.ogm.id.HiLoIdStrategy;
+import org.neo4j.ogm.id.IdStrategy;
+import org.neo4j.ogm.id.TimeOrderedUuidStrategy;
+import org.neo4j.ogm.id.UuidStrategy;
+import org.neo4j.ogm.session.SessionFactory;
+import org.neo4j.test.TestGraphDatabaseFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Measures the throughput of the built-in {@link IdStrategy id strategies} when many threads generate ids at the
+ * same time. The hi/lo strategy reserves its blocks on an embedded database.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Threads(8)
+@Fork(1)
+public class IdStrategyBenchmark {
+
+    @Param({ "uuid", "timeOrderedUuid", "hiLo" })
+    public String strategy;
+
+    private GraphDatabaseService database;
+    private IdStrategy idStrategy;
+
+    @Setup
+    public void setUp() {
+        switch (strategy) {
+            case "uuid":
+                idStrategy = new UuidStrategy();
+                break;
+            case "timeOrderedUuid":
+                idStrategy = new TimeOrderedUuidStrategy();
+                break;
+            case "hiLo":
+                database = new TestGraphDatabaseFactory().newImpermanentDatabase();
+                SessionFactory sessionFactory = new SessionFactory(new EmbeddedDriver(database),
+                    "org.neo4j.ogm.domain.annotations.ids");
+                idStrategy = new HiLoIdStrategy(sessionFactory, "benchmark", 10_000);
+                break;
+            default:
+                throw new IllegalArgumentException(strategy);
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        if (database != null) {
+            database.shutdown();
+        }
+    }
+
+    @Benchmark
+    public Object generateId() {
+        return idStrategy.generateId(null);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder().include(IdStrategyBenchmark.class.getSimpleName()).build()).run();
+    }
+}
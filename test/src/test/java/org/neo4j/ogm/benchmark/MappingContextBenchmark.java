@@ -0,0 +1,98 @@
+/*
+ * Copyright (c) 2002-2018 "Neo Technology,"
+ * Network Engine for Objects in Lund AB [http://neotechnology.com]
+ *
+ * This product is licensed to you under the Apache License, Version 2.0 (the "License").
+ * You may not use this product except in compliance with the License.
+ *
+ * This product may include a number of subcomponents with
+ * separate copyright notices and license terms. Your use of the source
+ * code for these subcomponents is subject to the terms and
+ *  conditions of the subcomponent's license, as noted in the LICENSE file.
+ */
+
+package org.neo4j.ogm.benchmark;
+
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import org.neo4j.ogm.context.EntityGraphMapper;
+import org.neo4j.ogm.context.MappedRelationship;
+import org.neo4j.ogm.context.MappingContext;
+import org.neo4j.ogm.cypher.compiler.CompileContext;
+import org.neo4j.ogm.domain.policy.Person;
+import org.neo4j.ogm.domain.policy.Policy;
+import org.neo4j.ogm.metadata.MetaData;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Measures the cost of relationship lookups and of compiling a save for a single entity in a
+ * {@link MappingContext} that already holds a growing number of mapped relationships.
+ * The cost per operation should not grow with {@link #sessionSize}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MappingContextBenchmark {
+
+    @Param({ "1000", "10000", "100000" })
+    public int sessionSize;
+
+    private MetaData metaData;
+    private MappingContext mappingContext;
+    private Person person;
+
+    @Setup
+    public void setUp() {
+        metaData = new MetaData("org.neo4j.ogm.domain.policy");
+        mappingContext = new MappingContext(metaData);
+
+        long id = 0;
+        for (int i = 0; i < sessionSize; i++) {
+            Person author = new Person("person" + i);
+            author.setId(id++);
+            Policy policy = new Policy("policy" + i);
+            policy.setId(id++);
+            author.getWritten().add(policy);
+
+            mappingContext.addNodeEntity(author);
+            mappingContext.addNodeEntity(policy);
+            mappingContext.addRelationship(
+                new MappedRelationship(author.getId(), "WRITES_POLICY", policy.getId(), Person.class, Policy.class));
+
+            if (person == null) {
+                person = author;
+            }
+        }
+    }
+
+    @Benchmark
+    public Set<Object> neighbours() {
+        return mappingContext.neighbours(person);
+    }
+
+    @Benchmark
+    public CompileContext saveSingleEntity() {
+        return new EntityGraphMapper(metaData, mappingContext).map(person, 1);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder().include(MappingContextBenchmark.class.getSimpleName()).build()).run();
+    }
+}
@@ -0,0 +1,108 @@
+/*
+ * Copyright (c) 2002-2018 "Neo Technology,"
+ * Network Engine for Objects in Lund AB [http://neotechnology.com]
+ *
+ * This product is licensed to you under the Apache License, Version 2.0 (the "License").
+ * You may not use this product except in compliance with the License.
+ *
+ * This product may include a number of subcomponents with
+ * separate copyright notices and license terms. Your use of the source
+ * code for these subcomponents is subject to the terms and
+ *  conditions of the subcomponent's license, as noted in the LICENSE file.
+ */
+
+package org.neo4j.ogm.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.neo4j.ogm.context.MappedRelationship;
+import org.neo4j.ogm.context.MappingContext;
+import org.neo4j.ogm.domain.policy.Person;
+import org.neo4j.ogm.domain.policy.Policy;
+import org.neo4j.ogm.metadata.MetaData;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Measures the memory retained by a {@link MappingContext} after registering a growing number of already hydrated
+ * entities, and a relationship between each pair of them. The retained size is printed after every iteration. As the
+ * entities themselves are created up front, it is the footprint of the context's registers only.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class MappingContextFootprintBenchmark {
+
+    @Param({ "100000", "1000000" })
+    public int entities;
+
+    private MetaData metaData;
+    private Person[] authors;
+    private Policy[] policies;
+    private MappingContext filledContext;
+
+    @Setup
+    public void setUp() {
+        metaData = new MetaData("org.neo4j.ogm.domain.policy");
+        authors = new Person[entities / 2];
+        policies = new Policy[entities / 2];
+
+        long id = 0;
+        for (int i = 0; i < authors.length; i++) {
+            authors[i] = new Person("person" + i);
+            authors[i].setId(id++);
+            policies[i] = new Policy("policy" + i);
+            policies[i].setId(id++);
+        }
+    }
+
+    @Benchmark
+    public MappingContext fillContext() {
+        MappingContext mappingContext = new MappingContext(metaData);
+        for (int i = 0; i < authors.length; i++) {
+            mappingContext.addNodeEntity(authors[i]);
+            mappingContext.addNodeEntity(policies[i]);
+            mappingContext.addRelationship(new MappedRelationship(authors[i].getId(), "WRITES_POLICY",
+                policies[i].getId(), Person.class, Policy.class));
+        }
+        filledContext = mappingContext;
+        return mappingContext;
+    }
+
+    @TearDown(Level.Iteration)
+    public void reportRetainedSize() {
+        long withContext = usedHeap();
+        filledContext = null;
+        long retained = withContext - usedHeap();
+        System.out.printf("%nretained: %d bytes, %d bytes per entity%n", retained, retained / entities);
+    }
+
+    private static long usedHeap() {
+        Runtime runtime = Runtime.getRuntime();
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+        }
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder().include(MappingContextFootprintBenchmark.class.getSimpleName()).build()).run();
+    }
+}
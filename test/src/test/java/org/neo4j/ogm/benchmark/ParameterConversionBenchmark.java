@@ -0,0 +1,98 @@
+/*
+ * Copyright (c) 2002-2018 "Neo Technology,"
+ * Network Engine for Objects in Lund AB [http://neotechnology.com]
+ *
+ * This product is licensed to you under the Apache License, Version 2.0 (the "License").
+ * You may not use this product except in compliance with the License.
+ *
+ * This product may include a number of subcomponents with
+ * separate copyright notices and license terms. Your use of the source
+ * code for these subcomponents is subject to the terms and
+ *  conditions of the subcomponent's license, as noted in the LICENSE file.
+ */
+
+package org.neo4j.ogm.benchmark;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.neo4j.ogm.config.ObjectMapperFactory;
+import org.neo4j.ogm.driver.AbstractConfigurableDriver;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Compares the default parameter conversion with converting the whole parameter map through Jacksons Object Mapper,
+ * for the parameters of a save statement with {@link #rows} rows.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ParameterConversionBenchmark {
+
+    private static final ObjectMapper OBJECT_MAPPER = ObjectMapperFactory.objectMapper();
+    private static final TypeReference<HashMap<String, Object>> MAP_TYPE_REF = new TypeReference<HashMap<String, Object>>() {
+    };
+
+    @Param({ "1000", "50000" })
+    public int rows;
+
+    private Map<String, Object> parameters;
+
+    @Setup
+    public void setUp() {
+        List<Map<String, Object>> rowList = new ArrayList<>(rows);
+        for (int i = 0; i < rows; i++) {
+            Map<String, Object> props = new HashMap<>();
+            props.put("name", "name" + i);
+            props.put("age", i);
+            props.put("score", i * 0.5);
+            props.put("tags", Arrays.asList("a", "b", "c"));
+
+            Map<String, Object> row = new HashMap<>();
+            row.put("nodeRef", (long) -i);
+            row.put("type", "node");
+            row.put("props", props);
+            rowList.add(row);
+        }
+        parameters = new HashMap<>();
+        parameters.put("type", "node");
+        parameters.put("rows", rowList);
+    }
+
+    @Benchmark
+    public Map<String, Object> directConversion() {
+        return AbstractConfigurableDriver.CONVERT_ALL_PARAMETERS_CONVERSION.convertParameters(parameters);
+    }
+
+    @Benchmark
+    public Map<String, Object> objectMapperConversion() {
+        return OBJECT_MAPPER.convertValue(parameters, MAP_TYPE_REF);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder().include(ParameterConversionBenchmark.class.getSimpleName()).build()).run();
+    }
+}
@@ -15,11 +15,19 @@ package org.neo4j.ogm.context;
 
 import static org.assertj.core.api.Assertions.*;
 
+import java.time.Duration;
+import java.time.Instant;
+
 import org.junit.Before;
 import org.junit.Test;
 import org.neo4j.ogm.domain.education.School;
 import org.neo4j.ogm.domain.education.Teacher;
+import org.neo4j.ogm.domain.forum.Member;
+import org.neo4j.ogm.domain.social.Individual;
+import org.neo4j.ogm.domain.time.TimedEvent;
+import org.neo4j.ogm.metadata.FieldInfo;
 import org.neo4j.ogm.metadata.MetaData;
+import org.neo4j.ogm.session.DirtyTrackingStrategy;
 
 /**
  * @author Vince Bickers
@@ -65,4 +73,82 @@ public class IdentityMapTest {
 
         assertThat(mappingContext.isDirty(teacher)).isFalse();
     }
+
+    @Test
+    public void testChangedPrimitivePropertyDetected() {
+        MappingContext socialContext = new MappingContext(new MetaData("org.neo4j.ogm.domain.social"));
+        Individual individual = new Individual();
+        individual.setId(115L);
+        individual.setAge(42);
+        socialContext.addNodeEntity(individual);
+
+        individual.setAge(42);
+        assertThat(socialContext.isDirty(individual)).isFalse();
+
+        individual.setAge(43);
+        assertThat(socialContext.isDirty(individual)).isTrue();
+    }
+
+    @Test
+    public void testChangedPrimitiveArrayElementDetected() {
+        MappingContext socialContext = new MappingContext(new MetaData("org.neo4j.ogm.domain.social"));
+        Individual individual = new Individual();
+        individual.setId(115L);
+        individual.setPrimitiveIntArray(new int[] { 1, 2, 3 });
+        socialContext.addNodeEntity(individual);
+
+        individual.setPrimitiveIntArray(new int[] { 1, 2, 3 }); // an equal copy is not a change
+        assertThat(socialContext.isDirty(individual)).isFalse();
+
+        individual.getPrimitiveIntArray()[2] = 4;
+        assertThat(socialContext.isDirty(individual)).isTrue();
+    }
+
+    @Test
+    public void testChangedTemporalPropertiesWithSameHashCodeDetected() {
+        MappingContext timeContext = new MappingContext(new MetaData("org.neo4j.ogm.domain.time"));
+        TimedEvent event = new TimedEvent();
+        event.setId(115L);
+        event.setStart(Instant.EPOCH);
+        event.setDuration(Duration.ZERO);
+        timeContext.addNodeEntity(event);
+
+        event.setStart(Instant.ofEpochSecond(-1)); // hashes like Instant.EPOCH
+        assertThat(timeContext.isDirty(event)).isTrue();
+
+        event.setStart(Instant.EPOCH);
+        event.setDuration(Duration.ofSeconds(-1)); // hashes like Duration.ZERO
+        assertThat(timeContext.isDirty(event)).isTrue();
+    }
+
+    @Test
+    public void testChangedFieldWithSameHashCodeDetectedInFieldSnapshot() {
+        MappingContext forumContext = new MappingContext(new MetaData("org.neo4j.ogm.domain.forum"),
+            DirtyTrackingStrategy.FIELD_SNAPSHOT);
+        Member member = new Member();
+        member.setId(115L);
+        member.setUserName("Frankie");
+        member.setMembershipNumber(0L);
+        forumContext.addNodeEntity(member);
+
+        member.setUserName("Frank");
+        member.setMembershipNumber(-1L); // Long.hashCode(0L) == Long.hashCode(-1L)
+
+        assertThat(forumContext.isDirty(member)).isTrue();
+        assertThat(forumContext.changedFields(member)).extracting(FieldInfo::getName)
+            .containsOnly("userName", "membershipNumber");
+    }
+
+    @Test
+    public void testNoChangedFieldsInUnchangedFieldSnapshot() {
+        MappingContext forumContext = new MappingContext(new MetaData("org.neo4j.ogm.domain.forum"),
+            DirtyTrackingStrategy.FIELD_SNAPSHOT);
+        Member member = new Member();
+        member.setId(115L);
+        member.setMembershipNumber(0L);
+        forumContext.addNodeEntity(member);
+
+        assertThat(forumContext.isDirty(member)).isFalse();
+        assertThat(forumContext.changedFields(member)).isEmpty();
+    }
 }
@@ -0,0 +1,85 @@
+/*
+ * Copyright (c) 2002-2018 "Neo Technology,"
+ * Network Engine for Objects in Lund AB [http://neotechnology.com]
+ *
+ * This product is licensed to you under the Apache License, Version 2.0 (the "License").
+ * You may not use this product except in compliance with the License.
+ *
+ * This product may include a number of subcomponents with
+ * separate copyright notices and license terms. Your use of the source
+ * code for these subcomponents is subject to the terms and
+ *  conditions of the subcomponent's license, as noted in the LICENSE file.
+ */
+
+package org.neo4j.ogm.context;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+import org.junit.Test;
+
+public class LongObjectMapTest {
+
+    @Test
+    public void shouldPutGetAndRemoveIncludingZeroAndNegativeKeys() {
+        LongObjectMap<String> map = new LongObjectMap<>();
+
+        assertThat(map.put(0L, "zero")).isNull();
+        assertThat(map.put(-1L, "minus one")).isNull();
+        assertThat(map.putIfAbsent(0L, "other")).isEqualTo("zero");
+        assertThat(map.put(-1L, "replaced")).isEqualTo("minus one");
+
+        assertThat(map.get(0L)).isEqualTo("zero");
+        assertThat(map.get(-1L)).isEqualTo("replaced");
+        assertThat(map.get(1L)).isNull();
+        assertThat(map.size()).isEqualTo(2);
+
+        assertThat(map.remove(0L)).isEqualTo("zero");
+        assertThat(map.containsKey(0L)).isFalse();
+        assertThat(map.size()).isEqualTo(1);
+
+        map.clear();
+        assertThat(map.isEmpty()).isTrue();
+        assertThat(map.get(-1L)).isNull();
+    }
+
+    @Test
+    public void shouldRemoveValuesMatchingPredicate() {
+        LongObjectMap<Long> map = new LongObjectMap<>();
+        for (long i = 0; i < 100; i++) {
+            map.put(i, i);
+        }
+
+        map.removeValuesIf(value -> value % 2 == 0);
+
+        assertThat(map.size()).isEqualTo(50);
+        assertThat(map.values()).allMatch(value -> value % 2 == 1);
+        for (long i = 1; i < 100; i += 2) {
+            assertThat(map.get(i)).isEqualTo(i);
+        }
+    }
+
+    @Test
+    public void shouldBehaveLikeHashMapUnderRandomOperations() {
+        LongObjectMap<Long> map = new LongObjectMap<>();
+        Map<Long, Long> expected = new HashMap<>();
+        Random random = new Random(42);
+
+        for (int i = 0; i < 100_000; i++) {
+            long key = random.nextInt(2_000) - 1_000;
+            if (random.nextInt(3) == 0) {
+                assertThat(map.remove(key)).isEqualTo(expected.remove(key));
+            } else {
+                assertThat(map.put(key, (long) i)).isEqualTo(expected.put(key, (long) i));
+            }
+        }
+
+        assertThat(map.size()).isEqualTo(expected.size());
+        for (long key = -1_000; key < 1_000; key++) {
+            assertThat(map.get(key)).isEqualTo(expected.get(key));
+        }
+    }
+}
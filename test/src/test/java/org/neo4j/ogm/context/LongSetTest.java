@@ -0,0 +1,46 @@
+/*
+ * Copyright (c) 2002-2018 "Neo Technology,"
+ * Network Engine for Objects in Lund AB [http://neotechnology.com]
+ *
+ * This product is licensed to you under the Apache License, Version 2.0 (the "License").
+ * You may not use this product except in compliance with the License.
+ *
+ * This product may include a number of subcomponents with
+ * separate copyright notices and license terms. Your use of the source
+ * code for these subcomponents is subject to the terms and
+ *  conditions of the subcomponent's license, as noted in the LICENSE file.
+ */
+
+package org.neo4j.ogm.context;
+
+import static org.assertj.core.api.Assertions.*;
+
+import org.junit.Test;
+
+public class LongSetTest {
+
+    @Test
+    public void shouldKeepInsertionOrderAndIgnoreDuplicates() {
+        LongSet set = new LongSet();
+        long[] ids = { 42L, 0L, -3L, 42L, 1_000_000L, 0L };
+
+        for (long id : ids) {
+            set.add(id);
+        }
+        for (long id = 100; id < 200; id++) {
+            set.add(id);
+        }
+
+        assertThat(set).hasSize(104);
+        assertThat(set).startsWith(42L, 0L, -3L, 1_000_000L, 100L);
+        assertThat(set.get(103)).isEqualTo(199L);
+        assertThat(set.contains(0L)).isTrue();
+        assertThat(set.contains(Long.valueOf(150L))).isTrue();
+        assertThat(set.contains(99L)).isFalse();
+
+        set.clear();
+        assertThat(set).isEmpty();
+        assertThat(set.add(42L)).isTrue();
+        assertThat(set).containsExactly(42L);
+    }
+}
@@ -168,4 +168,42 @@ public class MappingContextTest {
         assertThat(mappingContext.isDirty(healthcare)).isFalse();
         assertThat(mappingContext.isDirty(immigration)).isFalse();
     }
+
+    @Test
+    public void relationshipIndexesShouldFollowRegisteredRelationships() {
+        Person jim = new Person("jim");
+        jim.setId(1L);
+
+        Policy healthcare = new Policy("healthcare");
+        healthcare.setId(2L);
+
+        Person rik = new Person("rik");
+        rik.setId(3L);
+
+        mappingContext.addNodeEntity(jim);
+        mappingContext.addNodeEntity(rik);
+        mappingContext.addNodeEntity(healthcare);
+
+        MappedRelationship influences = new MappedRelationship(jim.getId(), "INFLUENCES", healthcare.getId(),
+            Person.class, Policy.class);
+        MappedRelationship worksWith = new MappedRelationship(rik.getId(), "WORKS_WITH", jim.getId(),
+            Person.class, Person.class);
+        mappingContext.addRelationship(influences);
+        mappingContext.addRelationship(worksWith);
+
+        assertThat(mappingContext.getRelationshipsOfNode(jim.getId())).containsOnly(influences, worksWith);
+        assertThat(mappingContext.getRelationshipsOfNode(healthcare.getId())).containsOnly(influences);
+        assertThat(mappingContext.neighbours(jim)).containsOnly(rik, healthcare);
+
+        mappingContext.removeEntity(rik);
+
+        assertThat(mappingContext.getRelationshipsOfNode(jim.getId())).containsOnly(influences);
+        assertThat(mappingContext.getRelationshipsOfNode(rik.getId())).isEmpty();
+        assertThat(mappingContext.neighbours(jim)).containsOnly(healthcare);
+
+        mappingContext.clear();
+
+        assertThat(mappingContext.getRelationshipsOfNode(jim.getId())).isEmpty();
+        assertThat(mappingContext.getRelationshipsOfNode(healthcare.getId())).isEmpty();
+    }
 }
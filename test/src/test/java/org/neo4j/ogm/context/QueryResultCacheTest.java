@@ -0,0 +1,217 @@
+/*
+ * Copyright (c) 2002-2018 "Neo Technology,"
+ * Network Engine for Objects in Lund AB [http://neotechnology.com]
+ *
+ * This product is licensed to you under the Apache License, Version 2.0 (the "License").
+ * You may not use this product except in compliance with the License.
+ *
+ * This product may include a number of subcomponents with
+ * separate copyright notices and license terms. Your use of the source
+ * code for these subcomponents is subject to the terms and
+ *  conditions of the subcomponent's license, as noted in the LICENSE file.
+ */
+
+package org.neo4j.ogm.context;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.neo4j.ogm.domain.music.Album;
+import org.neo4j.ogm.domain.music.Artist;
+import org.neo4j.ogm.domain.music.Recording;
+import org.neo4j.ogm.domain.music.Studio;
+import org.neo4j.ogm.metadata.MetaData;
+import org.neo4j.ogm.model.RowModel;
+import org.neo4j.ogm.response.Response;
+import org.neo4j.ogm.response.model.DefaultRowModel;
+
+public class QueryResultCacheTest {
+
+    private static final MetaData metaData = new MetaData("org.neo4j.ogm.domain.music");
+
+    private long now;
+    private QueryResultCache cache;
+
+    @Before
+    public void setUp() {
+        now = 0;
+        cache = new QueryResultCache(metaData, 2, 100, () -> now);
+    }
+
+    @Test
+    public void shouldExtractLabelsAndRelationshipTypes() {
+        assertThat(QueryResultCache.labelsOf("MATCH (n:`Artist`) WHERE n.`name` = { `name_0` } WITH n RETURN n"))
+            .containsOnly("Artist");
+        assertThat(QueryResultCache.labelsOf("MATCH (n:Artist:Person)-[r:RECORDED|:PERFORMED]->(a:`Album`) "
+            + "RETURN n, a, COUNT(r)"))
+            .contains("Artist", "Person", "RECORDED", "PERFORMED", "Album");
+        assertThat(QueryResultCache.labelsOf("MATCH (n:`Artist`) WITH n RETURN n,[ [ (n)-[r_r1:`RECORDED`]->"
+            + "(a1:`Album`) | [ r_r1, a1 ] ] ], ID(n)"))
+            .contains("Artist", "RECORDED", "Album");
+    }
+
+    @Test
+    public void shouldNotExtractLabelsFromStatementsMatchingAnyLabel() {
+        assertThat(QueryResultCache.labelsOf("MATCH (n) RETURN n")).isNull();
+        assertThat(QueryResultCache.labelsOf("MATCH (n:Artist)-->(m) RETURN m")).isNull();
+        assertThat(QueryResultCache.labelsOf("MATCH (n:Artist)-[r]->(m:Album) RETURN r")).isNull();
+        assertThat(QueryResultCache.labelsOf("MATCH (n:`Artist`) WITH n MATCH p=(n)-[*0..1]-(m) RETURN p, ID(n)"))
+            .isNull();
+        assertThat(QueryResultCache.labelsOf("CALL db.labels() YIELD label RETURN label")).isNull();
+        assertThat(QueryResultCache.labelsOf("MATCH (n:Artist) call apoc.path.expand(n, null, null, 1, 2) "
+            + "YIELD path RETURN path")).isNull();
+        assertThat(QueryResultCache.labelsOf("RETURN 1")).isNull();
+    }
+
+    @Test
+    public void shouldNotCacheLargeResponses() {
+        List<RowModel> records = new ArrayList<>();
+        for (int i = 0; i <= 10_000; i++) {
+            records.add(new DefaultRowModel(new Object[] { i }, new String[] { "n.name" }));
+        }
+
+        Response<RowModel> response = cache.put(RowModel.class, "MATCH (n:`l'album`) RETURN n.name",
+            Collections.emptyMap(), records, new String[] { "n.name" }, cache.generation());
+
+        assertThat(response.toList()).hasSize(10_001);
+        assertThat(cache.size()).isZero();
+    }
+
+    @Test
+    public void shouldReplayCachedRecords() {
+        cache.put(RowModel.class, "MATCH (n:`l'artiste`) RETURN n.name", Collections.emptyMap(), rows("The Beatles"),
+            new String[] { "n.name" }, cache.generation());
+
+        Response<RowModel> response = cache.get(RowModel.class, "MATCH (n:`l'artiste`) RETURN n.name",
+            Collections.emptyMap());
+
+        assertThat(response.columns()).containsExactly("n.name");
+        assertThat(response.next().getValues()).containsExactly("The Beatles");
+        assertThat(response.next()).isNull();
+        assertThat(cache.get(RowModel.class, "MATCH (n:`l'album`) RETURN n.name", Collections.emptyMap())).isNull();
+    }
+
+    @Test
+    public void shouldCompareParametersByValue() {
+        Map<String, Object> parameters = new HashMap<>();
+        parameters.put("ids", new long[] { 1, 2 });
+        put("MATCH (n:`l'artiste`) WHERE ID(n) IN $ids RETURN n", parameters);
+
+        Map<String, Object> sameParameters = new HashMap<>();
+        sameParameters.put("ids", Arrays.asList(1L, 2L));
+        Map<String, Object> otherParameters = new HashMap<>();
+        otherParameters.put("ids", new long[] { 1, 3 });
+
+        assertThat(cache.get(RowModel.class, "MATCH (n:`l'artiste`) WHERE ID(n) IN $ids RETURN n", sameParameters))
+            .isNotNull();
+        assertThat(cache.get(RowModel.class, "MATCH (n:`l'artiste`) WHERE ID(n) IN $ids RETURN n", otherParameters))
+            .isNull();
+    }
+
+    @Test
+    public void shouldEvictLeastRecentlyUsedResults() {
+        put("MATCH (n:`l'artiste`) RETURN n", Collections.emptyMap());
+        put("MATCH (n:`l'album`) RETURN n", Collections.emptyMap());
+        cache.get(RowModel.class, "MATCH (n:`l'artiste`) RETURN n", Collections.emptyMap());
+
+        put("MATCH (n:Studio) RETURN n", Collections.emptyMap());
+
+        assertThat(cache.size()).isEqualTo(2);
+        assertThat(cache.get(RowModel.class, "MATCH (n:`l'artiste`) RETURN n", Collections.emptyMap())).isNotNull();
+        assertThat(cache.get(RowModel.class, "MATCH (n:`l'album`) RETURN n", Collections.emptyMap())).isNull();
+    }
+
+    @Test
+    public void shouldExpireResultsAfterTimeToLive() {
+        put("MATCH (n:`l'artiste`) RETURN n", Collections.emptyMap());
+
+        now = 99;
+        assertThat(cache.get(RowModel.class, "MATCH (n:`l'artiste`) RETURN n", Collections.emptyMap())).isNotNull();
+        now = 100;
+        assertThat(cache.get(RowModel.class, "MATCH (n:`l'artiste`) RETURN n", Collections.emptyMap())).isNull();
+        assertThat(cache.size()).isZero();
+    }
+
+    @Test
+    public void shouldInvalidateResultsByLabel() {
+        put("MATCH (n:`l'artiste`) RETURN n", Collections.emptyMap());
+        put("MATCH (n:`l'album`) RETURN n", Collections.emptyMap());
+
+        cache.invalidate(new Album("Please Please Me"));
+
+        assertThat(cache.get(RowModel.class, "MATCH (n:`l'artiste`) RETURN n", Collections.emptyMap())).isNotNull();
+        assertThat(cache.get(RowModel.class, "MATCH (n:`l'album`) RETURN n", Collections.emptyMap())).isNull();
+
+        cache.invalidate(Artist.class);
+
+        assertThat(cache.size()).isZero();
+    }
+
+    @Test
+    public void shouldInvalidateResultsByRelationshipType() {
+        put("MATCH (n:`l'album`)-[r:`RECORDED-AT`]->(m:`Studio`) RETURN r", Collections.emptyMap());
+        put("MATCH (n:`l'album`) RETURN n", Collections.emptyMap());
+
+        cache.invalidate(new Recording());
+
+        assertThat(cache.get(RowModel.class, "MATCH (n:`l'album`)-[r:`RECORDED-AT`]->(m:`Studio`) RETURN r",
+            Collections.emptyMap())).isNull();
+        assertThat(cache.get(RowModel.class, "MATCH (n:`l'album`) RETURN n", Collections.emptyMap())).isNotNull();
+    }
+
+    @Test
+    public void shouldInvalidateResultsMatchingAnyLabelOnEveryChange() {
+        put("MATCH (n) RETURN n", Collections.emptyMap());
+
+        cache.invalidate(new Studio("Abbey Road"));
+
+        assertThat(cache.size()).isZero();
+    }
+
+    @Test
+    public void shouldNotCacheResultsOfChangedLabelsUntilCompleted() {
+        put("MATCH (n:`l'album`) RETURN n", Collections.emptyMap());
+
+        Runnable completion = cache.invalidateUntilCompleted(new Album("Abbey Road"));
+
+        assertThat(cache.size()).isZero();
+        put("MATCH (n:`l'album`) RETURN n", Collections.emptyMap());
+        put("MATCH (n:`l'artiste`) RETURN n", Collections.emptyMap());
+        assertThat(cache.get(RowModel.class, "MATCH (n:`l'album`) RETURN n", Collections.emptyMap())).isNull();
+        assertThat(cache.get(RowModel.class, "MATCH (n:`l'artiste`) RETURN n", Collections.emptyMap())).isNotNull();
+
+        completion.run();
+
+        put("MATCH (n:`l'album`) RETURN n", Collections.emptyMap());
+        assertThat(cache.get(RowModel.class, "MATCH (n:`l'album`) RETURN n", Collections.emptyMap())).isNotNull();
+    }
+
+    @Test
+    public void shouldNotCacheResultsReadBeforeTransactionCompleted() {
+        Runnable completion = cache.invalidateUntilCompleted(new Album("Abbey Road"));
+
+        // a statement reads the state from before the change, then the transaction commits before it is cached
+        long generation = cache.generation();
+        completion.run();
+        cache.put(RowModel.class, "MATCH (n:`l'album`) RETURN n", Collections.emptyMap(), rows("row"),
+            new String[] { "n" }, generation);
+
+        assertThat(cache.size()).isZero();
+    }
+
+    private void put(String statement, Map<String, ?> parameters) {
+        cache.put(RowModel.class, statement, parameters, rows("row"), new String[] { "n" }, cache.generation());
+    }
+
+    private static List<RowModel> rows(String value) {
+        return Collections.singletonList(new DefaultRowModel(new Object[] { value }, new String[] { "n.name" }));
+    }
+}
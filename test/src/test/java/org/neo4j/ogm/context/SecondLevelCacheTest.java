@@ -0,0 +1,181 @@
+/*
+ * Copyright (c) 2002-2018 "Neo Technology,"
+ * Network Engine for Objects in Lund AB [http://neotechnology.com]
+ *
+ * This product is licensed to you under the Apache License, Version 2.0 (the "License").
+ * You may not use this product except in compliance with the License.
+ *
+ * This product may include a number of subcomponents with
+ * separate copyright notices and license terms. Your use of the source
+ * code for these subcomponents is subject to the terms and
+ *  conditions of the subcomponent's license, as noted in the LICENSE file.
+ */
+
+package org.neo4j.ogm.context;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.neo4j.ogm.annotation.Cacheable;
+import org.neo4j.ogm.domain.cacheable.Country;
+import org.neo4j.ogm.domain.cacheable.Currency;
+import org.neo4j.ogm.metadata.ClassInfo;
+import org.neo4j.ogm.metadata.MetaData;
+import org.neo4j.ogm.metadata.reflect.ReflectionEntityInstantiator;
+import org.neo4j.ogm.model.GraphModel;
+import org.neo4j.ogm.response.model.DefaultGraphModel;
+import org.neo4j.ogm.response.model.NodeModel;
+
+public class SecondLevelCacheTest {
+
+    private static final MetaData metaData = new MetaData("org.neo4j.ogm.domain.cacheable");
+    private static final ClassInfo country = metaData.classInfo(Country.class);
+
+    private long now;
+    private MappingContext mappingContext;
+    private SecondLevelCache cache;
+
+    @Before
+    public void setUp() {
+        now = 0;
+        mappingContext = new MappingContext(metaData);
+        cache = new SecondLevelCache(metaData, () -> now);
+    }
+
+    @Test
+    public void shouldOnlyCacheAnnotatedTypes() {
+        assertThat(cache.isEnabled()).isTrue();
+        assertThat(cache.isCacheable(country)).isTrue();
+        assertThat(cache.isCacheable(metaData.classInfo(Currency.class))).isFalse();
+    }
+
+    @Test
+    public void shouldReturnCachedRecordsForSameDepthOnly() {
+        List<GraphModel> records = put(1L, "SE");
+
+        assertThat(cache.get(country, "SE", 1)).isEqualTo(records);
+        assertThat(cache.get(country, "SE", 2)).isNull();
+        assertThat(cache.get(country, "NO", 1)).isNull();
+    }
+
+    @Test
+    public void shouldEvictLeastRecentlyUsedLoads() {
+        for (long id = 0; id < 100; id++) {
+            put(id, "C" + id);
+        }
+        cache.get(country, "C0", 1);
+
+        put(100L, "C100");
+
+        assertThat(cache.size()).isEqualTo(100);
+        assertThat(cache.get(country, "C0", 1)).isNotNull();
+        assertThat(cache.get(country, "C1", 1)).isNull();
+        assertThat(cache.get(country, "C100", 1)).isNotNull();
+    }
+
+    @Test
+    public void shouldInvalidateLoadsContainingEntity() {
+        put(1L, "SE");
+        put(2L, "NO");
+
+        cache.invalidate(mappingContext.getNodeEntity(1L));
+
+        assertThat(cache.get(country, "SE", 1)).isNull();
+        assertThat(cache.get(country, "NO", 1)).isNotNull();
+    }
+
+    @Test
+    public void shouldClearAllLoadsWhenTypeIsInvalidated() {
+        put(1L, "SE");
+
+        cache.invalidate(Currency.class);
+
+        assertThat(cache.size()).isZero();
+    }
+
+    @Test
+    public void shouldNotCacheLoadsContainingEntityChangedByUncompletedTransaction() {
+        put(1L, "SE");
+        Object sweden = mappingContext.getNodeEntity(1L);
+
+        Runnable completion = cache.invalidateUntilCompleted(sweden);
+        put(1L, "SE");
+        put(2L, "NO");
+
+        assertThat(cache.get(country, "SE", 1)).isNull();
+        assertThat(cache.get(country, "NO", 1)).isNotNull();
+
+        completion.run();
+        put(1L, "SE");
+
+        assertThat(cache.get(country, "SE", 1)).isNotNull();
+    }
+
+    @Test
+    public void shouldNotCacheLoadsStartedBeforeTransactionCompleted() {
+        put(1L, "SE");
+        Object sweden = mappingContext.getNodeEntity(1L);
+        Runnable completion = cache.invalidateUntilCompleted(sweden);
+
+        // a load reads the state from before the change, then the transaction commits before the load is cached
+        long generation = cache.generation();
+        List<GraphModel> records = records(1L, "SE");
+        completion.run();
+        cache.put(country, "SE", 1, records, mappingContext, generation);
+
+        assertThat(cache.get(country, "SE", 1)).isNull();
+
+        put(1L, "SE");
+        assertThat(cache.get(country, "SE", 1)).isNotNull();
+    }
+
+    @Test
+    public void shouldExpireLoadsAfterTimeToLive() {
+        MetaData expiringMetaData = new MetaData(ExpiringCountry.class.getName());
+        ClassInfo expiringCountry = expiringMetaData.classInfo(ExpiringCountry.class);
+        SecondLevelCache expiring = new SecondLevelCache(expiringMetaData, () -> now);
+
+        expiring.put(expiringCountry, 1L, 1, Collections.emptyList(), mappingContext, expiring.generation());
+        now += TimeUnit.SECONDS.toNanos(59);
+        assertThat(expiring.get(expiringCountry, 1L, 1)).isNotNull();
+
+        now += TimeUnit.SECONDS.toNanos(1);
+        assertThat(expiring.get(expiringCountry, 1L, 1)).isNull();
+        assertThat(expiring.size()).isZero();
+    }
+
+    private List<GraphModel> put(Long id, String code) {
+        List<GraphModel> records = records(id, code);
+        cache.put(country, code, 1, records, mappingContext, cache.generation());
+        return records;
+    }
+
+    private List<GraphModel> records(Long id, String code) {
+        NodeModel node = new NodeModel();
+        node.setId(id);
+        node.setLabels(new String[] { "Country" });
+        Map<String, Object> properties = new HashMap<>();
+        properties.put("code", code);
+        node.setProperties(properties);
+        DefaultGraphModel record = new DefaultGraphModel();
+        record.setNodes(new NodeModel[] { node });
+
+        List<GraphModel> records = Collections.singletonList(record);
+        new GraphEntityMapper(metaData, mappingContext, new ReflectionEntityInstantiator(metaData))
+            .map(Country.class, record, new LongSet(), new LongSet());
+        return records;
+    }
+
+    @Cacheable(timeToLive = 60)
+    public static class ExpiringCountry {
+
+        private Long id;
+    }
+}
@@ -48,6 +48,7 @@ import org.neo4j.ogm.domain.travel.Place;
 import org.neo4j.ogm.domain.travel.Visit;
 import org.neo4j.ogm.metadata.MetaData;
 import org.neo4j.ogm.request.Statement;
+import org.neo4j.ogm.session.DirtyTrackingStrategy;
 import org.neo4j.ogm.session.request.RowStatementFactory;
 
 /**
@@ -162,6 +163,58 @@ public class CompilerTest {
         assertThat(compiler.updateNodesStatements()).isEmpty();
     }
 
+    @Test
+    public void updateOnlyChangedPropertiesWithFieldSnapshots() {
+        mappingContext = new MappingContext(mappingMetadata, DirtyTrackingStrategy.FIELD_SNAPSHOT);
+
+        Individual individual = new Individual();
+        individual.setId(0L);
+        individual.setName("Jeff");
+        individual.setAge(41);
+        mappingContext.addNodeEntity(individual);
+
+        individual.setAge(42);
+
+        Compiler compiler = mapAndCompile(individual);
+        List<Statement> statements = compiler.updateNodesStatements();
+        assertThat(statements).extracting(Statement::getStatement).containsOnly(
+            "UNWIND {rows} as row MATCH (n) WHERE ID(n)=row.nodeId SET n:`Individual` SET n += row.props RETURN row.nodeId as ref, ID(n) as id, {type} as type"
+        );
+        List<Map> rows = (List<Map>) statements.get(0).getParameters().get("rows");
+        assertThat(rows).hasSize(1);
+        assertThat((Map<String, Object>) rows.get(0).get("props")).containsOnly(entry("age", 42));
+    }
+
+    @Test
+    public void groupPartialUpdatesByChangedProperties() {
+        mappingContext = new MappingContext(mappingMetadata, DirtyTrackingStrategy.FIELD_SNAPSHOT);
+
+        Individual jeff = new Individual();
+        jeff.setId(0L);
+        jeff.setName("Jeff");
+        Individual jane = new Individual();
+        jane.setId(1L);
+        jane.setName("Jane");
+        Individual joe = new Individual();
+        joe.setId(2L);
+        joe.setName("Joe");
+        jeff.setFriends(Arrays.asList(jane, joe));
+        mappingContext.addNodeEntity(jeff);
+        mappingContext.addNodeEntity(jane);
+        mappingContext.addNodeEntity(joe);
+
+        jeff.setName("Geoff");
+        jane.setAge(30);
+        joe.setAge(31);
+
+        Compiler compiler = mapAndCompile(jeff);
+        List<Statement> statements = compiler.updateNodesStatements();
+        assertThat(statements).hasSize(2);
+        assertThat(statements)
+            .extracting(statement -> ((List) statement.getParameters().get("rows")).size())
+            .containsOnly(1, 2);
+    }
+
     @Test
     public void createSimpleRelationshipsBetweenObjects() {
 
@@ -432,6 +485,54 @@ public class CompilerTest {
         assertThat(((List) deleteRelsStatement.get(0).getParameters().get("rows"))).hasSize(2);
     }
 
+    @Test
+    public void shouldOnlyRemoveRelationshipsWithinTheSavedSubgraph() {
+
+        Long mid = 0L;
+        Long aid = 1L;
+        Long xid = 2L;
+        Long yid = 3L;
+
+        Course music = new Course("GCSE Music");
+        music.setId(mid);
+
+        Course art = new Course("GCSE Art");
+        art.setId(aid);
+
+        Student xavier = new Student("xavier");
+        xavier.setId(xid);
+
+        Student yvonne = new Student("Yvonne");
+        yvonne.setId(yid);
+
+        music.setStudents(Arrays.asList(xavier));
+        art.setStudents(Arrays.asList(yvonne));
+
+        MappedRelationship artStudent = new MappedRelationship(aid, "STUDENTS", yid, Course.class, Student.class);
+        mappingContext.addRelationship(new MappedRelationship(mid, "STUDENTS", xid, Course.class, Student.class));
+        mappingContext.addRelationship(artStudent);
+
+        mappingContext.addNodeEntity(xavier);
+        mappingContext.addNodeEntity(yvonne);
+        mappingContext.addNodeEntity(music);
+        mappingContext.addNodeEntity(art);
+
+        // remove the students from both courses, but only save music
+        music.setStudents(Collections.emptyList());
+        art.setStudents(Collections.emptyList());
+
+        Compiler compiler = mapAndCompile(music);
+
+        List<Statement> deleteRelsStatement = compiler.deleteRelationshipStatements();
+        assertThat(deleteRelsStatement).hasSize(1);
+        List<Map> rows = (List<Map>) deleteRelsStatement.get(0).getParameters().get("rows");
+        assertThat(rows).hasSize(1);
+        assertThat(rows.get(0).get("startNodeId")).isEqualTo(mid);
+        assertThat(rows.get(0).get("endNodeId")).isEqualTo(xid);
+
+        assertThat(mappingContext.containsRelationship(artStudent)).isTrue();
+    }
+
     @Test
     public void shouldCorrectlyRemoveRelationshipWhenItemIsMovedToDifferentCollection() {
 
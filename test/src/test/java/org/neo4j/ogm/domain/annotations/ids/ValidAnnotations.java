@@ -21,6 +21,8 @@ import org.neo4j.ogm.annotation.Id;
 import org.neo4j.ogm.annotation.RelationshipEntity;
 import org.neo4j.ogm.annotation.StartNode;
 import org.neo4j.ogm.annotation.typeconversion.Convert;
+import org.neo4j.ogm.id.HiLoIdStrategy;
+import org.neo4j.ogm.id.TimeOrderedUuidStrategy;
 import org.neo4j.ogm.id.UuidStrategy;
 import org.neo4j.ogm.metadata.IdGenerationTest;
 import org.neo4j.ogm.metadata.IdGenerationTest.CustomIdStrategy;
@@ -60,6 +62,19 @@ public class ValidAnnotations {
         public UUID identifier;
     }
 
+    public static class TimeOrderedUuidIdAndGenerationType {
+        public Long id;
+        @Id @GeneratedValue(strategy = TimeOrderedUuidStrategy.class)
+        @Convert(UuidStringConverter.class)
+        public UUID identifier;
+    }
+
+    public static class WithHiLoIdStrategy {
+        public Long id;
+        @Id @GeneratedValue(strategy = HiLoIdStrategy.class)
+        public Long identifier;
+    }
+
     public static class BasicChild extends Basic {
     }
 
@@ -0,0 +1,132 @@
+/*
+ * Copyright (c) 2002-2018 "Neo Technology,"
+ * Network Engine for Objects in Lund AB [http://neotechnology.com]
+ *
+ * This product is licensed to you under the Apache License, Version 2.0 (the "License").
+ * You may not use this product except in compliance with the License.
+ *
+ * This product may include a number of subcomponents with
+ * separate copyright notices and license terms. Your use of the source
+ * code for these subcomponents is subject to the terms and
+ *  conditions of the subcomponent's license, as noted in the LICENSE file.
+ */
+package org.neo4j.ogm.driver;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.Test;
+
+public class DirectParameterConversionTest {
+
+    private final ParameterConversion conversion = DirectParameterConversion.INSTANCE;
+    private final ParameterConversion objectMapperBasedConversion = ObjectMapperBasedParameterConversion.INSTANCE;
+
+    @Test
+    public void shouldConvertLikeObjectMapper() {
+
+        Map<String, Object> nested = new HashMap<>();
+        nested.put("int", 1);
+        nested.put("chars", new char[] { 'a', 'b' });
+        nested.put("set", new LinkedHashSet<>(Arrays.asList((short) 1, (byte) 2)));
+
+        Map<String, Object> parameters = new HashMap<>();
+        parameters.put("null", null);
+        parameters.put("string", "a string");
+        parameters.put("long", 1L);
+        parameters.put("int", 2);
+        parameters.put("double", 3.0);
+        parameters.put("float", 4.0f);
+        parameters.put("boolean", true);
+        parameters.put("character", 'c');
+        parameters.put("bigDecimal", new BigDecimal("1.5"));
+        parameters.put("bigInteger", BigInteger.TEN);
+        parameters.put("enum", Thread.State.NEW);
+        parameters.put("date", new Date(0));
+        parameters.put("localDate", LocalDate.of(2018, 10, 11));
+        parameters.put("ints", new int[] { 1, 2 });
+        parameters.put("doubles", new double[] { 1.0 });
+        parameters.put("strings", new String[] { "a", "b" });
+        parameters.put("objects", new Object[] { 1, "a", nested });
+        parameters.put("list", Arrays.asList(1, 2L, null));
+        parameters.put("integers", Arrays.asList(1, 2));
+        parameters.put("nested", nested);
+        parameters.put("integerKeys", Collections.singletonMap(1, "a"));
+        parameters.put("pojo", new Pojo());
+
+        assertThat(conversion.convertParameters(parameters))
+            .isEqualTo(objectMapperBasedConversion.convertParameters(parameters));
+    }
+
+    @Test
+    public void shouldPassThroughByteArrays() {
+
+        byte[] bytes = { 1, 2, 3 };
+        Map<String, Object> convertedParameters = conversion.convertParameters(Collections.singletonMap("bytes", bytes));
+
+        assertThat(convertedParameters.get("bytes")).isSameAs(bytes);
+    }
+
+    @Test
+    public void shouldReuseStructuresWithoutValuesToConvert() {
+
+        List<Object> rows = new ArrayList<>();
+        for (long i = 0; i < 3; i++) {
+            Map<String, Object> props = new HashMap<>();
+            props.put("name", "name" + i);
+            props.put("tags", Arrays.asList("a", "b"));
+
+            Map<String, Object> row = new HashMap<>();
+            row.put("nodeRef", -i);
+            row.put("props", props);
+            rows.add(row);
+        }
+        Map<String, Object> parameters = new HashMap<>();
+        parameters.put("rows", rows);
+
+        Map<String, Object> convertedParameters = conversion.convertParameters(parameters);
+
+        assertThat(convertedParameters).isEqualTo(objectMapperBasedConversion.convertParameters(parameters));
+        assertThat(convertedParameters.get("rows")).isSameAs(rows);
+    }
+
+    @Test
+    public void shouldOnlyCopyStructuresWithValuesToConvert() {
+
+        Map<String, Object> unchanged = Collections.singletonMap("name", "a name");
+        List<Object> rows = Arrays.asList(unchanged, Collections.singletonMap("count", 1));
+        Map<String, Object> parameters = new HashMap<>();
+        parameters.put("rows", rows);
+
+        List<?> convertedRows = (List<?>) conversion.convertParameters(parameters).get("rows");
+
+        assertThat(convertedRows).isNotSameAs(rows);
+        assertThat(convertedRows.get(0)).isSameAs(unchanged);
+        assertThat(convertedRows.get(1)).isEqualTo(Collections.singletonMap("count", 1L));
+    }
+
+    public static class Pojo {
+
+        private final String name = "a name";
+        private final int value = 42;
+
+        public String getName() {
+            return name;
+        }
+
+        public int getValue() {
+            return value;
+        }
+    }
+}
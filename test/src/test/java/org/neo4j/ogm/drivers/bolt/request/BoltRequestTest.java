@@ -0,0 +1,114 @@
+/*
+ * Copyright (c) 2002-2018 "Neo Technology,"
+ * Network Engine for Objects in Lund AB [http://neotechnology.com]
+ *
+ * This product is licensed to you under the Apache License, Version 2.0 (the "License").
+ * You may not use this product except in compliance with the License.
+ *
+ * This product may include a number of subcomponents with
+ * separate copyright notices and license terms. Your use of the source
+ * code for these subcomponents is subject to the terms and
+ *  conditions of the subcomponent's license, as noted in the LICENSE file.
+ */
+package org.neo4j.ogm.drivers.bolt.request;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Answers;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+import org.neo4j.driver.v1.AccessMode;
+import org.neo4j.driver.v1.Driver;
+import org.neo4j.driver.v1.StatementResult;
+import org.neo4j.driver.v1.exceptions.ClientException;
+import org.neo4j.ogm.cypher.query.DefaultRowModelRequest;
+import org.neo4j.ogm.drivers.bolt.driver.BoltDriver;
+import org.neo4j.ogm.exception.CypherException;
+import org.neo4j.ogm.metadata.MetaData;
+import org.neo4j.ogm.request.Request;
+import org.neo4j.ogm.session.Neo4jSession;
+import org.neo4j.ogm.session.request.DefaultRequest;
+import org.neo4j.ogm.transaction.Transaction;
+
+@RunWith(MockitoJUnitRunner.Silent.class)
+public class BoltRequestTest {
+
+    @Mock(answer = Answers.RETURNS_DEEP_STUBS)
+    private Driver nativeDriver;
+
+    @Mock(answer = Answers.RETURNS_DEEP_STUBS)
+    private org.neo4j.driver.v1.Session nativeSession;
+
+    @Mock
+    private StatementResult firstResult;
+
+    @Mock
+    private StatementResult secondResult;
+
+    private org.neo4j.driver.v1.Transaction nativeTransaction;
+    private Request request;
+    private Transaction transaction;
+
+    @Before
+    public void setUp() {
+        BoltDriver driver = new BoltDriver(nativeDriver, Collections::emptyMap);
+        Neo4jSession session = new Neo4jSession(new MetaData("org.neo4j.ogm.empty"), driver);
+
+        when(nativeDriver.session(any(AccessMode.class), anyIterable())).thenReturn(nativeSession);
+        nativeTransaction = nativeSession.beginTransaction();
+        when(nativeTransaction.isOpen()).thenReturn(true);
+        when(nativeTransaction.run(eq("first"), anyMap())).thenReturn(firstResult);
+        when(nativeTransaction.run(eq("second"), anyMap())).thenReturn(secondResult);
+        when(firstResult.keys()).thenReturn(Arrays.asList("id"));
+
+        transaction = session.beginTransaction();
+        request = driver.request();
+    }
+
+    @After
+    public void tearDown() {
+        transaction.rollback();
+        transaction.close();
+    }
+
+    @Test
+    public void shouldSendAllStatementsBeforeReadingResults() {
+        DefaultRequest defaultRequest = new DefaultRequest();
+        defaultRequest.setStatements(Arrays.asList(
+            new DefaultRowModelRequest("first", Collections.emptyMap()),
+            new DefaultRowModelRequest("second", Collections.emptyMap())));
+
+        request.execute(defaultRequest).close();
+
+        InOrder inOrder = inOrder(nativeTransaction, firstResult, secondResult);
+        inOrder.verify(nativeTransaction).run(eq("first"), anyMap());
+        inOrder.verify(nativeTransaction).run(eq("second"), anyMap());
+        inOrder.verify(firstResult).keys();
+        inOrder.verify(firstResult, atLeastOnce()).consume();
+        inOrder.verify(secondResult, atLeastOnce()).consume();
+    }
+
+    @Test
+    public void shouldTranslateErrorsOfPipelinedStatements() {
+        when(firstResult.keys()).thenThrow(new ClientException("Neo.ClientError.Statement.SyntaxError", "Invalid input"));
+
+        DefaultRequest defaultRequest = new DefaultRequest();
+        defaultRequest.setStatements(Arrays.asList(
+            new DefaultRowModelRequest("first", Collections.emptyMap()),
+            new DefaultRowModelRequest("second", Collections.emptyMap())));
+
+        assertThatThrownBy(() -> request.execute(defaultRequest))
+            .isInstanceOf(CypherException.class)
+            .hasMessageContaining("Invalid input");
+    }
+}
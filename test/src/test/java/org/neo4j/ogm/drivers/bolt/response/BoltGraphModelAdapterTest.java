@@ -0,0 +1,76 @@
+/*
+ * Copyright (c) 2002-2018 "Neo Technology,"
+ * Network Engine for Objects in Lund AB [http://neotechnology.com]
+ *
+ * This product is licensed to you under the Apache License, Version 2.0 (the "License").
+ * You may not use this product except in compliance with the License.
+ *
+ * This product may include a number of subcomponents with
+ * separate copyright notices and license terms. Your use of the source
+ * code for these subcomponents is subject to the terms and
+ *  conditions of the subcomponent's license, as noted in the LICENSE file.
+ */
+
+package org.neo4j.ogm.drivers.bolt.response;
+
+import static java.util.Collections.*;
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.junit.Test;
+import org.neo4j.driver.internal.InternalNode;
+import org.neo4j.driver.internal.InternalRelationship;
+import org.neo4j.driver.v1.Value;
+import org.neo4j.driver.v1.Values;
+import org.neo4j.ogm.model.GraphModel;
+import org.neo4j.ogm.model.Node;
+
+public class BoltGraphModelAdapterTest {
+
+    @Test
+    public void shouldAdaptNodesAndRelationshipsOncePerResponse() {
+        Map<String, Value> hubProperties = singletonMap("name", Values.value("hub"));
+        InternalNode hub = new InternalNode(1L, singletonList("Hub"), hubProperties);
+
+        BoltGraphModelAdapter adapter = new BoltGraphModelAdapter();
+        GraphModel first = adapter.adapt(row(hub, new InternalNode(2L), new InternalRelationship(10L, 2L, 1L, "LINKS")));
+        GraphModel second = adapter.adapt(row(hub, new InternalNode(3L), new InternalRelationship(10L, 2L, 1L, "LINKS")));
+
+        assertThat(first.getNodes()).hasSize(2);
+        assertThat(second.getNodes()).hasSize(2);
+        assertThat(node(second, 1L)).isSameAs(node(first, 1L));
+        assertThat(node(second, 3L)).isNotSameAs(node(first, 2L));
+        assertThat(node(second, 1L).getPropertyList()).extracting("value").containsExactly("hub");
+        assertThat(second.getRelationships()).hasSize(1);
+        assertThat(second.getRelationships().iterator().next()).isSameAs(first.getRelationships().iterator().next());
+    }
+
+    @Test
+    public void shouldNotShareModelsBetweenAdapters() {
+        InternalNode hub = new InternalNode(1L);
+
+        GraphModel first = new BoltGraphModelAdapter().adapt(row(hub));
+        GraphModel second = new BoltGraphModelAdapter().adapt(row(hub));
+
+        assertThat(node(second, 1L)).isNotSameAs(node(first, 1L));
+    }
+
+    private static Map<String, Object> row(Object... values) {
+        Map<String, Object> row = new HashMap<>();
+        for (int i = 0; i < values.length; i++) {
+            row.put("c" + i, values[i]);
+        }
+        return row;
+    }
+
+    private static Node node(GraphModel graphModel, Long id) {
+        for (Node node : graphModel.getNodes()) {
+            if (node.getId().equals(id)) {
+                return node;
+            }
+        }
+        throw new AssertionError("No node with id " + id);
+    }
+}
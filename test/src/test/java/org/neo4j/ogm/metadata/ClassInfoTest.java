@@ -254,6 +254,27 @@ public class ClassInfoTest {
         assertThat(fieldInfo.getName()).isEqualTo("posts");
     }
 
+    @Test
+    public void relationshipFieldsShouldBeResolvedByTypeAndDirection() {
+        ClassInfo classInfo = metaData.classInfo("Movie");
+        FieldInfo roles = classInfo.relationshipFieldByName("roles");
+
+        assertThat(classInfo.relationshipField("acts_in", INCOMING, true)).isSameAs(roles);
+        assertThat(classInfo.relationshipField("ACTS_IN", OUTGOING, true)).isNull();
+        assertThat(classInfo.candidateRelationshipFields("ACTS_IN", INCOMING, false)).containsExactly(roles);
+        assertThat(classInfo.candidateRelationshipFields("ACTS_IN", OUTGOING, false)).isEmpty();
+
+        assertThat(classInfo.declaredRelationshipFields("ACTS_IN", INCOMING)).containsExactly(roles);
+        assertThat(classInfo.declaredRelationshipFields("acts_in", INCOMING)).isEmpty();
+        assertThat(classInfo.declaredRelationshipFields("ACTS_IN", OUTGOING)).isEmpty();
+
+        assertThat(classInfo.findIterableFields(Role.class, "ACTS_IN", INCOMING, true)).containsExactly(roles);
+        assertThat(classInfo.findIterableFields(Role.class, "ACTS_IN", INCOMING, true))
+            .isSameAs(classInfo.findIterableFields(Role.class, "ACTS_IN", INCOMING, true));
+        assertThat(classInfo.findIterableFields(Role.class, "acts_in", INCOMING, true)).isEmpty();
+        assertThat(classInfo.relationshipFields()).isSameAs(classInfo.relationshipFields());
+    }
+
     @Test
     public void testRelationshipGetters() {
         ClassInfo classInfo = metaData.classInfo("User");
@@ -15,16 +15,24 @@ package org.neo4j.ogm.metadata;
 
 import static org.assertj.core.api.Assertions.*;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
 import org.junit.Before;
 import org.junit.BeforeClass;
 import org.junit.Test;
 import org.neo4j.ogm.domain.annotations.ids.ValidAnnotations;
 import org.neo4j.ogm.domain.invalid.ids.InvalidAnnotations;
 import org.neo4j.ogm.exception.core.MappingException;
+import org.neo4j.ogm.id.HiLoIdStrategy;
 import org.neo4j.ogm.id.IdStrategy;
 import org.neo4j.ogm.session.Session;
 import org.neo4j.ogm.session.SessionFactory;
 import org.neo4j.ogm.testutil.MultiDriverTestClass;
+import org.neo4j.ogm.transaction.Transaction;
 
 /**
  * @author Frantisek Hartman
@@ -107,6 +115,118 @@ public class IdGenerationTest extends MultiDriverTestClass {
         assertThat(retrievedEntity.identifier).isNotNull().isEqualTo(entity.identifier);
     }
 
+    @Test
+    public void saveWithTimeOrderedUuidGeneration() {
+        List<UUID> identifiers = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            ValidAnnotations.TimeOrderedUuidIdAndGenerationType entity =
+                new ValidAnnotations.TimeOrderedUuidIdAndGenerationType();
+            session.save(entity);
+            identifiers.add(entity.identifier);
+        }
+
+        assertThat(identifiers).doesNotHaveDuplicates().isSorted();
+        assertThat(identifiers).extracting(UUID::version).containsOnly(7);
+        assertThat(identifiers).extracting(UUID::variant).containsOnly(2);
+
+        final Session session2 = sessionFactory.openSession();
+        final ValidAnnotations.TimeOrderedUuidIdAndGenerationType retrievedEntity = session2
+            .load(ValidAnnotations.TimeOrderedUuidIdAndGenerationType.class, identifiers.get(0));
+        assertThat(retrievedEntity).isNotNull();
+        assertThat(retrievedEntity.identifier).isEqualTo(identifiers.get(0));
+    }
+
+    @Test
+    public void saveWithHiLoIdGeneration() {
+        sessionFactory.register(new HiLoIdStrategy(sessionFactory, "hilo-test", 2));
+
+        List<Long> identifiers = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            ValidAnnotations.WithHiLoIdStrategy entity = new ValidAnnotations.WithHiLoIdStrategy();
+            session.save(entity);
+            identifiers.add(entity.identifier);
+        }
+
+        assertThat(identifiers).doesNotHaveDuplicates().isSorted();
+        Long reserved = session.queryForObject(Long.class,
+            "MATCH (s:IdSequence {name: 'hilo-test'}) RETURN s.next", Collections.emptyMap());
+        assertThat(reserved).isGreaterThanOrEqualTo(identifiers.get(4));
+
+        session.clear();
+        ValidAnnotations.WithHiLoIdStrategy loaded = session
+            .load(ValidAnnotations.WithHiLoIdStrategy.class, identifiers.get(4));
+        assertThat(loaded).isNotNull();
+        assertThat(loaded.identifier).isEqualTo(identifiers.get(4));
+    }
+
+    @Test
+    public void saveWithHiLoIdGenerationInRolledBackTransaction() {
+        sessionFactory.register(new HiLoIdStrategy(sessionFactory, "hilo-rollback-test", 2));
+
+        ValidAnnotations.WithHiLoIdStrategy rolledBack = new ValidAnnotations.WithHiLoIdStrategy();
+        ValidAnnotations.WithHiLoIdStrategy other = new ValidAnnotations.WithHiLoIdStrategy();
+        try (Transaction tx = session.beginTransaction()) {
+            session.save(rolledBack);
+            session.save(other);
+
+            assertThat(session.getTransaction()).isSameAs(tx);
+            assertThat(tx.status()).isEqualTo(Transaction.Status.OPEN);
+            tx.rollback();
+        }
+
+        Long reserved = session.queryForObject(Long.class,
+            "MATCH (s:IdSequence {name: 'hilo-rollback-test'}) RETURN s.next", Collections.emptyMap());
+        assertThat(reserved).isGreaterThanOrEqualTo(other.identifier);
+
+        ValidAnnotations.WithHiLoIdStrategy saved = new ValidAnnotations.WithHiLoIdStrategy();
+        session.save(saved);
+        assertThat(saved.identifier).isGreaterThan(other.identifier);
+    }
+
+    @Test
+    public void hiLoIdGenerationShouldKeepReservedBlockWhenInterrupted() {
+        HiLoIdStrategy strategy = new HiLoIdStrategy(sessionFactory, "hilo-interrupt-test", 2);
+        try {
+            Thread.currentThread().interrupt();
+            Object id = strategy.generateId(new ValidAnnotations.WithHiLoIdStrategy());
+
+            assertThat(Thread.interrupted()).isTrue();
+            Long reserved = session.queryForObject(Long.class,
+                "MATCH (s:IdSequence {name: 'hilo-interrupt-test'}) RETURN s.next", Collections.emptyMap());
+            assertThat(id).isEqualTo(reserved - 1);
+            assertThat(strategy.generateId(new ValidAnnotations.WithHiLoIdStrategy())).isEqualTo(reserved);
+        } finally {
+            Thread.interrupted();
+            strategy.close();
+        }
+    }
+
+    @Test
+    public void hiLoIdBlockReservationShouldKeepCachedResults() {
+        SessionFactory cachingSessionFactory = new SessionFactory(driver, "org.neo4j.ogm.domain.annotations.ids");
+        cachingSessionFactory.enableQueryResultCache(100, 1, TimeUnit.HOURS);
+        HiLoIdStrategy strategy = new HiLoIdStrategy(cachingSessionFactory, "hilo-cache-test", 2);
+        try {
+            cachingSessionFactory.openSession().loadAll(ValidAnnotations.WithHiLoIdStrategy.class);
+            assertThat(cachingSessionFactory.getQueryResultCache().size()).isEqualTo(1);
+
+            strategy.generateId(new ValidAnnotations.WithHiLoIdStrategy());
+
+            assertThat(cachingSessionFactory.getQueryResultCache().size()).isEqualTo(1);
+        } finally {
+            strategy.close();
+        }
+    }
+
+    @Test
+    public void closedHiLoIdStrategyShouldNotReserveBlocks() {
+        HiLoIdStrategy strategy = new HiLoIdStrategy(sessionFactory, "hilo-closed-test", 2);
+        strategy.close();
+
+        assertThatExceptionOfType(IllegalStateException.class)
+            .isThrownBy(() -> strategy.generateId(new ValidAnnotations.WithHiLoIdStrategy()));
+    }
+
     @Test
     public void saveWithCustomStrategyGeneratesId() throws Exception {
         ValidAnnotations.WithCustomIdStrategy entity = new ValidAnnotations.WithCustomIdStrategy();
@@ -15,6 +15,8 @@ package org.neo4j.ogm.metadata;
 
 import static org.assertj.core.api.Assertions.*;
 
+import java.util.Set;
+
 import org.junit.Before;
 import org.junit.Test;
 import org.neo4j.ogm.exception.core.AmbiguousBaseClassException;
@@ -62,6 +64,15 @@ public class MetaDataTest {
         assertThat(classInfo.name()).isEqualTo("org.neo4j.ogm.domain.forum.Member");
     }
 
+    @Test
+    public void testResolvesClassHierarchiesIgnoringForeignLabels() {
+        assertThat(metaData.resolve("Login", "Dynamic_1", "User").name())
+            .isEqualTo("org.neo4j.ogm.domain.forum.Member");
+        assertThat(metaData.resolve("Dynamic_2", "User", "Login").name())
+            .isEqualTo("org.neo4j.ogm.domain.forum.Member");
+        assertThat(metaData.resolve("Dynamic_1", "Dynamic_2")).isNull();
+    }
+
     @Test(expected = AmbiguousBaseClassException.class)
     public void testCannotResolveInconsistentClassHierarchies() {
         metaData.resolve("Login", "Topic");
@@ -150,4 +161,29 @@ public class MetaDataTest {
         assertThat(metaData.resolve("Silver", "Pewter", "Tin").name())
             .isEqualTo("org.neo4j.ogm.domain.forum.SilverMembership");
     }
+
+    @Test
+    public void testResolvedTaxaAreNotAffectedByChangesToTheGivenArray() {
+        String[] taxa = { "Silver", "Pewter" };
+        assertThat(metaData.resolve(taxa).name()).isEqualTo("org.neo4j.ogm.domain.forum.SilverMembership");
+
+        taxa[0] = "Knight";
+        assertThat(metaData.resolve(taxa)).isNull();
+        assertThat(metaData.resolve("Silver", "Pewter").name()).isEqualTo("org.neo4j.ogm.domain.forum.SilverMembership");
+    }
+
+    @Test
+    public void testAmbiguousTaxaAreReportedOnEachResolution() {
+        assertThatExceptionOfType(AmbiguousBaseClassException.class).isThrownBy(() -> metaData.resolve("Login", "Topic"));
+        assertThatExceptionOfType(AmbiguousBaseClassException.class).isThrownBy(() -> metaData.resolve("Login", "Topic"));
+    }
+
+    @Test
+    public void testClassInfosByLabelOrTypeAreLookedUpOnce() {
+        Set<ClassInfo> classInfos = metaData.classInfoByLabelOrType("MEMBER_OF");
+        assertThat(classInfos).extracting(ClassInfo::name)
+            .containsExactly("org.neo4j.ogm.domain.canonical.ArbitraryRelationshipEntity");
+        assertThat(metaData.classInfoByLabelOrType("MEMBER_OF")).isSameAs(classInfos);
+        assertThatExceptionOfType(UnsupportedOperationException.class).isThrownBy(classInfos::clear);
+    }
 }
@@ -16,15 +16,21 @@ package org.neo4j.ogm.metadata;
 import static org.assertj.core.api.AssertionsForClassTypes.*;
 
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
+import java.util.TreeSet;
 import java.util.concurrent.Callable;
 import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.CyclicBarrier;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.concurrent.TimeUnit;
 
 import org.junit.Test;
 import org.neo4j.ogm.domain.pizza.Pizza;
+import org.neo4j.ogm.metadata.reflect.EntityAccessManager;
+import org.neo4j.ogm.utils.ClassUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -37,6 +43,7 @@ public class ThreadSafeMetadataTest {
 
     private static final int THREADS = 8;
     private static final int TOTAL_RUNS = 100;
+    private static final String ANNOTATED_CINEASTS = "org.neo4j.ogm.domain.cineasts.annotated";
 
     @Test
     public void testGetFieldInfoThreadSafe() throws Exception {
@@ -67,4 +74,86 @@ public class ThreadSafeMetadataTest {
 
         service.shutdown();
     }
+
+    @Test
+    public void concurrentLookupsOnColdMetaDataShouldSeeTheSameMetaData() throws Exception {
+
+        String expected = describe(new MetaData(ANNOTATED_CINEASTS));
+
+        ExecutorService service = Executors.newFixedThreadPool(THREADS);
+        try {
+            for (int i = 0; i < TOTAL_RUNS; i++) {
+                MetaData metaData = new MetaData(ANNOTATED_CINEASTS);
+                CyclicBarrier start = new CyclicBarrier(THREADS);
+                List<Callable<String>> lookups = new ArrayList<>();
+                for (int j = 0; j < THREADS; j++) {
+                    lookups.add(() -> {
+                        start.await(1, TimeUnit.SECONDS);
+                        return describe(metaData);
+                    });
+                }
+                for (Future<String> description : service.invokeAll(lookups)) {
+                    assertThat(description.get()).isEqualTo(expected);
+                }
+            }
+        } finally {
+            service.shutdown();
+        }
+    }
+
+    @Test
+    public void warmedUpMetaDataShouldBeTheSameAsLazilyComputedMetaData() {
+
+        MetaData metaData = new MetaData(ANNOTATED_CINEASTS);
+        metaData.warmUp();
+
+        assertThat(describe(metaData)).isEqualTo(describe(new MetaData(ANNOTATED_CINEASTS)));
+    }
+
+    // touches the lazily built metadata of all classes in the order a session would
+    private static String describe(MetaData metaData) {
+        StringBuilder description = new StringBuilder();
+        for (ClassInfo classInfo : new TreeSet<>(names(metaData.persistentEntities()))
+            .stream().map(metaData::classInfo).toArray(ClassInfo[]::new)) {
+
+            description.append(classInfo.name()).append(':');
+            if (!classInfo.isInterface() && !classInfo.isEnum()) {
+                Collection<String> labels = classInfo.staticLabels();
+                ClassInfo resolved = metaData.resolve(labels.toArray(new String[0]));
+                description.append(resolved == null ? null : resolved.name()).append(';')
+                    .append(new TreeSet<>(names(classInfo.propertyFields()))).append(';')
+                    .append(classInfo.hasIdentityField()).append(';')
+                    .append(classInfo.postLoadMethodOrNull() != null).append(';')
+                    .append(metaData.classInfoByLabelOrType(classInfo.neo4jName()).size()).append(';');
+                for (String name : new TreeSet<>(names(classInfo.relationshipFields()))) {
+                    FieldInfo fieldInfo = classInfo.relationshipFieldByName(name);
+                    Class<?> type = ClassUtils.getType(fieldInfo.typeParameterDescriptor());
+                    if (type == null) {
+                        continue;
+                    }
+                    FieldInfo writer = fieldInfo.isIterable() || fieldInfo.isArray()
+                        ? EntityAccessManager.getIterableField(classInfo, type, fieldInfo.relationship(),
+                        fieldInfo.relationshipDirection())
+                        : EntityAccessManager.getRelationalWriter(classInfo, fieldInfo.relationship(),
+                        fieldInfo.relationshipDirection(), type);
+                    FieldInfo reader = EntityAccessManager.getRelationalReader(classInfo, fieldInfo.relationship(),
+                        fieldInfo.relationshipDirection());
+                    description.append(fieldInfo.getName()).append('=')
+                        .append(writer == null ? null : writer.getName()).append('/')
+                        .append(reader == null ? null : reader.getName()).append(',')
+                        .append(classInfo.findIterableFields(type).size()).append(';');
+                }
+            }
+            description.append('\n');
+        }
+        return description.toString();
+    }
+
+    private static List<String> names(Collection<?> infos) {
+        List<String> names = new ArrayList<>();
+        for (Object info : infos) {
+            names.add(info instanceof ClassInfo ? ((ClassInfo) info).name() : ((FieldInfo) info).getName());
+        }
+        return names;
+    }
 }
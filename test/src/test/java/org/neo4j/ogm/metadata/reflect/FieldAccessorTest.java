@@ -0,0 +1,90 @@
+/*
+ * Copyright (c) 2002-2018 "Neo Technology,"
+ * Network Engine for Objects in Lund AB [http://neotechnology.com]
+ *
+ * This product is licensed to you under the Apache License, Version 2.0 (the "License").
+ * You may not use this product except in compliance with the License.
+ *
+ * This product may include a number of subcomponents with
+ * separate copyright notices and license terms. Your use of the source
+ * code for these subcomponents is subject to the terms and
+ *  conditions of the subcomponent's license, as noted in the LICENSE file.
+ */
+
+package org.neo4j.ogm.metadata.reflect;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.lang.reflect.Field;
+import java.util.Arrays;
+import java.util.Collection;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.Parameterized;
+import org.neo4j.ogm.metadata.POJO;
+
+@RunWith(Parameterized.class)
+public class FieldAccessorTest {
+
+    @Parameterized.Parameters(name = "{0}")
+    public static Collection<Object[]> factories() {
+        return Arrays.asList(new Object[][] {
+            { "reflection", FieldAccessorFactory.REFLECTION },
+            { "method handles", FieldAccessorFactory.METHOD_HANDLES }
+        });
+    }
+
+    private final FieldAccessorFactory factory;
+
+    public FieldAccessorTest(String name, FieldAccessorFactory factory) {
+        this.factory = factory;
+    }
+
+    @Test
+    public void shouldReadAndWritePrivateFields() throws Exception {
+        POJO pojo = new POJO();
+        FieldAccessor x = accessor("x");
+
+        assertThat(x.read(pojo)).isNull();
+        x.write(pojo, "value");
+        assertThat(x.read(pojo)).isEqualTo("value");
+    }
+
+    @Test
+    public void shouldBoxAndUnboxPrimitiveFields() throws Exception {
+        POJO pojo = new POJO();
+        FieldAccessor pl = accessor("pl");
+        FieldAccessor pz = accessor("pz");
+
+        assertThat(pl.read(pojo)).isEqualTo(0L);
+        pl.write(pojo, 42L);
+        pz.write(pojo, true);
+        assertThat(pl.read(pojo)).isEqualTo(42L);
+        assertThat(pz.read(pojo)).isEqualTo(true);
+    }
+
+    @Test
+    public void shouldReadAndWriteArrayFields() throws Exception {
+        POJO pojo = new POJO();
+        FieldAccessor pii = accessor("pii");
+
+        pii.write(pojo, new int[] { 1, 2, 3 });
+        assertThat((int[]) pii.read(pojo)).containsExactly(1, 2, 3);
+    }
+
+    @Test
+    public void shouldRejectValuesOfTheWrongType() throws Exception {
+        POJO pojo = new POJO();
+
+        assertThatThrownBy(() -> accessor("x").write(pojo, 1L))
+            .hasCauseInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> accessor("pi").write(pojo, null))
+            .hasCauseInstanceOf(IllegalArgumentException.class);
+    }
+
+    private FieldAccessor accessor(String name) throws NoSuchFieldException {
+        Field field = POJO.class.getDeclaredField(name);
+        return factory.accessorFor(field);
+    }
+}
@@ -15,6 +15,7 @@ package org.neo4j.ogm.persistence.examples.locking;
 
 import static org.assertj.core.api.Assertions.*;
 
+import java.util.Arrays;
 import java.util.Collection;
 
 import org.junit.Before;
@@ -138,6 +139,35 @@ public class NodeOptimisticLockingTest extends MultiDriverTestClass {
             .isInstanceOf(OptimisticLockingException.class);
     }
 
+    @Test
+    public void givenNodesWhenDeleteCollectionThenNodesAreDeleted() {
+        User frantisek = new User("Frantisek");
+        User michael = new User("Michael");
+        PowerUser oliver = new PowerUser("Oliver");
+        session.save(Arrays.asList(frantisek, michael, oliver));
+
+        session.delete(Arrays.asList(frantisek, michael, oliver));
+
+        Collection<User> users = session.loadAll(User.class);
+        assertThat(users).isEmpty();
+    }
+
+    @Test
+    public void givenNodesWithWrongVersionWhenDeleteCollectionThenThrowOptimisticLockingException() {
+        User frantisek = new User("Frantisek");
+        User michael = new User("Michael");
+        session.save(Arrays.asList(frantisek, michael));
+
+        michael.setVersion(1L);
+
+        assertThatThrownBy(() -> session.delete(Arrays.asList(frantisek, michael)))
+            .isInstanceOf(OptimisticLockingException.class);
+
+        session.clear();
+        Collection<User> users = session.loadAll(User.class);
+        assertThat(users).hasSize(2);
+    }
+
     @Test
     public void shouldWorkWithInheritedVersionField() {
         PowerUser frantisek = new PowerUser("Frantisek");
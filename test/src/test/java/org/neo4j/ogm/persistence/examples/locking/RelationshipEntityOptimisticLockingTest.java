@@ -15,6 +15,7 @@ package org.neo4j.ogm.persistence.examples.locking;
 
 import static org.assertj.core.api.Assertions.*;
 
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Date;
 
@@ -179,6 +180,21 @@ public class RelationshipEntityOptimisticLockingTest extends MultiDriverTestClas
         assertThat(friendOfs).hasSize(1);
     }
 
+    @Test
+    public void givenRelationshipEntityAndItsNodesWhenDeleteCollectionThenDeleteAll() {
+        User michael = new User("Michael");
+        User oliver = new User("Oliver");
+        FriendOf friendOf = michael.addFriend(oliver);
+
+        session.save(michael);
+
+        session.delete(Arrays.asList(michael, friendOf, oliver));
+
+        session.clear();
+        assertThat(session.loadAll(FriendOf.class)).isEmpty();
+        assertThat(session.loadAll(User.class)).isEmpty();
+    }
+
     @Test
     public void optimisticLockingExceptionShouldRollbackDefaultTransaction() {
         User michael = new User("Michael");
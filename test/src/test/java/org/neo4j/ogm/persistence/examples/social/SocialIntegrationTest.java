@@ -31,6 +31,7 @@ import org.neo4j.ogm.domain.social.Individual;
 import org.neo4j.ogm.domain.social.Mortal;
 import org.neo4j.ogm.domain.social.Person;
 import org.neo4j.ogm.domain.social.User;
+import org.neo4j.ogm.session.DirtyTrackingStrategy;
 import org.neo4j.ogm.session.Session;
 import org.neo4j.ogm.session.SessionFactory;
 import org.neo4j.ogm.testutil.MultiDriverTestClass;
@@ -350,4 +351,26 @@ public class SocialIntegrationTest extends MultiDriverTestClass {
         assertThat(loadedD.getPeopleILike()).hasSize(2);
     }
 
+    @Test
+    public void shouldOnlyWriteChangedPropertiesWithFieldSnapshots() {
+        SessionFactory snapshotSessionFactory = new SessionFactory(driver, "org.neo4j.ogm.domain.social");
+        snapshotSessionFactory.setDirtyTrackingStrategy(DirtyTrackingStrategy.FIELD_SNAPSHOT);
+        Session snapshotSession = snapshotSessionFactory.openSession();
+
+        Individual individual = new Individual();
+        individual.setName("Jeff");
+        individual.setAge(41);
+        snapshotSession.save(individual);
+
+        // a concurrent change to another property must survive the next save
+        session.query("MATCH (n:Individual) SET n.name = 'Geoff'", Collections.emptyMap());
+
+        individual.setAge(42);
+        snapshotSession.save(individual);
+
+        session.clear();
+        Individual loaded = session.load(Individual.class, individual.getId());
+        assertThat(loaded.getName()).isEqualTo("Geoff");
+        assertThat(loaded.getAge()).isEqualTo(42);
+    }
 }
@@ -38,6 +38,7 @@ import org.neo4j.ogm.domain.education.Student;
 import org.neo4j.ogm.domain.education.Teacher;
 import org.neo4j.ogm.domain.forum.Forum;
 import org.neo4j.ogm.domain.forum.ForumTopicLink;
+import org.neo4j.ogm.domain.forum.Member;
 import org.neo4j.ogm.domain.forum.Topic;
 import org.neo4j.ogm.domain.policy.Person;
 import org.neo4j.ogm.domain.policy.Policy;
@@ -139,6 +140,22 @@ public class EntityGraphMapperTest extends MultiDriverTestClass {
         assertThat(cypher.getStatements()).isEmpty();
     }
 
+    @Test
+    public void updateLongPropertyToValueWithSameHashCode() {
+
+        Member member = new Member();
+        member.setUserName("Frankie");
+        member.setMembershipNumber(0L);
+        session.save(member);
+
+        // Long.hashCode(0L) == Long.hashCode(-1L), the change must still be detected
+        member.setMembershipNumber(-1L);
+        session.save(member);
+
+        Member loaded = sessionFactory.openSession().load(Member.class, member.getId());
+        assertThat(loaded.getMembershipNumber()).isEqualTo(-1L);
+    }
+
     @Test
     public void addObjectToCollection() {
 
@@ -0,0 +1,195 @@
+/*
+ * Copyright (c) 2002-2018 "Neo Technology,"
+ * Network Engine for Objects in Lund AB [http://neotechnology.com]
+ *
+ * This product is licensed to you under the Apache License, Version 2.0 (the "License").
+ * You may not use this product except in compliance with the License.
+ *
+ * This product may include a number of subcomponents with
+ * separate copyright notices and license terms. Your use of the source
+ * code for these subcomponents is subject to the terms and
+ *  conditions of the subcomponent's license, as noted in the LICENSE file.
+ */
+
+package org.neo4j.ogm.persistence.session.capability;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.neo4j.ogm.domain.cacheable.Country;
+import org.neo4j.ogm.domain.cacheable.Currency;
+import org.neo4j.ogm.session.Session;
+import org.neo4j.ogm.session.SessionFactory;
+import org.neo4j.ogm.testutil.MultiDriverTestClass;
+import org.neo4j.ogm.transaction.Transaction;
+
+/**
+ * Changes made by other applications, here through a session of another factory, only show up in loads that were not
+ * served from the cache.
+ */
+public class CacheCapabilityTest extends MultiDriverTestClass {
+
+    private SessionFactory sessionFactory;
+    private Session session;
+
+    @Before
+    public void init() {
+        sessionFactory = new SessionFactory(driver, "org.neo4j.ogm.domain.cacheable");
+        session = sessionFactory.openSession();
+        session.purgeDatabase();
+
+        session.save(new Country("SE", "Sweden", new Currency("SEK")));
+        session.save(new Country("NO", "Norway", new Currency("NOK")));
+    }
+
+    @After
+    public void clearDatabase() {
+        session.purgeDatabase();
+    }
+
+    @Test
+    public void shouldServeLoadsFromCacheAcrossSessions() {
+        assertThat(sessionFactory.openSession().load(Country.class, "SE").getName()).isEqualTo("Sweden");
+        renameCountries();
+
+        Country country = sessionFactory.openSession().load(Country.class, "SE");
+
+        assertThat(country.getName()).isEqualTo("Sweden");
+        assertThat(country.getCurrency().getName()).isEqualTo("SEK");
+        assertThat(sessionFactory.getSecondLevelCache().size()).isEqualTo(1);
+    }
+
+    @Test
+    public void shouldNotServeLoadsOfOtherDepthFromCache() {
+        sessionFactory.openSession().load(Country.class, "SE");
+        renameCountries();
+
+        assertThat(sessionFactory.openSession().load(Country.class, "SE", 0).getName()).isEqualTo("Sverige");
+    }
+
+    @Test
+    public void shouldInvalidateCachedLoadWhenEntityIsSaved() {
+        sessionFactory.openSession().load(Country.class, "SE");
+
+        Session other = sessionFactory.openSession();
+        Country country = other.load(Country.class, "SE");
+        country.setName("Kingdom of Sweden");
+        other.save(country);
+
+        assertThat(sessionFactory.openSession().load(Country.class, "SE").getName()).isEqualTo("Kingdom of Sweden");
+    }
+
+    @Test
+    public void shouldNotCacheStateFromBeforeUncommittedSave() throws Exception {
+        Session other = sessionFactory.openSession();
+        try (Transaction tx = other.beginTransaction()) {
+            Country country = other.load(Country.class, "SE");
+            country.setName("Kingdom of Sweden");
+            other.save(country);
+
+            // transactions are bound to threads, so this loads the committed state
+            ExecutorService executor = Executors.newSingleThreadExecutor();
+            try {
+                assertThat(executor.submit(() -> sessionFactory.openSession().load(Country.class, "SE").getName())
+                    .get()).isEqualTo("Sweden");
+            } finally {
+                executor.shutdown();
+            }
+            tx.commit();
+        }
+
+        assertThat(sessionFactory.openSession().load(Country.class, "SE").getName()).isEqualTo("Kingdom of Sweden");
+    }
+
+    @Test
+    public void shouldNotCacheStateFromBeforeUncommittedModifyingQuery() throws Exception {
+        Session other = sessionFactory.openSession();
+        try (Transaction tx = other.beginTransaction()) {
+            other.query("MATCH (c:Country {code: 'SE'}) SET c.name = 'Sverige'", Collections.emptyMap());
+
+            // transactions are bound to threads, so this loads the committed state
+            ExecutorService executor = Executors.newSingleThreadExecutor();
+            try {
+                assertThat(executor.submit(() -> sessionFactory.openSession().load(Country.class, "SE").getName())
+                    .get()).isEqualTo("Sweden");
+            } finally {
+                executor.shutdown();
+            }
+            assertThat(sessionFactory.getSecondLevelCache().size()).isZero();
+            tx.commit();
+        }
+
+        assertThat(sessionFactory.openSession().load(Country.class, "SE").getName()).isEqualTo("Sverige");
+    }
+
+    @Test
+    public void shouldInvalidateCachedLoadWhenRelatedEntityIsSaved() {
+        Long currencyId = sessionFactory.openSession().load(Country.class, "SE").getCurrency().getId();
+
+        Session other = sessionFactory.openSession();
+        Currency currency = other.load(Currency.class, currencyId);
+        currency.setName("Krona");
+        other.save(currency);
+
+        assertThat(sessionFactory.openSession().load(Country.class, "SE").getCurrency().getName()).isEqualTo("Krona");
+    }
+
+    @Test
+    public void shouldInvalidateCachedLoadWhenEntityIsDeleted() {
+        Session other = sessionFactory.openSession();
+        other.delete(other.load(Country.class, "SE"));
+
+        assertThat(sessionFactory.getSecondLevelCache().size()).isZero();
+        assertThat(sessionFactory.openSession().load(Country.class, "SE")).isNull();
+    }
+
+    @Test
+    public void shouldOnlyQueryIdsMissingFromCacheWhenLoadingAll() {
+        sessionFactory.openSession().load(Country.class, "SE");
+        renameCountries();
+
+        Collection<Country> countries = sessionFactory.openSession().loadAll(Country.class, Arrays.asList("NO", "SE"));
+
+        assertThat(countries).extracting(Country::getName).containsExactly("Norge", "Sweden");
+        assertThat(sessionFactory.getSecondLevelCache().size()).isEqualTo(2);
+
+        countries = sessionFactory.openSession().loadAll(Country.class, Arrays.asList("SE", "NO"));
+
+        assertThat(countries).extracting(Country::getName).containsExactly("Sweden", "Norge");
+        assertThat(countries).extracting(c -> c.getCurrency().getName()).containsExactly("SEK", "NOK");
+    }
+
+    @Test
+    public void shouldClearCacheWhenDatabaseIsPurged() {
+        sessionFactory.openSession().load(Country.class, "SE");
+
+        session.purgeDatabase();
+
+        assertThat(sessionFactory.getSecondLevelCache().size()).isZero();
+        assertThat(sessionFactory.openSession().load(Country.class, "SE")).isNull();
+    }
+
+    @Test
+    public void shouldClearCacheWhenCypherModifiesGraph() {
+        assertThat(sessionFactory.openSession().load(Country.class, "SE").getName()).isEqualTo("Sweden");
+
+        session.query("MATCH (c:Country {code: 'SE'}) SET c.name = 'Sverige'", Collections.emptyMap());
+
+        assertThat(sessionFactory.getSecondLevelCache().size()).isZero();
+        assertThat(sessionFactory.openSession().load(Country.class, "SE").getName()).isEqualTo("Sverige");
+    }
+
+    private void renameCountries() {
+        Session otherApplication = new SessionFactory(driver, "org.neo4j.ogm.domain.cacheable").openSession();
+        otherApplication.query("MATCH (c:Country {code: 'SE'}) SET c.name = 'Sverige'", Collections.emptyMap());
+        otherApplication.query("MATCH (c:Country {code: 'NO'}) SET c.name = 'Norge'", Collections.emptyMap());
+    }
+}
@@ -23,6 +23,7 @@ import org.junit.BeforeClass;
 import org.junit.Test;
 import org.neo4j.ogm.domain.music.Album;
 import org.neo4j.ogm.domain.music.Recording;
+import org.neo4j.ogm.domain.music.Studio;
 import org.neo4j.ogm.session.Session;
 import org.neo4j.ogm.session.SessionFactory;
 import org.neo4j.ogm.testutil.MultiDriverTestClass;
@@ -99,6 +100,41 @@ public class DeleteCapabilityTest extends MultiDriverTestClass {
         assertEntityCount(0);
     }
 
+    @Test
+    public void canDeleteEntityCollectionLargerThanOneBatch() {
+        List<Album> albums = new ArrayList<>();
+        for (int i = 0; i < 2500; i++) {
+            albums.add(new Album("Album " + i));
+        }
+        session.save(albums);
+        assertEntityCount(2500);
+
+        session.delete(albums);
+        assertEntityCount(0);
+    }
+
+    @Test
+    public void canDeleteRelationshipEntitiesTogetherWithNodes() {
+        Album album = new Album("Abbey Road");
+        Studio studio = new Studio("Abbey Road Studios");
+        Recording recording = new Recording(album, studio, 1969);
+        album.setRecording(recording);
+        session.save(album);
+
+        Album other = new Album("Revolver");
+        session.save(other);
+
+        List<Object> objects = new ArrayList<>();
+        objects.add(recording);
+        objects.add(other);
+        session.delete(objects);
+
+        session.clear();
+        assertThat(session.loadAll(Recording.class)).isEmpty();
+        assertThat(session.countEntitiesOfType(Studio.class)).isEqualTo(1);
+        assertEntityCount(1);
+    }
+
     private void assertEntityCount(int count) {
         session.clear(); // Ensure that no data is cached...
         long entityCount = session.countEntitiesOfType(Album.class);
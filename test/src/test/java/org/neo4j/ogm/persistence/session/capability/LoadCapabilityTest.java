@@ -21,11 +21,18 @@ import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import org.junit.After;
 import org.junit.Before;
 import org.junit.Test;
 import org.neo4j.ogm.context.MappingContext;
+import org.neo4j.ogm.cypher.ComparisonOperator;
+import org.neo4j.ogm.cypher.Filter;
+import org.neo4j.ogm.cypher.Filters;
+import org.neo4j.ogm.cypher.query.KeysetPage;
+import org.neo4j.ogm.cypher.query.KeysetPagination;
 import org.neo4j.ogm.cypher.query.Pagination;
 import org.neo4j.ogm.cypher.query.SortOrder;
 import org.neo4j.ogm.domain.education.DomainObject;
@@ -35,6 +42,7 @@ import org.neo4j.ogm.domain.music.Album;
 import org.neo4j.ogm.domain.music.Artist;
 import org.neo4j.ogm.domain.music.Recording;
 import org.neo4j.ogm.domain.music.Studio;
+import org.neo4j.ogm.domain.social.User;
 import org.neo4j.ogm.session.Neo4jSession;
 import org.neo4j.ogm.session.Session;
 import org.neo4j.ogm.session.SessionFactory;
@@ -743,6 +751,150 @@ public class LoadCapabilityTest extends MultiDriverTestClass {
         assertThat(artists).containsExactly(led, bonJovi, beatles);
     }
 
+    @Test
+    public void shouldStreamAllEntitiesOfType() {
+        session.save(new Artist("Led Zeppelin"));
+        session.save(new Artist("Bon Jovi"));
+        session.clear();
+
+        List<Artist> artists;
+        try (Stream<Artist> stream = session.stream(Artist.class, new Filters(), new SortOrder().add("name"), null, 1,
+            true)) {
+            artists = stream.collect(Collectors.toList());
+        }
+
+        assertThat(artists).extracting(Artist::getName).containsExactly("Bon Jovi", "Led Zeppelin", "The Beatles");
+        assertThat(artists.get(2).getAlbums()).extracting(Album::getName).containsExactly("Please Please Me");
+        assertThat(session.load(Artist.class, beatlesId)).isSameAs(artists.get(2));
+    }
+
+    @Test
+    public void shouldNotRegisterStreamedEntitiesWhenAskedNotTo() {
+        session.clear();
+        MappingContext context = ((Neo4jSession) session).context();
+
+        List<Artist> artists;
+        try (Stream<Artist> stream = session.stream(Artist.class, new Filters(), null, null, 1, false)) {
+            artists = stream.collect(Collectors.toList());
+        }
+
+        assertThat(artists).extracting(Artist::getName).containsExactly("The Beatles");
+        assertThat(artists.get(0).getAlbums()).hasSize(1);
+        assertThat(context.getNodeEntity(beatlesId)).isNull();
+        assertThat(context.getNodeEntity(pleaseId)).isNull();
+    }
+
+    @Test
+    public void shouldStreamOnlyMatchedEntitiesOfTypesRelatedToThemselves() {
+        Session session = new SessionFactory(driver, "org.neo4j.ogm.domain.social").openSession();
+        User alice = new User("Alice");
+        User bob = new User("Bob");
+        alice.befriend(bob);
+        session.save(alice);
+        session.save(new User("Carol"));
+
+        for (boolean registerEntities : Arrays.asList(true, false)) {
+            session.clear();
+
+            List<User> users;
+            Filters filters = new Filters(new Filter("name", ComparisonOperator.EQUALS, "Alice"));
+            try (Stream<User> stream = session.stream(User.class, filters, null, null, 1, registerEntities)) {
+                users = stream.collect(Collectors.toList());
+            }
+            assertThat(users).extracting(User::getName).containsExactly("Alice");
+            assertThat(users.get(0).getFriends()).extracting(User::getName).containsExactly("Bob");
+
+            try (Stream<User> stream = session.stream(User.class, new Filters(), new SortOrder().add("name"),
+                null, 1, registerEntities)) {
+                users = stream.collect(Collectors.toList());
+            }
+            assertThat(users).extracting(User::getName).containsExactly("Alice", "Bob", "Carol");
+        }
+    }
+
+    @Test
+    public void shouldPageThroughAllEntitiesWithKeysetPagination() {
+        for (String name : Arrays.asList("ABBA", "Queen", "ABBA", "Coldplay", "Queen")) {
+            session.save(new Artist(name));
+        }
+        session.clear();
+
+        List<String> names = new ArrayList<>();
+        List<Long> ids = new ArrayList<>();
+        KeysetPagination pagination = new KeysetPagination(new SortOrder().asc("name"), 2);
+        int pages = 0;
+        while (pagination != null) {
+            KeysetPage<Artist> page = session.loadPage(Artist.class, pagination);
+            page.getContent().forEach(artist -> {
+                names.add(artist.getName());
+                ids.add(artist.getId());
+            });
+            pagination = page.hasNext() ? pagination.after(page.getContinuationToken()) : null;
+            pages++;
+        }
+
+        assertThat(names).containsExactly("ABBA", "ABBA", "Coldplay", "Queen", "Queen", "The Beatles");
+        assertThat(ids).doesNotHaveDuplicates();
+        assertThat(pages).isEqualTo(4);
+    }
+
+    @Test
+    public void shouldApplyFiltersAndDescendingOrderWithKeysetPagination() {
+        for (String name : Arrays.asList("ABBA", "Queen", "Coldplay")) {
+            session.save(new Artist(name));
+        }
+
+        Filters filters = new Filters(new Filter("name", ComparisonOperator.STARTING_WITH, "Q"))
+            .or(new Filter("name", ComparisonOperator.STARTING_WITH, "T"));
+        assertThatThrownBy(() -> session.loadPage(Artist.class, filters,
+            new KeysetPagination(new SortOrder().desc("name"), 2), 0))
+            .isInstanceOf(UnsupportedOperationException.class);
+
+        Filter abba = new Filter("name", ComparisonOperator.EQUALS, "ABBA");
+        abba.setNegated(true);
+        Filters notAbba = new Filters(abba);
+        KeysetPage<Artist> page = session.loadPage(Artist.class, notAbba,
+            new KeysetPagination(new SortOrder().desc("name"), 2), 0);
+        assertThat(page.getContent()).extracting(Artist::getName).containsExactly("The Beatles", "Queen");
+
+        page = session.loadPage(Artist.class, notAbba, page.next(), 0);
+        assertThat(page.getContent()).extracting(Artist::getName).containsExactly("Coldplay");
+        assertThat(page.hasNext()).isFalse();
+        assertThat(page.getContinuationToken()).isNull();
+    }
+
+    @Test
+    public void shouldPageOnlyMatchedEntitiesOfTypesRelatedToThemselvesWithKeysetPagination() {
+        Session session = new SessionFactory(driver, "org.neo4j.ogm.domain.social").openSession();
+        User alice = new User("Alice");
+        User zoe = new User("Zoe");
+        alice.befriend(zoe);
+        session.save(alice);
+        for (String name : Arrays.asList("Bob", "Carol", "Dave")) {
+            session.save(new User(name));
+        }
+        session.clear();
+
+        // friends loaded at depth 1 are not part of the page
+        List<List<String>> pages = new ArrayList<>();
+        KeysetPagination pagination = new KeysetPagination(new SortOrder().asc("name"), 2);
+        while (pagination != null) {
+            KeysetPage<User> page = session.loadPage(User.class, new Filters(), pagination, 1);
+            pages.add(page.getContent().stream().map(User::getName).collect(Collectors.toList()));
+            pagination = page.next();
+        }
+        assertThat(pages).containsExactly(Arrays.asList("Alice", "Bob"), Arrays.asList("Carol", "Dave"),
+            Collections.singletonList("Zoe"));
+
+        session.clear();
+        Filters filters = new Filters(new Filter("name", ComparisonOperator.EQUALS, "Alice"));
+        KeysetPage<User> page = session.loadPage(User.class, filters,
+            new KeysetPagination(new SortOrder().asc("name"), 2), 1);
+        assertThat(page.getContent()).extracting(User::getName).containsExactly("Alice");
+        assertThat(page.getContent().get(0).getFriends()).extracting(User::getName).containsExactly("Zoe");
+        assertThat(page.hasNext()).isFalse();
+    }
+
     @Test
     public void loadAllByInstancesShouldLoadAllClasses() {
         SessionFactory sf = new SessionFactory(driver, "org.neo4j.ogm.domain.education");
@@ -17,10 +17,12 @@ import static org.assertj.core.api.Assertions.*;
 
 import java.io.IOException;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.stream.Stream;
 
 import org.junit.After;
 import org.junit.Before;
@@ -221,6 +223,24 @@ public class QueryCapabilityTest extends MultiDriverTestClass {
         assertThat(names.contains("Colin")).isTrue();
     }
 
+    @Test
+    public void shouldStreamEntitiesAndScalars() {
+        session.save(new Actor("Jeff"));
+        session.save(new Actor("John"));
+        session.save(new Actor("Colin"));
+        Map<String, Object> parameters = MapUtil.map("names", Arrays.asList("Jeff", "John", "Colin"));
+
+        try (Stream<Actor> actors = session.queryForStream(Actor.class,
+            "MATCH (a:Actor) WHERE a.name IN {names} RETURN a ORDER BY a.name", parameters)) {
+            assertThat(actors.map(Actor::getName)).containsExactly("Colin", "Jeff", "John");
+        }
+
+        try (Stream<String> names = session.queryForStream(String.class,
+            "MATCH (a:Actor) WHERE a.name IN {names} RETURN a.name ORDER BY a.name DESC", parameters)) {
+            assertThat(names.limit(2)).containsExactly("John", "Jeff");
+        }
+    }
+
     @Test
     public void shouldBeAbleToHandleNullValuesInQueryResults() {
         session.save(new Actor("Jeff"));
@@ -0,0 +1,231 @@
+/*
+ * Copyright (c) 2002-2018 "Neo Technology,"
+ * Network Engine for Objects in Lund AB [http://neotechnology.com]
+ *
+ * This product is licensed to you under the Apache License, Version 2.0 (the "License").
+ * You may not use this product except in compliance with the License.
+ *
+ * This product may include a number of subcomponents with
+ * separate copyright notices and license terms. Your use of the source
+ * code for these subcomponents is subject to the terms and
+ *  conditions of the subcomponent's license, as noted in the LICENSE file.
+ */
+
+package org.neo4j.ogm.persistence.session.capability;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.neo4j.ogm.cypher.ComparisonOperator;
+import org.neo4j.ogm.cypher.Filter;
+import org.neo4j.ogm.domain.music.Album;
+import org.neo4j.ogm.domain.music.Artist;
+import org.neo4j.ogm.domain.music.Studio;
+import org.neo4j.ogm.model.Result;
+import org.neo4j.ogm.session.Session;
+import org.neo4j.ogm.session.SessionFactory;
+import org.neo4j.ogm.testutil.MultiDriverTestClass;
+import org.neo4j.ogm.transaction.Transaction;
+
+/**
+ * Changes made through a session factory without query result cache are not seen by the caching one, so they only
+ * show up in results that were not served from the cache.
+ */
+public class QueryResultCacheCapabilityTest extends MultiDriverTestClass {
+
+    private SessionFactory sessionFactory;
+    private Session session;
+    private Session uncachedSession;
+
+    @Before
+    public void init() {
+        sessionFactory = new SessionFactory(driver, "org.neo4j.ogm.domain.music");
+        sessionFactory.enableQueryResultCache(100, 1, TimeUnit.HOURS);
+        session = sessionFactory.openSession();
+        uncachedSession = new SessionFactory(driver, "org.neo4j.ogm.domain.music").openSession();
+        session.purgeDatabase();
+
+        Artist artist = new Artist("The Beatles");
+        artist.addAlbum(new Album("Please Please Me"));
+        session.save(artist);
+    }
+
+    @After
+    public void clearDatabase() {
+        session.purgeDatabase();
+    }
+
+    @Test
+    public void shouldServeLoadsByTypeFromCacheAcrossSessions() {
+        sessionFactory.openSession().loadAll(Artist.class);
+        renameArtist();
+
+        Collection<Artist> artists = sessionFactory.openSession().loadAll(Artist.class);
+
+        assertThat(artists).extracting(Artist::getName).containsExactly("The Beatles");
+        assertThat(artists.iterator().next().getAlbums()).extracting(Album::getName).containsExactly("Please Please Me");
+        assertThat(sessionFactory.getQueryResultCache().size()).isEqualTo(1);
+    }
+
+    @Test
+    public void shouldKeySameLoadWithDifferentParametersSeparately() {
+        Filter filter = new Filter("name", ComparisonOperator.EQUALS, "The Beatles");
+        assertThat(sessionFactory.openSession().loadAll(Artist.class, filter)).hasSize(1);
+        renameArtist();
+
+        assertThat(sessionFactory.openSession().loadAll(Artist.class, filter)).hasSize(1);
+        filter = new Filter("name", ComparisonOperator.EQUALS, "Beatles");
+        assertThat(sessionFactory.openSession().loadAll(Artist.class, filter)).hasSize(1);
+    }
+
+    @Test
+    public void shouldServeReadOnlyQueriesFromCache() {
+        String cypher = "MATCH (a:`l'artiste`) RETURN a.name AS name";
+        sessionFactory.openSession().query(cypher, Collections.emptyMap());
+        sessionFactory.openSession().query(String.class, cypher, Collections.emptyMap());
+        renameArtist();
+
+        Result result = sessionFactory.openSession().query(cypher, Collections.emptyMap());
+
+        assertThat(result.queryResults()).extracting(row -> row.get("name")).containsExactly("The Beatles");
+        assertThat(sessionFactory.openSession().query(String.class, cypher, Collections.emptyMap()))
+            .containsExactly("The Beatles");
+    }
+
+    @Test
+    public void shouldMapCachedQueryResultsIntoEachSession() {
+        String cypher = "MATCH (a:`l'artiste`)-[r:`HAS-ALBUM`]->(b:Album) RETURN a, r, collect(b) AS albums";
+        Session first = sessionFactory.openSession();
+        Session second = sessionFactory.openSession();
+
+        for (int i = 0; i < 2; i++) {
+            Map<String, Object> firstRow = first.query(cypher, Collections.emptyMap()).queryResults().iterator().next();
+            Map<String, Object> secondRow = second.query(cypher, Collections.emptyMap()).queryResults().iterator()
+                .next();
+
+            Artist firstArtist = (Artist) firstRow.get("a");
+            Artist secondArtist = (Artist) secondRow.get("a");
+            assertThat(firstArtist).isNotSameAs(secondArtist);
+            assertThat(first.load(Artist.class, firstArtist.getId(), 0)).isSameAs(firstArtist);
+            assertThat(second.load(Artist.class, secondArtist.getId(), 0)).isSameAs(secondArtist);
+
+            Album firstAlbum = (Album) ((List<?>) firstRow.get("albums")).get(0);
+            Album secondAlbum = (Album) ((List<?>) secondRow.get("albums")).get(0);
+            assertThat(firstAlbum).isNotSameAs(secondAlbum);
+            assertThat(firstArtist.getAlbums()).containsExactly(firstAlbum);
+            assertThat(secondArtist.getAlbums()).containsExactly(secondAlbum);
+
+            // changes to a result must not show up in the results of other sessions
+            firstRow.put("a", "changed");
+        }
+        assertThat(sessionFactory.getQueryResultCache().size()).isEqualTo(1);
+    }
+
+    @Test
+    public void shouldExecuteProcedureCallsEveryTime() {
+        String cypher = "CALL db.labels() YIELD label WITH count(label) AS labels "
+            + "MATCH (a:`l'artiste`) RETURN a.name AS name";
+        sessionFactory.openSession().query(cypher, Collections.emptyMap());
+        renameArtist();
+
+        Result result = sessionFactory.openSession().query(cypher, Collections.emptyMap());
+
+        assertThat(result.queryResults()).extracting(row -> row.get("name")).containsExactly("Beatles");
+        assertThat(sessionFactory.getQueryResultCache().size()).isZero();
+    }
+
+    @Test
+    public void shouldExecuteNonDeterministicQueriesEveryTime() {
+        String cypher = "MATCH (a:`l'artiste`) RETURN a.name AS name, timestamp() AS now";
+        sessionFactory.openSession().query(cypher, Collections.emptyMap());
+        renameArtist();
+
+        Result result = sessionFactory.openSession().query(cypher, Collections.emptyMap());
+
+        assertThat(result.queryResults()).extracting(row -> row.get("name")).containsExactly("Beatles");
+        assertThat(sessionFactory.getQueryResultCache().size()).isZero();
+    }
+
+    @Test
+    public void shouldInvalidateResultsMentioningLabelOfSavedEntity() {
+        sessionFactory.openSession().loadAll(Artist.class);
+        renameArtist();
+
+        Session other = sessionFactory.openSession();
+        Album album = other.loadAll(Album.class, 0).iterator().next();
+        album.setName("Please Please Me (Remastered)");
+        other.save(album);
+
+        assertThat(sessionFactory.openSession().loadAll(Artist.class)).extracting(Artist::getName)
+            .containsExactly("Beatles");
+    }
+
+    @Test
+    public void shouldKeepResultsNotMentioningLabelOfSavedEntity() {
+        sessionFactory.openSession().loadAll(Artist.class, 0);
+        renameArtist();
+
+        sessionFactory.openSession().save(new Studio("Abbey Road"));
+
+        assertThat(sessionFactory.openSession().loadAll(Artist.class, 0)).extracting(Artist::getName)
+            .containsExactly("The Beatles");
+    }
+
+    @Test
+    public void shouldClearCacheWhenModifyingQueryIsExecuted() {
+        sessionFactory.openSession().loadAll(Artist.class, 0);
+
+        session.query("MATCH (a:`l'artiste`) SET a.name = 'Beatles'", Collections.emptyMap());
+
+        assertThat(sessionFactory.getQueryResultCache().size()).isZero();
+        assertThat(sessionFactory.openSession().loadAll(Artist.class, 0)).extracting(Artist::getName)
+            .containsExactly("Beatles");
+    }
+
+    @Test
+    public void shouldNotCacheResultsFromBeforeUncommittedModifyingQuery() throws Exception {
+        Session other = sessionFactory.openSession();
+        try (Transaction tx = other.beginTransaction()) {
+            other.query("MATCH (a:`l'artiste`) SET a.name = 'Beatles'", Collections.emptyMap());
+
+            // transactions are bound to threads, so this loads the committed state
+            ExecutorService executor = Executors.newSingleThreadExecutor();
+            try {
+                assertThat(executor.submit(() -> sessionFactory.openSession().loadAll(Artist.class, 0)).get())
+                    .extracting(Artist::getName).containsExactly("The Beatles");
+            } finally {
+                executor.shutdown();
+            }
+            assertThat(sessionFactory.getQueryResultCache().size()).isZero();
+            tx.commit();
+        }
+
+        assertThat(sessionFactory.openSession().loadAll(Artist.class, 0)).extracting(Artist::getName)
+            .containsExactly("Beatles");
+    }
+
+    @Test
+    public void shouldNotCacheResultsInsideTransactions() {
+        Session other = sessionFactory.openSession();
+        try (Transaction tx = other.beginTransaction()) {
+            other.loadAll(Artist.class, 0);
+            tx.commit();
+        }
+
+        assertThat(sessionFactory.getQueryResultCache().size()).isZero();
+    }
+
+    private void renameArtist() {
+        uncachedSession.query("MATCH (a:`l'artiste`) SET a.name = 'Beatles'", Collections.emptyMap());
+    }
+}
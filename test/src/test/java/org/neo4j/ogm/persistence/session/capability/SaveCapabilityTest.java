@@ -16,7 +16,9 @@ package org.neo4j.ogm.persistence.session.capability;
 import static org.assertj.core.api.Assertions.*;
 
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
@@ -34,6 +36,7 @@ import org.neo4j.ogm.session.Neo4jSession;
 import org.neo4j.ogm.session.Session;
 import org.neo4j.ogm.session.SessionFactory;
 import org.neo4j.ogm.testutil.MultiDriverTestClass;
+import org.neo4j.ogm.transaction.Transaction;
 
 /**
  * @author Luanne Misquitta
@@ -101,6 +104,59 @@ public class SaveCapabilityTest extends MultiDriverTestClass {
         assertThat(session.countEntitiesOfType(Artist.class)).isEqualTo(3);
     }
 
+    @Test
+    public void saveInBatchesShouldSaveRelationshipsToEntitiesOfPreviousBatches() {
+        List<Artist> artists = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            Artist artist = new Artist("Artist " + i);
+            Album album = new Album("Album " + i);
+            artist.addAlbum(album);
+            album.setArtist(artist);
+            if (i > 0) {
+                album.setGuestArtist(artists.get(i - 1));
+            }
+            artists.add(artist);
+        }
+
+        session.saveInBatches(artists, -1, 3);
+
+        assertThat(artists).extracting(Artist::getId).doesNotContainNull();
+        session.clear();
+        assertThat(session.countEntitiesOfType(Artist.class)).isEqualTo(10);
+        assertThat(session.countEntitiesOfType(Album.class)).isEqualTo(10);
+        assertThat(session.queryForObject(Long.class,
+            "MATCH (:`l'artiste`)-[r:GUEST_ALBUM]->(:`l'album`) RETURN count(r)", Collections.emptyMap()))
+            .isEqualTo(9L);
+        Artist loaded = session.load(Artist.class, artists.get(3).getId());
+        assertThat(loaded.getGuestAlbums()).extracting(Album::getName).containsExactly("Album 4");
+    }
+
+    @Test
+    public void saveInBatchesShouldRollBackAllBatchesWithTransaction() {
+        try (Transaction tx = session.beginTransaction()) {
+            session.saveInBatches(Arrays.asList(aerosmith, bonJovi, defLeppard), -1, 2);
+            tx.rollback();
+        }
+
+        assertThat(session.countEntitiesOfType(Artist.class)).isZero();
+        assertThat(aerosmith.getId()).isNull();
+    }
+
+    @Test
+    public void saveInBatchesShouldCommitEachBatch() {
+        session.saveInBatches(Arrays.asList(aerosmith, bonJovi, defLeppard), -1, 2, true);
+
+        session.clear();
+        assertThat(session.countEntitiesOfType(Artist.class)).isEqualTo(3);
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void saveInBatchesShouldNotCommitEachBatchInsideTransaction() {
+        try (Transaction tx = session.beginTransaction()) {
+            session.saveInBatches(Arrays.asList(aerosmith, bonJovi, defLeppard), -1, 2, true);
+        }
+    }
+
     @Test
     public void shouldSaveNewNodesAndNewRelationships() {
         Artist leann = new Artist("Leann Rimes");
@@ -0,0 +1,111 @@
+/*
+ * Copyright (c) 2002-2018 "Neo Technology,"
+ * Network Engine for Objects in Lund AB [http://neotechnology.com]
+ *
+ * This product is licensed to you under the Apache License, Version 2.0 (the "License").
+ * You may not use this product except in compliance with the License.
+ *
+ * This product may include a number of subcomponents with
+ * separate copyright notices and license terms. Your use of the source
+ * code for these subcomponents is subject to the terms and
+ *  conditions of the subcomponent's license, as noted in the LICENSE file.
+ */
+package org.neo4j.ogm.persistence.transaction;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.junit.Assume.*;
+
+import java.util.Collections;
+
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Test;
+import org.neo4j.ogm.domain.music.Album;
+import org.neo4j.ogm.domain.music.Artist;
+import org.neo4j.ogm.session.Session;
+import org.neo4j.ogm.session.SessionFactory;
+import org.neo4j.ogm.session.transaction.ReadWriteSplit;
+import org.neo4j.ogm.testutil.MultiDriverTestClass;
+import org.neo4j.ogm.transaction.Transaction;
+
+public class ReadWriteRoutingTest extends MultiDriverTestClass {
+
+    private static SessionFactory sessionFactory;
+
+    private Session session;
+    private ReadWriteSplit split;
+
+    @BeforeClass
+    public static void oneTimeSetUp() {
+        sessionFactory = new SessionFactory(driver, "org.neo4j.ogm.domain.music");
+    }
+
+    @Before
+    public void init() {
+        // drivers without transactions, like the http driver, don't open transactions for single requests
+        assumeTrue(sessionFactory.getDriver().requiresTransaction());
+
+        session = sessionFactory.openSession();
+        session.purgeDatabase();
+        session.save(new Artist("The Beatles"));
+        session.clear();
+        split = sessionFactory.getReadWriteSplit();
+    }
+
+    @Test
+    public void loadsShouldRunInReadOnlyTransactions() {
+        assertReadOnly(() -> session.loadAll(Artist.class));
+        assertReadOnly(() -> session.loadAll(Artist.class, 0));
+        assertReadOnly(() -> session.load(Artist.class, 1L));
+        assertReadOnly(() -> session.countEntitiesOfType(Artist.class));
+    }
+
+    @Test
+    public void queriesWithoutWriteClausesShouldRunInReadOnlyTransactions() {
+        assertReadOnly(() -> session.query("MATCH (a:Artist) RETURN a", Collections.emptyMap()));
+        assertReadOnly(() -> session.query(Artist.class, "MATCH (a:Artist) RETURN a", Collections.emptyMap()));
+        assertReadOnly(() -> session.query("CALL db.labels()", Collections.emptyMap(), true));
+    }
+
+    @Test
+    public void writesShouldRunInReadWriteTransactions() {
+        assertReadWrite(() -> session.save(new Album("Help!")));
+        assertReadWrite(() -> session.query("CREATE (a:Artist {name: 'Wings'})", Collections.emptyMap()));
+        assertReadWrite(() -> session.deleteAll(Album.class));
+    }
+
+    @Test
+    public void procedureCallsShouldOnlyRunInReadOnlyTransactionsWhenReadPreferred() {
+        assertReadWrite(() -> session.query("CALL db.labels()", Collections.emptyMap()));
+
+        session.setReadPreferred(true);
+
+        assertReadOnly(() -> session.query("CALL db.labels()", Collections.emptyMap()));
+    }
+
+    @Test
+    public void readsShouldJoinCurrentTransaction() {
+        try (Transaction tx = session.beginTransaction()) {
+            long readOnly = split.readOnlyCount();
+            session.loadAll(Artist.class);
+            assertThat(split.readOnlyCount()).isEqualTo(readOnly);
+            tx.commit();
+        }
+    }
+
+    private void assertReadOnly(Runnable operation) {
+        long readOnly = split.readOnlyCount();
+        long readWrite = split.readWriteCount();
+        operation.run();
+        assertThat(split.readOnlyCount()).isEqualTo(readOnly + 1);
+        assertThat(split.readWriteCount()).isEqualTo(readWrite);
+    }
+
+    private void assertReadWrite(Runnable operation) {
+        long readOnly = split.readOnlyCount();
+        long readWrite = split.readWriteCount();
+        operation.run();
+        assertThat(split.readOnlyCount()).isEqualTo(readOnly);
+        assertThat(split.readWriteCount()).isEqualTo(readWrite + 1);
+    }
+}
@@ -0,0 +1,67 @@
+/*
+ * Copyright (c) 2002-2018 "Neo Technology,"
+ * Network Engine for Objects in Lund AB [http://neotechnology.com]
+ *
+ * This product is licensed to you under the Apache License, Version 2.0 (the "License").
+ * You may not use this product except in compliance with the License.
+ *
+ * This product may include a number of subcomponents with
+ * separate copyright notices and license terms. Your use of the source
+ * code for these subcomponents is subject to the terms and
+ *  conditions of the subcomponent's license, as noted in the LICENSE file.
+ */
+
+package org.neo4j.ogm.session.request;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.Test;
+import org.neo4j.ogm.request.OptimisticLockingConfig;
+import org.neo4j.ogm.request.Statement;
+
+public class RequestExecutorTest {
+
+    @Test
+    public void shouldSplitStatementsUnwindingMoreRowsThanBatchSize() {
+        Statement small = statement(2, null);
+        Statement large = statement(5, new OptimisticLockingConfig(5, new String[] { "Person" }, "version"));
+
+        List<Statement> split = RequestExecutor.split(Arrays.asList(small, large), 2);
+
+        assertThat(split).hasSize(4);
+        assertThat(split.get(0)).isSameAs(small);
+        assertThat(split.subList(1, 4)).extracting(s -> ((List<?>) s.getParameters().get("rows")).size())
+            .containsExactly(2, 2, 1);
+        assertThat(split.subList(1, 4)).extracting(s -> s.optimisticLockingConfig().get().getExpectedResultsCount())
+            .containsExactly(2, 2, 1);
+        assertThat(split.subList(1, 4)).extracting(s -> s.getParameters().get("type")).containsOnly("node");
+        assertThat(split.subList(1, 4)).extracting(Statement::getStatement).containsOnly(large.getStatement());
+    }
+
+    @Test
+    public void shouldNotSplitStatementsWithoutRows() {
+        Statement statement = new RowDataStatement("MATCH (n) WHERE ID(n) = $id DELETE n",
+            Collections.singletonMap("id", 1L));
+
+        assertThat(RequestExecutor.split(Collections.singletonList(statement), 1)).containsExactly(statement);
+    }
+
+    private static Statement statement(int rowCount, OptimisticLockingConfig olConfig) {
+        List<Map<String, Object>> rows = new ArrayList<>();
+        for (long i = 0; i < rowCount; i++) {
+            rows.add(Collections.singletonMap("nodeId", i));
+        }
+        Map<String, Object> parameters = new HashMap<>();
+        parameters.put("rows", rows);
+        parameters.put("type", "node");
+        return new RowDataStatement("UNWIND {rows} as row MATCH (n) WHERE ID(n) = row.nodeId SET n += row.props "
+            + "RETURN row.nodeId as ref, ID(n) as id, {type} as type", parameters, olConfig);
+    }
+}
@@ -20,8 +20,11 @@ import org.junit.Test;
 import org.neo4j.ogm.cypher.ComparisonOperator;
 import org.neo4j.ogm.cypher.Filter;
 import org.neo4j.ogm.cypher.Filters;
+import org.neo4j.ogm.cypher.function.KeysetComparison;
+import org.neo4j.ogm.cypher.query.KeysetPagination;
 import org.neo4j.ogm.cypher.query.Pagination;
 import org.neo4j.ogm.cypher.query.PagingAndSortingQuery;
+import org.neo4j.ogm.cypher.query.SortOrder;
 
 /**
  * @author Vince Bickers
@@ -36,39 +39,39 @@ public class NodeEntityQueryPagingTest {
     @Test
     public void testFindByType() {
         assertThat(queryStatements.findByType("Raptor", 1).setPagination(paging).getStatement())
-            .isEqualTo("MATCH (n:`Raptor`) WITH n SKIP 4 LIMIT 2 MATCH p=(n)-[*0..1]-(m) RETURN p, ID(n)");
+            .isEqualTo("MATCH (n:`Raptor`) WITH n SKIP { skip } LIMIT { limit } MATCH p=(n)-[*0..1]-(m) RETURN p, ID(n)");
     }
 
     @Test
     public void testFindByTypeZeroDepth() throws Exception {
         assertThat(queryStatements.findByType("Raptor", 0).setPagination(paging).getStatement())
-            .isEqualTo("MATCH (n:`Raptor`) WITH n SKIP 4 LIMIT 2 RETURN n");
+            .isEqualTo("MATCH (n:`Raptor`) WITH n SKIP { skip } LIMIT { limit } RETURN n");
     }
 
     @Test
     public void testFindByTypeInfiniteDepth() throws Exception {
         assertThat(queryStatements.findByType("Raptor", -1).setPagination(paging).getStatement())
-            .isEqualTo("MATCH (n:`Raptor`) WITH n SKIP 4 LIMIT 2 MATCH p=(n)-[*0..]-(m) RETURN p, ID(n)");
+            .isEqualTo("MATCH (n:`Raptor`) WITH n SKIP { skip } LIMIT { limit } MATCH p=(n)-[*0..]-(m) RETURN p, ID(n)");
     }
 
     @Test
     public void testFindByProperty() {
         assertThat(queryStatements.findByType("Raptor", filters, 2).setPagination(paging).getStatement())
             .isEqualTo(
-                "MATCH (n:`Raptor`) WHERE n.`name` = { `name_0` } WITH n SKIP 4 LIMIT 2 MATCH p=(n)-[*0..2]-(m) RETURN p, ID(n)");
+                "MATCH (n:`Raptor`) WHERE n.`name` = { `name_0` } WITH n SKIP { skip } LIMIT { limit } MATCH p=(n)-[*0..2]-(m) RETURN p, ID(n)");
     }
 
     @Test
     public void testFindByPropertyZeroDepth() {
         assertThat(queryStatements.findByType("Raptor", filters, 0).setPagination(paging).getStatement())
-            .isEqualTo("MATCH (n:`Raptor`) WHERE n.`name` = { `name_0` } WITH n SKIP 4 LIMIT 2 RETURN n");
+            .isEqualTo("MATCH (n:`Raptor`) WHERE n.`name` = { `name_0` } WITH n SKIP { skip } LIMIT { limit } RETURN n");
     }
 
     @Test
     public void testFindByPropertyInfiniteDepth() {
         assertThat(queryStatements.findByType("Raptor", filters, -1).setPagination(paging).getStatement())
             .isEqualTo(
-                "MATCH (n:`Raptor`) WHERE n.`name` = { `name_0` } WITH n SKIP 4 LIMIT 2 MATCH p=(n)-[*0..]-(m) RETURN p, ID(n)");
+                "MATCH (n:`Raptor`) WHERE n.`name` = { `name_0` } WITH n SKIP { skip } LIMIT { limit } MATCH p=(n)-[*0..]-(m) RETURN p, ID(n)");
     }
 
     @Test
@@ -76,14 +79,14 @@ public class NodeEntityQueryPagingTest {
         assertThat(
             queryStatements.findAllByType("Raptor", Arrays.asList(1L, 2L), 1).setPagination(paging).getStatement())
             .isEqualTo(
-                "MATCH (n:`Raptor`) WHERE ID(n) IN { ids } WITH n SKIP 4 LIMIT 2 MATCH p=(n)-[*0..1]-(m) RETURN p, ID(n)");
+                "MATCH (n:`Raptor`) WHERE ID(n) IN { ids } WITH n SKIP { skip } LIMIT { limit } MATCH p=(n)-[*0..1]-(m) RETURN p, ID(n)");
     }
 
     @Test
     public void testFindAllByTypeZeroDepth() throws Exception {
         assertThat(
             queryStatements.findAllByType("Raptor", Arrays.asList(1L, 2L), 0).setPagination(paging).getStatement())
-            .isEqualTo("MATCH (n:`Raptor`) WHERE ID(n) IN { ids } WITH n SKIP 4 LIMIT 2 RETURN n");
+            .isEqualTo("MATCH (n:`Raptor`) WHERE ID(n) IN { ids } WITH n SKIP { skip } LIMIT { limit } RETURN n");
     }
 
     @Test
@@ -91,7 +94,7 @@ public class NodeEntityQueryPagingTest {
         assertThat(
             queryStatements.findAllByType("Raptor", Arrays.asList(1L, 2L), -1).setPagination(paging).getStatement())
             .isEqualTo(
-                "MATCH (n:`Raptor`) WHERE ID(n) IN { ids } WITH n SKIP 4 LIMIT 2 MATCH p=(n)-[*0..]-(m) RETURN p, ID(n)");
+                "MATCH (n:`Raptor`) WHERE ID(n) IN { ids } WITH n SKIP { skip } LIMIT { limit } MATCH p=(n)-[*0..]-(m) RETURN p, ID(n)");
     }
 
     @Test
@@ -100,7 +103,59 @@ public class NodeEntityQueryPagingTest {
         pagination.setOffset(3);
         PagingAndSortingQuery query = queryStatements.findByType("Raptor", 1).setPagination(pagination);
         assertThat(query.getStatement())
-            .isEqualTo("MATCH (n:`Raptor`) WITH n SKIP 3 LIMIT 5 MATCH p=(n)-[*0..1]-(m) RETURN p, ID(n)");
+            .isEqualTo("MATCH (n:`Raptor`) WITH n SKIP { skip } LIMIT { limit } MATCH p=(n)-[*0..1]-(m) RETURN p, ID(n)");
+        assertThat(query.getParameters()).containsEntry("skip", 3).containsEntry("limit", 5);
     }
 
+    @Test
+    public void statementShouldBeTheSameForEveryPage() {
+        SortOrder sortOrder = new SortOrder().asc("name");
+        PagingAndSortingQuery firstPage = queryStatements.findByType("Raptor", filters, 1)
+            .setSortOrder(sortOrder).setPagination(new Pagination(0, 10));
+        PagingAndSortingQuery secondPage = queryStatements.findByType("Raptor", filters, 1)
+            .setSortOrder(sortOrder).setPagination(new Pagination(1, 10));
+
+        assertThat(firstPage.getStatement()).isEqualTo(secondPage.getStatement());
+        assertThat(firstPage.getParameters())
+            .containsEntry("name_0", "velociraptor").containsEntry("skip", 0).containsEntry("limit", 10);
+        assertThat(secondPage.getParameters())
+            .containsEntry("name_0", "velociraptor").containsEntry("skip", 10).containsEntry("limit", 10);
+    }
+
+    @Test
+    public void keysetStatementShouldBeTheSameForEveryPage() {
+        SortOrder sortOrder = new SortOrder().asc("`name`").desc("`weight`");
+        KeysetPagination firstPage = new KeysetPagination(sortOrder, 10);
+        KeysetPagination secondPage = firstPage.after(Arrays.asList("velociraptor", 20L), 7L);
+        KeysetPagination thirdPage = firstPage
+            .after(firstPage.after(Arrays.asList("velociraptor", 30L), 9L).getContinuationToken());
+
+        String statement = keysetQuery(secondPage, sortOrder).getStatement();
+        assertThat(statement).isEqualTo("MATCH (n:`Raptor`) WHERE (n.`name` >= { keyset0 } AND "
+            + "(n.`name` > { keyset0 } OR (n.`name` = { keyset0 } AND (n.`weight` < { keyset1 } OR "
+            + "(n.`weight` = { keyset1 } AND ID(n) > { keysetId }))))) WITH n "
+            + "ORDER BY n.`name`,n.`weight` DESC,ID(n) LIMIT { limit } MATCH p=(n)-[*0..1]-(m) RETURN p, ID(n)");
+        assertThat(keysetQuery(thirdPage, sortOrder).getStatement()).isEqualTo(statement);
+        assertThat(keysetQuery(secondPage, sortOrder).getParameters()).containsEntry("keyset0", "velociraptor")
+            .containsEntry("keyset1", 20L).containsEntry("keysetId", 7L).containsEntry("limit", 10);
+        assertThat(keysetQuery(thirdPage, sortOrder).getParameters()).containsEntry("keyset1", 30L)
+            .containsEntry("keysetId", 9L);
+    }
+
+    @Test
+    public void keysetPaginationShouldRejectTokensOfOtherSortOrders() {
+        String token = new KeysetPagination(new SortOrder().asc("name"), 10)
+            .after(Arrays.asList("velociraptor"), 7L).getContinuationToken();
+
+        assertThatThrownBy(() -> new KeysetPagination(new SortOrder().asc("name", "weight"), 10).after(token))
+            .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new KeysetPagination(new SortOrder().asc("name"), 10).after("not a token"))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private PagingAndSortingQuery keysetQuery(KeysetPagination pagination, SortOrder sortOrder) {
+        Filters keyset = new Filters().add(new KeysetComparison(pagination, sortOrder));
+        return queryStatements.findByType("Raptor", keyset, 1).setSortOrder(sortOrder)
+            .setKeysetPagination(pagination);
+    }
 }
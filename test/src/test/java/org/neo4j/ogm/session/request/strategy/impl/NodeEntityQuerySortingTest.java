@@ -46,6 +46,13 @@ public class NodeEntityQuerySortingTest {
             query.findByType("Raptor", 1).setSortOrder(sortOrder).getStatement());
     }
 
+    @Test
+    public void shouldOrderByEachPropertyOnlyOnce() {
+        sortOrder.add("name").add(DESC, "weight", "name");
+        check("MATCH (n:`Raptor`) WITH n ORDER BY n.name,n.weight DESC RETURN n",
+            query.findByType("Raptor", 0).setSortOrder(sortOrder).getStatement());
+    }
+
     @Test
     public void testFindByProperty() {
         sortOrder.add(DESC, "weight");